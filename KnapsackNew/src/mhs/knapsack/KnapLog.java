@@ -16,6 +16,10 @@ package mhs.knapsack;
 import java.text.DateFormat;
 import java.util.Date;
 import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.*;
 
 /**
@@ -69,8 +73,8 @@ class KnapLogManager
       {
         textHandler.setFormatter( new KnapFormatter() );
         
-        // Send logger output to our FileHandler.
-        myLogger.addHandler( textHandler );
+        // Send logger output to our FileHandler, formatted and written on a background thread.
+        myLogger.addHandler( new KnapAsyncHandler(textHandler) );
       }
       catch( Exception e )
       {
@@ -184,7 +188,8 @@ class KnapLogManager
   /** @see KnapLogger */
   private static KnapLogger myLogger ;
   
-  /** @see FileHandler */
+  /** @see FileHandler
+   *  @see KnapAsyncHandler */
   private static FileHandler textHandler ;//, xmlHandler ;
   
   /** current {@link Level} */
@@ -442,3 +447,414 @@ class KnapFormatter extends Formatter
                 tail = "KnapsackNew END" + nl   ;
 
 }// Class KnapFormatter
+
+/* ========================================================================================================================== */
+
+/**
+ * Pass {@link LogRecord}s to another {@link Handler} on a background thread <br>
+ *   - so the caller, e.g. the branch-and-bound search, does NOT wait for the formatting OR the disk <br>
+ *   - records wait in a bounded, lock-free ring, and ONE writer thread takes them out <br>
+ *   - when the ring is full, the {@link Overflow} policy decides what happens to the record <br>
+ *   - {@link #close} writes ALL the waiting records, and is also called at shutdown
+ * 
+ * @author Mark Sattolo
+ * @see Handler
+ */
+class KnapAsyncHandler extends Handler
+{
+  /** what to do with a record when the ring is full */
+  enum Overflow
+  {
+    /** wait for the writer to make room */
+    BLOCK,
+    /** lose the record */
+    DROP,
+    /** lose the record, then log how many were lost */
+    COUNT
+  }
+  
+ /*
+  *             C O N S T R U C T O R S
+  *****************************************************************************************************************/
+  
+  /**
+   * USUAL constructor - the capacity and overflow policy are the {@link LogManager} properties
+   * <code>mhs.knapsack.KnapAsyncHandler.capacity</code> and <code>.overflow</code>, if present
+   * 
+   * @param target - gets the records, on the writer thread
+   */
+  KnapAsyncHandler( Handler target )
+  {
+    this( target, getCapacityProperty(), getOverflowProperty() );
+  }
+  
+  /**
+   * Start the writer thread
+   * 
+   * @param target - gets the records, on the writer thread
+   * @param capacity - max number of waiting records, rounded up to a power of 2
+   * @param policy - when the ring is full
+   */
+  KnapAsyncHandler( Handler target, int capacity, Overflow policy )
+  {
+    this.target = target ;
+    overflow = policy ;
+    
+    int size = Integer.highestOneBit( Math.max(capacity, MIN_CAPACITY) - 1 ) << 1 ;
+    mask = size - 1 ;
+    slots = new AtomicReferenceArray<>( size );
+    sequence = new AtomicLongArray( size );
+    for( int i=0; i < size; i++ )
+      sequence.set( i, i );
+    
+    writer = new Thread( this::drain, "KnapLogWriter" );
+    writer.setDaemon( true );
+    writer.start();
+    
+    Runtime.getRuntime().addShutdownHook( new Thread(this::close) );
+  }
+  
+ /*
+  *              M E T H O D S
+  *****************************************************************************************************************/
+  
+ // =============================================================================================================
+ //                          I N T E R F A C E
+ // =============================================================================================================
+  
+  /**
+   * Put the record in the ring - does NOT format OR write anything
+   * 
+   * @param rec - {@link LogRecord} to write
+   */
+  @Override
+  public void publish( LogRecord rec )
+  {
+    if( closed || ! isLoggable(rec) )
+      return ;
+    
+    // if NOT set, the caller is found from the stack, so it must be found on THIS thread
+    rec.getSourceClassName();
+    
+    while( ! offer(rec) )
+    {
+      if( (overflow != Overflow.BLOCK) || closed )
+      {
+        // once closed, a record is NEVER lost without being counted
+        if( (overflow == Overflow.COUNT) || closed )
+        {
+          dropped.incrementAndGet();
+          wakeWriter();
+        }
+        if( closed )
+          writeLate();
+        return ;
+      }
+      LockSupport.parkNanos( WAIT_NANOS );
+    }
+    
+    // the writer may have written its last records BEFORE this one was in the ring
+    if( closed )
+      writeLate();
+    
+  }// KnapAsyncHandler.publish()
+  
+  /**
+   * Wait for the writer to write the records published so far, then flush the target
+   */
+  @Override
+  public void flush()
+  {
+    long end = tail.get();
+    while( (head < end) && writer.isAlive() )
+      LockSupport.parkNanos( WAIT_NANOS );
+    
+    target.flush();
+    
+  }// KnapAsyncHandler.flush()
+  
+  /**
+   * Stop the writer once it has written ALL the waiting records, then close the target <br>
+   *   - may be called more than once, e.g. by {@link LogManager#reset} AND the shutdown hook
+   */
+  @Override
+  public void close()
+  {
+    synchronized( this )
+    {
+      if( closed )
+        return ;
+      closed = true ;
+    }
+    
+    LockSupport.unpark( writer );
+    try
+    {
+      writer.join( CLOSE_WAIT_MSECS );
+    }
+    catch( InterruptedException ie )
+    {
+      Thread.currentThread().interrupt();
+    }
+    
+    // records published while the writer was finishing
+    synchronized( this )
+    {
+      writeAll();
+      target.close();
+      targetClosed = true ;
+    }
+    
+  }// KnapAsyncHandler.close()
+  
+ // =============================================================================================================
+ //                            P R I V A T E
+ // =============================================================================================================
+  
+  /**
+   * Claim the next free slot and put the record in it - any number of threads may call this at once
+   * 
+   * @param rec - {@link LogRecord} to add
+   * @return false if the ring is full
+   */
+  private boolean offer( LogRecord rec )
+  {
+    long pos = tail.get();
+    int slot ;
+    for(;;)
+    {
+      slot = (int)( pos & mask );
+      long diff = sequence.get( slot ) - pos ;
+      if( diff == 0 )
+      {
+        if( tail.compareAndSet(pos, pos + 1) )
+          break ;
+        pos = tail.get();
+      }
+      else if( diff < 0 )
+          return false ; // the writer has NOT taken the record from a lap ago
+      else
+          pos = tail.get(); // another thread claimed this slot
+    }
+    
+    slots.set( slot, rec );
+    sequence.set( slot, pos + 1 ); // the writer can take it now
+    wakeWriter();
+    return true ;
+    
+  }// KnapAsyncHandler.offer()
+  
+  /**
+   * Take the oldest record from the ring - ONLY called while holding the lock of this handler
+   * 
+   * @return the record, OR null if none is ready
+   */
+  private LogRecord poll()
+  {
+    int slot = (int)( head & mask );
+    if( sequence.get(slot) != head + 1 )
+      return null ;
+    
+    LogRecord rec = slots.get( slot );
+    slots.set( slot, null );
+    sequence.set( slot, head + mask + 1 ); // free for the next lap
+    head++ ;
+    
+    return rec ;
+    
+  }// KnapAsyncHandler.poll()
+  
+  /**
+   * Body of the writer thread: write the waiting records, flush the target when there are none
+   */
+  private void drain()
+  {
+    boolean wrote = false ;
+    while( ! closed )
+    {
+      if( writeAll() > 0 )
+        wrote = true ;
+      else
+      {
+        if( wrote )
+          target.flush();
+        wrote = false ;
+        
+        // publishers ONLY unpark an idle writer, so look again AFTER saying so, in case one just missed it
+        idle = true ;
+        if( !closed && !isReady() )
+          LockSupport.park( this );
+        idle = false ;
+      }
+    }
+    
+    // closed: write what is left
+    writeAll();
+    target.flush();
+    
+  }// KnapAsyncHandler.drain()
+  
+  /**
+   * @return true if the writer has something to do: the oldest record is ready, OR records were lost
+   */
+  private boolean isReady()
+  {
+    return( (sequence.get((int)(head & mask)) == head + 1) || (dropped.get() > 0) );
+  }
+  
+  /** Unpark the writer if it is waiting for records */
+  private void wakeWriter()
+  {
+    if( idle )
+      LockSupport.unpark( writer );
+  }
+  
+  /**
+   * Write ALL the records that are ready - the writer, {@link #close} AND {@link #writeLate} take turns
+   * 
+   * @return number written
+   */
+  private synchronized int writeAll()
+  {
+    int count = 0 ;
+    LogRecord rec ;
+    while( (rec = poll()) != null )
+    {
+      write( rec );
+      count++ ;
+    }
+    
+    long lost = dropped.getAndSet( 0 );
+    if( lost > 0 )
+    {
+      rec = new LogRecord( Level.WARNING, "LOST " + lost + " log records because the ring was full" );
+      rec.setSourceClassName( getClass().getName() );
+      rec.setSourceMethodName( "publish" );
+      write( rec );
+    }
+    
+    return count ;
+    
+  }// KnapAsyncHandler.writeAll()
+  
+  /**
+   * Write the records published while {@link #close} was running, as the writer may have stopped <br>
+   *   - once the target is closed they can ONLY be reported as lost
+   */
+  private synchronized void writeLate()
+  {
+    if( ! targetClosed )
+    {
+      writeAll();
+      target.flush();
+      return ;
+    }
+    
+    long lost = dropped.getAndSet( 0 );
+    while( poll() != null )
+      lost++ ;
+    
+    if( lost > 0 )
+      reportError( "LOST " + lost + " log records published after close", null, ErrorManager.WRITE_FAILURE );
+    
+  }// KnapAsyncHandler.writeLate()
+  
+  /** @param rec - {@link LogRecord} to send to the target */
+  private void write( LogRecord rec )
+  {
+    try
+    {
+      target.publish( rec );
+    }
+    catch( RuntimeException re )
+    {
+      reportError( "PROBLEM writing a log record", re, ErrorManager.WRITE_FAILURE );
+    }
+  }
+  
+  /** @return the capacity property, OR {@link #DEFAULT_CAPACITY} */
+  private static int getCapacityProperty()
+  {
+    String prop = LogManager.getLogManager().getProperty( KnapAsyncHandler.class.getName() + ".capacity" );
+    try
+    {
+      return( prop == null ? DEFAULT_CAPACITY : Integer.parseInt(prop.trim()) );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "KnapAsyncHandler: bad capacity '" + prop + "'" );
+      return DEFAULT_CAPACITY ;
+    }
+  }
+  
+  /** @return the overflow property, OR {@link #DEFAULT_OVERFLOW} */
+  private static Overflow getOverflowProperty()
+  {
+    String prop = LogManager.getLogManager().getProperty( KnapAsyncHandler.class.getName() + ".overflow" );
+    try
+    {
+      return( prop == null ? DEFAULT_OVERFLOW : Overflow.valueOf(prop.trim().toUpperCase()) );
+    }
+    catch( IllegalArgumentException iae )
+    {
+      System.err.println( "KnapAsyncHandler: bad overflow policy '" + prop + "'" );
+      return DEFAULT_OVERFLOW ;
+    }
+  }
+  
+ /*
+  *            F I E L D S
+  *****************************************************************************************************************/
+  
+  /** gets the records */
+  private Handler target ;
+  
+  /** when the ring is full */
+  private final Overflow overflow ;
+  
+  /** the waiting records */
+  private final AtomicReferenceArray<LogRecord> slots ;
+  
+  /**
+   * for each slot, the position that may use it next <br>
+   *   - == position : free for a publisher <br>
+   *   - == position + 1 : has a record for the writer
+   */
+  private final AtomicLongArray sequence ;
+  
+  /** number of slots - 1 */
+  private final int mask ;
+  
+  /** position of the next record to publish */
+  private final AtomicLong tail = new AtomicLong();
+  
+  /** position of the next record to write - ONLY changed by the writer */
+  private volatile long head ;
+  
+  /** records lost since the last report, for {@link Overflow#COUNT} */
+  private final AtomicLong dropped = new AtomicLong();
+  
+  /** takes the records out of the ring */
+  private final Thread writer ;
+  
+  /** NO more records */
+  private volatile boolean closed ;
+  
+  /** the writer is parked, OR about to park, until a publisher unparks it */
+  private volatile boolean idle ;
+  
+  /** the target is closed, so late records can NOT be written - ONLY changed while holding the lock */
+  private boolean targetClosed ;
+  
+  /** default value */
+  static final int DEFAULT_CAPACITY = 8192 ,
+                       MIN_CAPACITY = 16 ,
+                   CLOSE_WAIT_MSECS = 5000 ;
+  
+  /** default policy */
+  static final Overflow DEFAULT_OVERFLOW = Overflow.BLOCK ;
+  
+  /** park time for a blocked publisher */
+  static final long WAIT_NANOS = 50000L ;
+  
+}// class KnapAsyncHandler
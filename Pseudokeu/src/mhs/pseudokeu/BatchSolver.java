@@ -0,0 +1,310 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import mhs.pseudokeu.Loader.SavedGame;
+
+/**
+ * Solve MANY Pseudokeu puzzles without the Swing {@link Launcher}, using every available core <br>
+ * - input is a folder tree of game files (e.g. <code>savedGames</code>) OR a text file with one game per line <br>
+ * - each game file is read at its own grid length, so a folder may mix 9x9, 16x16 and 25x25 games <br>
+ * - a text file is read {@link #CHUNK_SIZE} games at a time, so even a huge file is solved in constant memory <br>
+ * - each worker thread uses its own {@link Solver}, so the puzzles are solved independently <br>
+ * - output has one line per puzzle: name, status, search time in usecs, search nodes and the solution
+ *
+ * <pre>
+ *   java mhs.pseudokeu.BatchSolver &lt;folder|file&gt; &lt;output file&gt; [threads] [log level]
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Solver#solve
+ */
+class BatchSolver
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor
+   *
+   *  @param threads - number of worker threads, OR zero to use all the available processors
+   */
+  BatchSolver( final int threads )
+  {
+    logger = Launcher.logger ;
+    
+    nThreads = ( threads > 0 ) ? threads : Runtime.getRuntime().availableProcessors() ;
+    
+    loader = new Loader( Launcher.INITIAL_GRID_LENGTH, Launcher.MAX_NUM_LOADED_GAMES );
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Solve every puzzle in the input and write the results, in input order, to the output file
+   *
+   *  @param input - folder tree with game files, OR a file with one game per line, OR "-" for the standard input
+   *  @param output - file for the results
+   *
+   *  @return number of puzzles that were NOT solved, OR a NEGATIVE value if there was a problem
+   */
+  int run( final File input, final File output )
+  {
+    if( (input == null) || (!input.exists() && !GameLines.STR_STD_STREAM.equals(input.getPath())) )
+    {
+      logger.severe( "Input '" + input + "' does NOT exist!" );
+      return nFAIL ;
+    }
+    
+    if( output == null )
+    {
+      logger.severe( "Passed a null output File!!??" );
+      return nFAIL ;
+    }
+    
+    nPuzzles = nFailed = 0 ;
+    long $startTime = System.nanoTime();
+    
+    ForkJoinPool $pool = new ForkJoinPool( nThreads );
+    try( PrintWriter $pw = new PrintWriter(Files.newBufferedWriter(output.toPath())) )
+    {
+      $pw.println( "# name\tstatus\tusecs\tnodes\tsolution" );
+      if( input.isDirectory() )
+        solveAll( $pool, folderTasks(input.toPath()), $pw );
+      else
+      if( ! solveLines($pool, input, $pw) )
+        return nFAIL ;
+    }
+    catch( Exception e )
+    {
+      logger.severe( "PROBLEM solving or writing results -- " + e.toString() );
+      return nFAIL ;
+    }
+    finally
+    {
+      $pool.shutdownNow();
+    }
+    
+    long $elapsed = ( System.nanoTime() - $startTime ) / 1000000L ;
+    System.out.println( "Solved " + (nPuzzles - nFailed) + " of " + nPuzzles + " puzzles in "
+                        + $elapsed + " msecs on " + nThreads + " threads >> " + output );
+    
+    return nFailed ;
+  
+  }// BatchSolver.run()
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Make a task for each game file in the folder tree, sorted by path <br>
+   *  - see {@link Loader#readAnyGame}
+   *
+   *  @param folder - top of the tree
+   *  @return tasks
+   *  @throws Exception if the tree cannot be walked
+   */
+  private List<Callable<String>> folderTasks( final Path folder ) throws Exception
+  {
+    List<Path> $files ;
+    try( Stream<Path> $walk = Files.walk(folder) )
+    {
+      $files = $walk.filter( p -> p.toString().endsWith(Loader.GAME_SUFFIX) ).sorted().collect( Collectors.toList() );
+    }
+    
+    List<Callable<String>> $tasks = new ArrayList<>( $files.size() );
+    for( Path $file : $files )
+    {
+      final String $name = folder.relativize( $file ).toString();
+      $tasks.add( () -> solve($name, loader.readAnyGame($file.toFile(), Loader.USER)) );
+    }
+    
+    return $tasks ;
+  
+  }// BatchSolver.folderTasks()
+  
+  /**
+   *  Solve the games of a file with one game per line, {@link #CHUNK_SIZE} games at a time
+   *
+   *  @param pool - of worker threads
+   *  @param file - with one game per line
+   *  @param pw - for the results
+   *  @return false if the file could NOT be read
+   *  @throws Exception if a task fails
+   *
+   *  @see GameLines
+   */
+  private boolean solveLines( final ForkJoinPool pool, final File file, final PrintWriter pw ) throws Exception
+  {
+    GameLines $games = GameLines.open( file, loader );
+    if( $games == null )
+      return false ;
+    
+    List<Callable<String>> $tasks = new ArrayList<>( CHUNK_SIZE );
+    try( GameLines $in = $games )
+    {
+      while( $in.next() )
+      {
+        final String $name = $in.getName();
+        final SavedGame $game = $in.getGame();
+        $tasks.add( () -> solve($name, $game) );
+        
+        if( $tasks.size() == CHUNK_SIZE )
+        {
+          solveAll( pool, $tasks, pw );
+          $tasks.clear();
+        }
+      }
+    }
+    
+    solveAll( pool, $tasks, pw );
+    return true ;
+  
+  }// BatchSolver.solveLines()
+  
+  /**
+   *  Run the tasks and write their results in order
+   *
+   *  @param pool - of worker threads
+   *  @param tasks - to run
+   *  @param pw - for the results
+   *  @throws Exception if a task fails
+   */
+  private void solveAll( final ForkJoinPool pool, final List<Callable<String>> tasks, final PrintWriter pw ) throws Exception
+  {
+    for( Future<String> $result : pool.invokeAll(tasks) )
+    {
+      String $line = $result.get();
+      if( ! $line.contains('\t' + STR_OK + '\t') )
+        nFailed++ ;
+      nPuzzles++ ;
+      pw.println( $line );
+    }
+  
+  }// BatchSolver.solveAll()
+  
+  /**
+   *  Solve one puzzle with the {@link Solver} for this thread <br>
+   *  - runs on a worker thread
+   *
+   *  @param name - to identify the puzzle in the results
+   *  @param puzzle - to solve, may be null if it could not be read
+   *
+   *  @return line for the output file
+   */
+  private String solve( final String name, final SavedGame puzzle )
+  {
+    if( (puzzle == null) || !Helper.isValidGridLength(puzzle.getLength()) )
+      return name + "\t" + STR_BAD_INPUT + "\t0\t0\t-" ;
+    
+    int $len = puzzle.getLength();
+    SavedGame $solution = loader.new SavedGame( $len, name );
+    
+    Solver $dlx = Solver.getThreadSolver( $len );
+    long $result = $dlx.solve( puzzle, $solution );
+    
+    StringBuilder $sb = new StringBuilder( 64 + ($len * $len) );
+    $sb.append( name ).append( '\t' ).append( ($result >= 0) ? STR_OK : STR_NOT_SOLVED ).append( '\t' )
+       .append( $dlx.getSearchNanos() / 1000L ).append( '\t' ).append( $dlx.getNodeCount() ).append( '\t' );
+    
+    for( int r=0; r < $len; r++ )
+      for( int c=0; c < $len; c++ )
+        $sb.append( Character.toUpperCase(Character.forDigit($solution.getValue(r, c), Character.MAX_RADIX)) );
+    
+    return $sb.toString() ;
+  
+  }// BatchSolver.solve()
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** number of worker threads  */
+  private final int nThreads ;
+  
+  /** headless, ONLY used to create {@link SavedGame}s  */
+  private final Loader loader ;
+  
+  /** puzzles done by {@link #run}  */
+  private int nPuzzles ;
+  
+  /** puzzles NOT solved by {@link #run}  */
+  private int nFailed ;
+  
+  /** max number of games read from a file before they are solved  */
+  static final int CHUNK_SIZE = 4096 ;
+  
+  static final String STR_OK         = "OK" ,
+                      STR_NOT_SOLVED = "NOT_SOLVED" ,
+                      STR_BAD_INPUT  = "BAD_INPUT" ;
+  
+  /** integer FAILURE */
+  static final int nFAIL = -1 ;
+  
+  private static PskLogger logger ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Command line entry point
+   *
+   *  @param args - input folder, file OR "-", output file, [number of threads], [log level]
+   */
+  public static void main( final String args[] )
+  {
+    if( args.length < 2 )
+    {
+      System.err.println( "Usage: BatchSolver <game folder | file with one game per line | -> <output file> [threads] [log level]" );
+      System.exit( 1 );
+    }
+    
+    int $threads = 0 ;
+    try
+    {
+      if( args.length > 2 )
+        $threads = Integer.parseInt( args[2] );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "Bad number of threads '" + args[2] + "' - using all processors." );
+    }
+    
+    Launcher.logger = new LogControl( (args.length > 3) ? args[3] : "WARNING" ).getLogger();
+    
+    int $failed = new BatchSolver( $threads ).run( new File(args[0]), new File(args[1]) );
+    
+    System.exit( ($failed == 0) ? 0 : 2 );
+  
+  }// BatchSolver.main()
+
+}// class BatchSolver
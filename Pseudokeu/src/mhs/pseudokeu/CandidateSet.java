@@ -0,0 +1,131 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+/**
+ * A set of Solving candidates packed in the bits of an <code>int</code> <br>
+ * - {@link Square#getPossibleVals} has bit <var>v</var> set if the Square can be value <var>v</var>, 1..gridLength <br>
+ * - {@link Group#sqrsCanBeVal}[v] has bit <var>i</var> set if {@link Group#mySqrs}[i] can be value <var>v</var> <br>
+ * - the largest grid has 25 values and 25 Squares in each Group, so ONE int always holds the set <br>
+ * - every operation is a few instructions, e.g. {@link Integer#bitCount}, {@link Integer#numberOfTrailingZeros},
+ *   and NEVER allocates, so the sets can be combined with plain <code>| & ^</code> in the Solving loops
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ */
+final class CandidateSet
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /** ONLY static methods  */
+  private CandidateSet() {}
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+  
+  /**
+   *  @param set - of candidates
+   *  @return number of candidates in the set
+   */
+  static int count( final int set )
+  { return Integer.bitCount( set ); }
+  
+  /**
+   *  @param set - of candidates
+   *  @param index - of the candidate
+   *  @return true if the candidate is in the set
+   */
+  static boolean contains( final int set, final int index )
+  { return( (set & (1 << index)) != 0 ); }
+  
+  /**
+   *  @param set - of candidates
+   *  @param index - of the candidate to add
+   *  @return the set with the candidate
+   */
+  static int with( final int set, final int index )
+  { return( set | (1 << index) ); }
+  
+  /**
+   *  @param set - of candidates
+   *  @param index - of the candidate to remove
+   *  @return the set without the candidate
+   */
+  static int without( final int set, final int index )
+  { return( set & ~(1 << index) ); }
+  
+  /**
+   *  Use to step through a set: <code>for( int s = set; s != 0; s = CandidateSet.rest(s) )</code>
+   *
+   *  @param set - of candidates
+   *  @return the set without its lowest candidate
+   */
+  static int rest( final int set )
+  { return( set & (set - 1) ); }
+  
+  /**
+   *  @param set - of candidates
+   *  @return index of the lowest candidate, OR {@link #NONE} if the set is empty
+   */
+  static int first( final int set )
+  { return( (set == 0) ? NONE : Integer.numberOfTrailingZeros(set) ); }
+  
+  /**
+   *  @param set - of candidates
+   *  @param place - which candidate, from the lowest: 1st, 2nd, 3rd...
+   *  @return index of the candidate, OR {@link #NONE} if the set has fewer candidates
+   */
+  static int nth( final int set, final int place )
+  {
+    if( place < 1 )
+      return NONE ;
+    
+    int $set = set ;
+    for( int i=1; i < place; i++ )
+      $set &= ( $set - 1 );
+    
+    return first( $set );
+  
+  }// CandidateSet.nth()
+  
+  /**
+   *  @param from - lowest index
+   *  @param to - highest index
+   *  @return set with ALL the candidates from <var>from</var> to <var>to</var>, inclusive
+   */
+  static int range( final int from, final int to )
+  {
+    if( (from > to) || (from >= Integer.SIZE) )
+      return 0 ;
+    
+    int $high = ( to >= Integer.SIZE - 1 ) ? -1 : ( (1 << (to + 1)) - 1 );
+    return( $high & (-1 << from) );
+  
+  }// CandidateSet.range()
+  
+  /**
+   *  @param sub - set of candidates
+   *  @param set - set of candidates
+   *  @return true if EVERY candidate of <var>sub</var> is also in <var>set</var>
+   */
+  static boolean isSubset( final int sub, final int set )
+  { return( (sub & ~set) == 0 ); }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** index returned when there is no such candidate  */
+  static final int NONE = -1 ;
+
+}// class CandidateSet
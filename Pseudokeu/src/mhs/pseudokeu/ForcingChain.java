@@ -0,0 +1,526 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+/**
+ * Find Alternating Inference Chains [aka "AIC" or "Forcing Chains"] in a {@link LogicGrid} <br>
+ * - each node is a candidate: ONE possible value of ONE open {@link Square} <br>
+ * - a STRONG link joins two candidates which can NOT both be false: the ONLY two Squares in a Group
+ *   which can be a value (as in a {@link LogicGrid.ColorChain}), OR the two values of a Square
+ *   which has ONLY two possible values <br>
+ * - a WEAK link joins two candidates which can NOT both be true: two values of the same Square,
+ *   OR the same value in two Squares of the same Group <br>
+ * - assume a candidate is false (true), then follow strong (weak) links and weak (strong) links, alternately,
+ *   to find the candidates that must be true or false <br>
+ * - the strong links are built for each value at the start of each search; the weak links are read from the Groups <br>
+ * - each search is bounded by a maximum number of links, a maximum number of states to follow AND a time budget <br>
+ * - the state budget ALWAYS gives the same result for the same grid; the time budget depends on the load of the machine,
+ *   so a bulk {@link Grader} uses ONLY the state budget
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see LogicGrid#findForcingChain
+ */
+class ForcingChain
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor - all the arrays are sized from the {@link LogicGrid}
+   *  
+   *  @param mygrid - reference to the {@link LogicGrid} to search
+   */
+  ForcingChain( final LogicGrid mygrid )
+  {
+    logger = LogicGrid.logger ;
+    
+    grid = mygrid ;
+    gridLength = grid.getLength();
+    zoneLength = grid.getZoneLength();
+    nNodes = grid.getTotalSqrs() * gridLength ;
+     
+     strongLinks = new int[ nNodes * MAX_STRONG_LINKS ];
+    nStrongLinks = new int[ nNodes ];
+    
+    startLinks = new int[ 4 * gridLength ];
+     nodeLinks = new int[ 4 * gridLength ];
+    
+    stateQueue = new int[ 2 * nNodes ];
+    stateLinks = new int[ 2 * nNodes ];
+     stateSeen = new int[ 2 * nNodes ];
+    
+    setBudget( DEFAULT_MAX_LINKS, DEFAULT_BUDGET_MSECS, DEFAULT_MAX_STATES );
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  @param links - maximum number of links in a Chain, at least 2
+   *  @param msecs - maximum time for each call of {@link #find}, OR zero for NO time limit
+   *  @param states - maximum number of states to follow in each call of {@link #find}, OR zero for NO limit
+   */
+  void setBudget( final int links, final long msecs, final long states )
+  {
+    maxLinks = Math.max( links, 2 );
+    budgetNanos = Math.max( msecs, 0L ) * 1000000L ;
+    maxStates = ( states > 0 ) ? states : Long.MAX_VALUE ;
+  
+  }// ForcingChain.setBudget()
+  
+  /**
+   *  Search the candidates of the {@link LogicGrid} until ONE Chain removes some possible values <br>
+   *  - ALL the short Chains are tried before any longer ones
+   *  
+   *  @return success or failure
+   *  
+   *  @see #search
+   */
+  boolean find()
+  {
+    long $deadline = System.nanoTime() + budgetNanos ;
+    statesLeft = maxStates ;
+    
+    buildStrongLinks();
+    
+    for( int $limit = Math.min(FIRST_MAX_LINKS, maxLinks); ; $limit = Math.min($limit * 2, maxLinks) )
+    {
+      logger.fine( "Check Chains of up to " + $limit + " links" );
+      
+      for( int node=0; node < nNodes; node++ )
+      {
+        if( ! isCandidate(node) )
+          continue ;
+        
+        if( search(node, false, $limit) || search(node, true, $limit) )
+          return true ;
+        
+        if( statesLeft <= 0 )
+        {
+          logger.info( "OUT of states after checking Chains of up to " + $limit + " links." );
+          return false ;
+        }
+        
+        if( (budgetNanos > 0) && (System.nanoTime() > $deadline) )
+        {
+          logger.info( "OUT of time after checking Chains of up to " + $limit + " links." );
+          return false ;
+        }
+      }
+      
+      if( $limit >= maxLinks )
+        return false ;
+    }
+  
+  }// ForcingChain.find()
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Find ALL the strong links for the current possible values
+   *  
+   *  @see #strongLinks
+   */
+  private void buildStrongLinks()
+  {
+    Arrays.fill( nStrongLinks, 0 );
+    
+    // conjugate Squares in each Group
+    for( int v=1; v <= gridLength; v++ )
+      for( int i=0; i < gridLength; i++ )
+      {
+        addConjugates( grid.rows[i], v );
+        addConjugates( grid.cols[i], v );
+        addConjugates( grid.zones[i], v );
+      }
+    
+    // Squares with ONLY two possible values
+    for( int s=0; s < grid.getTotalSqrs(); s++ )
+    {
+      Square $sqr = getSqr( s );
+      if( $sqr.isOpen() && ($sqr.numPossibleVals() == 2) )
+      {
+        int $vals = $sqr.getPossibleVals();
+        addStrongLink( getNode(s, CandidateSet.first($vals)), getNode(s, CandidateSet.nth($vals, 2)) );
+      }
+    }
+  
+  }// ForcingChain.buildStrongLinks()
+  
+  /**
+   *  Add a strong link if ONLY two Squares in the Group can be the value
+   *  
+   *  @param grp - Group to check
+   *  @param val - value to check
+   */
+  private void addConjugates( final Group grp, final int val )
+  {
+    if( grp.nSqrsCanBeVal[val] != 2 )
+      return ;
+    
+    int $bits = grp.sqrsCanBeVal[val] ;
+    addStrongLink( getNode(getIndex(grp.mySqrs[CandidateSet.first($bits)]), val),
+                   getNode(getIndex(grp.mySqrs[CandidateSet.nth($bits, 2)]), val) );
+  
+  }// ForcingChain.addConjugates()
+  
+  /**
+   *  Add a strong link in BOTH directions, unless it is already there, e.g. from a Row AND a Zone
+   *  
+   *  @param node1 - one candidate
+   *  @param node2 - other candidate
+   */
+  private void addStrongLink( final int node1, final int node2 )
+  {
+    for( int i=0; i < nStrongLinks[node1]; i++ )
+      if( strongLinks[node1 * MAX_STRONG_LINKS + i] == node2 )
+        return ;
+    
+    strongLinks[node1 * MAX_STRONG_LINKS + nStrongLinks[node1]++] = node2 ;
+    strongLinks[node2 * MAX_STRONG_LINKS + nStrongLinks[node2]++] = node1 ;
+  
+  }// ForcingChain.addStrongLink()
+  
+  /**
+   *  Follow the Chains from ONE assumption about ONE candidate, nearest first <br>
+   *  - if a candidate is reached as BOTH true AND false, the assumption is wrong <br>
+   *  - if the start is assumed false and a candidate is reached as true, ONE of them MUST be true,
+   *    so NO candidate which is weakly linked to BOTH of them can be true
+   *  
+   *  @param start - candidate
+   *  @param startTrue - assume the start is true OR false
+   *  @param limit - maximum number of links
+   *  
+   *  @return success or failure
+   */
+  private boolean search( final int start, final boolean startTrue, final int limit )
+  {
+    if( (!startTrue) && (nStrongLinks[start] == 0) )
+      return false ;
+    
+    if( ++generation == Integer.MAX_VALUE )
+    {
+      Arrays.fill( stateSeen, 0 );
+      generation = 1 ;
+    }
+    
+    int $head = 0, $tail = 0 ;
+    int $state = getState( start, startTrue );
+    stateSeen[$state] = generation ;
+    stateLinks[$state] = 0 ;
+    stateQueue[$tail++] = $state ;
+    
+    int $nStartLinks = startTrue ? 0 : collectWeakLinks( start, startLinks );
+    
+    while( ($head < $tail) && (statesLeft-- > 0) )
+    {
+      $state = stateQueue[$head++] ;
+      int $node = $state >> 1 ;
+      boolean $true = ( ($state & 1) == 1 );
+      int $links = stateLinks[$state] ;
+      
+      if( stateSeen[$state ^ 1] == generation )
+        return processContradiction( start, startTrue, $node, $links );
+      
+      if( (!startTrue) && $true && ($node != start) && removeCommonLinks(start, startLinks, $nStartLinks, $node, $links) )
+        return true ;
+      
+      if( $links >= limit )
+        continue ;
+      
+      if( $true ) // ALL the weakly linked candidates must be false
+      {
+        int $n = collectWeakLinks( $node, nodeLinks );
+        for( int i=0; i < $n; i++ )
+          $tail = addState( getState(nodeLinks[i], false), $links + 1, $tail );
+      }
+      else // ALL the strongly linked candidates must be true
+        for( int i=0; i < nStrongLinks[$node]; i++ )
+          $tail = addState( getState(strongLinks[$node * MAX_STRONG_LINKS + i], true), $links + 1, $tail );
+    }
+    
+    return false ;
+  
+  }// ForcingChain.search()
+  
+  /**
+   *  Put a state at the end of {@link #stateQueue}, unless it has already been reached
+   *  
+   *  @param state - candidate and truth
+   *  @param links - number of links from the start
+   *  @param tail - current end of the queue
+   *  @return new end of the queue
+   */
+  private int addState( final int state, final int links, final int tail )
+  {
+    if( stateSeen[state] == generation )
+      return tail ;
+    
+    stateSeen[state] = generation ;
+    stateLinks[state] = links ;
+    stateQueue[tail] = state ;
+    
+    return tail + 1 ;
+  
+  }// ForcingChain.addState()
+  
+  /**
+   *  The assumption about the start led to a contradiction, so the OPPOSITE must be true
+   *  
+   *  @param start - candidate
+   *  @param startTrue - the WRONG assumption
+   *  @param node - candidate reached as BOTH true and false
+   *  @param links - number of links to the contradiction
+   *  
+   *  @return success or failure
+   */
+  private boolean processContradiction( final int start, final boolean startTrue, final int node, final int links )
+  {
+    Square $sqr = getSqr( getSqrIndex(start) );
+    int $val = getValue( start );
+    
+    logger.info( () -> "Assume Sqr " + $sqr.strGridPosn() + (startTrue ? " IS '" : " is NOT '") + $val + "' >> Sqr "
+                       + getSqr(getSqrIndex(node)).strGridPosn() + " is BOTH '" + getValue(node) + "' and NOT, after "
+                       + links + " links" );
+    
+    if( startTrue )
+      return $sqr.removePossibleVal( $val );
+    
+    // leave ONLY the start value - the Square will then easily be solved by findSqrSingle()
+    boolean $result = false ;
+    for( int u=1; u <= gridLength; u++ )
+      if( (u != $val) && $sqr.canBeVal(u) && $sqr.removePossibleVal(u) )
+        $result = true ;
+    
+    return $result ;
+  
+  }// ForcingChain.processContradiction()
+  
+  /**
+   *  One of the two ends of a Chain MUST be true, so REMOVE every candidate which is weakly linked to BOTH of them
+   *  
+   *  @param start - candidate at one end
+   *  @param links - candidates weakly linked to the start
+   *  @param nLinks - number of entries in <var>links</var>
+   *  @param end - candidate at the other end
+   *  @param length - number of links in the Chain
+   *  
+   *  @return success or failure
+   */
+  private boolean removeCommonLinks( final int start, final int[] links, final int nLinks, final int end, final int length )
+  {
+    boolean $result = false ;
+    
+    for( int i=0; i < nLinks; i++ )
+    {
+      int $node = links[i] ;
+      if( ($node == end) || !isCandidate($node) || !isWeakLink($node, end) )
+        continue ;
+      
+      Square $sqr = getSqr( getSqrIndex($node) );
+      logger.info( () -> "Chain of " + length + " links from Sqr " + getSqr(getSqrIndex(start)).strGridPosn()
+                         + " '" + getValue(start) + "' to Sqr " + getSqr(getSqrIndex(end)).strGridPosn() + " '"
+                         + getValue(end) + "' >> REMOVE '" + getValue($node) + "' from Sqr " + $sqr.strGridPosn() );
+      
+      if( $sqr.removePossibleVal(getValue($node)) )
+        $result = true ;
+    }
+    
+    return $result ;
+  
+  }// ForcingChain.removeCommonLinks()
+  
+  /**
+   *  Find ALL the candidates weakly linked to the parameter candidate - may include duplicates
+   *  
+   *  @param node - candidate
+   *  @param links - array to fill
+   *  @return number of candidates in <var>links</var>
+   */
+  private int collectWeakLinks( final int node, final int[] links )
+  {
+    int $n = 0 ;
+    int $s = getSqrIndex( node ), $val = getValue( node );
+    Square $sqr = getSqr( $s );
+    
+    // the other values of the same Square
+    for( int $vals = CandidateSet.without($sqr.getPossibleVals(), $val); $vals != 0; $vals = CandidateSet.rest($vals) )
+      links[$n++] = getNode( $s, CandidateSet.first($vals) );
+    
+    // the same value in the other Squares of each Group
+    $n = collectGroupLinks( $sqr.getRow(),  $sqr, $val, links, $n );
+    $n = collectGroupLinks( $sqr.getCol(),  $sqr, $val, links, $n );
+    $n = collectGroupLinks( $sqr.getZone(), $sqr, $val, links, $n );
+    
+    return $n ;
+  
+  }// ForcingChain.collectWeakLinks()
+  
+  /**
+   *  @param grp - Group of the Square
+   *  @param sqr - Square
+   *  @param val - value
+   *  @param links - array to fill
+   *  @param n - number of entries already in <var>links</var>
+   *  @return new number of entries in <var>links</var>
+   */
+  private int collectGroupLinks( final Group grp, final Square sqr, final int val, final int[] links, final int n )
+  {
+    int $n = n ;
+    for( int $bits = grp.sqrsCanBeVal[val]; $bits != 0; $bits = CandidateSet.rest($bits) )
+    {
+      Square $other = grp.mySqrs[ CandidateSet.first($bits) ];
+      if( $other != sqr )
+        links[$n++] = getNode( getIndex($other), val );
+    }
+    
+    return $n ;
+  
+  }// ForcingChain.collectGroupLinks()
+  
+  /**
+   *  @param node1 - candidate
+   *  @param node2 - candidate
+   *  @return true if the two candidates can NOT both be true
+   */
+  private boolean isWeakLink( final int node1, final int node2 )
+  {
+    int $s1 = getSqrIndex( node1 ), $s2 = getSqrIndex( node2 );
+    
+    if( $s1 == $s2 )
+      return( node1 != node2 );
+    
+    if( getValue(node1) != getValue(node2) )
+      return false ;
+    
+    int $r1 = $s1 / gridLength, $c1 = $s1 % gridLength ,
+        $r2 = $s2 / gridLength, $c2 = $s2 % gridLength ;
+    
+    return( ($r1 == $r2) || ($c1 == $c2)
+            || ((($r1 / zoneLength) == ($r2 / zoneLength)) && (($c1 / zoneLength) == ($c2 / zoneLength))) );
+  
+  }// ForcingChain.isWeakLink()
+  
+  /**
+   *  @param node - candidate
+   *  @return true if the Square is open AND can still be the value
+   */
+  private boolean isCandidate( final int node )
+  {
+    Square $sqr = getSqr( getSqrIndex(node) );
+    return( $sqr.isOpen() && $sqr.canBeVal(getValue(node)) );
+  
+  }// ForcingChain.isCandidate()
+  
+  /** @param s - index of a Square, row by row
+   *  @param val - value
+   *  @return candidate  */
+  private int getNode( final int s, final int val ) { return( s * gridLength + val - 1 ); }
+  
+  /** @param node - candidate
+   *  @param isTrue - truth
+   *  @return index in {@link #stateSeen}  */
+  private static int getState( final int node, final boolean isTrue ) { return( (node << 1) | (isTrue ? 1 : 0) ); }
+  
+  /** @param node - candidate
+   *  @return index of the Square, row by row  */
+  private int getSqrIndex( final int node ) { return( node / gridLength ); }
+  
+  /** @param node - candidate
+   *  @return value  */
+  private int getValue( final int node ) { return( node % gridLength + 1 ); }
+  
+  /** @param s - index of the Square, row by row
+   *  @return the Square  */
+  private Square getSqr( final int s ) { return grid.sqrs2dArray[ s / gridLength ][ s % gridLength ]; }
+  
+  /** @param sqr - a Square
+   *  @return index of the Square, row by row  */
+  private int getIndex( final Square sqr ) { return( sqr.getRowIndex() * gridLength + sqr.getColIndex() ); }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** the {@link LogicGrid} to search  */
+  private final LogicGrid grid ;
+  
+  private final int gridLength ,
+                    zoneLength ;
+  
+  /** number of candidates: one for each value of each Square  */
+  private final int nNodes ;
+  
+  /**
+   *  The strong links of each candidate, in blocks of {@link #MAX_STRONG_LINKS} <br>
+   *  - at most one in each of its Groups, and one in its Square
+   */
+  private final int[] strongLinks ;
+  
+  /** number of strong links for each candidate  */
+  private final int[] nStrongLinks ;
+  
+  /** candidates weakly linked to the start of the current search  */
+  private final int[] startLinks ;
+  
+  /** candidates weakly linked to the candidate being followed  */
+  private final int[] nodeLinks ;
+  
+  /** breadth-first queue of states: a candidate AND whether it is true  */
+  private final int[] stateQueue ;
+  
+  /** number of links from the start to each state  */
+  private final int[] stateLinks ;
+  
+  /** which states have been reached - a state is reached in the current search if equal to {@link #generation}  */
+  private final int[] stateSeen ;
+  
+  /** current search  */
+  private int generation ;
+  
+  /** maximum number of links in a Chain  */
+  private int maxLinks ;
+  
+  /** maximum time for each call of {@link #find}, OR zero for NO limit  */
+  private long budgetNanos ;
+  
+  /** maximum number of states to follow in each call of {@link #find}  */
+  private long maxStates ;
+  
+  /** states still to follow in the current call of {@link #find}  */
+  private long statesLeft ;
+  
+  private static final int MAX_STRONG_LINKS = 4 ;
+  
+  /** try ALL the Chains of this length before any longer ones  */
+  private static final int FIRST_MAX_LINKS = 6 ;
+  
+  static final int DEFAULT_MAX_LINKS = 24 ;
+  
+  static final long DEFAULT_BUDGET_MSECS = 250L ;
+  
+  /** NO limit, so the interactive {@link Grid} is bounded ONLY by {@link #DEFAULT_BUDGET_MSECS}  */
+  static final long DEFAULT_MAX_STATES = 0L ;
+  
+  private static PskLogger logger ;
+
+}// class ForcingChain
@@ -0,0 +1,338 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+
+import mhs.pseudokeu.Loader.SavedGame;
+
+/**
+ * Read and write games in the common one-game-per-line format, e.g. 81 characters for a 9x9 game <br>
+ * - '1' to '9' then 'A' to 'P' are the values, '.' or '0' is a blank, see {@link Loader#readLine} <br>
+ * - anything after the game on a line, e.g. a rating or a solution, is ignored; lines starting with '#' are comments <br>
+ * - ONE line is read at a time, so a file of any size is read in constant memory <br>
+ * - {@link #main} exports the games that {@link Loader#loadAllGames} finds
+ *
+ * <pre>
+ *   GameLines $games = GameLines.open( file, loader );
+ *   while( $games.next() )
+ *     use( $games.getName(), $games.getGame() );  // game is null if the line is NOT a valid game
+ *
+ *   java mhs.pseudokeu.GameLines &lt;export file | -&gt; [grid length] [log level]
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see BatchSolver
+ */
+final class GameLines implements Closeable
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor - use {@link #open} for a file
+   *
+   *  @param reader - with one game per line, closed by {@link #close}
+   *  @param ldr - to create the {@link SavedGame}s
+   */
+  GameLines( final BufferedReader reader, final Loader ldr )
+  {
+    logger = Launcher.logger ;
+    
+    input = reader ;
+    loader = ldr ;
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  @param file - with one game per line, OR "-" for the standard input
+   *  @param ldr - to create the {@link SavedGame}s
+   *  @return a new reader, OR null if the file can NOT be opened
+   */
+  static GameLines open( final File file, final Loader ldr )
+  {
+    logger = Launcher.logger ;
+    
+    try
+    {
+      BufferedReader $reader = STR_STD_STREAM.equals( file.getPath() )
+                               ? new BufferedReader( new InputStreamReader(System.in, StandardCharsets.UTF_8), BUFFER_CHARS )
+                               : new BufferedReader( Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8), BUFFER_CHARS );
+      return new GameLines( $reader, ldr );
+    }
+    catch( Exception e )
+    {
+      logger.severe( "PROBLEM opening '" + file + "' -- " + e.toString() );
+      return null ;
+    }
+  
+  }// GameLines.open()
+  
+  /**
+   *  Read the next game, skipping empty lines and comments
+   *
+   *  @return false at the end of the input
+   *  @throws IOException if there is a problem reading
+   */
+  boolean next() throws IOException
+  {
+    String $line ;
+    while( ($line = input.readLine()) != null )
+    {
+      lineNum++ ;
+      
+      int $start = 0, $end ;
+      while( ($start < $line.length()) && Character.isWhitespace($line.charAt($start)) )
+        $start++ ;
+      
+      if( ($start == $line.length()) || ($line.charAt($start) == '#') )
+        continue ;
+      
+      // the game ends at the first character that can NOT be a value or a blank
+      for( $end = $start; $end < $line.length(); $end++ )
+        if( ! isGameChar($line.charAt($end)) )
+          break ;
+      
+      name = STR_LINE + lineNum ;
+      game = loader.readLine( $line.substring($start, $end), name );
+      return true ;
+    }
+    
+    name = null ;
+    game = null ;
+    return false ;
+  
+  }// GameLines.next()
+  
+  /** @return name of the current game, from its line number */
+  String getName() { return name ; }
+  
+  /** @return the current game, OR null if its line is NOT a valid game */
+  SavedGame getGame() { return game ; }
+  
+  /** @return number of lines read so far */
+  long getLineNumber() { return lineNum ; }
+  
+  @Override
+  public void close() throws IOException
+  { input.close(); }
+  
+  /**
+   *  Give every game in a file to a consumer, one at a time
+   *
+   *  @param file - with one game per line, OR "-" for the standard input
+   *  @param ldr - to create the {@link SavedGame}s
+   *  @param consumer - gets the name and the game of each line, the game is null if the line is NOT a valid game
+   *
+   *  @return number of games, OR {@link #nFAIL} if there was a problem reading the file
+   */
+  static long forEach( final File file, final Loader ldr, final BiConsumer<String, SavedGame> consumer )
+  {
+    long $count = 0 ;
+    
+    GameLines $games = open( file, ldr );
+    if( $games == null )
+      return nFAIL ;
+    
+    try( GameLines $in = $games )
+    {
+      while( $in.next() )
+      {
+        consumer.accept( $in.getName(), $in.getGame() );
+        $count++ ;
+      }
+    }
+    catch( IOException ioe )
+    {
+      logger.severe( "PROBLEM reading '" + file + "' at line " + $games.getLineNumber() + " -- " + ioe.toString() );
+      return nFAIL ;
+    }
+    
+    return $count ;
+  
+  }// GameLines.forEach()
+  
+  /**
+   *  Write ONE game as ONE line
+   *
+   *  @param game - to write
+   *  @param out - to write to, should be buffered
+   *  @throws IOException if there is a problem writing
+   */
+  static void write( final SavedGame game, final Writer out ) throws IOException
+  {
+    int $val, $len = game.getLength();
+    for( int $row=0; $row < $len; $row++ )
+      for( int $col=0; $col < $len; $col++ )
+      {
+        $val = game.getValue( $row, $col );
+        out.write( ($val == SqrTypes.BLANK_VAL) ? BLANK_CHAR
+                                                : Character.toUpperCase(Character.forDigit($val, Character.MAX_RADIX)) );
+      }
+    
+    out.write( '\n' );
+  
+  }// GameLines.write()
+  
+  /**
+   *  Write ALL the games in the catalogue of a {@link Loader}, one per line
+   *
+   *  @param ldr - with the games
+   *  @param out - to write to, should be buffered
+   *
+   *  @return number of games written
+   *  @throws IOException if there is a problem writing
+   */
+  static int export( final Loader ldr, final Writer out ) throws IOException
+  {
+    int $count = 0 ;
+    SavedGame $game ;
+    
+    for( int diff=0; diff < Loader.NUM_DIFFICULTIES; diff++ )
+      for( int i=0; i < ldr.getNumLoadedGames(diff); i++ )
+      {
+        // getSavedGame() skips to the next game if this one is bad
+        $game = ldr.getSavedGame( diff, i );
+        if( ($game != null) && $game.getName().equals(ldr.getGameName(diff, i)) )
+        {
+          write( $game, out );
+          $count++ ;
+        }
+      }
+    
+    out.flush();
+    return $count ;
+  
+  }// GameLines.export()
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  @param ch - character of a line
+   *  @return true if the character may be part of a game
+   */
+  private static boolean isGameChar( final char ch )
+  {
+    return( (ch == BLANK_CHAR) || ((ch >= '0') && (ch <= '9')) || ((ch >= 'A') && (ch <= 'Z')) || ((ch >= 'a') && (ch <= 'z')) );
+  }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** the input  */
+  private final BufferedReader input ;
+  
+  /** creates the {@link SavedGame}s  */
+  private final Loader loader ;
+  
+  /** lines read so far  */
+  private long lineNum ;
+  
+  /** of the current game  */
+  private String name ;
+  
+  /** the current game  */
+  private SavedGame game ;
+  
+  /** written for a blank {@link Square}  */
+  static final char BLANK_CHAR = '.' ;
+  
+  /** prefix of the game names  */
+  static final String STR_LINE = "line" ;
+  
+  /** file name for the standard input OR output  */
+  static final String STR_STD_STREAM = "-" ;
+  
+  /** size of the input buffer  */
+  private static final int BUFFER_CHARS = 64 * 1024 ;
+  
+  /** integer FAILURE */
+  static final int nFAIL = -1 ;
+  
+  private static PskLogger logger ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Export the games found by {@link Loader#loadAllGames}, one per line
+   *
+   *  @param args - export file OR "-" for the standard output, [grid length], [log level]
+   */
+  public static void main( final String args[] )
+  {
+    if( args.length < 1 )
+    {
+      System.err.println( "Usage: GameLines <export file | -> [grid length] [log level]" );
+      System.exit( 1 );
+    }
+    
+    int $length = Launcher.INITIAL_GRID_LENGTH ;
+    try
+    {
+      if( args.length > 1 )
+        $length = Integer.parseInt( args[1] );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "Bad grid length '" + args[1] + "'" );
+      System.exit( 1 );
+    }
+    
+    Launcher.logger = new LogControl( (args.length > 2) ? args[2] : "WARNING" ).getLogger();
+    
+    Loader $loader = new Loader( $length, Launcher.MAX_NUM_LOADED_GAMES );
+    $loader.loadAllGames();
+    
+    int $written = nFAIL ;
+    try( Writer $out = STR_STD_STREAM.equals(args[0])
+                       ? new BufferedWriter( new OutputStreamWriter(System.out, StandardCharsets.UTF_8) )
+                       : Files.newBufferedWriter( new File(args[0]).toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW,
+                                                  StandardOpenOption.WRITE ) )
+    {
+      $written = export( $loader, $out );
+    }
+    catch( Exception e )
+    {
+      System.err.println( "PROBLEM writing '" + args[0] + "' -- " + e.toString() );
+    }
+    
+    if( ! STR_STD_STREAM.equals(args[0]) )
+      System.out.println( "Wrote " + $written + " games to '" + args[0] + "'" );
+    
+    System.exit( ($written > 0) ? 0 : 2 );
+  
+  }// GameLines.main()
+
+}// class GameLines
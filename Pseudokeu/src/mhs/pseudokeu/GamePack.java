@@ -0,0 +1,451 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.StandardOpenOption;
+
+import mhs.pseudokeu.Loader.SavedGame;
+
+/**
+ * Many Pseudokeu games of ONE grid length in a single binary file, with NO parsing needed to read a game <br>
+ * - each {@link Square} takes just enough bits for its value, zero is a blank, so a 9x9 game is 81 nibbles = 41 bytes <br>
+ * - the games are sorted by difficulty, and the header has the first game and number of games at each level <br>
+ * - so game <var>n</var> of a level is at a fixed offset, and a file on disk is read through a {@link java.nio.MappedByteBuffer} <br>
+ * - the name of game <var>n</var> is {@link Loader#STR_DIFF_FILES}[level] + <var>n</var>, as in the game folders <br>
+ * - {@link #main} converts the games that {@link Loader#loadAllGames} finds, in folders OR a jar, to a new pack
+ *
+ * <pre>
+ *   header (big-endian ints): MAGIC, VERSION, grid length, bits per value, bytes per game,
+ *                             then first game and number of games for each of the {@link Loader#NUM_DIFFICULTIES} levels
+ *   games:  values in row order, packed from the high bit of each byte
+ *
+ *   java mhs.pseudokeu.GamePack &lt;pack file&gt; [grid length] [log level]
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Loader#PACK_FILE
+ */
+final class GamePack
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor - use {@link #open} or {@link #read}
+   *
+   *  @param buffer - with a whole pack, header included
+   */
+  private GamePack( final ByteBuffer buffer )
+  {
+    data = buffer ;
+    
+    gridLength  = data.getInt( 8 );
+    bitsPerVal  = data.getInt( 12 );
+    bytesPerGame = data.getInt( 16 );
+    
+    firstGame = new int[ Loader.NUM_DIFFICULTIES ];
+    numGames = new int[ Loader.NUM_DIFFICULTIES ];
+    for( int i=0; i < Loader.NUM_DIFFICULTIES; i++ )
+    {
+      firstGame[i] = data.getInt( LEVELS_OFFSET + (i * 8) );
+      numGames[i] = data.getInt( LEVELS_OFFSET + (i * 8) + 4 );
+    }
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Map a pack file into memory
+   *
+   *  @param file - the pack
+   *  @return the pack, OR null if there was a problem
+   */
+  static GamePack open( final File file )
+  {
+    logger = Launcher.logger ;
+    
+    try( FileChannel $channel = FileChannel.open(file.toPath(), StandardOpenOption.READ) )
+    {
+      if( $channel.size() > Integer.MAX_VALUE )
+      {
+        logger.severe( "Pack '" + file + "' is too big: " + $channel.size() + " bytes!" );
+        return null ;
+      }
+      
+      // the mapping stays valid after the channel is closed
+      return check( $channel.map(FileChannel.MapMode.READ_ONLY, 0, $channel.size()), file.toString() );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM mapping pack '" + file + "' -- " + e.toString() );
+      return null ;
+    }
+  
+  }// GamePack.open()
+  
+  /**
+   *  Read a whole pack into memory, e.g. from a jar resource that can NOT be mapped
+   *
+   *  @param stream - with the pack, NOT closed by this method
+   *  @param name - of the pack, for messages
+   *  @return the pack, OR null if there was a problem
+   */
+  static GamePack read( final InputStream stream, final String name )
+  {
+    logger = Launcher.logger ;
+    
+    try
+    {
+      return check( ByteBuffer.wrap(stream.readAllBytes()), name );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM reading pack '" + name + "' -- " + e.toString() );
+      return null ;
+    }
+  
+  }// GamePack.read()
+  
+  /**
+   *  Write ALL the good games in the catalogue of a {@link Loader} to a NEW pack file <br>
+   *  - a bad game is left out, so the games after it at the same level get new names
+   *
+   *  @param loader - with the games
+   *  @param len - grid length of the games
+   *  @param file - to create, will NOT replace an existing file
+   *
+   *  @return number of games written, OR {@link #nFAIL} if there was a problem
+   */
+  static int write( final Loader loader, final int len, final File file )
+  {
+    logger = Launcher.logger ;
+    
+    if( !Helper.isValidGridLength(len) )
+    {
+      logger.severe( "CANNOT write a pack of length " + len + "!" );
+      return nFAIL ;
+    }
+    
+    int $bits = getBitsPerValue( len ), $bytes = getBytesPerGame( len, $bits );
+    int[] $first = new int[ Loader.NUM_DIFFICULTIES ], $count = new int[ Loader.NUM_DIFFICULTIES ];
+    byte[] $record = new byte[ $bytes ];
+    int $total = 0 ;
+    
+    ByteBuffer $buffer = ByteBuffer.allocate( Math.max(WRITE_BUFFER_BYTES, HEADER_BYTES) );
+    try( FileChannel $channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE) )
+    {
+      // the header is written last, when the number of games at each level is known
+      $channel.position( HEADER_BYTES );
+      
+      SavedGame $game ;
+      for( int diff=0; diff < Loader.NUM_DIFFICULTIES; diff++ )
+      {
+        $first[diff] = $total ;
+        for( int i=0; i < loader.getNumLoadedGames(diff); i++ )
+        {
+          // getSavedGame() skips to the next game if this one is bad
+          $game = loader.getSavedGame( diff, i );
+          if( ($game == null) || !$game.getName().equals(loader.getGameName(diff, i)) )
+          {
+            logger.warning( "Skipping bad game '" + loader.getGameName(diff, i) + "'" );
+            continue ;
+          }
+          
+          encode( $game, $bits, $record );
+          if( $buffer.remaining() < $bytes )
+            drain( $buffer, $channel );
+          $buffer.put( $record );
+          $count[diff]++ ;
+          $total++ ;
+        }
+      }
+      drain( $buffer, $channel );
+      
+      $buffer.putInt( MAGIC ).putInt( VERSION ).putInt( len ).putInt( $bits ).putInt( $bytes );
+      for( int diff=0; diff < Loader.NUM_DIFFICULTIES; diff++ )
+        $buffer.putInt( $first[diff] ).putInt( $count[diff] );
+      $channel.position( 0 );
+      drain( $buffer, $channel );
+    }
+    catch( FileAlreadyExistsException faee )
+    {
+      logger.severe( "Will NOT replace existing file '" + file + "'!" );
+      return nFAIL ;
+    }
+    catch( Exception e )
+    {
+      logger.severe( "PROBLEM writing pack '" + file + "' -- " + e.toString() );
+      file.delete();
+      return nFAIL ;
+    }
+    
+    return $total ;
+  
+  }// GamePack.write()
+  
+  /**
+   *  Copy the values of ONE game into a {@link SavedGame} - NO parsing, NO allocation
+   *
+   *  @param difficulty - level
+   *  @param index - of the game at that level, from zero
+   *  @param game - to receive the values, MUST have the length of this pack
+   *
+   *  @return success or failure
+   */
+  boolean getGame( final int difficulty, final int index, final SavedGame game )
+  {
+    if( (difficulty < 0) || (difficulty >= Loader.NUM_DIFFICULTIES) || (index < 0) || (index >= numGames[difficulty])
+        || (game == null) || (game.getLength() != gridLength) )
+    {
+      logger.warning( "BAD request: level " + difficulty + ", game #" + index );
+      return false ;
+    }
+    
+    int $posn = HEADER_BYTES + ( (firstGame[difficulty] + index) * bytesPerGame );
+    int $mask = ( 1 << bitsPerVal ) - 1 ;
+    int $acc = 0, $nBits = 0 ;
+    
+    for( int $sqr=0; $sqr < gridLength * gridLength; $sqr++ )
+    {
+      if( $nBits < bitsPerVal )
+      {
+        $acc = ( $acc << 8 ) | ( data.get($posn++) & 0xFF );
+        $nBits += 8 ;
+      }
+      
+      $nBits -= bitsPerVal ;
+      game.setValue( $sqr / gridLength, $sqr % gridLength, ($acc >>> $nBits) & $mask );
+    }
+    
+    return true ;
+  
+  }// GamePack.getGame()
+  
+  /**
+   *  @param difficulty - level
+   *  @return number of games in this pack at the level
+   */
+  int getNumGames( final int difficulty )
+  {
+    return( ((difficulty < 0) || (difficulty >= Loader.NUM_DIFFICULTIES)) ? 0 : numGames[difficulty] );
+  }
+  
+  /**
+   *  @param difficulty - level
+   *  @param index - of the game at that level, from zero
+   *  @return name of the game, as it would be in a game folder
+   */
+  static String getGameName( final int difficulty, final int index )
+  {
+    return Loader.STR_DIFF_FILES[difficulty] + Integer.toString( index + 1 );
+  }
+  
+  /** @return number of {@link Square}s on each side of the games in this pack */
+  int getLength() { return gridLength ; }
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Check the header of a pack
+   *
+   *  @param buffer - with the pack
+   *  @param name - of the pack, for messages
+   *  @return the pack, OR null if it is NOT valid
+   */
+  private static GamePack check( final ByteBuffer buffer, final String name )
+  {
+    if( (buffer.capacity() < HEADER_BYTES) || (buffer.getInt(0) != MAGIC) || (buffer.getInt(4) != VERSION) )
+    {
+      logger.warning( "'" + name + "' is NOT a version " + VERSION + " game pack!" );
+      return null ;
+    }
+    
+    GamePack $pack = new GamePack( buffer );
+    
+    int $total = 0 ;
+    for( int i=0; i < Loader.NUM_DIFFICULTIES; i++ )
+      $total += $pack.numGames[i] ;
+    
+    if( !Helper.isValidGridLength($pack.gridLength) || ($pack.bitsPerVal != getBitsPerValue($pack.gridLength))
+        || ($pack.bytesPerGame != getBytesPerGame($pack.gridLength, $pack.bitsPerVal))
+        || ((long)HEADER_BYTES + ((long)$total * $pack.bytesPerGame) > buffer.capacity()) )
+    {
+      logger.warning( "The header of pack '" + name + "' does NOT match its size!" );
+      return null ;
+    }
+    
+    logger.info( "Pack '" + name + "' has " + $total + " games of length " + $pack.gridLength );
+    return $pack ;
+  
+  }// GamePack.check()
+  
+  /**
+   *  Write ALL the data in a buffer to a channel, then clear the buffer
+   *
+   *  @param buffer - with data
+   *  @param channel - to write to
+   *  @throws IOException if the write fails
+   */
+  private static void drain( final ByteBuffer buffer, final FileChannel channel ) throws IOException
+  {
+    buffer.flip();
+    while( buffer.hasRemaining() )
+      channel.write( buffer );
+    buffer.clear();
+  
+  }// GamePack.drain()
+  
+  /**
+   *  Pack the values of a game into a record
+   *
+   *  @param game - with the values
+   *  @param bits - per value
+   *  @param record - to fill
+   */
+  private static void encode( final SavedGame game, final int bits, final byte[] record )
+  {
+    int $len = game.getLength(), $posn = 0 ;
+    long $acc = 0 ;
+    int $nBits = 0 ;
+    
+    for( int $sqr=0; $sqr < $len * $len; $sqr++ )
+    {
+      $acc = ( $acc << bits ) | game.getValue( $sqr / $len, $sqr % $len );
+      $nBits += bits ;
+      while( $nBits >= 8 )
+      {
+        $nBits -= 8 ;
+        record[$posn++] = (byte)( $acc >>> $nBits );
+      }
+    }
+    
+    // pad the last byte with zeros
+    if( $nBits > 0 )
+      record[$posn] = (byte)( $acc << (8 - $nBits) );
+  
+  }// GamePack.encode()
+  
+  /**
+   *  @param len - grid length
+   *  @return bits needed to hold the values 0 to <var>len</var>
+   */
+  static int getBitsPerValue( final int len )
+  { return( Integer.SIZE - Integer.numberOfLeadingZeros(len) ); }
+  
+  /**
+   *  @param len - grid length
+   *  @param bits - per value
+   *  @return bytes for ONE game
+   */
+  static int getBytesPerGame( final int len, final int bits )
+  { return( ((len * len * bits) + 7) / 8 ); }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** the whole pack, ONLY read with absolute gets so it can be shared by threads  */
+  private final ByteBuffer data ;
+  
+  /** number of {@link Square}s on each side of the games  */
+  private final int gridLength ;
+  
+  /** bits for each value  */
+  private final int bitsPerVal ;
+  
+  /** bytes for each game  */
+  private final int bytesPerGame ;
+  
+  /** position in the pack of the first game at each level  */
+  private final int[] firstGame ;
+  
+  /** number of games at each level  */
+  private final int[] numGames ;
+  
+  /** first int of every pack = "PSKP" */
+  static final int MAGIC = 0x50534B50 ;
+  
+  /** of the pack format */
+  static final int VERSION = 1 ;
+  
+  /** position of the first and number of games for each level */
+  private static final int LEVELS_OFFSET = 20 ;
+  
+  /** size of the header */
+  static final int HEADER_BYTES = LEVELS_OFFSET + ( Loader.NUM_DIFFICULTIES * 8 );
+  
+  /** size of the buffer used by {@link #write} */
+  private static final int WRITE_BUFFER_BYTES = 64 * 1024 ;
+  
+  /** integer FAILURE */
+  static final int nFAIL = -1 ;
+  
+  private static PskLogger logger ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Convert the games found by {@link Loader#loadAllGames} to a pack
+   *
+   *  @param args - pack file to create, [grid length], [log level]
+   */
+  public static void main( final String args[] )
+  {
+    if( args.length < 1 )
+    {
+      System.err.println( "Usage: GamePack <pack file> [grid length] [log level]" );
+      System.exit( 1 );
+    }
+    
+    int $length = Launcher.INITIAL_GRID_LENGTH ;
+    try
+    {
+      if( args.length > 1 )
+        $length = Integer.parseInt( args[1] );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "Bad grid length '" + args[1] + "'" );
+      System.exit( 1 );
+    }
+    
+    Launcher.logger = new LogControl( (args.length > 2) ? args[2] : "WARNING" ).getLogger();
+    
+    Loader $loader = new Loader( $length, Launcher.MAX_NUM_LOADED_GAMES );
+    $loader.loadAllGames();
+    
+    long $startTime = System.nanoTime();
+    int $written = write( $loader, $length, new File(args[0]) );
+    System.out.println( "Wrote " + $written + " games to '" + args[0] + "' in "
+                        + (System.nanoTime() - $startTime) / 1000000L + " msecs." );
+    
+    System.exit( ($written > 0) ? 0 : 2 );
+  
+  }// GamePack.main()
+
+}// class GamePack
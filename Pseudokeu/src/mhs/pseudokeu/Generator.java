@@ -0,0 +1,570 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mhs.pseudokeu.Grader.Grade;
+import mhs.pseudokeu.Loader.SavedGame;
+
+/**
+ * Generate new Pseudokeu puzzles and file them by difficulty, in the folder layout read by {@link Loader} <br>
+ * - a random full grid comes from the {@link Solver}, after filling the boxes on the diagonal with random values <br>
+ * - clues are then removed in random order, in symmetric pairs, keeping only the removals that leave ONE solution <br>
+ * - each puzzle is rated by the {@link Grader}, and clues are added back if an easier level is still wanted <br>
+ * - every worker thread repeats this until each wanted level has the requested number of NEW puzzles, OR time runs out
+ *
+ * <pre>
+ *   java mhs.pseudokeu.Generator &lt;folder&gt; [count] [level | ALL] [seconds] [threads] [grid length] [log level]
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Loader#STR_DIFF_FOLDERS
+ */
+class Generator
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor
+   *
+   *  @param len - number of {@link Square}s along each side of the grid
+   *  @param threads - number of worker threads, OR zero to use all the available processors
+   */
+  Generator( final int len, final int threads )
+  {
+    logger = Launcher.logger ;
+    
+    gridLength = len ;
+    boxLength = (int)Math.round( Math.sqrt(len) );
+    nSqrs = len * len ;
+    
+    nThreads = ( threads > 0 ) ? threads : Runtime.getRuntime().availableProcessors() ;
+    
+    loader = new Loader( len, Launcher.MAX_NUM_LOADED_GAMES );
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Generate puzzles until each wanted level has <var>count</var> new files in <var>folder</var>
+   *
+   *  @param folder - top of the {@link Loader} folder layout, the level sub-folders are created if needed
+   *  @param target - wanted level, {@link Loader#EASY} to {@link Loader#DEADLY}, OR {@link #ALL_LEVELS}
+   *  @param count - number of new puzzles for each wanted level
+   *  @param seconds - time limit, OR zero for NO limit
+   *  @param seed - for the random numbers
+   *
+   *  @return number of puzzles written, OR a NEGATIVE value if there was a problem
+   */
+  int run( final File folder, final int target, final int count, final long seconds, final long seed )
+  {
+    if( !Helper.isValidGridLength(gridLength) || (count <= 0)
+        || ((target != ALL_LEVELS) && ((target < Loader.EASY) || (target > Loader.DEADLY))) )
+    {
+      logger.severe( "BAD parameters: length = " + gridLength + ", level = " + target + ", count = " + count );
+      return nFAIL ;
+    }
+    
+    for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+    {
+      if( (target != ALL_LEVELS) && (diff != target) )
+        continue ;
+      
+      File $levelFolder = new File( folder, Loader.STR_DIFF_FOLDERS[diff] );
+      if( !$levelFolder.isDirectory() && !$levelFolder.mkdirs() )
+      {
+        logger.severe( "CANNOT create folder '" + $levelFolder + "'!" );
+        return nFAIL ;
+      }
+      
+      nextIndex.set( diff, getLastIndex($levelFolder, Loader.STR_DIFF_FILES[diff]) );
+      needed.set( diff, count );
+    }
+    
+    deadline = ( seconds > 0 ) ? System.nanoTime() + (seconds * 1000000000L) : Long.MAX_VALUE ;
+    
+    SplittableRandom $random = new SplittableRandom( seed );
+    List<Callable<Integer>> $tasks = new ArrayList<>( nThreads );
+    for( int i=0; i < nThreads; i++ )
+    {
+      SplittableRandom $workerRandom = $random.split();
+      $tasks.add( () -> generate(folder, $workerRandom) );
+    }
+    
+    logger.info( "Generating " + count + " puzzles for " + ((target == ALL_LEVELS) ? "ALL levels" : Loader.STR_DIFF_FOLDERS[target])
+                 + " on " + nThreads + " threads." );
+    
+    int $written = 0 ;
+    long $startTime = System.nanoTime();
+    
+    ForkJoinPool $pool = new ForkJoinPool( nThreads );
+    try
+    {
+      for( Future<Integer> $result : $pool.invokeAll($tasks) )
+        $written += $result.get();
+    }
+    catch( Exception e )
+    {
+      logger.severe( "PROBLEM generating puzzles -- " + e.toString() );
+      return nFAIL ;
+    }
+    finally
+    {
+      $pool.shutdownNow();
+    }
+    
+    long $elapsed = ( System.nanoTime() - $startTime ) / 1000000L ;
+    StringBuilder $sb = new StringBuilder( "Wrote " + $written + " of " + nGenerated.get() + " generated puzzles in "
+                                           + $elapsed + " msecs on " + nThreads + " threads:" );
+    for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+      $sb.append( ' ' ).append( Loader.STR_DIFF_FOLDERS[diff] ).append( '=' ).append( nWritten.get(diff) );
+    System.out.println( $sb );
+    
+    return $written ;
+  
+  }// Generator.run()
+  
+  /**
+   *  Make a random full grid, using the {@link Solver} for this thread
+   *
+   *  @param random - for the values in the diagonal boxes
+   *  @return a solved {@link SavedGame}, OR null if the Solver did not finish within its node budget
+   */
+  SavedGame newSolution( final SplittableRandom random )
+  {
+    Solver $dlx = Solver.getThreadSolver( gridLength );
+    SavedGame $grid = loader.new SavedGame( gridLength, GAME_NAME, Loader.USER );
+    int[] $vals = new int[ gridLength ];
+    
+    for( int $try=0; $try < MAX_FILL_TRIES; $try++ )
+    {
+      // the diagonal boxes do not share any Group, so ANY values are fine
+      for( int $box=0; $box < boxLength; $box++ )
+      {
+        shuffleValues( $vals, random );
+        for( int i=0; i < gridLength; i++ )
+          $grid.setValue( ($box * boxLength) + (i / boxLength), ($box * boxLength) + (i % boxLength), $vals[i] );
+      }
+      
+      $dlx.start( $grid );
+      if( $dlx.search(FILL_NODE_BUDGET) == Solver.SEARCH_FOUND )
+      {
+        $dlx.loadResults( $grid );
+        return $grid ;
+      }
+      
+      logger.info( "Try #" + ($try + 1) + " did NOT fill the grid within " + FILL_NODE_BUDGET + " nodes." );
+    }
+    
+    logger.warning( "Could NOT fill a grid in " + MAX_FILL_TRIES + " tries!" );
+    return null ;
+  
+  }// Generator.newSolution()
+  
+  /**
+   *  Remove clues from a copy of a full grid, in random order and symmetric pairs,
+   *  skipping any removal that would leave more than ONE solution
+   *
+   *  @param solution - full grid
+   *  @param random - for the order of removal
+   *  @return the puzzle
+   */
+  SavedGame removeClues( final SavedGame solution, final SplittableRandom random )
+  {
+    SavedGame $puzzle = loader.new SavedGame( gridLength, GAME_NAME, Loader.USER );
+    for( int $row=0; $row < gridLength; $row++ )
+      for( int $col=0; $col < gridLength; $col++ )
+        $puzzle.setValue( $row, $col, solution.getValue($row, $col) );
+    
+    int[] $order = shuffledSqrs( random );
+    int $sqr, $mirror ;
+    for( int i=0; i < nSqrs; i++ )
+    {
+      $sqr = $order[i] ;
+      $mirror = nSqrs - 1 - $sqr ;
+      if( $puzzle.getValue($sqr / gridLength, $sqr % gridLength) == SqrTypes.BLANK_VAL )
+        continue ;
+      
+      $puzzle.setValue( $sqr / gridLength, $sqr % gridLength, SqrTypes.BLANK_VAL );
+      $puzzle.setValue( $mirror / gridLength, $mirror % gridLength, SqrTypes.BLANK_VAL );
+      
+      if( Solver.countSolutions($puzzle, 2) != 1 )
+      {
+        $puzzle.setValue( $sqr / gridLength, $sqr % gridLength, solution.getValue($sqr / gridLength, $sqr % gridLength) );
+        $puzzle.setValue( $mirror / gridLength, $mirror % gridLength,
+                          solution.getValue($mirror / gridLength, $mirror % gridLength) );
+      }
+    }
+    
+    return $puzzle ;
+  
+  }// Generator.removeClues()
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  The loop for ONE worker thread
+   *
+   *  @param folder - top of the folder layout
+   *  @param random - for this thread ONLY
+   *  @return number of puzzles written by this thread
+   */
+  private int generate( final File folder, final SplittableRandom random )
+  {
+    int $written = 0 ;
+    
+    while( !isFinished() )
+    {
+      SavedGame $solution = newSolution( random );
+      if( $solution == null )
+        continue ;
+      
+      SavedGame $puzzle = removeClues( $solution, random );
+      nGenerated.incrementAndGet();
+      
+      Grade $grade = Grader.grade( $puzzle );
+      while( $grade.level >= 0 )
+      {
+        if( reserve($grade.level) )
+        {
+          if( save($puzzle, folder, $grade.level) )
+            $written++ ;
+          else
+              needed.incrementAndGet( $grade.level );
+          break ;
+        }
+        
+        if( !wantEasier($grade.level) || !addClue($puzzle, $solution, random) )
+          break ;
+        
+        $grade = Grader.grade( $puzzle );
+      }
+    }
+    
+    return $written ;
+  
+  }// Generator.generate()
+  
+  /**
+   *  Put back ONE symmetric pair of clues, chosen at random
+   *
+   *  @param puzzle - to change
+   *  @param solution - of the puzzle
+   *  @param random - to choose the clues
+   *  @return false if there are NO blank Squares left
+   */
+  private boolean addClue( final SavedGame puzzle, final SavedGame solution, final SplittableRandom random )
+  {
+    int[] $order = shuffledSqrs( random );
+    for( int $sqr : $order )
+    {
+      int $row = $sqr / gridLength, $col = $sqr % gridLength ;
+      if( puzzle.getValue($row, $col) != SqrTypes.BLANK_VAL )
+        continue ;
+      
+      int $mirror = nSqrs - 1 - $sqr ;
+      puzzle.setValue( $row, $col, solution.getValue($row, $col) );
+      puzzle.setValue( $mirror / gridLength, $mirror % gridLength, solution.getValue($mirror / gridLength, $mirror % gridLength) );
+      return true ;
+    }
+    
+    return false ;
+  
+  }// Generator.addClue()
+  
+  /**
+   *  Write a puzzle to the next free file name in the folder for its level
+   *
+   *  @param puzzle - to write
+   *  @param folder - top of the folder layout
+   *  @param level - of difficulty
+   *  @return success or failure
+   */
+  private boolean save( final SavedGame puzzle, final File folder, final int level )
+  {
+    File $levelFolder = new File( folder, Loader.STR_DIFF_FOLDERS[level] );
+    
+    // another program may also be adding files, and writeGame() will NOT replace one
+    for( int $try=0; $try < MAX_NAME_TRIES; $try++ )
+    {
+      File $file = new File( $levelFolder, Loader.STR_DIFF_FILES[level] + nextIndex.incrementAndGet(level) + Loader.GAME_SUFFIX );
+      if( $file.exists() )
+        continue ;
+      
+      if( loader.writeGame(puzzle, $file) )
+      {
+        nWritten.incrementAndGet( level );
+        return true ;
+      }
+    }
+    
+    logger.warning( "Could NOT write a new file in '" + $levelFolder + "'!" );
+    return false ;
+  
+  }// Generator.save()
+  
+  /**
+   *  Claim a place for ONE more puzzle at a level
+   *
+   *  @param level - of difficulty
+   *  @return false if NO more puzzles are needed at this level
+   */
+  private boolean reserve( final int level )
+  {
+    int $left ;
+    do
+    {
+      $left = needed.get( level );
+      if( $left <= 0 )
+        return false ;
+    }
+    while( !needed.compareAndSet(level, $left, $left - 1) );
+    
+    return true ;
+  
+  }// Generator.reserve()
+  
+  /**
+   *  @param level - of difficulty
+   *  @return true if puzzles are still needed at ANY easier level
+   */
+  private boolean wantEasier( final int level )
+  {
+    for( int diff = Loader.EASY; diff < level; diff++ )
+      if( needed.get(diff) > 0 )
+        return true ;
+    
+    return false ;
+  
+  }// Generator.wantEasier()
+  
+  /** @return true if NO more puzzles are needed, OR time is up, OR the thread was interrupted */
+  private boolean isFinished()
+  {
+    if( Thread.currentThread().isInterrupted() || (System.nanoTime() > deadline) )
+      return true ;
+    
+    for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+      if( needed.get(diff) > 0 )
+        return false ;
+    
+    return true ;
+  
+  }// Generator.isFinished()
+  
+  /**
+   *  @param folder - with the game files for ONE level
+   *  @param prefix - of the file names for that level
+   *  @return the highest number used in the names of the existing files, OR zero if none
+   */
+  private static int getLastIndex( final File folder, final String prefix )
+  {
+    int $last = 0 ;
+    
+    String[] $names = folder.list();
+    if( $names == null )
+      return $last ;
+    
+    for( String $name : $names )
+    {
+      if( !$name.startsWith(prefix) || !$name.endsWith(Loader.GAME_SUFFIX) )
+        continue ;
+      
+      try
+      {
+        $last = Math.max( $last, Integer.parseInt($name.substring(prefix.length(), $name.length() - Loader.GAME_SUFFIX.length())) );
+      }
+      catch( NumberFormatException nfe )
+      {
+        // NOT one of ours
+      }
+    }
+    
+    return $last ;
+  
+  }// Generator.getLastIndex()
+  
+  /**
+   *  Fill an array with the values 1 to {@link #gridLength} in random order
+   *
+   *  @param vals - to fill
+   *  @param random - to shuffle with
+   */
+  private void shuffleValues( final int[] vals, final SplittableRandom random )
+  {
+    for( int i=0; i < gridLength; i++ )
+      vals[i] = i + 1 ;
+    
+    shuffle( vals, random );
+  
+  }// Generator.shuffleValues()
+  
+  /**
+   *  @param random - to shuffle with
+   *  @return the indices of ALL the Squares, in random order
+   */
+  private int[] shuffledSqrs( final SplittableRandom random )
+  {
+    int[] $order = new int[ nSqrs ];
+    for( int i=0; i < nSqrs; i++ )
+      $order[i] = i ;
+    
+    shuffle( $order, random );
+    return $order ;
+  
+  }// Generator.shuffledSqrs()
+  
+  /**
+   *  Fisher-Yates shuffle
+   *
+   *  @param ar - to shuffle
+   *  @param random - to shuffle with
+   */
+  private static void shuffle( final int[] ar, final SplittableRandom random )
+  {
+    int $j, $temp ;
+    for( int i = ar.length - 1; i > 0; i-- )
+    {
+      $j = random.nextInt( i + 1 );
+      $temp = ar[i] ;
+      ar[i] = ar[$j] ;
+      ar[$j] = $temp ;
+    }
+  
+  }// Generator.shuffle()
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** number of {@link Square}s along each side of the grid  */
+  private final int gridLength ;
+  
+  /** number of {@link Square}s along each side of a box  */
+  private final int boxLength ;
+  
+  /** number of {@link Square}s in the grid  */
+  private final int nSqrs ;
+  
+  /** number of worker threads  */
+  private final int nThreads ;
+  
+  /** headless, ONLY used to create and write games  */
+  private final Loader loader ;
+  
+  /** puzzles still needed at each level  */
+  private final AtomicIntegerArray needed = new AtomicIntegerArray( Loader.DEADLY + 1 );
+  
+  /** last number used in a file name at each level  */
+  private final AtomicIntegerArray nextIndex = new AtomicIntegerArray( Loader.DEADLY + 1 );
+  
+  /** puzzles written at each level  */
+  private final AtomicIntegerArray nWritten = new AtomicIntegerArray( Loader.DEADLY + 1 );
+  
+  /** puzzles made by ALL the threads  */
+  private final AtomicLong nGenerated = new AtomicLong();
+  
+  /** {@link System#nanoTime} at which to stop  */
+  private volatile long deadline = Long.MAX_VALUE ;
+  
+  /** to generate puzzles of EVERY level  */
+  static final int ALL_LEVELS = -2 ;
+  
+  /** max number of nodes the {@link Solver} may use to fill a grid  */
+  static final long FILL_NODE_BUDGET = 200000L ;
+  
+  /** max number of tries to fill a grid  */
+  static final int MAX_FILL_TRIES = 16 ;
+  
+  /** max number of file names to try for ONE puzzle  */
+  static final int MAX_NAME_TRIES = 64 ;
+  
+  /** name of the generated {@link SavedGame}s  */
+  static final String GAME_NAME = "generated" ;
+  
+  /** integer FAILURE */
+  static final int nFAIL = -1 ;
+  
+  private static PskLogger logger ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Command line entry point
+   *
+   *  @param args - folder, [count], [level OR 'ALL'], [seconds], [number of threads], [grid length], [log level]
+   */
+  public static void main( final String args[] )
+  {
+    if( args.length < 1 )
+    {
+      System.err.println( "Usage: Generator <folder> [count] [level | ALL] [seconds] [threads] [grid length] [log level]" );
+      System.exit( 1 );
+    }
+    
+    int $count = 1, $threads = 0, $length = Launcher.INITIAL_GRID_LENGTH ;
+    long $seconds = 0 ;
+    try
+    {
+      if( args.length > 1 )
+        $count = Integer.parseInt( args[1] );
+      if( args.length > 3 )
+        $seconds = Long.parseLong( args[3] );
+      if( args.length > 4 )
+        $threads = Integer.parseInt( args[4] );
+      if( args.length > 5 )
+        $length = Integer.parseInt( args[5] );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "Bad number: " + nfe.getMessage() );
+      System.exit( 1 );
+    }
+    
+    Launcher.logger = new LogControl( (args.length > 6) ? args[6] : "WARNING" ).getLogger();
+    
+    int $target = ALL_LEVELS ;
+    if( (args.length > 2) && !args[2].equalsIgnoreCase("ALL") )
+    {
+      $target = nFAIL ;
+      for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+        if( Loader.STR_DIFF_FOLDERS[diff].equalsIgnoreCase(args[2]) )
+          $target = diff ;
+    }
+    
+    int $written = new Generator( $length, $threads ).run( new File(args[0]), $target, $count, $seconds, System.nanoTime() );
+    
+    System.exit( ($written > 0) ? 0 : 2 );
+  
+  }// Generator.main()
+
+}// class Generator
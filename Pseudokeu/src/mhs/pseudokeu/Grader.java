@@ -0,0 +1,395 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import mhs.pseudokeu.Loader.SavedGame;
+import mhs.pseudokeu.LogicGrid.Technique;
+
+/**
+ * Grade the difficulty of Pseudokeu puzzles by Solving them with the logical techniques of a {@link LogicGrid} <br>
+ * - the level is the level of the HARDEST {@link Technique} needed, {@link Loader#EASY} to {@link Loader#DEADLY} <br>
+ * - puzzles of the same level are ranked by the number of steps, i.e. the number of times ANY technique succeeded <br>
+ * - a puzzle the techniques can NOT finish is {@link Loader#DEADLY} <br>
+ * - a puzzle the techniques finish with a value NOT in the {@link Solver} solution is an ERROR, NOT a level <br>
+ * - bulk mode grades a folder tree of game files on every available core, and can copy each file
+ *   into the folder for its level, as used by {@link Loader#STR_DIFF_FOLDERS}
+ *
+ * <pre>
+ *   java mhs.pseudokeu.Grader &lt;folder|game file&gt; [report file] [sorted folder | -] [threads] [log level]
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see LogicGrid#solveStep
+ */
+class Grader
+{
+  /*
+   *            I N N E R    C L A S S E S
+  *************************************************************************************************************/
+  
+  /**
+   *  The result of grading ONE puzzle
+   *
+   *  @see Grader#grade
+   */
+  static final class Grade
+  {
+    /**
+     *  Only Constructor
+     *
+     *  @param stat - see {@link #status}
+     *  @param diff - see {@link #level}
+     *  @param tech - see {@link #hardest}
+     *  @param num - see {@link #steps}
+     *  @param nanos - see {@link #usecs}
+     */
+    Grade( final String stat, final int diff, final Technique tech, final int num, final long nanos )
+    {
+      status = stat ;
+      level = diff ;
+      hardest = tech ;
+      steps = num ;
+      usecs = nanos / 1000L ;
+    }
+    
+    /**
+     *  @param name - to identify the puzzle
+     *  @return line for a report: name, status, level, hardest technique, steps, usecs
+     */
+    String toLine( final String name )
+    {
+      return name + "\t" + status + "\t" + ( (level >= 0) ? Loader.STR_DIFF_FOLDERS[level] : "-" )
+             + "\t" + ( (hardest != null) ? hardest.label : "-" ) + "\t" + steps + "\t" + usecs ;
+    
+    }// Grade.toLine()
+    
+    /** one of {@link Grader#STR_OK}, {@link Grader#STR_STUCK}, {@link Grader#STR_WRONG}, {@link Grader#STR_NOT_UNIQUE},
+     *  {@link Grader#STR_BAD_INPUT} */
+    final String status ;
+    
+    /** level of difficulty, {@link Loader#EASY} to {@link Loader#DEADLY}, OR {@link Grader#nFAIL} if NOT a valid puzzle */
+    final int level ;
+    
+    /** the hardest technique used, OR null if none */
+    final Technique hardest ;
+    
+    /** number of times ANY technique succeeded */
+    final int steps ;
+    
+    /** time to grade, in microseconds */
+    final long usecs ;
+  
+  }/* INNER CLASS Grade */
+ 
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor
+   *
+   *  @param threads - number of worker threads for {@link #run}, OR zero to use all the available processors
+   */
+  Grader( final int threads )
+  {
+    logger = Launcher.logger ;
+    
+    nThreads = ( threads > 0 ) ? threads : Runtime.getRuntime().availableProcessors() ;
+    
+    loader = new Loader( Launcher.INITIAL_GRID_LENGTH, Launcher.MAX_NUM_LOADED_GAMES );
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Grade ONE puzzle with the {@link LogicGrid} for this thread <br>
+   *  - the puzzle must have ONE solution, as some techniques depend on that <br>
+   *  - every value the techniques place is checked against that solution
+   *
+   *  @param puzzle - to grade
+   *  @return the {@link Grade}
+   */
+  static Grade grade( final SavedGame puzzle )
+  {
+    long $start = System.nanoTime();
+    
+    if( (puzzle == null) || !Helper.isValidGridLength(puzzle.getLength()) )
+      return new Grade( STR_BAD_INPUT, nFAIL, null, 0, System.nanoTime() - $start );
+    
+    int[] $solution = new int[ puzzle.getLength() * puzzle.getLength() ];
+    if( Solver.countSolutions(puzzle, 2, $solution) != 1 )
+      return new Grade( STR_NOT_UNIQUE, nFAIL, null, 0, System.nanoTime() - $start );
+    
+    LogicGrid $grid = getThreadGrid( puzzle.getLength() );
+    if( ! $grid.loadGame(puzzle) )
+      return new Grade( STR_BAD_INPUT, nFAIL, null, 0, System.nanoTime() - $start );
+    
+    $grid.resetStats();
+    $grid.solve();
+    
+    Technique $hardest = null ;
+    int $steps = 0 ;
+    for( Technique $tech : Technique.values() )
+      if( $grid.getNumHits($tech) > 0 )
+      {
+        $hardest = $tech ;
+        $steps += $grid.getNumHits( $tech );
+      }
+    
+    Square $wrong = $grid.findWrongSqr( $solution );
+    if( $wrong != null )
+    {
+      Launcher.logger.warning( "Solving " + puzzle.getName() + " put a WRONG value " + $wrong.getValue()
+                               + " in Sqr " + $wrong.strGridPosn() + " -- hardest technique = " + $hardest );
+      return new Grade( STR_WRONG, nFAIL, $hardest, $steps, System.nanoTime() - $start );
+    }
+    
+    if( ! $grid.isSolved() )
+      return new Grade( STR_STUCK, Loader.DEADLY, $hardest, $steps, System.nanoTime() - $start );
+    
+    return new Grade( STR_OK, ($hardest != null) ? $hardest.level : Loader.EASY, $hardest, $steps,
+                      System.nanoTime() - $start );
+  
+  }// Grader.grade()
+  
+  /**
+   *  Grade every game file in the folder tree and write the results, in path order, to the report file
+   *
+   *  @param folder - top of the tree
+   *  @param report - file for the results, OR null to print them
+   *  @param sorted - folder to copy each file into, in the sub-folder for its level, OR null to NOT copy
+   *
+   *  @return number of files that could NOT be graded, OR a NEGATIVE value if there was a problem
+   */
+  int run( final File folder, final File report, final File sorted )
+  {
+    if( (folder == null) || !folder.isDirectory() )
+    {
+      logger.severe( "Folder '" + folder + "' does NOT exist!" );
+      return nFAIL ;
+    }
+    
+    List<Path> $files ;
+    try( Stream<Path> $walk = Files.walk(folder.toPath()) )
+    {
+      $files = $walk.filter( p -> p.toString().endsWith(Loader.GAME_SUFFIX) ).sorted().collect( Collectors.toList() );
+    }
+    catch( Exception e )
+    {
+      logger.severe( "PROBLEM reading '" + folder + "' -- " + e.toString() );
+      return nFAIL ;
+    }
+    
+    List<Callable<Grade>> $tasks = new ArrayList<>( $files.size() );
+    for( Path $file : $files )
+      $tasks.add( () -> grade(loader.readGame($file.toFile(), Loader.USER)) );
+    
+    logger.info( "Grading " + $tasks.size() + " puzzles on " + nThreads + " threads." );
+    
+    int $failed = 0 ;
+    int[] $levelCount = new int[ Loader.DEADLY + 1 ];
+    long $startTime = System.nanoTime();
+    
+    ForkJoinPool $pool = new ForkJoinPool( nThreads );
+    try( PrintWriter $pw = (report == null) ? new PrintWriter(System.out)
+                                            : new PrintWriter(Files.newBufferedWriter(report.toPath())) )
+    {
+      $pw.println( "# name\tstatus\tlevel\thardest\tsteps\tusecs" );
+      
+      List<Future<Grade>> $results = $pool.invokeAll( $tasks );
+      for( int i=0; i < $files.size(); i++ )
+      {
+        Path $file = $files.get( i );
+        Grade $grade = $results.get( i ).get();
+        $pw.println( $grade.toLine(folder.toPath().relativize($file).toString()) );
+        
+        if( $grade.level < 0 )
+        {
+          $failed++ ;
+          continue ;
+        }
+        
+        $levelCount[$grade.level]++ ;
+        if( sorted != null )
+          copyToLevel( $file, sorted, $grade.level );
+      }
+      $pw.flush();
+    }
+    catch( Exception e )
+    {
+      logger.severe( "PROBLEM grading or writing results -- " + e.toString() );
+      return nFAIL ;
+    }
+    finally
+    {
+      $pool.shutdownNow();
+    }
+    
+    long $elapsed = ( System.nanoTime() - $startTime ) / 1000000L ;
+    StringBuilder $sb = new StringBuilder( "Graded " + ($files.size() - $failed) + " of " + $files.size()
+                                           + " puzzles in " + $elapsed + " msecs on " + nThreads + " threads:" );
+    for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+      $sb.append( ' ' ).append( Loader.STR_DIFF_FOLDERS[diff] ).append( '=' ).append( $levelCount[diff] );
+    System.out.println( $sb );
+    
+    return $failed ;
+  
+  }// Grader.run()
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Get the {@link LogicGrid} belonging to the current thread, creating a new one
+   *  only if this thread has none yet or the grid length has changed <br>
+   *  - the {@link ForcingChain} search has NO time limit, so a puzzle gets the same grade on a busy machine
+   *
+   *  @param len - number of {@link Square}s along each side of the grid
+   *  @return a LogicGrid that is NOT shared with any other thread
+   *
+   *  @see Solver#getThreadSolver
+   */
+  private static LogicGrid getThreadGrid( final int len )
+  {
+    LogicGrid $grid = threadGrid.get();
+    
+    if( ($grid == null) || ($grid.getLength() != len) )
+    {
+      $grid = new LogicGrid( len );
+      $grid.setChainBudget( ForcingChain.DEFAULT_MAX_LINKS, 0L, CHAIN_STATES );
+      threadGrid.set( $grid );
+    }
+    
+    return $grid ;
+  
+  }// Grader.getThreadGrid()
+  
+  /**
+   *  Copy a game file into the sub-folder for its level - NEVER replaces an existing file
+   *
+   *  @param file - to copy
+   *  @param sorted - top folder
+   *  @param level - of difficulty
+   */
+  private void copyToLevel( final Path file, final File sorted, final int level )
+  {
+    Path $target = new File( sorted, Loader.STR_DIFF_FOLDERS[level] ).toPath().resolve( file.getFileName() );
+    try
+    {
+      Files.createDirectories( $target.getParent() );
+      if( Files.exists($target) )
+        logger.warning( "NOT replacing existing file '" + $target + "'" );
+      else
+          Files.copy( file, $target );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM copying '" + file + "' to '" + $target + "' -- " + e.toString() );
+    }
+  
+  }// Grader.copyToLevel()
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** number of worker threads  */
+  private final int nThreads ;
+  
+  /** headless, ONLY used to read games  */
+  private final Loader loader ;
+  
+  /** each worker thread grades with its own {@link LogicGrid}  */
+  private static final ThreadLocal<LogicGrid> threadGrid = new ThreadLocal<>();
+  
+  /** maximum number of states for each {@link ForcingChain} search - tens of msecs on a 9x9 grid  */
+  static final long CHAIN_STATES = 1000000L ;
+  
+  static final String STR_OK         = "OK" ,
+                      STR_STUCK      = "STUCK" ,
+                      STR_WRONG      = "WRONG" ,
+                      STR_NOT_UNIQUE = "NOT_UNIQUE" ,
+                      STR_BAD_INPUT  = "BAD_INPUT" ;
+  
+  /** integer FAILURE */
+  static final int nFAIL = -1 ;
+  
+  private static PskLogger logger ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Command line entry point
+   *
+   *  @param args - folder or game file, [report file], [sorted folder OR '-'], [number of threads], [log level]
+   */
+  public static void main( final String args[] )
+  {
+    if( args.length < 1 )
+    {
+      System.err.println( "Usage: Grader <game folder | game file> [report file] [sorted folder | -] [threads] [log level]" );
+      System.exit( 1 );
+    }
+    
+    int $threads = 0 ;
+    try
+    {
+      if( args.length > 3 )
+        $threads = Integer.parseInt( args[3] );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "Bad number of threads '" + args[3] + "' - using all processors." );
+    }
+    
+    Launcher.logger = new LogControl( (args.length > 4) ? args[4] : "WARNING" ).getLogger();
+    
+    Grader $grader = new Grader( $threads );
+    File $input = new File( args[0] );
+    
+    if( $input.isFile() )
+    {
+      Grade $grade = grade( $grader.loader.readGame($input, Loader.USER) );
+      System.out.println( $grade.toLine($input.getName()) );
+      System.exit( ($grade.level >= 0) ? 0 : 2 );
+    }
+    
+    File $report = ( (args.length > 1) && !args[1].equals("-") ) ? new File( args[1] ) : null ;
+    File $sorted = ( (args.length > 2) && !args[2].equals("-") ) ? new File( args[2] ) : null ;
+    
+    int $failed = $grader.run( $input, $report, $sorted );
+    
+    System.exit( ($failed == 0) ? 0 : 2 );
+  
+  }// Grader.main()
+
+}// class Grader
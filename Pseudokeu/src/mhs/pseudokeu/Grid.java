@@ -19,13 +19,20 @@ package mhs.pseudokeu;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
-import java.awt.Point;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.Date;
-import java.util.Vector;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 
 import javax.swing.JPanel;
@@ -50,286 +57,57 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   *************************************************************************************************************/
   
   /**
-   *  Handles the information needed to Undo & Redo value assignments to {@link Square}s
+   *  The {@link LogicGrid} shown by this {@link Grid} <br>
+   *  - passes the changes to the game state on to the GUI
    *  
    *  @author Mark Sattolo
-   *  @see #undoVector
+   *  @see Grid#model
    */
-  class UndoMatrix
+  class GridModel extends LogicGrid
   {
-    /** Position in {@link #undoVector}  */
-    private int index ;
-    
-    /** Previous temp status  */
-    private boolean oldTemp ;
-    /** New temp status  */
-    private boolean newTemp ;
-    
-    /**
-     *  Position of the {@link Square} whose value was changed <br>
-     *  x = row & y = col
-     *  
-     *  @see Point
-     */
-    private Point sqrLocation ;
-    
-    /**
-     *  Previous and New values in the changed {@link Square} <br>
-     *  x = old & y = new
-     *  
-     *  @see Point
-     */
-    private Point values ;
-    
-    /**
-     *  CONSTRUCTOR - new {@link #sqrLocation} & {@link #values} are created ;
-     *   - other fields are set from parameters <br>
-     *   
-     *  @param indx - {@link #index}
-     *  @param old - {@link #oldTemp}
-     *  @param newtmp - {@link #newTemp}
-     */
-    UndoMatrix( int indx, boolean old, boolean newtmp )
-    {
-      index = indx ;
-      oldTemp = old ;
-      newTemp = newtmp ;
-      sqrLocation = new Point();
-      values = new Point();
-    }
-    
-    /** Reset all fields to default values  */
-    void reset()
-    {
-      oldTemp = newTemp = false ;
-      sqrLocation.x = sqrLocation.y = 0 ;
-      values.x = values.y = 0 ;
-    }
-    
     /**
-     *  Set {@link #sqrLocation}
-     *  
-     *  @param row - assigned to sqrLocation.x
-     *  @param col - assigned to sqrLocation.y
+     *  CONSTRUCTOR
+     *  @param length - number of {@link Square}s on each side
      */
-    void setLocation( int row, int col )
+    GridModel( final int length )
     {
-      sqrLocation.x = row ;
-      sqrLocation.y = col ;
+      super( length );
     }
     
-    /**
-     *  Set {@link #values}
-     *  
-     *  @param oldVal - assigned to values.x
-     *  @param newVal - assigned to values.y
-     */
-    void setValues( int oldVal, int newVal )
-    {
-      values.x = oldVal ;
-      values.y = newVal ;
-    }
-    
-    /** @return {@link #index}  */
-    int getIndex()  { return index ; }
-    /** @return <var>x</var> field of {@link #sqrLocation}  */
-    int getRow()    { return sqrLocation.x ; }
-    /** @return <var>y</var> field of {@link #sqrLocation}  */
-    int getCol()    { return sqrLocation.y ; }
-    /** @return <var>x</var> field of {@link #values}  */
-    int getOldVal() { return values.x ; }
-    /** @return <var>y</var> field of {@link #values}  */
-    int getNewVal() { return values.y ; }
-    
-    /**
-     *  @param old - true to get {@link #oldTemp} & false to get {@link #newTemp}
-     *  @return {@link #oldTemp} OR {@link #newTemp}
-     */
-    boolean getTemp( boolean old )
+    /** Use the Square selected by the user  */
+    @Override
+    Square getActiveSqr()
     {
-      if( old ) return oldTemp ;
-       
-      return newTemp ;
-    }
-    
-    /**
-     *  Show the fields of {@link UndoMatrix}
-     *  
-     *  @param level - {@link Level} to display at
-     *  @param msg - additional info
-     */
-    void display( Level level, String msg )
-    {
-      logger.appendln( msg + "Sqr " + sqrs2dArray[sqrLocation.x][sqrLocation.y].strGridPosn()
-                       + " ; Old Val = " + values.x + ( oldTemp ? "/T" : "" )
-                       + " ; New Val = " + values.y + ( newTemp ? "/T" : "" ) );
-      
-      //logger.send( level );
+      return Grid.this.getActiveSqr();
     }
-  
-  }/* INNER CLASS UndoMatrix */
-  
- //============================================================================================================
-  
-  /**
-   *  Handles the information needed to use Color Chains for Solving
-   *  
-   *  @author Mark Sattolo
-   *  
-   *  @see Grid#colorChain
-   *  @see Grid#findColorChainVal
-   */
-  class ColorChain
-  {
-    static final int MAX_SQRS = Launcher.INITIAL_GRID_LENGTH + 1 ;
     
-    /** my index in {@link Grid#colorChain}[]  */
-    private final int myColor ;
-    
-    /** keep track of duplicate Groups  */
-    private boolean duplicate ;
-    
-    private boolean[] myRows ;
-    private boolean[] myCols ;
-    private boolean[] myZones ;
-    
-    /** store my Squares  */
-    private Vector<Square> sqrs ;
-    
-    /**
-     *  CONSTRUCTOR - create new row, col, zone, Square arrays
-     *  @param clr - assign to {@link #myColor}
-     */
-    ColorChain( int clr )
+    /** Also update the count in the {@link Launcher}  */
+    @Override
+    void incBlankCount( final int diff )
     {
-      if( (clr <= NO_COLOR) || (clr >=  NUM_COLOR_CHAINS) )
-      {
-        logger.warning( "BAD Color index received!" );
-        myColor = 0 ;
-      }
-      else
-        myColor = clr ;
-      
-      myRows = new boolean[ MAX_SQRS ] ;
-      myCols = new boolean[ MAX_SQRS ] ;
-      myZones = new boolean[ MAX_SQRS ] ;
-      
-      sqrs = new Vector<>( MAX_SQRS );
+      super.incBlankCount( diff );
+      gameview.updateSqrsMesg( getNumBlankSqrs() );
     }
     
-    /** Reset all mutable fields to default values  */
-    void reset()
-    {
-      duplicate = false ;
-      
-      for( int i=0; i < MAX_SQRS; i++ )
-      {
-        myRows[i] = false ;
-        myCols[i] = false ;
-        myZones[i] = false ;
-      }
-      
-      sqrs.removeAllElements() ;
-      
-    }// ColorChain.reset()
-    
-    /** Add a {@link Square} to {@link #sqrs}
-     * @param sqr - the Square
-     * @return success or failure
-     * @see Grid#buildColorChain
-     */
-    boolean add( Square sqr )
+    /** Also update the conflicts display in the {@link Launcher}  */
+    @Override
+    boolean incConflicts( final int inc, final Square sqr )
     {
-      if( sqrs.size() >= MAX_SQRS )
-      {
-        logger.warning( "colorChain[" + chainName[myColor] + "]: FULL!" );
-        return false ;
-      }
-      
-      if( sqr.inColorChain() )
-      {
-        logger.warning( "Sqr " + sqr.strGridPosn() + " is ALREADY in A Color Chain!" );
+      if( ! super.incConflicts(inc, sqr) )
         return false ;
-      }
-      
-      logger.info( "colorChain[" + chainName[myColor] + "]: ADDING Sqr " + sqr.strGridPosn() );
-      
-      int currentRow  = sqr.getRowIndex();
-      int currentCol  = sqr.getColIndex();
-      int currentZone = sqr.getZoneIndex();
-      
-      if( myRows[currentRow] )
-        duplicate = true ;
-      else
-        myRows[currentRow] = true ;
-      
-      if( myCols[currentCol] )
-        duplicate = true ;
-      else
-        myCols[currentCol] = true ;
-      
-      if( myZones[currentZone] )
-        duplicate = true ;
-      else
-        myZones[currentZone] = true ;
-      
-      sqr.putInChain( myColor );
-      sqrs.add( sqr );
       
+      gameview.setConflicts( false );
       return true ;
-      
-    }// ColorChain.add()
-    
-    /** @return {@link #duplicate} */
-    boolean checkForDuplicateGrps() { return duplicate ; }
-    
-    /** Set EACH of my {@link Square}s to a single possible value
-     *  @param v - value to set  */
-    void setSqrsToPossibleVal( int v )
-    {
-      for( Square s : sqrs )
-      {
-        for( int u=1; u <= gridLength; u++ )
-        {
-          if( (u != v) && s.canBeVal(u) )
-            s.removePossibleVal( u );
-        }
-      }
-      
-    }// ColorChain.setSqrsToVal()
-    
-    /** @return {@link #myColor}  */
-    int getColor()  { return myColor ; }
-    /** @return number of Squares  */
-    int getSize()  { return sqrs.size() ; }
-    
-    /** @param i - index
-     * @return {@link #myRows}[i]  */
-    boolean getRow(int i) { return myRows[i] ; }
-    /** @param i - index
-     * @return {@link #myCols}[i]  */
-    boolean getCol(int i) { return myCols[i] ; }
-    /** @param i - index 
-     * @return {@link #myZones}[i]  */
-    boolean getZone(int i) { return myZones[i] ; }
+    }
     
-    /**
-     *  Show the fields of {@link ColorChain}
-     *  @param level - {@link Level} to display at
-     *  @param msg - additional info
-     */
-    void display( Level level, String msg )
+    /** Enter the value as if the user had typed it  */
+    @Override
+    boolean enterSolvedValue( final Square sqr )
     {
-      logger.append( "\n colorChain[" + chainName[myColor] + "]: " + sqrs.size() + " Sqrs (" + msg + "): " );
-      
-      for( Square s : sqrs )
-        logger.append( s.strGridPosn() + "  " );
-      
-      logger.append( "\n" );
-      logger.send( level );
+      return Grid.this.enterSolvedValue( sqr );
     }
     
-  }/* INNER CLASS ColorChain */
+  }/* INNER CLASS GridModel */
  
  /*
   *             C O N S T R U C T O R S
@@ -353,22 +131,25 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     logger = Launcher.logger ;
     
     // TODO: offer choice of grid length... 16 Squares per side?
-    gridLength = Launcher.INITIAL_GRID_LENGTH ;
+    model = new GridModel( Launcher.INITIAL_GRID_LENGTH );
     
-    totalSqrs = gridLength * gridLength ;
+    gridLength = model.getLength();
+    totalSqrs = model.getTotalSqrs();
     
-    undoVector = new Vector<>( totalSqrs, gridLength );
+    undoJournal = new UndoJournal( totalSqrs );
     
     autoSolvedSqrs = new boolean[gridLength][gridLength];
     
-    colorChain = new ColorChain[ NUM_COLOR_CHAINS ];
-    
-    zoneLength = (int)Math.round( Math.sqrt(gridLength) );
+    zoneLength = model.getZoneLength();
     logger.logInit( myname() + ".zoneLength = " + zoneLength );
     
     tempValue = SqrTypes.BLANK_VAL ;
     
-    initSqrsAndGroups();
+    // the Squares & Groups belong to the model
+    sqrs2dArray = model.sqrs2dArray ;
+          zones = model.zones ;
+           rows = model.rows ;
+           cols = model.cols ;
     
     initFonts();
     
@@ -391,39 +172,6 @@ public class Grid extends JPanel implements MouseListener, KeyListener
  //                          I N I T I A L I Z A T I O N
  // ===========================================================================================================
  
-  /**
-   *  Initialization of the <code>Grid</code> {@link Row}s, {@link Col}s, {@link Zone}s & {@link Square}s <br>
-   *  - called by {@link #Grid(Launcher)}
-   */
-  private final void initSqrsAndGroups()
-  {
-    logger.logInit();
-    
-    // create each Square in the Grid
-    int i, j ;
-    sqrs2dArray = new Square[ gridLength ][ gridLength ];
-    for( i=0; i < gridLength; i++ )
-      for( j=0; j < gridLength; j++ )
-        sqrs2dArray[i][j] = new Square( this );
-    
-    // Create each Group - Group constructor will set the Group's references to its Squares
-    zones = new Zone[ gridLength ];
-     rows = new Row[ gridLength ];
-     cols = new Col[ gridLength ];
-    for( i=0; i < gridLength; i++ )
-    {
-      zones[i] = new Zone( this, i, (i/zoneLength)*zoneLength, (i%zoneLength)*zoneLength );
-       rows[i] = new  Row( this, i, i, 0 );
-       cols[i] = new  Col( this, i, 0, i );
-    }
-    
-    // Now that the Groups are set, we can tell each Square which Groups it is a part of
-    for( i=0; i < gridLength; i++ )
-      for( j=0; j < gridLength; j++ )
-        sqrs2dArray[i][j].setGroups( rows[i], cols[j], zones[zoneLength*(i/zoneLength) + (j/zoneLength)] );
-    
-  }// Grid.initSqrsAndGroups()
-  
   /**
    *  Initialization of the {@link Grid}'s {@link Font}s<br>
    *  - called by {@link #Grid(Launcher)}
@@ -559,10 +307,13 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     // clear all the Undo fields that were set - these are not valid for FIXED Squares
     clearUndo();
     
+    // the technique statistics are for ONE game
+    model.resetStats();
+    
     activeSqr = null ;
     setDefaultSqr();
     
-    gameview.updateSqrsMesg( numBlankSqrs );
+    gameview.updateSqrsMesg( model.getNumBlankSqrs() );
     
     /* get the solution  */
     getSolutionGame( loader );
@@ -635,39 +386,6 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
   }// Grid.changeSize()
   
-  /**
-   *  Set the Sqr indices for each value in each Group <br>
-   *  - called by {@link Square#newValue}
-   *  
-   *  @see Group#setSqrsCanBeVal
-   */
-  void setSqrsCanBeVal()
-  {
-    for( int i=0; i < gridLength; i++ )
-    {
-      zones[i].setSqrsCanBeVal();
-       rows[i].setSqrsCanBeVal();
-       cols[i].setSqrsCanBeVal();
-    }
-    
-  }// Grid.setSqrsCanBeVal()
-  
-  /**
-   *  modify {@link #numBlankSqrs}
-   *  
-   *  @param diff - the +ve or -ve amount to increment/decrement
-   *  @see Square#adjustType
-   */
-  void incBlankCount( final int diff )
-  {
-    logger.config( numBlankSqrs + " >> " + (numBlankSqrs + diff) + " ; numConflicts == " + nConflicts );
-    
-    numBlankSqrs += diff ;
-    
-    gameview.updateSqrsMesg( numBlankSqrs );
-  
-  }// Grid.incBlankCount()
-  
   /**
    *  Reset all {@link Grid} fields whose value depends on the current loaded game and user actions
    *  
@@ -675,19 +393,13 @@ public class Grid extends JPanel implements MouseListener, KeyListener
    */
   final void clear()
   {
+    // clear Squares and Groups
+    model.clear();
+    
+    // clear AutoSolve record
     for( int i=0; i < gridLength; i++ )
-    {
-      zones[i].clear();
-       rows[i].clear();
-       cols[i].clear();
-      
-      // clear Squares and AutoSolve record
       for( int j=0; j < gridLength; j++ )
-      {
-        sqrs2dArray[i][j].clear();
         autoSolvedSqrs[i][j] = false ;
-      }
-    }
     
     if( activeGame != null ) 
       activeGame = null ;
@@ -696,9 +408,6 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
     defaultSqr = sqrs2dArray[0][0] ;
     
-    numBlankSqrs = totalSqrs ;
-    nConflicts = 0 ;
-    
     tempValue = SqrTypes.BLANK_VAL ;
     tempMode = false ;
     
@@ -717,40 +426,49 @@ public class Grid extends JPanel implements MouseListener, KeyListener
    */
   void undoLastValue()
   {
-    if( undoPtr > 0 )
+    if( undoJournal.canUndo() )
     {
-      // decrement undoPtr
-      undoPtr-- ;
-      
-      // set the previous Square to Active
-      setActiveSqr( undoVector.elementAt(undoPtr).getRow(), undoVector.elementAt(undoPtr).getCol() );
-      
-      // set previous Square in UndoVector to Old value and mode
-      getActiveSqr().newValue( undoVector.elementAt(undoPtr).getOldVal(), undoVector.elementAt(undoPtr).getTemp(true) );
-      
-      // discard any remaining "undone" entries if Square is Solved
-      if( getActiveSqr().isAutoSolved() )
-      {
-        undoVector.setSize( totalEntries = undoPtr );
-        gameview.incSolveCount( DECREASE );
-        undoMode = false ;
-      }
-      else
-          undoMode = true ;
+      undoEntry( undoJournal.undo() );
       
       // enable Redo action unless was a Solved Square
-      gameview.enableRedo( undoMode );
+      gameview.enableRedo( undoJournal.canRedo() );
     }
     
-    if( undoPtr == 0 )
+    if( ! undoJournal.canUndo() )
       gameview.enableUndo( false );
     
     requestFocusInWindow();
     
-    logger.info( "undoPtr = " + undoPtr + " & solvedSqr = " + (!undoMode) );
+    logger.info( "undo position = " + undoJournal.position() + " & solvedSqr = " + (! undoJournal.canRedo()) );
   
   }// Grid.undoLastValue()
   
+  /**
+   * Reverse ALL the value assignments made after a checkpoint, e.g. back to where a series of guesses started
+   * 
+   * @param checkpoint - from {@link #getUndoCheckpoint}
+   * 
+   * @see #undoLastValue
+   */
+  void rewindUndo( final int checkpoint )
+  {
+    while( undoJournal.position() > Math.max(checkpoint, 0) )
+      undoEntry( undoJournal.undo() );
+    
+    gameview.enableUndo( undoJournal.canUndo() );
+    gameview.enableRedo( undoJournal.canRedo() );
+    
+    requestFocusInWindow();
+    
+    logger.info( "undo position = " + undoJournal.position() + " & available to Redo: "
+                 + (undoJournal.size() - undoJournal.position()) );
+  
+  }// Grid.rewindUndo()
+  
+  /** @return the current position in {@link #undoJournal}, to pass to {@link #rewindUndo}  */
+  int getUndoCheckpoint()
+  { return undoJournal.position(); }
+  
   /**
    * Reverse the most recent UNDO action
    * 
@@ -762,30 +480,27 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   boolean redoLastUndo()
   {
     // check if in Undo mode
-    if( ! undoMode )
+    if( ! undoJournal.canRedo() )
     {
       logger.info( "NOT ENABLED" );
       return false ;
     }
     
+    long $entry = undoJournal.redo();
+    
     // ensure the current entry is the Active Square
-    setActiveSqr( undoVector.elementAt(undoPtr).getRow(), undoVector.elementAt(undoPtr).getCol() );
+    setActiveSqr( UndoJournal.sqr($entry) / gridLength, UndoJournal.sqr($entry) % gridLength );
     
     // set this Square to the New value
-    getActiveSqr().newValue( undoVector.elementAt(undoPtr).getNewVal(), undoVector.elementAt(undoPtr).getTemp(false) );
+    getActiveSqr().newValue( UndoJournal.newVal($entry), UndoJournal.newTemp($entry) );
     
-    // increment undoPtr and check Undo button
-    if( ++undoPtr > 0 )
-      gameview.enableUndo( true );
+    gameview.enableUndo( true );
     
-    // can continue until at last entry in Vector
-    if( undoPtr == totalEntries )
-    {
-      undoMode = false ;
-      gameview.enableRedo( undoMode );
-    }
+    // can continue until at last entry in the journal
+    if( ! undoJournal.canRedo() )
+      gameview.enableRedo( false );
     
-    logger.info( "Available to Redo: " + (totalEntries - undoPtr) );
+    logger.info( "Available to Redo: " + (undoJournal.size() - undoJournal.position()) );
     
     requestFocusInWindow();
     return true ;
@@ -797,187 +512,19 @@ public class Grid extends JPanel implements MouseListener, KeyListener
    *  - called by {@link Launcher#revealSquare}
    *  
    *  @see Launcher#toggleAutoSolve
-   *  @see #findGrpSingle
-   *  @see #findSqrSingle
-   *  @see #findGridSingle
-   *  @see #findLockedVals
-   *  @see #findPairs
-   *  @see #findTriples
-   *  @see #findQuads
-   *  @see #findRectads
-   *  @see #findElad
-   *  @see #findHexad
-   *  @see #findTetrads
-   *  @see #findColorChainVal
+   *  @see LogicGrid#solveStep
    *  @see #getValFromSolution
    */
   void solveOneSqr()
   {
-    boolean
-             $moreSolving = true  ,
-            $foundLockVal = false ,
-               $foundPair = false ,
-             $foundTriple = false ,
-               $foundQuad = false ,
-             $foundRectad = false ,
-               $foundElad = false ,
-              $foundHexad = false ,
-             $foundTetrad = false  ;
-      // multi-LockedValues
-      // multi-Colors
-      // Octad (Jellyfish)
-      // Forcing Chains
-    
     tempMode = false ;
     
-    while( $moreSolving )
-    {
-      // the easiest type of Solving
-      // FIND a Square which has ONLY 1 possible value because ALL the other Squares
-      // in one of its Groups CANNOT be that value
-      // aka "Hidden Single"
-      if( findGrpSingle() )
-        return ;
-      logger.info( "NO MORE Group Singles can be found in this game state." );
-      
-      // the other basic type of Solving
-      // FIND a Square which can ONLY be 1 value because ALL the other 
-      // possible values are represented in at least 1 of its Group Squares
-      // aka "Naked Single"
-      if( findSqrSingle() )
-        return ;
-      logger.info( "NO MORE Square Singles can be found in this game state." );
-      
-      // FIND a Value which is already in the Grid 8 times,
-      // and so there is ONLY 1 possible Square for the final position
-      if( findGridSingle() )
-        return ;
-      logger.info( "NO MORE Grid Singles can be found in this game state." );
-      
-      // a particular possible value in a zone is restricted to one row OR col 
-      //  - thus that value can be eliminated as a possibility from the other Squares in that row or col
-      // OR a particular possible value in a row or col is restricted to one zone
-      //  - thus that value can be eliminated as a possibility from the other Squares in that zone
-      // FIND locked values in Groups [aka "Locked Candidates"]
-      // - if successful, try other Solution algorithms again
-      if( ! $foundLockVal )
-      {
-        $foundLockVal = $moreSolving = findLockedVals();
-        if( $foundLockVal )
-        {
-          $foundPair = $foundTriple = $foundQuad = $foundRectad = $foundElad = $foundHexad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Locked Vals can be found in this game state." );
-      
-      // find Pairs in Squares or Groups and remove excluded values from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundPair )
-      {
-        $foundPair = $moreSolving = findPairs();
-        if( $foundPair )
-        {
-          $foundLockVal = $foundTriple = $foundQuad = $foundRectad = $foundElad = $foundHexad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Pairs can be found in this game state." );
-      
-      // find Triples in Squares or Groups and remove excluded values from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundTriple )
-      {
-        $foundTriple = $moreSolving = findTriples();
-        if( $foundTriple )
-        {
-          $foundLockVal = $foundPair = $foundQuad = $foundRectad = $foundElad = $foundHexad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Triples can be found in this game state." );
-      
-      // find Rectad in Grid and remove possible vals from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundRectad )
-      {
-        $foundRectad = $moreSolving = findRectads();
-        if( $foundRectad )
-        {
-          $foundLockVal = $foundPair = $foundTriple = $foundQuad = $foundElad = $foundHexad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Rectads can be found in this game state." );
-      
-      // find a Tetrad in the Grid and remove possible vals from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundTetrad )
-      {
-        $foundTetrad = $moreSolving = findTetrads();
-        if( $foundTetrad )
-        {
-          $foundLockVal = $foundPair = $foundTriple = $foundQuad = $foundRectad = $foundElad = $foundHexad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Tetrads can be found in this game state." );
-      
-      // find Quads in Squares or Groups and remove excluded values from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundQuad )
-      {
-        $foundQuad = $moreSolving = findQuads();
-        if( $foundQuad )
-        {
-          $foundLockVal = $foundPair = $foundTriple = $foundRectad = $foundElad = $foundHexad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Quads can be found in this game state." );
-      
-      // find Elad in Grid and remove possible vals from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundElad )
-      {
-        $foundElad = $moreSolving = findElad();
-        if( $foundElad )
-        {
-          $foundLockVal = $foundPair = $foundTriple = $foundQuad = $foundRectad = $foundHexad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Elads can be found in this game state." );
-      
-      // find Hexad in Grid and remove possible vals from the appropriate Squares
-      // - if successful, try other Solution algorithms again
-      if( ! $foundHexad )
-      {
-        $foundHexad = $moreSolving = findHexad();
-        if( $foundHexad )
-        {
-          $foundLockVal = $foundPair = $foundTriple = $foundQuad = $foundRectad = $foundElad = $foundTetrad = false ;
-          continue ;
-        }
-      }
-      logger.info( "NO MORE Hexads can be found in this game state." );
-      
-      // find Color Chains in the Grid and remove possible vals from the appropriate Squares
-      // - ALWAYS check for new color chains if reach this point in the solution set
-      if( findColorChainVal() )
-      {
-        $moreSolving = true ;
-        $foundLockVal = $foundPair = $foundTriple = $foundQuad 
-        = $foundRectad = $foundElad = $foundHexad = $foundTetrad = false ;
-        continue ;
-      }
-      logger.info( "NO MORE Color Chain Values can be found in this game state." );
-      
-      /* get a new value directly from the Solution SavedGame  */
-      if( getValFromSolution() )
-        return ;
-      
-    }// end while
+    if( model.solveStep() )
+      return ;
+    
+    /* get a new value directly from the Solution SavedGame  */
+    if( getValFromSolution() )
+      return ;
     
     // NO MORE Solving to be done - turn OFF Solve
     gameview.toggleAutoSolve();
@@ -1029,49 +576,26 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   /**
    *  Any {@link Square}s with conflicting <var>values</var>?<br>
    *  
-   *  @return boolean indicating if {@link #nConflicts} is GT zero
+   *  @return boolean indicating if {@link LogicGrid#nConflicts} is GT zero
    *  
-   *  @see #incConflicts
+   *  @see LogicGrid#incConflicts
    *  @see Launcher#setConflicts
    *  @see Square#adjustConflict
    */
   boolean hasConflicts()
   {
-    logger.fine( "numConflicts == " + nConflicts );
-    return( nConflicts > 0 );
+    logger.fine( "numConflicts == " + model.getNumConflicts() );
+    return model.hasConflicts();
   
   }// Grid.hasConflicts()
   
-  /** 
-   *  Increment (or decrement) {@link #nConflicts}
-   *  
-   *  @param inc - the amount to increment, +ve or -ve 
-   *  @param sqr - {@link Square} that made the call
-   *  
-   *  @see #hasConflicts
-   */
-  void incConflicts( final int inc, final Square sqr )
-  {
-    if( sqr == null )
-    {
-      logger.severe( "Passed a null Square!!??" );
-      return ;
-    }
-    
-    nConflicts += inc ;
-    logger.severe( ( inc >= INCREASE ? "INCREASE" : "DECREASE" ) + " to '" + nConflicts + "' for Sqr " + sqr.strGridPosn() );
-    
-    gameview.setConflicts( false );
-  
-  }// Grid.incConflicts()
-  
   /** @return int {@link #gridLength}  */
   int getLength()
   { return gridLength; }
   
   /** @return number of {@link Square}s with values (FIXED or GUESS)  */
   int getNumValues()
-  { return( totalSqrs - numBlankSqrs ); }
+  { return model.getNumValues(); }
   
   /** @return {@link #totalSqrs}  */
   int getTotalSqrs()
@@ -1101,66 +625,206 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
   }// Grid.getActiveSqr()
   
-  /** @return {@link #undoMode}  */
+  /** @return true if any value assignments have been UNDONE, i.e. can Redo  */
   boolean inUndoMode()
-  { return undoMode ; }
+  { return undoJournal.canRedo(); }
   
-  /** @return boolean indicating if {@link #totalEntries} GT zero  */
+  /** @return boolean indicating if {@link #undoJournal} has any entries  */
   boolean hasEntries()
-  { return( totalEntries > 0 ); }
+  { return( undoJournal.size() > 0 ); }
   
   /** @return boolean indicating if any ACTIVE entries, i.e. NOT undone  */
   boolean hasActiveEntries()
-  { return( (totalEntries > 0) && (undoPtr > 0) ); }
-  
-  /** @return active {@link Col}  */
-  Col activeCol()
-  { return getActiveSqr().getCol(); }
-  
-  /** @return active {@link Row}  */
-  Row activeRow()
-  { return getActiveSqr().getRow(); }
-  
-  /** @return active {@link Zone}  */
-  Zone activeZone()
-  { return getActiveSqr().getZone(); }
- 
- // end INTERFACE
- // ===========================================================================================================
- //                              I N P U T
- // ===========================================================================================================
+  { return undoJournal.canUndo(); }
   
   /**
-   *  Check key input for an Arrow key press <br>
-   *  - called by {@link #keyPressed}
-   *  
-   *  @param keycode - the input
-   *  @return success or failure
+   * Replay a saved journal, e.g. one read by {@link UndoJournal#read}, on the current game <br>
+   * - the game must be in the state the journal started from, i.e. have NO active entries of its own <br>
+   * - the undone entries of the saved journal can then be Redone
+   * 
+   * @param saved - journal to replay
+   * @return success or failure - on failure the game is back where it was
    */
-  private boolean processArrowKeys( final int keycode )
+  boolean replayUndo( final UndoJournal saved )
   {
-    int $activeRow = activeSqr.getRowIndex(),
-        $activeCol = activeSqr.getColIndex();
-    int $newRow = $activeRow,
-        $newCol = $activeCol ;
+    if( (saved == null) || hasActiveEntries() )
+    {
+      logger.warning( "Can ONLY replay a journal on a game with NO active entries!" );
+      return false ;
+    }
     
-    switch( keycode )
+    int i ;
+    long $entry ;
+    Square $sqr ;
+    for( i=0; i < saved.position(); i++ )
     {
-      case KeyEvent.VK_UP:
-        do { $newRow = ( ($newRow == 0) ? gridLength-1 : $newRow-1 ); }
-          while( sqrs2dArray[$newRow][$newCol].isFixed() );
-        break ;
-      case KeyEvent.VK_DOWN:
-        do{ $newRow = ( ($newRow == gridLength-1) ? 0 : $newRow+1 ); }
-          while( sqrs2dArray[$newRow][$newCol].isFixed() );
+      $entry = saved.get( i );
+      if( UndoJournal.sqr($entry) >= totalSqrs )
         break ;
-      case KeyEvent.VK_LEFT:
-        do{ $newCol = ( ($newCol == 0) ? gridLength-1 : $newCol-1 ); }
-          while( sqrs2dArray[$newRow][$newCol].isFixed() );
+      
+      $sqr = sqrs2dArray[ UndoJournal.sqr($entry) / gridLength ][ UndoJournal.sqr($entry) % gridLength ];
+      if( $sqr.isFixed() || ($sqr.getValue() != UndoJournal.oldVal($entry)) || ($sqr.isTemp() != UndoJournal.oldTemp($entry)) )
         break ;
-      case KeyEvent.VK_RIGHT:
-        do{ $newCol = ( ($newCol == gridLength-1) ? 0 : $newCol+1 ); }
-          while( sqrs2dArray[$newRow][$newCol].isFixed() );
+      
+      setActiveSqr( $sqr.getRowIndex(), $sqr.getColIndex() );
+      $sqr.newValue( UndoJournal.newVal($entry), UndoJournal.newTemp($entry) );
+    }
+    
+    if( i < saved.position() )
+    {
+      logger.warning( "Journal entry #" + i + " does NOT match the game!" );
+      // put back the entries already replayed
+      while( i-- > 0 )
+      {
+        $entry = saved.get( i );
+        setActiveSqr( UndoJournal.sqr($entry) / gridLength, UndoJournal.sqr($entry) % gridLength );
+        getActiveSqr().newValue( UndoJournal.oldVal($entry), UndoJournal.oldTemp($entry) );
+      }
+      repaint();
+      return false ;
+    }
+    
+    undoJournal = saved ;
+    
+    gameview.enableAutoSolve( hasEntries() );
+    gameview.enableUndo( undoJournal.canUndo() );
+    gameview.enableRedo( undoJournal.canRedo() );
+    
+    if( model.isSolved() )
+    {
+      getActiveSqr().setActive( false );
+      gameview.gameOver();
+    }
+    
+    repaint();
+    
+    logger.info( "Replayed " + saved.position() + " entries; available to Redo: " + (saved.size() - saved.position()) );
+    return true ;
+    
+  }// Grid.replayUndo()
+  
+  /**
+   * Store {@link #undoJournal} in the journal file of the active game
+   * 
+   * @return success or failure
+   * 
+   * @see #loadUndoJournal
+   */
+  boolean saveUndoJournal()
+  {
+    if( (activeGame == null) || ! hasEntries() )
+    {
+      logger.warning( "NO entries to save!" );
+      return false ;
+    }
+    
+    File $file = getJournalFile();
+    try( DataOutputStream $out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream($file))) )
+    {
+      $out.writeInt( JOURNAL_MAGIC );
+      $out.writeInt( gridLength );
+      undoJournal.write( $out );
+    }
+    catch( IOException ioe )
+    {
+      logger.warning( "Could NOT write journal '" + $file + "' -- " + ioe.toString() );
+      return false ;
+    }
+    
+    logger.info( "Saved " + undoJournal.size() + " entries to '" + $file + "'" );
+    return true ;
+    
+  }// Grid.saveUndoJournal()
+  
+  /**
+   * Replay the journal saved by {@link #saveUndoJournal} for the active game
+   * 
+   * @return success or failure - on failure the game is back where it was
+   * 
+   * @see #replayUndo
+   */
+  boolean loadUndoJournal()
+  {
+    if( activeGame == null )
+      return false ;
+    
+    File $file = getJournalFile();
+    if( ! $file.isFile() )
+    {
+      logger.info( "NO saved journal '" + $file + "'" );
+      return false ;
+    }
+    
+    UndoJournal $saved ;
+    try( DataInputStream $in = new DataInputStream(new BufferedInputStream(new FileInputStream($file))) )
+    {
+      if( ($in.readInt() != JOURNAL_MAGIC) || ($in.readInt() != gridLength) )
+        throw new IOException( "NOT a journal for a game of length " + gridLength );
+      
+      $saved = UndoJournal.read( $in );
+    }
+    catch( IOException ioe )
+    {
+      logger.warning( "Could NOT read journal '" + $file + "' -- " + ioe.toString() );
+      return false ;
+    }
+    
+    return replayUndo( $saved );
+    
+  }// Grid.loadUndoJournal()
+  
+  /** @return the journal file of the active game, e.g. <code>savedGames/easy12.psj</code>  */
+  private File getJournalFile()
+  { return new File( Loader.DEFAULT_PATH, activeGame.getName() + JOURNAL_SUFFIX ); }
+  
+  /** @return active {@link Col}  */
+  Col activeCol()
+  { return getActiveSqr().getCol(); }
+  
+  /** @return active {@link Row}  */
+  Row activeRow()
+  { return getActiveSqr().getRow(); }
+  
+  /** @return active {@link Zone}  */
+  Zone activeZone()
+  { return getActiveSqr().getZone(); }
+ 
+ // end INTERFACE
+ // ===========================================================================================================
+ //                              I N P U T
+ // ===========================================================================================================
+  
+  /**
+   *  Check key input for an Arrow key press <br>
+   *  - called by {@link #keyPressed}
+   *  
+   *  @param keycode - the input
+   *  @return success or failure
+   */
+  private boolean processArrowKeys( final int keycode )
+  {
+    int $activeRow = activeSqr.getRowIndex(),
+        $activeCol = activeSqr.getColIndex();
+    int $newRow = $activeRow,
+        $newCol = $activeCol ;
+    
+    switch( keycode )
+    {
+      case KeyEvent.VK_UP:
+        do { $newRow = ( ($newRow == 0) ? gridLength-1 : $newRow-1 ); }
+          while( sqrs2dArray[$newRow][$newCol].isFixed() );
+        break ;
+      case KeyEvent.VK_DOWN:
+        do{ $newRow = ( ($newRow == gridLength-1) ? 0 : $newRow+1 ); }
+          while( sqrs2dArray[$newRow][$newCol].isFixed() );
+        break ;
+      case KeyEvent.VK_LEFT:
+        do{ $newCol = ( ($newCol == 0) ? gridLength-1 : $newCol-1 ); }
+          while( sqrs2dArray[$newRow][$newCol].isFixed() );
+        break ;
+      case KeyEvent.VK_RIGHT:
+        do{ $newCol = ( ($newCol == gridLength-1) ? 0 : $newCol+1 ); }
+          while( sqrs2dArray[$newRow][$newCol].isFixed() );
     }
     
     if( ($newRow != $activeRow) || ($newCol != $activeCol) )
@@ -1209,7 +873,7 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   
   /**
    *  Process a new {@link Square} value <br>
-   *  - called by {@link #processInput} or {@link #setAutoSolvedSqr}
+   *  - called by {@link #processInput} or {@link #enterSolvedValue}
    *  
    *  @param newval - the new value
    *  @return success or failure
@@ -1254,7 +918,7 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     getActiveSqr().newValue( $val, tempMode );
     
     // Game over?
-    if( (numBlankSqrs == 0) && (nConflicts == 0) )
+    if( model.isSolved() )
     {
       getActiveSqr().setActive( false );
       gameview.gameOver();
@@ -1262,981 +926,250 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
     repaint();
     
-    return true ;
-    
-  }// Grid.newValue()
-  
-  /**
-   * Handle the multiple digits that can be displayed by a {@link Square} in 'temp' mode
-   * 
-   * @param inVal - new digit typed in a {@link Square}
-   * @return up to {@link SqrTypes#MAX_TEMP_VAL}
-   * 
-   * @see #newValue
-   */
-  private int handleTempMode( final int inVal )
-  {
-    int $base = gridLength + 1 ;
-    int $outVal = inVal ;
-    
-    if( inVal == SqrTypes.BLANK_VAL )
-    {
-      tempValue = SqrTypes.BLANK_VAL ; // start over with next temp digit
-    }
-    else
-    {
-      if( tempValue == SqrTypes.BLANK_VAL ) // i.e. first temp digit
-        tempValue = inVal ;
-      else if( tempValue >= ($base * $base) ) // already 3 digits - replace the 3rd digit
-          tempValue = ( (tempValue/$base) * $base ) + inVal ;
-        else // already have 1 or 2 digits - add next digit to the end
-            tempValue = ( tempValue * $base ) + inVal ;
-      
-      $outVal = tempValue ;
-    }
-    
-    logger.info( "Temp value is now '" + $outVal + "'" );
-    
-    if( $outVal > SqrTypes.MAX_TEMP_VAL )
-    {
-      logger.warning( "Temp Val exceeded Max!" );
-      $outVal = SqrTypes.MAX_TEMP_VAL ;
-    }
-    
-    return $outVal ;
-  
-  }// Grid.handleTempMode()
-  
-  /**
-   * Keep track of value assignments in order to support Undo & Redo actions
-   * 
-   * @param newVal - new value of the Active Square
-   * 
-   * @see #undoVector
-   * @see #newValue
-   */
-  private void addNewUndoEntry( final int newVal )
-  {
-    /* CANNOT call this method from Square.newValue() as Undo & Redo use that method for their actions...
-     * Have to CHECK the old & new values/temp modes the same as is done in Square.newValue() so 
-     * that Undo Vector entries will get Undone & Redone PROPERLY     */
-    
-    Square $activeSqr = getActiveSqr();
-    int $oldVal = $activeSqr.getValue();
-    boolean $tempState = $activeSqr.isTemp();
-    
-    // DO NOTHING if old & new value are both Blank OR if old & new value/mode are both the SAME
-    if( ( (newVal == SqrTypes.BLANK_VAL) && ($oldVal == SqrTypes.BLANK_VAL) )
-        || ( (newVal == $oldVal) && ($tempState == tempMode) ) )
-    {
-      logger.fine( "DO NOTHING... current val = " + $oldVal + ( $tempState ? "/T" : "" )
-                   + " & new val = " + newVal + ( tempMode ? "/T" : "" ) + " // current type = " + $activeSqr.getType() );
-      return ;
-    }
-    
-    // discard any remaining "undone" entries if type in a new value
-    if( undoMode )
-    {
-      undoVector.setSize( undoPtr );
-      undoMode = false ;
-    }
-    
-    undoVector.add( new UndoMatrix(undoPtr, $activeSqr.isTemp(), (newVal == SqrTypes.BLANK_VAL) ? false : tempMode) );
-    undoVector.elementAt( undoPtr ).setLocation( $activeSqr.getRowIndex(), $activeSqr.getColIndex() );
-    undoVector.elementAt( undoPtr ).setValues( $oldVal, newVal );
-    
-    undoPtr++ ;
-    totalEntries = undoPtr ;
-    
-    gameview.enableAutoSolve( totalEntries >= 1 );
-    gameview.enableUndo( true );
-    gameview.enableRedo( false );
-    
-    logger.config( "totalEntries == " + totalEntries );
-  
-  }// Grid.addNewUndoEntry()
-  
- // ===========================================================================================================
- //                              S O L V I N G
- // ===========================================================================================================
-  
-  /**
-   *  Use the {@link Loader} to create a new SavedGame and start the {@link #solveWorker} thread <br>
-   *  - called by {@link #activateGame}
-   *  
-   *  @param loader - to load games
-   *  
-   *  @return success or failure
-   *  @see #createSolveWorker
-   */
-  private final boolean getSolutionGame( final Loader loader )
-  {
-    if( loader == null )
-    {
-      logger.severe( "Passed a null Loader!!??" );
-      return false ;
-    }
-
-    if( activeGame == null )
-    {
-      logger.warning( "Active SavedGame not constructed!" );
-      return false ;
-    }
-    
-    savedSolution = loader.new SavedGame( activeGame.getLength(), "SOLUTION_" + activeGame.getName(),
-                                          activeGame.getDifficulty() );
-    
-    if( savedSolution == null )
-    {
-      logger.warning( "Solution SavedGame not constructed!" );
-      return false ;
-    }
-    
-    logger.info( savedSolution.getName() );
-    
-    // it may take several seconds, so get the solution in a separate thread 
-    createSolveWorker();
-    solveWorker.execute();
-    
-    return true ;
-  
-  }// Grid.getSolutionGame()
-  
-  /**
-   *  Call {@link Loader} to load games from file or jar to {@link Loader.SavedGame}s <br>
-   *  - called by {@link #activateGame}
-   *  
-   *  @see Solver#getSolution
-   *  @see #solveWorker
-   *  @see #savedSolnReady
-   */
-  private final void createSolveWorker()
-  {
-    logger.logInit();
-    
-    /* get the solution  */
-    solveWorker = new SwingWorker<Long, Void>()
-    {
-      @Override
-      public Long doInBackground()
-      {
-        savedSolnTime = Long.valueOf( Solver.getSolution(activeGame, savedSolution) );
-        return savedSolnTime ;
-      }
-      
-      @Override
-      public void done()
-      {
-        savedSolnGood = savedSolnTime > 0 ;
-        savedSolnReady = true ;
-      }
-      
-    };// new SwingWorker
-    
-  }// Grid.createSolveWorker()
-  
-  /**
-   *  Find a Group that has a missing value which can ONLY go in 1 of its open Squares,
-   *  as the other Squares in this Group have that value in a Group Square,
-   *  then set this Square to that value [aka "Hidden Single"]<br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   *  @see Group#findSingleSqrForVal
-   */
-  private boolean findGrpSingle()
-  {
-    logger.info( myname() );
-    
-    Square $sqr ;
-    
-    for( int i=0; i < gridLength; i++ )
-    {
-      $sqr = zones[i].findSingleSqrForVal();
-      if( $sqr == null )
-      {
-        $sqr = rows[i].findSingleSqrForVal();
-        if( $sqr == null )
-          $sqr = cols[i].findSingleSqrForVal();
-      }
-      
-      if( $sqr != null )
-        return setAutoSolvedSqr( $sqr );
-      
-    }// for( groups )
-    
-    return false ;
-    
-  }// Grid.findGrpSingle()
-  
-  /**
-   *  Find a Square that has only 1 possible value because of the values
-   *  in Group Squares and set this Square to that value [aka "Naked Single"]<br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   *  @see Square#findSingleVal
-   */
-  private boolean findSqrSingle()
-  {
-    logger.info( myname() );
-    
-    for( Square[] r : sqrs2dArray )
-      for( Square s : r )
-        if( s.findSingleVal() )
-          return setAutoSolvedSqr( s );
-    
-    return false ;
-    
-  }// Grid.findSqrSingle()
-  
-  /**
-   *  Find a value that is already in (gridLength - 1) Grid locations, so there is only 1 possible
-   *  Square remaining which can have the last token of that value <br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   */
-  private boolean findGridSingle()
-  {
-    logger.info( myname() );
-    
-    int $count, $posn=0 ;
-    for( int v=1; v <= gridLength; v++ )
-    {
-      $count = 0 ;
-      for( Row r : rows )
-        if( r.nSqrsWithVal[v] == 0 )
-          $posn = r.getPosn() ;
-        else
-            $count++ ;
-      
-      if( $count == gridLength - 1 )
-      {
-        logger.info( ">> Value " + v + " is in ALL rows except row[" + $posn + "]" );
-        for( Square s : sqrs2dArray[$posn] )
-          if( s.isOpen() && (s.numGrpSqrsWithVal(v) == 0) )
-          {
-            s.solvedValue = v ;
-            return setAutoSolvedSqr( s );
-          }
-      }
-    }
-    
-    return false ;
-    
-  }// Grid.findGridSingle()
-  
-  /**
-   *  Find any locked values [aka "Locked Candidates"] in Groups and then re-check for any Solvable Squares <br>
-   *  - called by {@link #solveOneSqr} OR {@link Launcher#setGridDebugKeyMap} Ctrl-V keystroke
-   *  
-   *  @return success or failure
-   *  @see Group#findLockedVals
-   */
-  boolean findLockedVals()
-  {
-    boolean $result=false, $resZone=false, $resRow=false, $resCol=false ;
-    
-    for( int i=0; i < gridLength; i++ )
-    {
-      $resZone = zones[i].findLockedVals();
-      $resRow  =  rows[i].findLockedVals();
-      $resCol  =  cols[i].findLockedVals();
-      
-      if( ! $result )
-        $result = ( $resZone || $resRow || $resCol );
-    }
-    
-    //logger.info( "result == " + result );
-    return $result ;
-    
-  }// Grid.findLockedVals()
-  
-  /**
-   *  Find any Square or Group Pairs and then re-check for any Solvable Squares <br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   */
-  private boolean findPairs()
-  {
-    boolean $zsp, $rsp, $csp, $zgp, $rgp, $cgp, $result=false ;
-    
-    for( int i=0; i < gridLength; i++ )
-    {
-      $zsp = zones[i].findSqrPairs();
-      $rsp =  rows[i].findSqrPairs();
-      $csp =  cols[i].findSqrPairs();
-      
-      $zgp = zones[i].findGrpPairs();
-      $rgp =  rows[i].findGrpPairs();
-      $cgp =  cols[i].findGrpPairs();
-      
-      if( ! $result )
-        $result = ( $zsp || $rsp || $csp || $zgp || $rgp || $cgp );
-    }
-    
-    return $result ;
-    
-  }// Grid.findPairs()
-  
-  /**
-   *  Find any Square or Group Triples and then re-check for any Solvable Squares <br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   */
-  private boolean findTriples()
-  {
-    boolean $zst, $rst, $cst, $zgt, $rgt, $cgt, $result=false ;
-    
-    for( int i=0; i < gridLength; i++ )
-    {
-      $zst = zones[i].findSqrTriples();
-      $rst =  rows[i].findSqrTriples();
-      $cst =  cols[i].findSqrTriples();
-      
-      $zgt = zones[i].findGrpTriples();
-      $rgt =  rows[i].findGrpTriples();
-      $cgt =  cols[i].findGrpTriples();
-      
-      if( ! $result )
-        $result = ( $zst || $rst || $cst || $zgt || $rgt || $cgt );
-    }
-    
-    return $result ;
+    return true ;
     
-  }// Grid.findTriples()
+  }// Grid.newValue()
   
   /**
-   *  Find any Square or Group Quads and then re-check for any Solvable Squares <br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
+   * Handle the multiple digits that can be displayed by a {@link Square} in 'temp' mode
+   * 
+   * @param inVal - new digit typed in a {@link Square}
+   * @return up to {@link SqrTypes#MAX_TEMP_VAL}
+   * 
+   * @see #newValue
    */
-  private boolean findQuads()
+  private int handleTempMode( final int inVal )
   {
-    boolean $zsqd, $rsqd, $csqd, $zgqd, $rgqd, $cgqd, $result=false ;
+    int $base = gridLength + 1 ;
+    int $outVal = inVal ;
     
-    for( int i=0; i < gridLength; i++ )
+    if( inVal == SqrTypes.BLANK_VAL )
     {
-      $zsqd = zones[i].findSqrQuads();
-      $rsqd =  rows[i].findSqrQuads();
-      $csqd =  cols[i].findSqrQuads();
-      
-      $zgqd = zones[i].findGrpQuads();
-      $rgqd =  rows[i].findGrpQuads();
-      $cgqd =  cols[i].findGrpQuads();
+      tempValue = SqrTypes.BLANK_VAL ; // start over with next temp digit
+    }
+    else
+    {
+      if( tempValue == SqrTypes.BLANK_VAL ) // i.e. first temp digit
+        tempValue = inVal ;
+      else if( tempValue >= ($base * $base) ) // already 3 digits - replace the 3rd digit
+          tempValue = ( (tempValue/$base) * $base ) + inVal ;
+        else // already have 1 or 2 digits - add next digit to the end
+            tempValue = ( tempValue * $base ) + inVal ;
       
-      if( ! $result )
-        $result = ( $zsqd || $rsqd || $csqd || $zgqd || $rgqd || $cgqd );
+      $outVal = tempValue ;
     }
     
-    return $result ;
-    
-  }// Grid.findQuads()
-  
-  /**
-   *  Two rows OR cols each have only 2 Sqrs where a certain value can go,
-   *  and these 2 Sqrs are also in matching cols/rows,
-   *  thus can REMOVE that value as a possibility from ALL other open Sqrs
-   *  in the matching cols/rows [aka "X-wing"]<br>
-   *  
-   *  <b>Find</b> any Rectads in the Grid and process the values.<br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   */
-  private boolean findRectads()
-  {
-    int $g1, $g2 ;
-    boolean $res1, $res2, $result=false ;
+    logger.info( "Temp value is now '" + $outVal + "'" );
     
-    for( int v=1; v <= gridLength; v++ )
+    if( $outVal > SqrTypes.MAX_TEMP_VAL )
     {
-      for( int i=0; i < gridLength; i++ )
-      {
-        logger.append( "Check val '" + v + "' in row & col [" + i + "]" );
-        
-        // CHECK ROWS
-        if( rows[i].nSqrsCanBeVal[v] == 2 )
-        {
-          for( int j=i+1; j < gridLength ; j++ )
-            if( rows[j].sqrsCanBeVal[v] == rows[i].sqrsCanBeVal[v] )
-            {
-              $g1 = Helper.getBitPosn( rows[i].sqrsCanBeVal[v], 1 );
-              $g2 = Helper.getBitPosn( rows[i].sqrsCanBeVal[v], 2 );
-              
-              logger.appendln( "\n\t FOUND a rectad in rows " + i + "," + j + " at cols " + $g1 + "," + $g2 );
-              
-              $res1 = cols[$g1].processRectadVal( v, i, j );
-              $res2 = cols[$g2].processRectadVal( v, i, j );
-              
-              if( ! $result )
-                $result = $res1 || $res2 ;
-            }
-        }// rows
-        
-        // CHECK COLS
-        if( cols[i].nSqrsCanBeVal[v] == 2 )
-        {
-          for( int k=i+1; k < gridLength ; k++ )
-            if( cols[k].sqrsCanBeVal[v] == cols[i].sqrsCanBeVal[v] )
-            {
-              $g1 = Helper.getBitPosn( cols[i].sqrsCanBeVal[v], 1 );
-              $g2 = Helper.getBitPosn( cols[i].sqrsCanBeVal[v], 2 );
-              
-              logger.appendln( "\n\t FOUND a rectad in cols " + i + "," + k + " at rows " + $g1 + "," + $g2 );
-              
-              $res1 = rows[$g1].processRectadVal( v, i, k );
-              $res2 = rows[$g2].processRectadVal( v, i, k );
-              
-              if( ! $result )
-                $result = $res1 || $res2 ;
-            }
-        }// cols
-        
-        logger.send( Level.INFO );
-        
-      }// initial row/col
-    }// values
-    
-    return $result ;
+      logger.warning( "Temp Val exceeded Max!" );
+      $outVal = SqrTypes.MAX_TEMP_VAL ;
+    }
     
-  }// Grid.findRectads()
+    return $outVal ;
+  
+  }// Grid.handleTempMode()
   
   /**
-   *  A Group contains 2 Sqrs with Pairs in the x,y + y,z pattern,
-   *  and in a separate Group of one of these Sqrs is a Sqr with an x,z Pair,
-   *  thus can REMOVE the x possibility from any open Sqr at the intersection row/cols
-   *  of the x,y and x,z Sqrs [aka "XY-wing"]<br>
-   *  
-   *  <b>Find</b> an Elad in the Grid and process the value.<br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
+   * Keep track of value assignments in order to support Undo & Redo actions
+   * 
+   * @param newVal - new value of the Active Square
+   * 
+   * @see #undoJournal
+   * @see #newValue
    */
-  private boolean findElad()
+  private void addNewUndoEntry( final int newVal )
   {
-    int $bits2, $bits3, $res1, $res2, $val=0 ;
-     Row $row ;
-     Col $col ;
-    Zone $zone ;
-    Square $target = null ;
-    boolean $result = false ;
-    
-    logger.info( "\n Checking..." );
+    /* CANNOT call this method from Square.newValue() as Undo & Redo use that method for their actions...
+     * Have to CHECK the old & new values/temp modes the same as is done in Square.newValue() so 
+     * that Undo Vector entries will get Undone & Redone PROPERLY     */
     
-    // Search all Squares for possVals == 2, e.g. 'ab'
-    loop:
-    for( Square[] r : sqrs2dArray )
-      for( Square $s1 : r )
-        if( $s1.numPossibleVals() == 2 )
-        {
-          logger.appendln( "Check possible Sqr " + $s1.strGridPosn()
-                           + " / PV == " + Helper.displaySetBits($s1.getPossibleVals(), gridLength, "") );
-          // if found, search group squares for possVals == 'ac' OR 'bc'
-           $row = $s1.getRow();
-           $col = $s1.getCol();
-          $zone = $s1.getZone();
-          
-          // CHECK ROW FOR SQR 2
-          for( Square $s2r : $row.mySqrs )
-            if( ($s2r.numPossibleVals() == 2) && ($s2r != $s1) )
-            {
-              logger.appendln( "\t Check possible Row Sqr2 " + $s2r.strGridPosn()
-                               + " / PV == " + Helper.displaySetBits($s2r.getPossibleVals(), gridLength, "") );
-              $res1 = $s1.getPossibleVals() | $s2r.getPossibleVals() ;
-              if( Helper.numSetBits($res1, gridLength) == 3 )
-              {
-                $bits2 = $s2r.getPossibleVals() ^ $res1 ;
-                $bits3 =  $s1.getPossibleVals() ^ $res1 ;
-                $res2 = $bits2 | $bits3 ;
-                $val = Helper.getBitPosn( $bits3, 1 );
-                
-                // if found, e.g. 'ac', search the 2 non-'ac' groups for 'bc'
-                // check col for Sqr 3
-                for( Square $s3c : $col.mySqrs )
-                  if( ($s3c.getPossibleVals() == $res2) && ($s3c != $s1) )
-                  {
-                    logger.appendln( "\t\t ! FOUND Col Sqr3 " + $s3c.strGridPosn()
-                                     + " / PV == " + Helper.displaySetBits($s3c.getPossibleVals(), gridLength, "") );
-                    $target = sqrs2dArray[$s3c.getRowIndex()][$s2r.getColIndex()];
-                    break loop ;
-                  }
-                // check zone for Sqr 3
-                for( Square $s3z : $zone.mySqrs )
-                  if( ($s3z.getPossibleVals() == $res2) && ($s3z.getRow() != $row) )
-                  {
-                    logger.appendln( "\t\t ! FOUND Zone Sqr3 " + $s3z.strGridPosn()
-                                     + " / PV == " + Helper.displaySetBits($s3z.getPossibleVals(), gridLength, "") );
-                    $target = sqrs2dArray[$s3z.getRowIndex()][$s2r.getColIndex()];
-                    break loop ;
-                  }
-              }
-            }
-          
-          // CHECK COL FOR SQR 2
-          for( Square $s2c : $col.mySqrs )
-            if( ($s2c.numPossibleVals() == 2) && ($s2c != $s1) )
-            {
-              logger.appendln( "\t Check possible Col Sqr2 " + $s2c.strGridPosn()
-                               + " / PV == " + Helper.displaySetBits($s2c.getPossibleVals(), gridLength, "") );
-              $res1 = $s1.getPossibleVals() | $s2c.getPossibleVals() ;
-              if( Helper.numSetBits($res1, gridLength) == 3 )
-              {
-                $bits2 = $s2c.getPossibleVals() ^ $res1 ;
-                $bits3 =  $s1.getPossibleVals() ^ $res1 ;
-                $res2 = $bits2 | $bits3 ;
-                $val = Helper.getBitPosn( $bits3, 1 );
-                
-                // if found, e.g. 'ac', search the 2 non-'ac' groups for 'bc'
-                // check row for Sqr 3
-                for( Square $s3r : $row.mySqrs )
-                  if( ($s3r.getPossibleVals() == $res2) && ($s3r != $s1) )
-                  {
-                    logger.appendln( "\t\t ! FOUND Row Sqr3 " + $s3r.strGridPosn()
-                                     + " / PV == " + Helper.displaySetBits($s3r.getPossibleVals(), gridLength, "") );
-                    $target = sqrs2dArray[$s2c.getRowIndex()][$s3r.getColIndex()];
-                    break loop ;
-                  }
-                // check zone for Sqr 3
-                for( Square $s3z : $zone.mySqrs )
-                  if( ($s3z.getPossibleVals() == $res2) && ($s3z.getCol() != $col) )
-                  {
-                    logger.appendln( "\t\t ! FOUND Zone Sqr3 " + $s3z.strGridPosn()
-                                     + " / PV == " + Helper.displaySetBits($s3z.getPossibleVals(), gridLength, "") );
-                    $target = sqrs2dArray[$s2c.getRowIndex()][$s3z.getColIndex()];
-                    break loop ;
-                  }
-              }
-            }
-          
-        }// found a possible Square
-    // end loop
-    
-    // if found, can eliminate possible val 'c' in the Square at the row/col intersection
-    //           of 'ac' and 'bc' that does NOT share a row OR col with 'ab'
-    if( $target != null )
-    {
-      logger.appendln( "\t\t Remove possible Val '" + $val + "' from Sqr " + $target.strGridPosn() );
-      $result = $target.removePossibleVal( $val );
-    }
-    
-    logger.send( Level.INFO );
-    return $result ;
-    
-  }// Grid.findElad()
-  
-  /**
-   *  Three rows OR cols each have a Pair or Triple for a particular value,
-   *  and these overlap in the SAME three cols/rows,
-   *  thus can REMOVE ALL instances of this value in the other open Sqrs 
-   *  of the overlapping cols/rows [aka "Swordfish"]<br>
-   *  
-   *  <b>Find</b> a Hexad in the Grid and process the value.<br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   */
-  private boolean findHexad()
-  {
-    int $res1, $res2 ;
-    int $g1, $g2, $g3 ;
-    boolean $tmpRes1, $tmpRes2, $tmpRes3, $result=false ;
+    Square $activeSqr = getActiveSqr();
+    int $oldVal = $activeSqr.getValue();
+    boolean $tempState = $activeSqr.isTemp();
     
-    loop:
-    for( int v=1; v <= gridLength; v++ )
+    // DO NOTHING if old & new value are both Blank OR if old & new value/mode are both the SAME
+    if( ( (newVal == SqrTypes.BLANK_VAL) && ($oldVal == SqrTypes.BLANK_VAL) )
+        || ( (newVal == $oldVal) && ($tempState == tempMode) ) )
     {
-      logger.appendln( "Check val '" + v + "'" );
-      for( int i=0; i < gridLength; i++ )
-      {
-        logger.appendln( "\tin row & col [" + i + "]" );
-        
-        // CHECK ROWS
-        if( (rows[i].nSqrsCanBeVal[v] == 2) || (rows[i].nSqrsCanBeVal[v] == 3) )
-        {
-          for( int j=i+1; j < gridLength; j++ )
-            if( (rows[j].nSqrsCanBeVal[v] == 2) || (rows[j].nSqrsCanBeVal[v] == 3) )
-            {
-              $res1 = rows[i].sqrsCanBeVal[v] | rows[j].sqrsCanBeVal[v] ;
-              
-              // make sure we have exactly 3 Squares
-              if( Helper.numSetBits($res1, gridLength) != 3 )
-                continue ;
-              
-              for( int k=j+1; k < gridLength; k++ )
-                if( (rows[k].nSqrsCanBeVal[v] == 2) || (rows[k].nSqrsCanBeVal[v] == 3) )
-                {
-                  $res2 = $res1 | rows[k].sqrsCanBeVal[v] ;
-                  if( $res2 == $res1 )
-                  {
-                    $g1 = Helper.getBitPosn( $res1, 1 );
-                    $g2 = Helper.getBitPosn( $res1, 2 );
-                    $g3 = Helper.getBitPosn( $res1, 3 );
-                    
-                    logger.appendln( "\t FOUND a hexad in rows " + i + "," + j + "," + k
-                        + " at cols " + $g1 + "," + $g2 + "," + $g3 );
-                    
-                    $tmpRes1 = cols[$g1].processHexadVal( v, i, j, k );
-                    $tmpRes2 = cols[$g2].processHexadVal( v, i, j, k );
-                    $tmpRes3 = cols[$g3].processHexadVal( v, i, j, k );
-                    
-                    if( ! $result )
-                      $result = $tmpRes1 || $tmpRes2 || $tmpRes3 ;
-                    
-                    if( $result )
-                      break loop ;
-                  }
-                }
-            }
-        }// rows
-        
-        // CHECK COLS
-        if( (cols[i].nSqrsCanBeVal[v] == 2) || (cols[i].nSqrsCanBeVal[v] == 3) )
-        {
-          for( int j=i+1; j < gridLength ; j++ )
-            if( (cols[j].nSqrsCanBeVal[v] == 2) || (cols[j].nSqrsCanBeVal[v] == 3) )
-            {
-              $res1 = cols[i].sqrsCanBeVal[v] | cols[j].sqrsCanBeVal[v] ;
-              
-              // make sure we have exactly 3 Squares
-              if( Helper.numSetBits($res1, gridLength) != 3 )
-                continue ;
-              
-              for( int k=j+1; k < gridLength; k++ )
-                if( (cols[k].nSqrsCanBeVal[v] == 2) || (cols[k].nSqrsCanBeVal[v] == 3) )
-                {
-                  $res2 = $res1 | cols[k].sqrsCanBeVal[v] ;
-                  if( $res2 == $res1 )
-                  {
-                    $g1 = Helper.getBitPosn( $res1, 1 );
-                    $g2 = Helper.getBitPosn( $res1, 2 );
-                    $g3 = Helper.getBitPosn( $res1, 3 );
-                    
-                    logger.appendln( "\t FOUND a hexad in cols " + i + "," + j + "," + k
-                                     + " at rows " + $g1 + "," + $g2 + "," + $g3 );
-                    
-                    $tmpRes1 = rows[$g1].processHexadVal( v, i, j, k );
-                    $tmpRes2 = rows[$g2].processHexadVal( v, i, j, k );
-                    $tmpRes3 = rows[$g3].processHexadVal( v, i, j, k );
-                    
-                    if( ! $result )
-                      $result = $tmpRes1 || $tmpRes2 || $tmpRes3 ;
-                    
-                    if( $result )
-                      break loop ;
-                  }
-                }
-            }
-        }// cols
-        
-      }// initial row/col
-    }// values
+      logger.fine( "DO NOTHING... current val = " + $oldVal + ( $tempState ? "/T" : "" )
+                   + " & new val = " + newVal + ( tempMode ? "/T" : "" ) + " // current type = " + $activeSqr.getType() );
+      return ;
+    }
+    
+    // any remaining "undone" entries are discarded when type in a new value
+    undoJournal.add( $activeSqr.getRowIndex() * gridLength + $activeSqr.getColIndex(), $oldVal, $tempState,
+                     newVal, (newVal == SqrTypes.BLANK_VAL) ? false : tempMode );
     
-    logger.send( Level.INFO );
-    return $result ;
+    gameview.enableAutoSolve( hasEntries() );
+    gameview.enableUndo( true );
+    gameview.enableRedo( false );
     
-  }// Grid.findHexad()
+    logger.config( "totalEntries == " + undoJournal.size() );
+  
+  }// Grid.addNewUndoEntry()
   
   /**
-   *  CANNOT have a "rectangle" in two Groups where each corner has the same two possible values,
-   *  as the placement of the two different values would be equally likely,
-   *  and thus the solution to that game would NOT be unique. [aka "Unique Rectangles" requirement]<br>
-   *  
-   *  <b>Find</b> any Tetrads [aka "Deadly Rectangles"] in the Grid and process the values <br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
-   */
-  private boolean findTetrads()
-  {
-    Square $foundSqr ;
-    int $foundRow, $foundCol ;
-    boolean $tmpRes1, $tmpRes2, $result=false ;
-    
-    logger.info( "\n Checking for tetrads..." );
-    
-    // #1 for value v, check Sqrs for possVals of 2
-    for( Square[] r : sqrs2dArray )
-      for( Square $s1 : r )
-      {
-        if( $s1.numPossibleVals() == 2 )
-          // #2 if found, check Sqrs in Zone for matching possVals and common row or col
-          for( Square $s2 : $s1.getZone().mySqrs )
-            if( ($s2 != $s1) && ($s2.getPossibleVals() == $s1.getPossibleVals()) )
-            {
-              // check Row
-              if( $s2.getRow() == $s1.getRow() )
-              {
-                logger.info( "Check possible Tetrad pair at " + $s1.strGridPosn() + " & " + $s2.strGridPosn() );
-                
-                // #3a if found, check its col for Sqr with matching possVals
-                for( Square $s3 : $s1.getCol().mySqrs )
-                  if( ($s3 != $s1) && ($s3.getPossibleVals() == $s1.getPossibleVals()) )
-                  // #4a if found, can REMOVE these 2 possible values from the Sqr at the intersection of this row & col
-                  {
-                    logger.info( " >> Found a matching Sqr at " + $s3.strGridPosn() );
-                    $foundRow = $s3.getRowIndex();
-                    $foundCol = $s2.getColIndex();
-                    $foundSqr = sqrs2dArray[$foundRow][$foundCol];
-                    logger.info( "\t >> Can REMOVE [" + Helper.displaySetBits($s3.getPossibleVals(), gridLength, "")
-                                 +  "] from " + $foundSqr.strGridPosn() );
-                    
-                    $tmpRes1 = $foundSqr.removePossibleVal( Helper.getBitPosn($s1.getPossibleVals(), 1) );
-                    $tmpRes2 = $foundSqr.removePossibleVal( Helper.getBitPosn($s1.getPossibleVals(), 2) );
-                    logger.send( Level.INFO );
-                    
-                    if( ! $result )
-                      $result = $tmpRes1 || $tmpRes2 ;
-                  }
-              }
-              // check Col
-              if( $s2.getCol() == $s1.getCol() )
-              {
-                logger.info( "Check possible Tetrad pair at " + $s1.strGridPosn() + " & " + $s2.strGridPosn() );
-                
-                // #3b if found, check its row for Sqr with matching possVals
-                for( Square $s3 : $s1.getRow().mySqrs )
-                  if( ($s3 != $s1) && ($s3.getPossibleVals() == $s1.getPossibleVals()) )
-                  // #4b if found, can REMOVE these 2 possible values from the Sqr at the intersection of this row & col
-                  {
-                    logger.info( " >> Found a matching Sqr at " + $s3.strGridPosn() );
-                    $foundRow = $s2.getRowIndex();
-                    $foundCol = $s3.getColIndex();
-                    $foundSqr = sqrs2dArray[$foundRow][$foundCol];
-                    logger.info( "\t >> Can REMOVE [" + Helper.displaySetBits($s3.getPossibleVals(), gridLength, "")
-                                 +  "] from " + $foundSqr.strGridPosn() );
-                    
-                    $tmpRes1 = $foundSqr.removePossibleVal( Helper.getBitPosn($s1.getPossibleVals(), 1) );
-                    $tmpRes2 = $foundSqr.removePossibleVal( Helper.getBitPosn($s1.getPossibleVals(), 2) );
-                    logger.send( Level.INFO );
-                    
-                    if( ! $result )
-                      $result = $tmpRes1 || $tmpRes2 ;
-                  }
-              }
-            }// s2 matches s1
-      }// check Sqrs
-    
-    return $result ;
-    
-  }// Grid.findTetrads()
-  
-  /**
-   *  Find any Color Chain values and then re-check for any Solvable Squares <br>
-   *  = TF chaining, reductio ad absurdum <br>
-   *  - called by {@link #solveOneSqr}
-   *  
-   *  @return success or failure
+   * Set the Square of an entry to its OLD value and mode
+   * 
+   * @param entry - from {@link UndoJournal#undo}
+   * 
+   * @see #undoLastValue
+   * @see #rewindUndo
    */
-  private boolean findColorChainVal()
+  private void undoEntry( final long entry )
   {
-    boolean $haveChain, $chainInVal, $haveSoln=false ;
+    // set the Square to Active
+    setActiveSqr( UndoJournal.sqr(entry) / gridLength, UndoJournal.sqr(entry) % gridLength );
     
-    if( ! colorChainInit )
-    {
-      numActiveColors = 2 ;
-      for( int i=0; i < numActiveColors; i++ )
-        colorChain[i] = new ColorChain( i );
-      
-      colorChainInit = true ;
-      logger.info( "INIT " + numActiveColors + " Color Chains" );
-    }
+    getActiveSqr().newValue( UndoJournal.oldVal(entry), UndoJournal.oldTemp(entry) );
     
-    for( int v=1; v <= gridLength; v++ )
+    // discard any remaining "undone" entries if Square is Solved
+    if( getActiveSqr().isAutoSolved() )
     {
-      logger.info( "\n\t\t Check val '" + v + "'" );
-      
-      $haveChain = $chainInVal = false ;
-      
-      // Search Squares
-      loop:
-      for( Square[] r : sqrs2dArray )
-        for( Square s : r )
-          // check for possible value 'v'
-          if( s.isOpen() && s.canBeVal(v) )
-          {
-            // only need Sqrs that HAVEN'T already been checked
-            if( s.inColorChain() )
-              continue ;
-            
-            logger.info( "\n\t Check possible Sqr " + s.strGridPosn()
-                         + " / PV == " + Helper.displaySetBits(s.getPossibleVals(), gridLength, "") );
-            
-            // clear the chains but DO NOT reset Squares until FINISHED with this value
-            resetColorChains( false );
-            
-            // #1 - if found, check for Groups with 2 possible values
-            $haveChain = buildColorChain( PINK_CHAIN, v, s );
-            
-            if( $haveChain )
-            {
-              $chainInVal = true ;
-              
-              $haveSoln = checkColorChains( v );
-              
-              if( $haveSoln )
-                break loop ;
-            }
-          }
-      // end loop
-      
-      if( $chainInVal )
-      {
-        // reset Chains & Squares for this value
-        resetColorChains( true );
-        
-        if( $haveSoln )
-          break ;
-      }
+      undoJournal.truncate();
+      gameview.incSolveCount( DECREASE );
     }
-    
-    logger.send( Level.INFO );
-    return $haveSoln ;
-    
-  }// Grid.findColorChainVal()
+  
+  }// Grid.undoEntry()
+  
+ // ===========================================================================================================
+ //                              S O L V I N G
+ // ===========================================================================================================
   
   /**
-   *  Check the parameter {@link Square} for inclusion in a Color Chain <br>
+   *  Use the {@link Loader} to create a new SavedGame and start the {@link #solveWorker} thread <br>
+   *  - called by {@link #activateGame} <br>
+   *  - a game in the {@link #solnCache} does NOT need a search, so its solution is ready at once
    *  
-   *  @param chainColor - current Color Chain level
-   *  @param val - value to check
-   *  @param sqr - Square to check
+   *  @param loader - to load games
    *  
    *  @return success or failure
-   *  
-   *  @see #findColorChainVal
-   *  @see Group#findColorSqr
+   *  @see #createSolveWorker
    */
-  boolean buildColorChain( final int chainColor, final int val, final Square sqr )
+  private final boolean getSolutionGame( final Loader loader )
   {
-    if( sqr == null )
+    if( loader == null )
     {
-      logger.severe( "Passed a null Square!!??" );
+      logger.severe( "Passed a null Loader!!??" );
       return false ;
     }
-    
-    logger.info( "Check Sqr " + sqr.strGridPosn() + " for inclusion in colorChain["
-                 + (chainColor == PINK_CHAIN ? "PINK" : "BLUE") + "]" );
-    
-     Row r = sqr.getRow();
-     Col c = sqr.getCol();
-    Zone z = sqr.getZone();
-    
-    boolean $rowRes  = ( r.nSqrsCanBeVal[val] == 2 );
-    boolean $colRes  = ( c.nSqrsCanBeVal[val] == 2 );
-    boolean $zoneRes = ( z.nSqrsCanBeVal[val] == 2 );
-    
-    // #2 - if found, place this Sqr in the appropriate ColorChain
-    if( $rowRes || $colRes || $zoneRes )
+
+    if( activeGame == null )
     {
-      logger.info( "\t Sqr " + sqr.strGridPosn() + " has a Color-eligible Group" );
-      colorChain[ chainColor % numActiveColors ].add( sqr );
+      logger.warning( "Active SavedGame not constructed!" );
+      return false ;
     }
     
-    // #3 - and place Grp Sqrs with possible vals that include 'v' in other/next ColorChain
-    if( $rowRes )
+    savedSolution = loader.new SavedGame( activeGame.getLength(), "SOLUTION_" + activeGame.getName(),
+                                          activeGame.getDifficulty() );
+    
+    if( savedSolution == null )
     {
-      logger.info( "\t >> possible matching Sqr is in " + r.myPosn() );
-      r.findColorSqr( chainColor+1, val );
+      logger.warning( "Solution SavedGame not constructed!" );
+      return false ;
     }
     
-    if( $colRes )
+    logger.info( savedSolution.getName() );
+    
+    // don't leave a search for the previous game running
+    if( (solveWorker != null) && !solveWorker.isDone() )
     {
-      logger.info( "\t >> possible matching Sqr is in " + c.myPosn() );
-      c.findColorSqr( chainColor+1, val );
+      logger.info( "Cancel the solve for the previous game." );
+      solveWorker.cancel( true );
     }
+    savedSolnReady = false ;
     
-    if( $zoneRes )
+    if( solnCache == null )
+      solnCache = SolutionCache.open( new File(Loader.DEFAULT_PATH, SolutionCache.CACHE_FILE) );
+    
+    long $msecs = solnCache.get( activeGame, savedSolution );
+    if( $msecs >= 0 )
     {
-      logger.info( "\t >> possible matching Sqr is in " + z.myPosn() );
-      z.findColorSqr( chainColor+1, val );
+      logger.info( "Solution from the cache, first found in " + $msecs + " msecs" );
+      savedSolnTime = Long.valueOf( $msecs );
+      savedSolnGood = savedSolnReady = true ;
+      return true ;
     }
     
-    return( $rowRes || $colRes || $zoneRes );
+    // it may take several seconds, so get the solution in a separate thread 
+    createSolveWorker();
+    solveWorker.execute();
     
-  }// Grid.buildColorChain()
+    return true ;
+  
+  }// Grid.getSolutionGame()
   
   /**
-   *  Check the Color Chains for values that can be assigned or excluded <br>
-   *  - called by {@link #findColorChainVal}
-   *  
-   *  @param val - current value
-   *  @return success or failure
+   *  Call {@link Loader} to load games from file or jar to {@link Loader.SavedGame}s <br>
+   *  - called by {@link #activateGame}
    *  
-   *  @see #colorChain
+   *  @see Solver#getSolution
+   *  @see #solveWorker
+   *  @see #savedSolnReady
    */
-  private boolean checkColorChains( final int val )
+  private final void createSolveWorker()
   {
-    for( int i=0; i < numActiveColors; i++ )
-      colorChain[i].display( Level.INFO, "" );
+    logger.logInit();
     
-    // if any Group of a Square is also represented by another Square in this Color
-    // >> ALL Squares of the OTHER Color must be value 'v'
-    if( colorChain[PINK_CHAIN].checkForDuplicateGrps() )
-    {
-      logger.info( "DUPLICATE Groups in Pink Chain >> ALL Sqrs in Blue Chain MUST BE val '" + val + "'" );
-      // leave v as the ONLY POSSIBLE val in the Blue Chain Squares
-      // - these Squares will then easily be solved by findSqrSingle()
-      colorChain[BLUE_CHAIN].setSqrsToPossibleVal( val );
-      return true ;
-    }
+    // this worker belongs to these games even if the active game changes
+    final SavedGame $puzzle = activeGame ,
+                    $solution = savedSolution ;
+    final SolutionCache $cache = solnCache ;
     
-    if( colorChain[BLUE_CHAIN].checkForDuplicateGrps() )
+    /* get the solution  */
+    solveWorker = new SwingWorker<Long, Void>()
     {
-      logger.info( "DUPLICATE Groups in Blue Chain >> ALL Sqrs in Pink Chain MUST BE val '" + val + "'" );
-      // leave v as the ONLY POSSIBLE val in the Pink Chain Squares
-      // - these Squares will then easily be solved by findSqrSingle()
-      colorChain[PINK_CHAIN].setSqrsToPossibleVal( val );
-      return true ;
-    }
-    
-    // if ANY Squares at the INTERSECTION of a row/col of 2 Squares from DIFFERENT Colors
-    // >> EXCLUDE 'v' from these Squares
-    boolean $intxVal=false, $result=false ;
-    
-    for( int cc=0; cc < numActiveColors; cc++ )
-      for( int i=0; i < ColorChain.MAX_SQRS; i++ )
-        if( colorChain[cc].getRow(i) )
-          for( int j=0; j < ColorChain.MAX_SQRS; j++ )
-            if( colorChain[ (cc+1) % numActiveColors ].getCol(j) )
-            {
-              if( (!sqrs2dArray[i][j].inColorChain()) && sqrs2dArray[i][j].isOpen() )
-              {
-                logger.info( "\t Look for an INTERSECTION Square at " + sqrs2dArray[i][j].strGridPosn() );
-                $intxVal = sqrs2dArray[i][j].removePossibleVal( val );
-                logger.send( Level.INFO );
-              }
-              
-              if( ! $result )
-                $result = $intxVal ;
-            }
-    
-    return $result ;
+      @Override
+      public Long doInBackground()
+      {
+        long $msecs = Solver.getSolution( $puzzle, $solution );
+        
+        // next time this game is loaded its solution is ready at once
+        if( ($msecs >= 0) && !isCancelled() && ($cache != null) )
+          $cache.put( $puzzle, $solution, $msecs );
+        
+        return Long.valueOf( $msecs );
+      }
+      
+      @Override
+      public void done()
+      {
+        // replaced by the worker for a newer game
+        if( isCancelled() )
+          return ;
+        
+        try
+        {
+          savedSolnTime = get();
+        }
+        catch( InterruptedException | ExecutionException e )
+        {
+          logger.warning( e.toString() );
+          savedSolnTime = Long.valueOf( -1 );
+        }
+        
+        // a fast search can legitimately take 0 msecs
+        savedSolnGood = savedSolnTime >= 0 ;
+        savedSolnReady = true ;
+      }
+      
+    };// new SwingWorker
     
-  }// Grid.checkColorChains()
+  }// Grid.createSolveWorker()
   
   /**
-   *  Reset ALL mutable Color Chain fields to default values <br>
-   *  - called by {@link #findColorChainVal}
+   *  Find any locked values in Groups <br>
+   *  - called by {@link Launcher#setGridDebugKeyMap} Ctrl-V keystroke
    *  
-   *  @param doSqrs - reset individual {@link Square}s too
-   *  @see #colorChain
+   *  @return success or failure
+   *  @see LogicGrid#findLockedVals
    */
-  private void resetColorChains( final boolean doSqrs )
+  boolean findLockedVals()
   {
-    for( int i=0; i < numActiveColors; i++ )
-      colorChain[i].reset();
-    
-    if( doSqrs )
-      for( Square[] r : sqrs2dArray )
-        for( Square s : r )
-          if( s.inColorChain() )
-            s.putInChain( NO_COLOR );
-    
-  }// Grid.resetColorChains()
+    return model.findLockedVals();
+  }
   
   /**
    *  Get a new value directly from the Solution {@link SavedGame} <br>
@@ -2291,7 +1224,7 @@ public class Grid extends JPanel implements MouseListener, KeyListener
           if( sqrs2dArray[i][j].getValue() != $soln )
           {
             sqrs2dArray[i][j].solvedValue = $soln ;
-            setAutoSolvedSqr( sqrs2dArray[i][j] );
+            model.setAutoSolvedSqr( sqrs2dArray[i][j] );
             break loop ;
           }
         }
@@ -2302,34 +1235,15 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   }// Grid.getValFromSolution()
   
   /**
-   *  Set the required fields when solving a {@link Square} <br>
+   *  Enter an auto-solved value as a new value in the Active {@link Square} <br>
    *  - value is in {@link Square#solvedValue}
    *  
    *  @param sqr - Square to set
    *  @return success or failure
+   *  @see LogicGrid#setAutoSolvedSqr
    */
-  private boolean setAutoSolvedSqr( Square sqr )
+  private boolean enterSolvedValue( final Square sqr )
   {
-    if( sqr == null )
-    {
-      logger.severe( "Passed a null Square!!??" );
-      return false ;
-    }
-    
-    if( sqr.isFixed() )
-    {
-      logger.warning( "! Trying to solve a FIXED Square: " + sqr.strGridPosn() );
-      return false ;
-    }
-    
-    if( (sqr.solvedValue < 1) || (sqr.solvedValue > gridLength) )
-    {
-      logger.warning( "Sqr " + sqr.strGridPosn() + " has an INVALID solvedValue: '" + sqr.solvedValue + "' !" );
-      return false ;
-    }
-    
-    logger.info( "Sqr " + sqr.strGridPosn() + ": val = " + sqr.solvedValue );
-    
     setActiveSqr( sqr.getRowIndex(), sqr.getColIndex() );
     autoSolvedSqrs[ sqr.getRowIndex() ][ sqr.getColIndex() ] = true ;
     
@@ -2346,7 +1260,7 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
     return false ;
     
-  }// Grid.setAutoSolvedSqr()
+  }// Grid.enterSolvedValue()
   
   /**
    *  Activate the Square in the given row and col
@@ -2392,10 +1306,7 @@ public class Grid extends JPanel implements MouseListener, KeyListener
    */
   private final void clearUndo()
   {
-    undoVector.clear();
-    undoMode = false ;
-    undoPtr = 0 ;
-    totalEntries = 0 ;
+    undoJournal.clear();
     
   }// Grid.clearUndo()
   
@@ -2859,11 +1770,11 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   }// Grid.displayGrpSqrs()
   
   /**
-   * display each entry in {@link #undoVector}
+   * display each entry in {@link #undoJournal}
    * @param level - log {@link Level} to display at
    * @param info  - extra text to display
    */
-  void displayUndoVector( final Level level, final String info )
+  void displayUndoJournal( final Level level, final String info )
   {
     Level lev = level ;
     
@@ -2875,16 +1786,20 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
     logger.fine( info + "\n--------------------------------------------------------------" );
     
-    for( int i=0; i < totalEntries; i++ )
+    long $entry ;
+    for( int i=0; i < undoJournal.size(); i++ )
     {
-      if( i == undoPtr )
+      if( i == undoJournal.position() )
         logger.appendln( "--------------------------------------------------------------" );
       
-      logger.append( "UndoMatrix[" + i + "] : " );
-      undoVector.elementAt( i ).display( lev, "" );
+      $entry = undoJournal.get( i );
+      logger.appendln( "UndoJournal[" + i + "] : Sqr "
+                       + sqrs2dArray[ UndoJournal.sqr($entry) / gridLength ][ UndoJournal.sqr($entry) % gridLength ].strGridPosn()
+                       + " ; Old Val = " + UndoJournal.oldVal($entry) + ( UndoJournal.oldTemp($entry) ? "/T" : "" )
+                       + " ; New Val = " + UndoJournal.newVal($entry) + ( UndoJournal.newTemp($entry) ? "/T" : "" ) );
     }
   
-  }// Grid.displayUndoVector()
+  }// Grid.displayUndoJournal()
   
   /**
    * display values of important <var>fields</var> in {@link Grid}
@@ -2906,19 +1821,19 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     
     logger.appendln( "\n\t Active Sqr : " + getActiveSqr().strGridPosn() );
     logger.appendln( "\t Current Game : '" + gameview.getGameName() + "'" );
-    logger.appendln( "\t numConflicts = " + nConflicts );
-    logger.appendln( "\t numBlankSqrs = " + numBlankSqrs );
+    logger.appendln( "\t numConflicts = " + model.getNumConflicts() );
+    logger.appendln( "\t numBlankSqrs = " + model.getNumBlankSqrs() );
     logger.appendln( "\t showKeyStrokes = " + showKeyStrokes );
     logger.appendln( "\t showMouseActions = " + showMouseActions );
     logger.appendln( "\t tempValue = " + tempValue );
     logger.appendln( "\t zoneLength = " + zoneLength );
     logger.appendln( "\t gridLength = " + gridLength );
     logger.appendln( "\t totalSqrs = " + totalSqrs );
-    logger.appendln( "\t Undo Mode = " + undoMode );
-    logger.appendln( "\t undoPtr = " + undoPtr );
-    logger.appendln( "\t totalEntries = " + totalEntries );
+    logger.appendln( "\t Undo Mode = " + inUndoMode() );
+    logger.appendln( "\t undo position = " + undoJournal.position() );
+    logger.appendln( "\t totalEntries = " + undoJournal.size() );
     
-    displayUndoVector( lev, info );
+    displayUndoJournal( lev, info );
     
     logger.send( lev );
   
@@ -3065,6 +1980,16 @@ public class Grid extends JPanel implements MouseListener, KeyListener
     savedSolution.display( Level.SEVERE );
     
   }// Grid.displaySolution()
+  
+  /**
+   * display the statistics of each Solving technique for the current game
+   * @see LogicGrid#displayStats
+   */
+  void displayStats()
+  {
+    model.displayStats( Level.SEVERE );
+    
+  }// Grid.displayStats()
  
  /*
   *            F I E L D S
@@ -3087,6 +2012,12 @@ public class Grid extends JPanel implements MouseListener, KeyListener
                       BRIEF = true  ,
                        FULL = false ;
   
+  /** suffix of the files written by {@link #saveUndoJournal}  */
+  static final String JOURNAL_SUFFIX = ".psj" ;
+  
+  /** first int of a journal file: 'PSKJ'  */
+  static final int JOURNAL_MAGIC = 0x50534B4A ;
+  
   /** Logging */
   static PskLogger logger ;
   
@@ -3105,9 +2036,6 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   private boolean showKeyStrokes   ,
                   showMouseActions ;
   
-  /** number of remaining blank {@link Square}s (including temp) in the {@link Grid} */
-  private int numBlankSqrs ;
-  
   /** index of the current loaded game in the {@link Loader}.games array of {@link SavedGame}s */
   private int activeGameIndex ;
   
@@ -3167,8 +2095,13 @@ public class Grid extends JPanel implements MouseListener, KeyListener
    */
   private int pxSqrSize ;
   
-  // TODO - need this ?
-  /** 2D array of individual {@link Square}s */
+  /**
+   *  The {@link Square}s, {@link Group}s and Solving techniques, WITHOUT the GUI
+   *  @see GridModel
+   */
+  private final GridModel model ;
+  
+  /** 2D array of individual {@link Square}s - from {@link #model} */
   Square[][] sqrs2dArray ;
   
   /**
@@ -3181,14 +2114,11 @@ public class Grid extends JPanel implements MouseListener, KeyListener
   /** When need a {@link Square} reference and the active Square is not valid */
   private Square defaultSqr ;
   
-  /** Keep track of value assignments to {@link Square}s for Undo & Redo functionality */
-  private Vector<UndoMatrix> undoVector ;
-  
-  /** Keep track of whether there are any value assignments that have been UNDONE  */
-  private boolean undoMode = false ;
-  
-  /** Current position in {@link #undoVector} for Undo/Redo actions  */
-  private int undoPtr ;
+  /**
+   *  Keep track of value assignments to {@link Square}s for Undo & Redo functionality <br>
+   *  - its position is the number of ACTIVE assignments, its size the total number of assignments (GUESSES)
+   */
+  private UndoJournal undoJournal ;
   
   /**
    *  Separate thread for getting {@link Loader.SavedGame}s from {@link Loader}
@@ -3217,38 +2147,11 @@ public class Grid extends JPanel implements MouseListener, KeyListener
    */
   private Long savedSolnTime ;
   
-  /** Are we in 2-Color or 4-Color Solving mode?  */
-  private int numActiveColors ;
-  
-  /** Are the Color Chains initialized yet?  */
-  private boolean colorChainInit = false ;
-  
-  /** Individual Color chains  */
-  static final int
-                  NO_COLOR = -1 ,
-                PINK_CHAIN =  0 ,
-                BLUE_CHAIN =  1 ,
-               GREEN_CHAIN =  2 ,
-               BROWN_CHAIN =  3 ,
-          NUM_COLOR_CHAINS =  4 ;
-  
-  /** Individual Color chain names  */
-  static final String[] chainName = { "PINK", "BLUE", "GREEN", "BROWN" };
-  
-  /**
-   *  Use in Solving 
-   *  @see ColorChain
-   */
-  private ColorChain[] colorChain ;
-  
-  /** Total number of value assignments (GUESSES) - equals number of entries in the {@link #undoVector} */
-  private int totalEntries ;
-  
   /**
-   *  Number of {@link Square}s with conflicting values
-   *  @see Square#isConflicting
+   *  Solutions of the games solved before, so the {@link Solver} runs ONCE for each game <br>
+   *  - opened by the first {@link #getSolutionGame}
    */
-  private int nConflicts ;
+  private SolutionCache solnCache ;
   
   /** Is there a temp value being entered in the Active Square? (Alt key pressed)  */
   private boolean tempMode = false ;
@@ -0,0 +1,175 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+/**
+ * The complete Solving state of a {@link LogicGrid}, kept in a few flat arrays <br>
+ * - each {@link Square}: type, value, modes, possible values, Group Square counts and Color Chain <br>
+ * - each {@link Group}: type counts, {@link Group#nSqrsWithVal}, {@link Group#nSqrsCanBeVal} & {@link Group#sqrsCanBeVal} <br>
+ * - the grid: blank and conflict counts, and the change counts the techniques use to skip unchanged Groups <br>
+ * - the arrays of each object are copied with <code>System.arraycopy</code>, so taking OR restoring a snapshot
+ *   does NOT allocate <br>
+ * - get one from {@link LogicGrid#takeSnapshot} and give it back with {@link LogicGrid#releaseSnapshot}
+ *   so the next one is reused
+ *
+ * <pre>
+ *   GridSnapshot $before = grid.takeSnapshot();
+ *   try_a_guess( grid );
+ *   grid.restoreSnapshot( $before );   // back to EXACTLY the state before the guess
+ *   grid.releaseSnapshot( $before );
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see LogicGrid#saveState
+ * @see LogicGrid#restoreState
+ */
+final class GridSnapshot
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor - sizes ALL the arrays
+   *
+   *  @param length - number of {@link Square}s on each side of the {@link LogicGrid}
+   */
+  GridSnapshot( final int length )
+  {
+    gridLength = length ;
+    countLength = length + 1 ;
+    
+    int $sqrs = length * length ,
+        $grps = length * NUM_GROUP_TYPES ;
+    
+    sqrState  = new int[ $sqrs * SQR_FIELDS ];
+    sqrCounts = new int[ $sqrs * countLength ];
+    
+    grpState   = new int[ $grps * GRP_FIELDS ];
+    grpCounts  = new int[ $grps * GRP_ARRAYS * countLength ];
+    grpChanges = new long[ $grps ];
+    
+    lastScan = new long[ LogicGrid.Technique.values().length ];
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+  
+  /** @return number of {@link Square}s on each side of the {@link LogicGrid} I was sized for  */
+  int getLength() { return gridLength ; }
+  
+  /**
+   *  @param sqr - index of the Square, i.e. row * gridLength + col
+   *  @return start of its fields in {@link #sqrState}
+   */
+  int sqrStateIndex( final int sqr ) { return sqr * SQR_FIELDS ; }
+  
+  /**
+   *  @param sqr - index of the Square, i.e. row * gridLength + col
+   *  @return start of its Group Square counts in {@link #sqrCounts}
+   */
+  int sqrCountsIndex( final int sqr ) { return sqr * countLength ; }
+  
+  /**
+   *  @param grp - index of the Group: rows, then cols, then zones
+   *  @return start of its fields in {@link #grpState}
+   */
+  int grpStateIndex( final int grp ) { return grp * GRP_FIELDS ; }
+  
+  /**
+   *  @param grp - index of the Group: rows, then cols, then zones
+   *  @return start of its arrays in {@link #grpCounts}
+   */
+  int grpCountsIndex( final int grp ) { return grp * GRP_ARRAYS * countLength ; }
+  
+  /**
+   *  @param flags - from {@link #SQR_FLAGS}
+   *  @param bit - e.g. {@link #FLAG_TEMP}
+   *  @return true if the bit is set
+   */
+  static boolean isSet( final int flags, final int bit ) { return (flags & bit) != 0 ; }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** number of {@link Square}s on each side  */
+  private final int gridLength ;
+  
+  /** length of EACH count array, i.e. gridLength + 1 as the values start at 1  */
+  final int countLength ;
+  
+  /** {@link #SQR_FIELDS} ints for each {@link Square}  */
+  final int[] sqrState ;
+  
+  /** the Group Square counts of each {@link Square}, {@link #countLength} ints each  */
+  final int[] sqrCounts ;
+  
+  /** {@link #GRP_FIELDS} ints for each {@link Group}  */
+  final int[] grpState ;
+  
+  /** nSqrsWithVal, nSqrsCanBeVal then sqrsCanBeVal of each {@link Group}, {@link #countLength} ints each  */
+  final int[] grpCounts ;
+  
+  /** the last change of each {@link Group}, see {@link Group#changedSince}  */
+  final long[] grpChanges ;
+  
+  /** of the {@link LogicGrid}  */
+  int numBlankSqrs, nConflicts ;
+  
+  /** of the {@link LogicGrid}  */
+  long changeCount ;
+  
+  /** the change count when each technique last ran  */
+  final long[] lastScan ;
+  
+  /** position of each field of a {@link Square} in {@link #sqrState}  */
+  static final int
+                   SQR_TYPE = 0 ,
+                  SQR_VALUE = 1 ,
+                 SQR_SOLVED = 2 ,
+                  SQR_FLAGS = 3 ,
+             SQR_N_POSSIBLE = 4 ,
+               SQR_POSSIBLE = 5 ,
+                SQR_EXCLUDE = 6 ,
+               SQR_GRP_VALS = 7 ,
+             SQR_GRP_CAN_BE = 8 ,
+                  SQR_CHAIN = 9 ,
+                 SQR_FIELDS = 10 ;
+  
+  /** bits of {@link #SQR_FLAGS}  */
+  static final int
+                  FLAG_TEMP = 1 ,
+           FLAG_AUTO_SOLVED = 2 ,
+           FLAG_CONFLICTING = 4 ,
+                 FLAG_WRONG = 8 ;
+  
+  /** position of each field of a {@link Group} in {@link #grpState}  */
+  static final int
+                  GRP_FIXED = 0 ,
+                GRP_GUESSES = 1 ,
+                   GRP_OPEN = 2 ,
+                   GRP_VALS = 3 ,
+             GRP_BLOCK_SQRS = 4 ,
+             GRP_BLOCK_VALS = 5 ,
+                 GRP_FIELDS = 6 ;
+  
+  /** number of count arrays in each {@link Group}  */
+  static final int GRP_ARRAYS = 3 ;
+  
+  /** rows, cols and zones  */
+  static final int NUM_GROUP_TYPES = 3 ;
+  
+  /** to restore {@link Square} types from {@link #SQR_TYPE} WITHOUT allocating  */
+  static final SqrTypes[] SQR_TYPES = SqrTypes.values();
+
+}// class GridSnapshot
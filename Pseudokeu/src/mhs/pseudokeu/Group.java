@@ -17,7 +17,6 @@
 package mhs.pseudokeu;
 
 import java.awt.Color;
-import java.util.Arrays;
 import java.util.logging.Level;
 
 /**
@@ -37,19 +36,19 @@ public abstract class Group
   /**
    *  Base Constructor
    *  
-   *  @param mygrid - reference to the {@link Grid} I am in
+   *  @param mygrid - reference to the {@link LogicGrid} I am in
    */
-  public Group( final Grid mygrid )
+  public Group( final LogicGrid mygrid )
   {
     if( mygrid == null )
     {
-      System.err.println( "Group Constructor: passed a null Grid!!??" );
+      System.err.println( "Group Constructor: passed a null LogicGrid!!??" );
       System.exit( this.hashCode() );
     }
     
     grid = mygrid ;
     gridLength = grid.getLength() ;
-    logger = Grid.logger ;
+    logger = LogicGrid.logger ;
     
     nOpen = gridLength ;
     nSqrsWithVal = new int[ gridLength + 1 ]; // all array entries are 0 at start
@@ -57,21 +56,17 @@ public abstract class Group
      sqrsCanBeVal = new int[ gridLength + 1 ];
     nSqrsCanBeVal = new int[ gridLength + 1 ];
     
-    // at most will keep track of quads
-    blockSqrs = new int[] { -1, -1, -1, -1 };
-    blockVals = new int[] { 0, 0, 0, 0 };
-    maxBlockLength = blockVals.length ;
-    logger.fine( "maxBlockLength = " + maxBlockLength );
+    subsetMembers = new int[ gridLength + 1 ];
   }
   
   /**
    *  Intermediate Constructor
    *  
-   *  @param mygrid - reference to the {@link Grid} I am in
-   *  @param row - 1st index into {@link Grid#sqrs2dArray}
-   *  @param col - 2nd index into {@link Grid#sqrs2dArray}
+   *  @param mygrid - reference to the {@link LogicGrid} I am in
+   *  @param row - 1st index into {@link LogicGrid#sqrs2dArray}
+   *  @param col - 2nd index into {@link LogicGrid#sqrs2dArray}
    */
-  public Group( final Grid mygrid, final int row, final int col )
+  public Group( final LogicGrid mygrid, final int row, final int col )
   {
     this( mygrid );
     
@@ -82,12 +77,12 @@ public abstract class Group
   /**
    *  USUAL Constructor
    *  
-   *  @param mygrid - reference to the {@link Grid} I am in
+   *  @param mygrid - reference to the {@link LogicGrid} I am in
    *  @param pos - index into the {@link Group} array for my type
-   *  @param row - 1st index into {@link Grid#sqrs2dArray}
-   *  @param col - 2nd index into {@link Grid#sqrs2dArray}
+   *  @param row - 1st index into {@link LogicGrid#sqrs2dArray}
+   *  @param col - 2nd index into {@link LogicGrid#sqrs2dArray}
    */
-  public Group( final Grid mygrid, final int pos, final int row, final int col )
+  public Group( final LogicGrid mygrid, final int pos, final int row, final int col )
   {
     this( mygrid, row, col );
     
@@ -186,13 +181,13 @@ public abstract class Group
    */
   void notifySqrsOfValChange( final int oldVal, final int newVal )
   {
-    logger.fine( myPosn() + ": '" + oldVal + "' -> '" + newVal + "'" );
+    logger.fine( () -> myPosn() + ": '" + oldVal + "' -> '" + newVal + "'" );
     
     Square $activeSqr = grid.getActiveSqr();
     
     for( Square s : mySqrs )
     {
-      logger.finer( "Sqr " + ( s == $activeSqr ? "=" : "!" ) + "= activeSqr" + "; type = " + s.getType() );
+      logger.finer( () -> "Sqr " + ( s == $activeSqr ? "=" : "!" ) + "= activeSqr" + "; type = " + s.getType() );
       
       // EXCLUDE the active Square
       if( s != $activeSqr )
@@ -210,8 +205,10 @@ public abstract class Group
     for( int v=0; v <= gridLength; v++ )
     {
       nSqrsWithVal[v] = 0 ;
-       sqrsCanBeVal[v] = 0 ;
-      nSqrsCanBeVal[v] = 0 ;
+      
+      // ALL my Squares can be ANY value - matches Square.clear()
+       sqrsCanBeVal[v] = ( v == 0 ) ? 0 : ( 1 << gridLength ) - 1 ;
+      nSqrsCanBeVal[v] = ( v == 0 ) ? 0 : gridLength ;
     }
     
     nVals = nFixed = nGuesses = 0 ;
@@ -223,7 +220,7 @@ public abstract class Group
   
   /**
    * Find one of my {@link Square}s that is the Color match for the parameter Square at the parameter value <br>
-   * - called by {@link Grid#buildColorChain}
+   * - called by {@link LogicGrid#buildColorChain}
    * 
    * @param chainColor - current level
    * @param val - to check
@@ -249,19 +246,19 @@ public abstract class Group
   
   /**
    *  Find one of my {@link Square}s that is the <b>only possibility</b> for a particular value <br>
-   *  - called by {@link Grid#findGrpSingle}
+   *  - called by {@link LogicGrid#findGrpSingle}
    *  
    *  @return the Square or null if none
    */
   Square findSingleSqrForVal()
   {
-    logger.append( myPosn() + ": " );
+    logger.append( Level.INFO, () -> myPosn() + ": " );
     
     int $posn=0 ;
     for( int v=1; v <= gridLength; v++ )
       if( nSqrsCanBeVal[v] == 1 )
       {
-        $posn = Integer.numberOfTrailingZeros( sqrsCanBeVal[v] );
+        $posn = CandidateSet.first( sqrsCanBeVal[v] );
         mySqrs[$posn].solvedValue = v ;
 
         logger.append( "Found sqrsCanBeVal[" + v + "] == mySqrs[" + $posn + "] / Sqr " + mySqrs[$posn].strGridPosn() );
@@ -277,7 +274,7 @@ public abstract class Group
   
   /**
    *  Find any locked values and adjust the possible vals of affected Squares, if necessary <br>
-   *  - called by {@link Grid#findLockedVals}
+   *  - called by {@link LogicGrid#findLockedVals}
    *  
    *  @return success or failure
    */
@@ -291,7 +288,8 @@ public abstract class Group
     if( nOpen < 1 )
       return false ;
     
-    logger.appendln( "Search " + myPosn() + ":" );
+    final boolean $log = LogControl.info();
+    if( $log ) logger.appendln( "Search " + myPosn() + ":" );
     
     for( int v=1; v <= gridLength; v++ )
       // make sure I do not have this value
@@ -300,27 +298,27 @@ public abstract class Group
         // this value can ONLY be in 2 OR 3 Squares
         if( (nSqrsCanBeVal[v] == 2) || (nSqrsCanBeVal[v] == 3) )
         {
-          $sqrLocn1 = Helper.getBitPosn( sqrsCanBeVal[v], 1 );
-          $sqrLocn2 = Helper.getBitPosn( sqrsCanBeVal[v], 2 );
+          $sqrLocn1 = CandidateSet.nth( sqrsCanBeVal[v], 1 );
+          $sqrLocn2 = CandidateSet.nth( sqrsCanBeVal[v], 2 );
           $found = true ;
-          logger.append( "\t Found Locked val '" + v + "'" + " at Sqrs " + $sqrLocn1 + "," + $sqrLocn2 );
+          if( $log ) logger.append( "\t Found Locked val '" + v + "'" + " at Sqrs " + $sqrLocn1 + "," + $sqrLocn2 );
           
           if( nSqrsCanBeVal[v] == 3 )
           {
-            $sqrLocn3 = Helper.getBitPosn( sqrsCanBeVal[v], 3 );
-            logger.appendln( "," + $sqrLocn3 + " / 3" );
+            $sqrLocn3 = CandidateSet.nth( sqrsCanBeVal[v], 3 );
+            if( $log ) logger.appendln( "," + $sqrLocn3 + " / 3" );
           }
           else
             {
               $sqrLocn3 = 0 ;
-              logger.appendln( " / 2" );
+              if( $log ) logger.appendln( " / 2" );
             }
           
           $grp = getCommonGroup( $sqrLocn1, $sqrLocn2, $sqrLocn3 );
           
           if( $grp != null )
           {
-            logger.appendln( "\t\t with a Common Group: " + $grp.myPosn() );
+            if( $log ) logger.appendln( "\t\t with a Common Group: " + $grp.myPosn() );
             
             $interim = $grp.setPossValsFromLockedVals( this, v );
             if( ! $result )
@@ -401,53 +399,99 @@ public abstract class Group
   }// Group.setPossValsFromLockedVals()
   
   /**
-   *  Remove a {@link Square} from {@link #sqrsCanBeVal}[] <br>
-   *  - called by {@link Square#removeSqrFromGrpVal}
+   *  Set OR clear the bit of ONE of my {@link Square}s in {@link #sqrsCanBeVal}[] for the values that changed <br>
+   *  - called by {@link Square#updateGroupsCanBeVal}
    *  
-   *  @param sqr - Square to remove
-   *  @param val - value to remove from
-   *  
-   *  @return success or failure
+   *  @param index - of the Square in {@link #mySqrs}
+   *  @param changed - bits of the values whose state changed
+   *  @param vals - bits of the values the Square can NOW be
    */
-  boolean removeSqrFromVal( final Square sqr, final int val )
+  void updateSqrCanBeVals( final int index, final int changed, final int vals )
   {
-    if( sqr == null )
-    {
-      logger.severe( "Passed a null Square!!??" );
-      return false ;
-    }
+    lastChange = grid.getChangeCount();
     
-    int $bitIndex ;
-    boolean $result = false ;
-    
-    for( int i=0; i < gridLength; i++ )
-      // find the index of this Square
-      if( mySqrs[i] == sqr )
+    int $val ;
+    for( int $bits = changed; $bits != 0; $bits = CandidateSet.rest($bits) )
+    {
+      $val = CandidateSet.first( $bits );
+      if( CandidateSet.contains(vals, $val) )
       {
-        $bitIndex = ( 1 << i );
-        // make sure this index is in the array
-        if( (sqrsCanBeVal[val] | $bitIndex) == sqrsCanBeVal[val] )
-        {
-          logger.append( "\t\t\t\t $ " + myPosn() + ": REMOVE mySqrs[" + i + "] from val[" + val 
-                         + "] == " + Helper.displaySetBits(sqrsCanBeVal[val], gridLength, "") );
-          
-          $result = true ;
-          
-           sqrsCanBeVal[val] -= $bitIndex ;
-          nSqrsCanBeVal[val]-- ;
-          
-          logger.appendln( " -> NOW == " + Helper.displaySetBits(sqrsCanBeVal[val], gridLength, "")
-                           + " / n." + nSqrsCanBeVal[val] );
-        }
+         sqrsCanBeVal[$val] = CandidateSet.with( sqrsCanBeVal[$val], index );
+        nSqrsCanBeVal[$val]++ ;
       }
+      else
+      {
+         sqrsCanBeVal[$val] = CandidateSet.without( sqrsCanBeVal[$val], index );
+        nSqrsCanBeVal[$val]-- ;
+      }
+    }
     
-    return $result ;
-    
-  }// Group.removeSqrFromVal()
+  }// Group.updateSqrCanBeVals()
+  
+  /**
+   *  @param since - a count of changes, from {@link LogicGrid#getChangeCount}
+   *  @return true if ANY of my possible values have changed since then
+   */
+  boolean changedSince( final long since )
+  { return( lastChange > since ); }
+  
+  /**
+   *  Copy my Solving state into a {@link GridSnapshot}
+   *  
+   *  @param snap - to copy into
+   *  @param index - my index: rows, then cols, then zones
+   *  @see LogicGrid#saveState
+   */
+  void saveState( final GridSnapshot snap, final int index )
+  {
+    final int[] $state = snap.grpState ;
+    final int $i = snap.grpStateIndex( index ), $len = snap.countLength ;
+    int $c = snap.grpCountsIndex( index );
+    
+    $state[$i + GridSnapshot.GRP_FIXED]      = nFixed ;
+    $state[$i + GridSnapshot.GRP_GUESSES]    = nGuesses ;
+    $state[$i + GridSnapshot.GRP_OPEN]       = nOpen ;
+    $state[$i + GridSnapshot.GRP_VALS]       = nVals ;
+    $state[$i + GridSnapshot.GRP_BLOCK_SQRS] = blockSqrs ;
+    $state[$i + GridSnapshot.GRP_BLOCK_VALS] = blockVals ;
+    snap.grpChanges[index] = lastChange ;
+    
+    System.arraycopy(  nSqrsWithVal, 0, snap.grpCounts, $c, $len );
+    System.arraycopy( nSqrsCanBeVal, 0, snap.grpCounts, $c += $len, $len );
+    System.arraycopy(  sqrsCanBeVal, 0, snap.grpCounts, $c += $len, $len );
+    
+  }// Group.saveState()
+  
+  /**
+   *  Set my Solving state from a {@link GridSnapshot}
+   *  
+   *  @param snap - to copy from
+   *  @param index - my index: rows, then cols, then zones
+   *  @see LogicGrid#restoreState
+   */
+  void restoreState( final GridSnapshot snap, final int index )
+  {
+    final int[] $state = snap.grpState ;
+    final int $i = snap.grpStateIndex( index ), $len = snap.countLength ;
+    int $c = snap.grpCountsIndex( index );
+    
+    nFixed     = $state[$i + GridSnapshot.GRP_FIXED] ;
+    nGuesses   = $state[$i + GridSnapshot.GRP_GUESSES] ;
+    nOpen      = $state[$i + GridSnapshot.GRP_OPEN] ;
+    nVals      = $state[$i + GridSnapshot.GRP_VALS] ;
+    blockSqrs  = $state[$i + GridSnapshot.GRP_BLOCK_SQRS] ;
+    blockVals  = $state[$i + GridSnapshot.GRP_BLOCK_VALS] ;
+    lastChange = snap.grpChanges[index] ;
+    
+    System.arraycopy( snap.grpCounts, $c, nSqrsWithVal, 0, $len );
+    System.arraycopy( snap.grpCounts, $c += $len, nSqrsCanBeVal, 0, $len );
+    System.arraycopy( snap.grpCounts, $c += $len, sqrsCanBeVal, 0, $len );
+    
+  }// Group.restoreState()
   
   /**
    *  Set the {@link Square} indices for each of my Open values <br>
-   *  - called by {@link Grid#setSqrsCanBeVal}
+   *  - called by {@link LogicGrid#setSqrsCanBeVal} to rebuild ALL the values
    *  
    *  @return success or failure
    *  
@@ -455,7 +499,8 @@ public abstract class Group
    */
   boolean setSqrsCanBeVal()
   {
-    logger.appendln( myPosn() + ": " );
+    final boolean $log = LogControl.fine();
+    if( $log ) logger.appendln( myPosn() + ": " );
     
     boolean $result = false ;
     for( int v=1; v <= gridLength; v++ )
@@ -472,7 +517,7 @@ public abstract class Group
           nSqrsCanBeVal[v]++ ;
           
           $result = true ;
-          logger.appendln( "Add mySqrs[" + i + "] to val[" + v + "]" );
+          if( $log ) logger.appendln( "Add mySqrs[" + i + "] to val[" + v + "]" );
         }
     }
     
@@ -482,362 +527,139 @@ public abstract class Group
   }// Group.setSqrsCanBeVal()
   
   /**
-   *  Find Square Pairs [aka "Naked Pairs"]<br>
-   *  - called by {@link Grid#findPairs}
+   *  <b>DEBUG</b>: compare {@link #sqrsCanBeVal}[] and {@link #nSqrsCanBeVal}[], which are updated incrementally,
+   *  with a full recompute from my {@link Square}s <br>
+   *  - called by {@link LogicGrid#checkSqrsCanBeVal}
    *  
-   *  @return success or failure
+   *  @return true if they match
+   *  @see #setSqrsCanBeVal
    */
-  boolean findSqrPairs()
+  boolean checkSqrsCanBeVal()
   {
-    logger.append( "\t" + myPosn() + ": find Square Pairs" );
+    boolean $match = true ;
+    int $bits, $num ;
     
-    boolean $interim = false, $result = false ;
-    
-    // nothing to do if 2 or fewer open Squares
-    if( nOpen > 2 )
+    for( int v=1; v <= gridLength; v++ )
     {
-      resetBlocks();
-      
+      $bits = $num = 0 ;
       for( int i=0; i < gridLength; i++ )
-      {
-        if( mySqrs[i].numPossibleVals() == 2 )
-          for( int j=i+1; j < gridLength ; j++ )
-            if( mySqrs[j].getPossibleVals() == mySqrs[i].getPossibleVals() )
-            {
-              logger.appendln( "\n\t nOpen == " + nOpen + " / i == " + i + " ; j == " + j );
-              
-              blockSqrs[0] = i ;
-              blockSqrs[1] = j ;
-              
-              blockVals[0] = Helper.getBitPosn( mySqrs[i].getPossibleVals(), 1 );
-              blockVals[1] = Helper.getBitPosn( mySqrs[i].getPossibleVals(), 2 );
-              
-              $interim = setPossValsFromBlocks( SQUARE_BLOCKS );
-              if( ! $result )
-                $result = $interim ;
-            }
-      }
-    }// if( nOpen > 2 )
-    
-    logger.send( Level.INFO );
-    return $result ;
-    
-  }// Group.findSqrPairs()
-  
-  /**
-   *  Find Group Pairs [aka "Hidden Pairs"]<br>
-   *  - called by {@link Grid#findPairs}
-   *  
-   *  @return success or failure
-   */
-  boolean findGrpPairs()
-  {
-    logger.append( "\t" + myPosn() + ": find Group Pairs" );
-    
-    boolean $interim = false, $result = false ;
-    
-    // nothing to do if 2 or fewer open Squares
-    if( nOpen > 2 )
-    {
-      resetBlocks();
+        if( mySqrs[i].isOpen() && (mySqrs[i].numGrpSqrsWithVal(v) == 0) && (! mySqrs[i].getExcludeVal(v)) )
+        {
+          $bits += ( 1 << i );
+          $num++ ;
+        }
       
-      for( int v=1; v <= gridLength; v++ )
+      if( ($bits != sqrsCanBeVal[v]) || ($num != nSqrsCanBeVal[v]) )
       {
-        if( nSqrsCanBeVal[v] == 2 )
-          for( int w=v+1; w <= gridLength ; w++ )
-            if( sqrsCanBeVal[w] == sqrsCanBeVal[v] )
-            {
-              logger.appendln( "\n\t nOpen == " + nOpen + " / v == " + v + " ; w == " + w );
-              
-              blockSqrs[0] = Helper.getBitPosn( sqrsCanBeVal[v], 1 );
-              blockSqrs[1] = Helper.getBitPosn( sqrsCanBeVal[v], 2 );
-              
-              blockVals[0] = v ;
-              blockVals[1] = w ;
-              
-              $interim = setPossValsFromBlocks( GROUP_BLOCKS );
-              if( ! $result )
-                $result = $interim ;
-            }
+        logger.severe( myPosn() + ": val[" + v + "] == " + Helper.displaySetBits(sqrsCanBeVal[v], gridLength, "")
+                       + " / n." + nSqrsCanBeVal[v] + " BUT SHOULD BE " + Helper.displaySetBits($bits, gridLength, "")
+                       + " / n." + $num );
+        $match = false ;
       }
-    }// if( nOpen > 2 )
+    }
     
-    logger.send( Level.INFO );
-    return $result ;
+    return $match ;
     
-  }// Group.findGrpPairs()
+  }// Group.checkSqrsCanBeVal()
   
   /**
-   *  Find Square Triples [aka "Naked Triples"]<br>
-   *  - called by {@link Grid#findTriples}
+   *  Find ALL my Subsets of the given size [aka "Naked" or "Hidden" Pairs, Triples, Quads...]<br>
+   *  - called by {@link LogicGrid#findSubsets} <br>
+   *  - a Square Subset is <var>size</var> of my Squares which together can ONLY be <var>size</var> values,
+   *    so NONE of my other Squares can be those values <br>
+   *  - a Group Subset is <var>size</var> values which together can ONLY be in <var>size</var> of my Squares,
+   *    so those Squares can NOT be any other value <br>
+   *  - ONLY Squares (values) with 2 to <var>size</var> candidates can be members, and a partial Subset
+   *    is dropped as soon as it has more than <var>size</var> candidates
    *  
+   *  @param size - number of members in each Subset, 2 to gridLength/2
+   *  @param fromSqrBlock - find Square Subsets OR Group Subsets
    *  @return success or failure
-   */
-  boolean findSqrTriples()
-  {
-    logger.append( "\t" + myPosn() + ": find Square Triples" );
-    
-    int $res1=0, $res2=0 ;
-    boolean $result = false ;
-    
-    // nothing to do if 3 or fewer open Squares
-    if( nOpen > 3 )
-    {
-      resetBlocks();
-      
-      loop:
-      for( int i=0, j=0, k=0; i < gridLength; i++ )
-        if( (mySqrs[i].numPossibleVals() == 2) || (mySqrs[i].numPossibleVals() == 3) )
-          for( j=i+1; j < gridLength ; j++ )
-            if( (mySqrs[j].numPossibleVals() == 2) || (mySqrs[j].numPossibleVals() == 3) )
-            {
-              $res1 = mySqrs[i].getPossibleVals() | mySqrs[j].getPossibleVals() ;
-              
-              // make sure we have exactly 3 values
-              if( Helper.numSetBits($res1, gridLength) != 3 )
-                continue ;
-              
-              for( k=j+1; k < gridLength ; k++ )
-                if( (mySqrs[k].numPossibleVals() == 2) || (mySqrs[k].numPossibleVals() == 3) )
-                {
-                  $res2 = $res1 | mySqrs[k].getPossibleVals() ;
-                  if( $res2 == $res1 )
-                  {
-                    logger.appendln( "\n\t nOpen == " + nOpen + " / i == " + i + " ; j == " + j + " ; k == " + k
-                                     + " ; res1 == " + Helper.displaySetBits($res1, gridLength, "")
-                                     + " ; res2 == " + Helper.displaySetBits($res2, gridLength, "") );
-                    
-                    blockSqrs[0] = i ;
-                    blockSqrs[1] = j ;
-                    blockSqrs[2] = k ;
-                    
-                    blockVals[0] = Helper.getBitPosn( $res2, 1 );
-                    blockVals[1] = Helper.getBitPosn( $res2, 2 );
-                    blockVals[2] = Helper.getBitPosn( $res2, 3 );
-                    
-                    $result = setPossValsFromBlocks( SQUARE_BLOCKS );
-                    if( $result )
-                      break loop ;
-                  }
-                }
-            }
-    }// if( nOpen > 3 )
-    
-    logger.send( Level.INFO );
-    return $result ;
-    
-  }// Group.findSqrTriples()
-  
-  /**
-   *  Find Group Triples [aka "Hidden Triples"]<br>
-   *  - called by {@link Grid#findTriples}
    *  
-   *  @return success or failure
+   *  @see #extendSubset
    */
-  boolean findGrpTriples()
+  boolean findSubsets( final int size, final boolean fromSqrBlock )
   {
-    logger.append( "\t" + myPosn() + ": find Group Triples" );
+    logger.append( Level.INFO, () -> "\t" + myPosn() + ": find " + (fromSqrBlock ? "Square" : "Group") + " Subsets of " + size );
     
-    int $res1=0, $res2=0 ;
     boolean $result = false ;
     
-    // nothing to do if 3 or fewer open Squares
-    if( nOpen > 3 )
+    // nothing to do if 'size' or fewer open Squares
+    if( (size >= 2) && (nOpen > size) )
     {
-      resetBlocks();
+      nSubsetMembers = 0 ;
+      if( fromSqrBlock )
+      {
+        for( int i=0; i < gridLength; i++ )
+          if( (mySqrs[i].numPossibleVals() >= 2) && (mySqrs[i].numPossibleVals() <= size) )
+            subsetMembers[nSubsetMembers++] = i ;
+      }
+      else
+        for( int v=1; v <= gridLength; v++ )
+          if( (nSqrsCanBeVal[v] >= 2) && (nSqrsCanBeVal[v] <= size) )
+            subsetMembers[nSubsetMembers++] = v ;
       
-      loop:
-      for( int v=1, w=1, x=1; v <= gridLength; v++ )
-        if( (nSqrsCanBeVal[v] == 2) || (nSqrsCanBeVal[v] == 3) )
-          for( w=v+1; w <= gridLength ; w++ )
-            if( (nSqrsCanBeVal[w] == 2) || (nSqrsCanBeVal[w] == 3) )
-            {
-              $res1 = sqrsCanBeVal[v] | sqrsCanBeVal[w] ;
-              
-              // make sure we have exactly 3 Squares
-              if( Helper.numSetBits($res1, gridLength) != 3 )
-                continue ;
-              
-              for( x=w+1; x <= gridLength ; x++ )
-                if( (nSqrsCanBeVal[x] == 2) || (nSqrsCanBeVal[x] == 3) )
-                {
-                  $res2 = $res1 | sqrsCanBeVal[x] ;
-                  if( $res2 == $res1 )
-                  {
-                    logger.appendln( "\n\t nOpen == " + nOpen + " / v == " + v + " ; w == " + w + " ; x == " + x
-                                     + " ; res1 == " + Helper.displaySetBits($res1, gridLength, "")
-                                     + " ; res2 == " + Helper.displaySetBits($res2, gridLength, "") );
-                    
-                    blockVals[0] = v ;
-                    blockVals[1] = w ;
-                    blockVals[2] = x ;
-                    
-                    blockSqrs[0] = Helper.getBitPosn( $res2, 1 );
-                    blockSqrs[1] = Helper.getBitPosn( $res2, 2 );
-                    blockSqrs[2] = Helper.getBitPosn( $res2, 3 );
-                    
-                    $result = setPossValsFromBlocks( GROUP_BLOCKS );
-                    if( $result )
-                      break loop ;
-                  }
-                }
-            }
-    }// if( nOpen > 3 )
+      if( nSubsetMembers >= size )
+        $result = extendSubset( size, fromSqrBlock, 0, 0, 0 );
+    }
     
     logger.send( Level.INFO );
     return $result ;
     
-  }// Group.findGrpTriples()
+  }// Group.findSubsets()
   
   /**
-   *  Find Square Quads [aka "Naked Quads"]<br>
-   *  - called by {@link Grid#findQuads}
+   *  Add each possible next member to a partial Subset, then process the Subset if it is complete,
+   *  OR extend it again if it is not <br>
+   *  - called by {@link #findSubsets} and recursively
    *  
+   *  @param size - number of members in a complete Subset
+   *  @param fromSqrBlock - members are Squares OR values
+   *  @param start - index in {@link #subsetMembers} of the first member to try
+   *  @param members - set of the members already in the Subset
+   *  @param union - set of the candidates of those members, i.e. values OR Squares
    *  @return success or failure
    */
-  boolean findSqrQuads()
+  private boolean extendSubset( final int size, final boolean fromSqrBlock, final int start, final int members, final int union )
   {
-    logger.append( "\t" + myPosn() + ": find Square Quads" );
-    
-    int $res1=0, $res2=0, $res3=0 ;
-    boolean $result = false ;
+    boolean $interim = false, $result = false ;
+    int $need = size - CandidateSet.count( members );
     
-    // nothing to do if 4 or fewer open Squares
-    if( nOpen > 4 )
+    // leave enough members to complete the Subset
+    for( int m = start; m <= nSubsetMembers - $need; m++ )
     {
-      resetBlocks();
+      int $member = subsetMembers[m] ;
+      int $union = union | ( fromSqrBlock ? mySqrs[$member].getPossibleVals() : sqrsCanBeVal[$member] );
       
-      loop:
-      for( int i=0; i < gridLength; i++ )
-        if( (mySqrs[i].numPossibleVals() >= 2) && (mySqrs[i].numPossibleVals() <= 4) )
-          for( int j=i+1; j < gridLength ; j++ )
-            if( (mySqrs[j].numPossibleVals() >= 2) && (mySqrs[j].numPossibleVals() <= 4) )
-            {
-              $res1 = mySqrs[i].getPossibleVals() | mySqrs[j].getPossibleVals() ;
-              
-              // make sure we have NO MORE than 4 values
-              if( Helper.numSetBits($res1, gridLength) > 4 )
-                continue ;
-              
-              for( int k=j+1; k < gridLength ; k++ )
-                if( (mySqrs[k].numPossibleVals() >= 2) && (mySqrs[k].numPossibleVals() <= 4) )
-                {
-                  $res2 = $res1 | mySqrs[k].getPossibleVals() ;
-                  
-                  // now make sure we have EXACTLY 4 values
-                  if( Helper.numSetBits($res2, gridLength) != 4 )
-                    continue ;
-                  
-                  for( int m=k+1; m < gridLength ; m++ )
-                    if( (mySqrs[m].numPossibleVals() >= 2) && (mySqrs[m].numPossibleVals() <= 4) )
-                    {
-                      $res3 = $res2 | mySqrs[m].getPossibleVals() ;
-                      if( $res3 == $res2 )
-                      {
-                        logger.appendln( "\n\t nOpen == " + nOpen + " / i == " + i 
-                                         + " ; j == " + j + " ; k == " + k + " ; m == " + m
-                                         + " ; res1 == " + Helper.displaySetBits($res1, gridLength, "")
-                                         + " ; res2 == " + Helper.displaySetBits($res2, gridLength, "")
-                                         + " ; res3 == " + Helper.displaySetBits($res3, gridLength, "")
-                                       );
-                        blockSqrs[0] = i ;
-                        blockSqrs[1] = j ;
-                        blockSqrs[2] = k ;
-                        blockSqrs[3] = m ;
-                        
-                        blockVals[0] = Helper.getBitPosn( $res2, 1 );
-                        blockVals[1] = Helper.getBitPosn( $res2, 2 );
-                        blockVals[2] = Helper.getBitPosn( $res2, 3 );
-                        blockVals[3] = Helper.getBitPosn( $res2, 4 );
-                        
-                        $result = setPossValsFromBlocks( SQUARE_BLOCKS );
-                        if( $result )
-                          break loop ;
-                      }
-                    }
-                }
-            }
-    }// if( nOpen > 4 )
-    
-    logger.send( Level.INFO );
-    return $result ;
-    
-  }// Group.findSqrQuads()
-  
-  /**
-   *  Find Group Quads [aka "Hidden Quads"]<br>
-   *  - called by {@link Grid#findQuads}
-   *  
-   *  @return success or failure
-   */
-  boolean findGrpQuads()
-  {
-    logger.append( "\t" + myPosn() + ": find Group Quads" );
-    
-    int $res1=0, $res2=0, $res3=0 ;
-    boolean $result = false ;
-    
-    // nothing to do if 4 or fewer open Squares
-    if( nOpen > 4 )
-    {
-      resetBlocks();
+      // prune - can NEVER get back down to 'size' candidates
+      if( CandidateSet.count($union) > size )
+        continue ;
       
-      loop:
-      for( int v=1; v <= gridLength; v++ )
-        if( (nSqrsCanBeVal[v] >= 2) && (nSqrsCanBeVal[v] <= 4) )
-          for( int w=v+1; w <= gridLength ; w++ )
-            if( (nSqrsCanBeVal[w] >= 2) && (nSqrsCanBeVal[w] <= 4) )
-            {
-              $res1 = sqrsCanBeVal[v] | sqrsCanBeVal[w] ;
-              
-              // make sure we have NO MORE than 4 Squares
-              if( Helper.numSetBits($res1, gridLength) > 4 )
-                continue ;
-              
-              for( int x=w+1; x <= gridLength ; x++ )
-                if( (nSqrsCanBeVal[x] >= 2) && (nSqrsCanBeVal[x] <= 4) )
-                {
-                  $res2 = $res1 | sqrsCanBeVal[x] ;
-                  
-                  // now make sure we have EXACTLY 4 Squares
-                  if( Helper.numSetBits($res2, gridLength) != 4 )
-                    continue ;
-                  
-                  for( int y=x+1; y <= gridLength ; y++ )
-                    if( (nSqrsCanBeVal[y] >= 2) && (nSqrsCanBeVal[y] <= 4) )
-                    {
-                      $res3 = $res2 | sqrsCanBeVal[y] ;
-                      if( $res3 == $res2 )
-                      {
-                        logger.appendln( "\n\t nOpen == " + nOpen + " / v == " + v
-                                         + " ; w == " + w + " ; x == " + x + " ; y == " + y
-                                         + " ; res1 == " + Helper.displaySetBits($res1, gridLength, "")
-                                         + " ; res2 == " + Helper.displaySetBits($res2, gridLength, "")
-                                         + " ; res3 == " + Helper.displaySetBits($res3, gridLength, "")
-                                       );
-                        blockVals[0] = v ;
-                        blockVals[1] = w ;
-                        blockVals[2] = x ;
-                        blockVals[3] = y ;
-                        
-                        blockSqrs[0] = Helper.getBitPosn( $res2, 1 );
-                        blockSqrs[1] = Helper.getBitPosn( $res2, 2 );
-                        blockSqrs[2] = Helper.getBitPosn( $res2, 3 );
-                        blockSqrs[3] = Helper.getBitPosn( $res2, 4 );
-                        
-                        $result = setPossValsFromBlocks( GROUP_BLOCKS );
-                        if( $result )
-                          break loop ;
-                      }
-                    }
-                }
-            }
-    }// if( nOpen > 4 )
+      int $members = CandidateSet.with( members, $member );
+      if( $need > 1 )
+        $interim = extendSubset( size, fromSqrBlock, m+1, $members, $union );
+      else
+      {
+        if( CandidateSet.count($union) < size )
+          continue ;
+        
+        if( LogControl.info() )
+          logger.appendln( "\n\t nOpen == " + nOpen + " / members == " + Helper.displaySetBits($members, gridLength, " ")
+                           + "; union == " + Helper.displaySetBits($union, gridLength, " ") );
+        
+        blockSqrs = fromSqrBlock ? $members : $union ;
+        blockVals = fromSqrBlock ? $union : $members ;
+        
+        $interim = setPossValsFromBlocks( fromSqrBlock );
+      }
+      
+      if( ! $result )
+        $result = $interim ;
+    }
     
-    logger.send( Level.INFO );
     return $result ;
     
-  }// Group.findGrpQuads()
+  }// Group.extendSubset()
   
   /**
    *  Update possible values using the Block fields <br>
@@ -851,41 +673,52 @@ public abstract class Group
    */
   boolean setPossValsFromBlocks( final boolean fromSqrBlock )
   {
-    int i, v ;
+    int i, v, $vals ;
     boolean $interim = false, $result = false ;
     
-    logger.append( "\t\t" + myPosn() + ": " ); 
+    // the Solve techniques send this at INFO
+    final boolean $log = LogControl.info();
+    if( $log ) logger.append( "\t\t" + myPosn() + ": " ); 
     
     if( fromSqrBlock ) // blockVals has values to EXCLUDE from ALL Squares NOT IN blockSqrs
     {
-      logger.appendln( "EXCLUDE values " + Arrays.toString(blockVals) + " except for Sqrs " + Arrays.toString(blockSqrs) );
+      if( $log )
+        logger.appendln( "EXCLUDE values " + Helper.displaySetBits(blockVals, gridLength, " ")
+                         + "except for Sqrs " + Helper.displaySetBits(blockSqrs, gridLength, " ") );
       
       for( i=0 ; i < gridLength ; i++ )
-        if( (i != blockSqrs[0]) && (i != blockSqrs[1]) && (i != blockSqrs[2]) && (i != blockSqrs[3]) )
-          for( v=0 ; v < maxBlockLength ; v++ )
-            if( (blockVals[v] > 0) && (! mySqrs[i].getExcludeVal( blockVals[v] )) )
+        if( ! CandidateSet.contains(blockSqrs, i) )
+          for( $vals = blockVals ; $vals != 0 ; $vals = CandidateSet.rest($vals) )
+          {
+            v = CandidateSet.first( $vals );
+            if( ! mySqrs[i].getExcludeVal(v) )
             {
-              logger.appendln( "\t\t mySqrs[" + i + "].removePossibleVal( blockVals[" + v + "] == " + blockVals[v] + " )" );
-              $interim = mySqrs[i].removePossibleVal( blockVals[v] );
+              if( $log ) logger.appendln( "\t\t mySqrs[" + i + "].removePossibleVal( " + v + " )" );
+              $interim = mySqrs[i].removePossibleVal( v );
               if( ! $result )
                 $result = $interim ;
             }
+          }
     }
     else // blockVals has the ONLY values to retain in the Squares IN blockSqrs
     {
-      logger.appendln( "ONLY values " + Arrays.toString(blockVals) + " in Sqrs " + Arrays.toString(blockSqrs) );
+      if( $log )
+        logger.appendln( "ONLY values " + Helper.displaySetBits(blockVals, gridLength, " ")
+                         + "in Sqrs " + Helper.displaySetBits(blockSqrs, gridLength, " ") );
       
       for( i=0 ; i < gridLength ; i++ )
-        if( (i == blockSqrs[0]) || (i == blockSqrs[1]) || (i == blockSqrs[2]) || (i == blockSqrs[3]) )
-          for( v=1 ; v <= gridLength ; v++ )
-            if( (v != blockVals[0]) && (v != blockVals[1]) && (v != blockVals[2]) && (v != blockVals[3])
-                && (! mySqrs[i].getExcludeVal(v)) )
+        if( CandidateSet.contains(blockSqrs, i) )
+          for( $vals = CandidateSet.range(1, gridLength) & ~blockVals ; $vals != 0 ; $vals = CandidateSet.rest($vals) )
+          {
+            v = CandidateSet.first( $vals );
+            if( ! mySqrs[i].getExcludeVal(v) )
             {
-              logger.appendln( "\t\t mySqrs[" + i + "].removePossibleVal( " + v + " )" );
+              if( $log ) logger.appendln( "\t\t mySqrs[" + i + "].removePossibleVal( " + v + " )" );
               $interim = mySqrs[i].removePossibleVal( v );
               if( ! $result )
                 $result = $interim ;
             }
+          }
     }
     
     return $result ;
@@ -893,64 +726,31 @@ public abstract class Group
   }// Group.setPossValsFromBlocks()
   
   /**
-   *  Process Rectad value <br>
-   *  - called by {@link Grid#findRectads}
+   *  Process a Fish value: REMOVE the value from ALL my Squares EXCEPT the ones to keep <br>
+   *  - called by {@link LogicGrid#findFish}
    *  
    * @param val - value
-   * @param sqr1 - 1st Square to exclude
-   * @param sqr2 - 2nd Square to exclude
+   * @param keepSqrs - set of the indices in {@link #mySqrs} of the Squares to leave alone, 
+   *                   e.g. the Squares in the base rows/cols of the Fish
    * 
    * @return success or failure
    */
-  boolean processRectadVal( final int val, final int sqr1, final int sqr2 )
+  boolean processFishVal( final int val, final int keepSqrs )
   {
-    resetBlocks();
-    
-    blockSqrs[0] = sqr1 ;
-    blockSqrs[1] = sqr2 ;
-    
-    blockVals[0] = val ;
+    blockSqrs = keepSqrs ;
+    blockVals = CandidateSet.with( 0, val );
     
     return setPossValsFromBlocks( Group.SQUARE_BLOCKS );
     
-  }// Group.processRectadVal()
-  
-  /**
-   *  Process Rectad value <br>
-   *  - called by {@link Grid#findHexad}
-   *  
-   * @param val - value
-   * @param sqr1 - 1st Square to exclude
-   * @param sqr2 - 2nd Square to exclude
-   * @param sqr3 - 3rd Square to exclude
-   * 
-   * @return success or failure
-   */
-  boolean processHexadVal( final int val, final int sqr1, final int sqr2, final int sqr3 )
-  {
-    resetBlocks();
-    
-    blockSqrs[0] = sqr1 ;
-    blockSqrs[1] = sqr2 ;
-    blockSqrs[2] = sqr3 ;
-    
-    blockVals[0] = val ;
-    
-    return setPossValsFromBlocks( Group.SQUARE_BLOCKS );
-    
-  }// Group.processHexadVal()
+  }// Group.processFishVal()
   
   /**
    *  Reset Block squares and values <br>
-   *  - called by all the 'findBlock' methods
+   *  - called by {@link #clear}
    */
   void resetBlocks()
   {
-    for( int i=0; i < maxBlockLength; i++ )
-    {
-      blockSqrs[i] = -1 ;
-      blockVals[i] = 0 ;
-    }
+    blockSqrs = blockVals = 0 ;
     
   }// Group.resetBlocks()
   
@@ -1034,7 +834,8 @@ public abstract class Group
     
     if( !brief )
     {
-      logger.append( "\n Block values " + Arrays.toString(blockVals) + "& Block Sqrs " + Arrays.toString(blockSqrs) );
+      logger.append( "\n Block values " + Helper.displaySetBits(blockVals, gridLength, " ")
+                     + "& Block Sqrs " + Helper.displaySetBits(blockSqrs, gridLength, " ") );
       
       logger.append( "\n       nSqrsWithVal (1-" + gridLength + "): " );
       for( i=1; i <= gridLength; i++ )
@@ -1051,11 +852,11 @@ public abstract class Group
   *            F I E L D S
   ***************************************************************************************/
  
-  /** Reference to my {@link Grid} */
-  static Grid grid ;
+  /** Reference to my {@link LogicGrid} - each has its own Squares and Groups */
+  final LogicGrid grid ;
   
   /** number of {@link Square}s on each side of the {@link Grid} */ 
-  static int gridLength ;
+  final int gridLength ;
   
   /** See {@link PskLogger} */
   protected static PskLogger logger ;
@@ -1102,14 +903,20 @@ public abstract class Group
    *  of which {@link Square}s can be each of my values */
   int[] sqrsCanBeVal ;
   
-  /** maximum number of blocks - currently quads */
-  private int maxBlockLength ;
+  /** the {@link LogicGrid#getChangeCount} of the last change to {@link #sqrsCanBeVal}  */
+  private long lastChange ;
+  
+  /** Keep note while Solving of which {@link Square}s have blocks - bits are the indices of {@link #mySqrs} */
+  int blockSqrs ;
+  
+  /** Keep note while Solving of which {@link Square}.<var>values</var> are found in blocks - bits are the values */
+  int blockVals ;
   
-  /** Keep note while Solving of which {@link Square}s have blocks (pairs, triples or quads) */
-  int[] blockSqrs ;
+  /** the Squares (indices) OR values which can be in a Subset - ONLY used by {@link #findSubsets} */
+  private final int[] subsetMembers ;
   
-  /** Keep note while Solving of which {@link Square}.<var>values</var> are found in blocks (pairs, triples or quads) */
-  int[] blockVals ;
+  /** number of entries in {@link #subsetMembers} */
+  private int nSubsetMembers ;
   
   /** to distinguish the two types of block, especially in {@link #setPossValsFromBlocks(boolean)} */
   static final boolean SQUARE_BLOCKS = true, GROUP_BLOCKS = false ;
@@ -1141,12 +948,12 @@ class Col extends Group
   /**
    *  Constructor
    *  
-   *  @param mygrid - reference to my {@link Grid}
+   *  @param mygrid - reference to my {@link LogicGrid}
    *  @param pos - index into the {@link Group} array for my type
-   *  @param row - 1st index into {@link Grid#sqrs2dArray}
-   *  @param col - 2nd index into {@link Grid#sqrs2dArray}
+   *  @param row - 1st index into {@link LogicGrid#sqrs2dArray}
+   *  @param col - 2nd index into {@link LogicGrid#sqrs2dArray}
    */
-  public Col( Grid mygrid, int pos, int row, int col )
+  public Col( final LogicGrid mygrid, int pos, int row, int col )
   {
     super( mygrid, pos, row, col );
 
@@ -1156,9 +963,9 @@ class Col extends Group
   
   /**
    *  Fill {@link #mySqrs}[] with references to the appropriate
-   *  {@link Square}s in {@link Grid#sqrs2dArray} <br><br>
+   *  {@link Square}s in {@link LogicGrid#sqrs2dArray} <br><br>
    *  
-   *  ONLY called by {@link Col#Col(Grid,int,int,int)}
+   *  ONLY called by {@link Col#Col(LogicGrid,int,int,int)}
    */
   @Override
   protected void initMySqrs()
@@ -1188,12 +995,12 @@ class Row extends Group
   /**
    *  Constructor
    *  
-   *  @param mygrid - reference to my {@link Grid}
+   *  @param mygrid - reference to my {@link LogicGrid}
    *  @param pos - index into the {@link Group} array for my type
-   *  @param row - 1st index into {@link Grid#sqrs2dArray}
-   *  @param col - 2nd index into {@link Grid#sqrs2dArray}
+   *  @param row - 1st index into {@link LogicGrid#sqrs2dArray}
+   *  @param col - 2nd index into {@link LogicGrid#sqrs2dArray}
    */
-  public Row( final Grid mygrid, final int pos, final int row, final int col )
+  public Row( final LogicGrid mygrid, final int pos, final int row, final int col )
   {
     super( mygrid, pos, row, col );
     
@@ -1202,9 +1009,9 @@ class Row extends Group
   }// Row Constructor
   
   /**
-   *  Fill {@link #mySqrs}[] with references to the appropriate {@link Square}s in {@link Grid#sqrs2dArray} <br><br>
+   *  Fill {@link #mySqrs}[] with references to the appropriate {@link Square}s in {@link LogicGrid#sqrs2dArray} <br><br>
    *  
-   *  ONLY called by {@link Row#Row(Grid,int,int,int)}
+   *  ONLY called by {@link Row#Row(LogicGrid,int,int,int)}
    */
   @Override
   protected void initMySqrs()
@@ -1248,12 +1055,12 @@ class Zone extends Group
   /**
    *  Constructor
    *  
-   *  @param mygrid - reference to my {@link Grid}
+   *  @param mygrid - reference to my {@link LogicGrid}
    *  @param pos - index into the {@link Group} array for my type
-   *  @param row - 1st index into {@link Grid#sqrs2dArray}
-   *  @param col - 2nd index into {@link Grid#sqrs2dArray}
+   *  @param row - 1st index into {@link LogicGrid#sqrs2dArray}
+   *  @param col - 2nd index into {@link LogicGrid#sqrs2dArray}
    */
-  public Zone( final Grid mygrid, final int pos, final int row, final int col )
+  public Zone( final LogicGrid mygrid, final int pos, final int row, final int col )
   {
     super( mygrid, pos, row, col );
     
@@ -1262,8 +1069,8 @@ class Zone extends Group
   }// Zone Constructor
   
   /**
-   *  Fill {@link #mySqrs}[] with references to the appropriate {@link Square}s in {@link Grid#sqrs2dArray} <br>
-   *  - called by {@link Zone#Zone(Grid,int,int,int)}
+   *  Fill {@link #mySqrs}[] with references to the appropriate {@link Square}s in {@link LogicGrid#sqrs2dArray} <br>
+   *  - called by {@link Zone#Zone(LogicGrid,int,int,int)}
    */
   @Override
   protected void initMySqrs()
@@ -1302,7 +1109,7 @@ class Zone extends Group
   @Override
   protected void notifySqrsOfValChange( final int oldVal, final int newVal )
   {
-    logger.fine( myPosn() + ": '" + oldVal + "' -> '" + newVal + "'" );
+    logger.fine( () -> myPosn() + ": '" + oldVal + "' -> '" + newVal + "'" );
     
     Square $activeSqr = grid.getActiveSqr();
     int $activeRow = $activeSqr.getRowIndex();
@@ -1310,7 +1117,7 @@ class Zone extends Group
     
     for( Square s : mySqrs )
     {
-      logger.finer( "Sqr " + ( s == $activeSqr ? "=" : "!") + "= activeSqr" + "; type = " + s.getType() );
+      logger.finer( () -> "Sqr " + ( s == $activeSqr ? "=" : "!") + "= activeSqr" + "; type = " + s.getType() );
       
       if( (s != $activeSqr) // NOT the current active Square
           &&
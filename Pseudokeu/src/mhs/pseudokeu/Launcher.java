@@ -1633,7 +1633,7 @@ public class Launcher extends JFrame
    * Update the number of unknown {@link Square}s that remain
    * 
    * @param emp - number of remaining empty {@link Square}s
-   * @see Grid#incBlankCount(int)
+   * @see LogicGrid#incBlankCount(int)
    */
   void updateSqrsMesg( final int emp )
   {
@@ -2280,6 +2280,10 @@ public class Launcher extends JFrame
    *    <li>F4 to show/hide <b>Conflicts</b>
    *    <li>F7 to UNDO the most recent <b>value assignment</b>
    *    <li>F8 to REDO the most recent <b>UNDO action</b>
+   *    <li>Ctrl-F7 to mark an <b>Undo checkpoint</b>
+   *    <li>Shft-F7 to UNDO ALL the <b>value assignments</b> since the checkpoint
+   *    <li>Ctrl-J to SAVE the <b>value assignments</b> with the game
+   *    <li>Ctrl-Shft-J to REPLAY the saved <b>value assignments</b>
    *    <li>F9 to SOLVE the game
    *    <li>Ctrl-L to INCREASE the amount of <b>logging</b> - or wrap around to LOWEST amount
    *    <li>Ctrl-Shft-L to DECREASE the amount of <b>logging</b> - or wrap around to HIGHEST amount
@@ -2311,6 +2315,27 @@ public class Launcher extends JFrame
     $gAmap.put( strRedo, new AbstractAction()
       { public void actionPerformed( ActionEvent aevt ) { redoLastUndoAction(); } } );
     
+    // Ctrl-F7 = mark an Undo checkpoint
+    $gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_F7, InputEvent.CTRL_DOWN_MASK ), strMarkUndo );
+    $gAmap.put( strMarkUndo, new AbstractAction()
+      { public void actionPerformed( ActionEvent aevt ) { markUndoCheckpoint(); } } );
+    
+    // Shft-F7 = Undo back to the checkpoint
+    $gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_F7, InputEvent.SHIFT_DOWN_MASK ), strRewindUndo );
+    $gAmap.put( strRewindUndo, new AbstractAction()
+      { public void actionPerformed( ActionEvent aevt ) { rewindToCheckpoint(); } } );
+    
+    // Ctrl-J = save the entries with the game
+    $gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_J, InputEvent.CTRL_DOWN_MASK ), strSaveEntries );
+    $gAmap.put( strSaveEntries, new AbstractAction()
+      { public void actionPerformed( ActionEvent aevt ) { saveEntries(); } } );
+    
+    // Ctrl-Shft-J = replay the saved entries
+    $gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_J, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK ),
+                strReplayEntries );
+    $gAmap.put( strReplayEntries, new AbstractAction()
+      { public void actionPerformed( ActionEvent aevt ) { replayEntries(); } } );
+    
     // F9 = Solve game
     $gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_F9, 0 ), strSolve );
     $gAmap.put( strSolve, new AbstractAction()
@@ -2503,6 +2528,83 @@ public class Launcher extends JFrame
       repaint();
   }
   
+  /**
+   * Remember the current Undo position, so {@link #rewindToCheckpoint} can return to it <br>
+   * - invoked by the Ctrl-F7 Hot Key
+   * 
+   * @see Grid#getUndoCheckpoint
+   * @see #setGridKeyMap
+   */
+  private void markUndoCheckpoint()
+  {
+    undoCheckpoint = grid.getUndoCheckpoint();
+    logger.info( "Undo checkpoint = " + undoCheckpoint );
+  }
+  
+  /**
+   * Tell the {@link Grid} to UNDO ALL the 'Set Value' actions since the checkpoint <br>
+   * - invoked by the Shft-F7 Hot Key
+   * 
+   * @see Grid#rewindUndo
+   * @see #markUndoCheckpoint
+   * @see #setGridKeyMap
+   */
+  private void rewindToCheckpoint()
+  {
+    // turn OFF Solve if active
+    if( autoSolveActive )
+      toggleAutoSolve();
+    
+    grid.rewindUndo( undoCheckpoint );
+    repaint();
+    
+  }// Launcher.rewindToCheckpoint()
+  
+  /**
+   * Tell the {@link Grid} to save its 'Set Value' actions with the current game <br>
+   * - invoked by the Ctrl-J Hot Key
+   * 
+   * @see Grid#saveUndoJournal
+   * @see #setGridKeyMap
+   */
+  private void saveEntries()
+  {
+    if( ! grid.saveUndoJournal() )
+      JOptionPane.showMessageDialog( this, strPROBLEM_SAVE_ENTRIES, strProblem + '!', JOptionPane.INFORMATION_MESSAGE );
+  }
+  
+  /**
+   * Tell the {@link Grid} to replay the 'Set Value' actions saved with the current game <br>
+   * - any active entries are Undone first <br>
+   * - invoked by the Ctrl-Shft-J Hot Key
+   * 
+   * @see Grid#loadUndoJournal
+   * @see #setGridKeyMap
+   */
+  private void replayEntries()
+  {
+    // turn OFF Solve if active
+    if( autoSolveActive )
+      toggleAutoSolve();
+    
+    if( grid.hasActiveEntries() )
+    {
+      if( JOptionPane.showConfirmDialog(this, strUNDO_AND_REPLAY, strConfirm, JOptionPane.YES_NO_OPTION) != 0 )
+        return ;
+      
+      grid.rewindUndo( 0 );
+    }
+    
+    // the checkpoint was in the replaced entries
+    undoCheckpoint = 0 ;
+    
+    if( ! grid.loadUndoJournal() )
+      JOptionPane.showMessageDialog( this, strPROBLEM_REPLAY_ENTRIES, strProblem + '!', JOptionPane.INFORMATION_MESSAGE );
+    
+    repaint();
+    
+  }// Launcher.replayEntries()
+  
   /**
    *  Tell the {@link Grid} to SOLVE a {@link Square} in the current game <br>
    *  - invoked by {@link GameListener#actionPerformed(ActionEvent)}
@@ -2644,6 +2746,7 @@ public class Launcher extends JFrame
     solveButton.setEnabled( false );
     
     solveCount = 0 ;
+    undoCheckpoint = 0 ;
     
     // Clear the Squares and Groups
     grid.clear();
@@ -2897,6 +3000,7 @@ public class Launcher extends JFrame
    *    <li>Ctrl-F to display important <b>fields</b> of the {@link Grid}
    *    <li>Ctrl-V to run the <b>Locked Values</b> Solving algorithm
    *    <li>Ctrl-U to display the current game <b>SOLUTION</b>
+   *    <li>Ctrl-T to display the statistics of each Solving <b>technique</b>
    *    <li>Ctrl-P to set possible values as temp values in the {@link Grid}
    *    <li>Ctrl-Shft-P to clear ALL temp values in the {@link Grid}
    *    <li>Ctrl-K to toggle the display of <em>keystrokes</em>
@@ -3036,6 +3140,14 @@ public class Launcher extends JFrame
         {
           grid.displaySolution(); } } );
     
+    // Ctrl-T = display the Solving Technique statistics
+    gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_T, InputEvent.CTRL_DOWN_MASK ), strShowStats );
+    gAmap.put(
+      strShowStats, new AbstractAction()
+      { public void actionPerformed( ActionEvent ae )
+        {
+          grid.displayStats(); } } );
+    
     // Ctrl-P = set Square Possible values as TEMP VALUES
     gImap.put( KeyStroke.getKeyStroke( KeyEvent.VK_P, InputEvent.CTRL_DOWN_MASK ), strPossValShow );
     gAmap.put(
@@ -3124,6 +3236,7 @@ public class Launcher extends JFrame
                   SQUARE_SIZE_LG =  72 , 
              
              INITIAL_GRID_LENGTH =   9 , // # of squares per side of the grid
+                 MAX_GRID_LENGTH =  25 , // candidate values are int bit masks, so must be LT Integer.SIZE
                     PANEL_HEIGHT =  60 , // in pixels
                  NUM_MAIN_PANELS =   3 , // MesgPanel, TopBtnPanel, BotBtnPanel
              
@@ -3161,6 +3274,10 @@ public class Launcher extends JFrame
           "to indicate value 'clashes' </font></h3></li>" +
         "<li><h3><font color=#131399>Use the Undo/Redo buttons or hot keys [F7/F8] " +
           "to erase/restore entered values</font></h3></li>" +
+        "<li><h3><font color=#131399>Mark a point with [Ctrl-F7] before a series of guesses, " +
+          "and erase them ALL with [Shift-F7]</font></h3></li>" +
+        "<li><h3><font color=#131399>Save your entries with [Ctrl-J] " +
+          "and replay them on the same game later with [Ctrl-Shift-J]</font></h3></li>" +
         "<li><h3><font color=#131399>Hold the Alt key down while typing " +
           "to make temporary 'guesses' (up to 3 digits)</font></h3></li>" +
         "<li><h3><font color=#131399>Minimize the game window to Pause and stop the clock</font></h3></li>" +
@@ -3189,6 +3306,10 @@ public class Launcher extends JFrame
                  strExitCap      =  "EXIT" ,
                  strUndo         =  "Undo" ,
                  strRedo         =  "Redo" ,
+                 strMarkUndo     =  "Mark an Undo checkpoint" ,
+                 strRewindUndo   =  "Undo back to the checkpoint" ,
+                 strSaveEntries  =  "Save the game entries" ,
+               strReplayEntries  =  "Replay the saved game entries" ,
                  strAccept       =  "Accept" ,
                  strCancel       =  "Cancel" ,
                  strConfirm      =  "Confirmation" ,
@@ -3211,6 +3332,9 @@ public class Launcher extends JFrame
           strSUCCESSFULL_ADDGAME = "Successfully added game #" ,
          strREMOVE_CONFLICTS_ADD = "Remove the conflicting values before trying to add this game." ,
        strREMOVE_CONFLICTS_SOLVE = "Remove the conflicting values before trying to Solve!" ,
+         strPROBLEM_SAVE_ENTRIES = "Could NOT save the entries of this game." ,
+       strPROBLEM_REPLAY_ENTRIES = "NO saved entries that match this game." ,
+              strUNDO_AND_REPLAY = "! Undo ALL values & Replay the saved entries?" ,
              
                  strActive       =  "Show Active Items"      ,
                  strSquare       =  "Show Active Square"     ,
@@ -3234,6 +3358,7 @@ public class Launcher extends JFrame
                strClearTempVals  =  "Clear ALL Temp Vals" ,
                  strRunLockVals  =  "Run the Locked Values algorithm" ,
                 strShowSolution  =  "Show the current game SOLUTION" ,
+                   strShowStats  =  "Show the Solving technique statistics" ,
                  strF2tooltip    =  "F2 - ABANDON the current game & Load a RANDOM Pseudokeu Game" ,
                  strF4tooltip    =  "F4 - Show or Hide all Squares with values duplicated by a Square" +
                  		                " in the same Row, Col, or Zone" ,
@@ -3301,6 +3426,13 @@ public class Launcher extends JFrame
   /** keep track of the number of SOLVE actions  */
   private int solveCount ;
   
+  /**
+   *  the Undo position to return to
+   *  @see #markUndoCheckpoint
+   *  @see #rewindToCheckpoint
+   */
+  private int undoCheckpoint ;
+  
   /**
    *  the SOLVE delay interval in msec
    *  @see #solveDelayMenuItem
@@ -17,18 +17,37 @@
 package mhs.pseudokeu;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
-import java.net.URL;
-import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.logging.Level;
 
 /**
- *  Access <b>games</b> from file or jar and Store as {@link SavedGame}s
+ *  Access <b>games</b> from file or jar and Store as {@link SavedGame}s <br>
+ *  - at start, ONLY the names and locations of the games are loaded, from the {@link #INDEX_FILE} if it is up to date <br>
+ *  - OR the games of every level but {@link #USER} come from ONE {@link GamePack}, if there is a {@link #PACK_FILE} <br>
+ *  - each game is read, and checked, the first time it is needed, and the most recently used games are kept in memory
  *  
  *  @author  Mark Sattolo
  *  @version 8.1.1
@@ -64,6 +83,9 @@ public class Loader
      */
     protected SavedGame( final int len, final String str )
     {
+      if( ! Helper.isValidGridLength(len) )
+        logger.severe( "Grid length " + len + " is NOT supported!" );
+      
       length = len ;
       name = new String( str );
       values = new int[ length ][ length ];
@@ -88,7 +110,7 @@ public class Loader
     
     /**
      * Set a value at a particular row and col in {@link SavedGame#values} <br>
-     * - ONLY called by {@link #loadScannedGame}
+     * - ONLY called by {@link #scanGame} and the headless readers
      * 
      * @param row - row position
      * @param col - col position
@@ -152,17 +174,18 @@ public class Loader
       logger.appendln( "GAME '" + name + "' : length = " + length
                        + " & difficulty = " + Loader.STR_DIFF_FOLDERS[difficulty] + "\n" );
       
+      int $boxLength = (int)Math.round( Math.sqrt(length) );
       for( int r = 0; r < length; r++ )
       {
         logger.append( "\t" );
         for( int c = 0; c < length; c++ )
         {
-          if( (r > 0) && (r % 3 == 0) && (c == 0) ) // horizontal space
+          if( (r > 0) && (r % $boxLength == 0) && (c == 0) ) // horizontal space
             logger.append( "\n\t" );
           
-          logger.append( values[r][c] + " " );
+          logger.append( ((length > 9) && (values[r][c] < 10) ? " " : "") + values[r][c] + " " );
           
-          logger.append( (c % 3 == 2) ? "   " : " " ); // vertical space
+          logger.append( (c % $boxLength == $boxLength - 1) ? "   " : " " ); // vertical space
           
         }
         logger.appendln();
@@ -175,6 +198,37 @@ public class Loader
     
   }/* Inner Class SavedGame */
 
+  /**
+   * Inner CLASS with where to find ONE game of the catalogue <br>
+   * - the game itself is read the first time it is needed, see {@link Loader#getSavedGame}
+   */
+  private static final class CatalogueEntry
+  {
+    /**
+     * Only Constructor
+     * 
+     * @param str - name
+     * @param loc - file path OR jar resource name
+     * @param jar - true if <var>loc</var> is a jar resource
+     */
+    CatalogueEntry( final String str, final String loc, final boolean jar )
+    {
+      name = str ;
+      path = loc ;
+      inJar = jar ;
+    }
+    
+    /** for display, and to find the game with {@link Loader#getGameIndex} */
+    final String name ;
+    
+    /** file path OR jar resource name */
+    final String path ;
+    
+    /** true if {@link #path} is a jar resource */
+    final boolean inJar ;
+  
+  }/* Inner Class CatalogueEntry */
+ 
  /*
   *            C O N S T R U C T O R S
   *************************************************************************************************************/
@@ -184,26 +238,57 @@ public class Loader
    * - ONLY Caller is {@link Launcher#createLoader}
    * 
    * @param frame - reference to the enclosing instance of {@link Launcher}
-   * @param num - maximum number of <var>games</var> to store
+   * @param num - maximum number of <var>games</var> to keep in memory
    */
   protected Loader( final Launcher frame, final int num )
   {
+    this( (frame == null) ? Launcher.INITIAL_GRID_LENGTH : frame.grid.getLength(), num );
+    
     if( frame == null )
     {
       System.err.println( "Loader Constructor: passed a null Launcher!!??" );
       System.exit( this.hashCode() );
     }
     
+    gameview = frame ;
+  }
+  
+  /**
+   * Headless Constructor - there is NO {@link Launcher}, so only use the methods
+   * that read games WITHOUT displaying them, e.g. {@link #readGame}
+   * 
+   * @param len - number of {@link Square}s on each side of the grid
+   * @param num - maximum number of <var>games</var> to keep in memory
+   * 
+   * @see BatchSolver
+   */
+  protected Loader( final int len, final int num )
+  {
     int numGames = num ;
     if( num < Loader.MIN_NUM_LOADED_GAMES )
       numGames = Launcher.MAX_NUM_LOADED_GAMES ;
       
-    gameview = frame ;
     maxNumGames = numGames ;
     
-    games = new SavedGame[NUM_DIFFICULTIES][ maxNumGames ];
-    nLoadedGames = new int[NUM_DIFFICULTIES] ;
-    base = gameview.grid.getLength() + 1 ;
+    catalogue = new ArrayList<>( NUM_DIFFICULTIES );
+    for( int i=0; i < NUM_DIFFICULTIES; i++ )
+      catalogue.add( new ArrayList<CatalogueEntry>() );
+    
+    gameIndex = new HashMap<>();
+    
+    badGames = new HashSet<>();
+    
+    gameCache = new LinkedHashMap<Long, SavedGame>( 16, 0.75f, true )
+    {
+      private static final long serialVersionUID = 1L ;
+      
+      @Override
+      protected boolean removeEldestEntry( final Map.Entry<Long, SavedGame> eldest )
+      { return( size() > maxNumGames ); }
+    };
+    
+    gridLength = len ;
+    base = gridLength + 1 ;
     
     logger = Launcher.logger ;
     logger.logInit();
@@ -244,7 +329,7 @@ public class Loader
    * @param folder - with Pseudokeu games
    * @param prefix - of all games
    * 
-   * @return {@link #nLoadedGames}[{@link #USER}]
+   * @return number of {@link #USER} games
    * 
    * @see Launcher#createLoader
    */
@@ -270,7 +355,7 @@ public class Loader
     addfolderName = folder + pathSep ;
     loadGamesFromFolder( new File(folder), USER );
     
-    return nLoadedGames[USER] ;
+    return getNumLoadedGames( USER );
     
   }// Loader.loadFiles()
   
@@ -280,7 +365,7 @@ public class Loader
    * @param relativePath - of the given file
    * @param name - of the file
    * 
-   * @return {@link #nLoadedGames}[{@link #USER}]
+   * @return number of {@link #USER} games
    * 
    * @see Launcher#createLoader
    */
@@ -309,7 +394,7 @@ public class Loader
     
     getFileGame( new File($filename), USER );
     
-    return nLoadedGames[USER] ;
+    return getNumLoadedGames( USER );
     
   }// Loader.loadFile()
   
@@ -332,7 +417,7 @@ public class Loader
     
     boolean $result = boolFAIL ;
     
-    fileBasename = userPrefix + Integer.toString( nLoadedGames[USER] + 1 );
+    fileBasename = userPrefix + Integer.toString( getNumLoadedGames(USER) + 1 );
      addfileName = addfolderName + fileBasename + GAME_SUFFIX ;
     
     logger.info( "Adding Game '" + addfileName + '\'' );
@@ -341,11 +426,13 @@ public class Loader
     if( grid.getNumValues() <= 0 )
       return boolFAIL ;
     
-    int $numbase = Grid.BASE_KEYCODE_INDEX ;
     int $row, $col, $len = grid.getLength() ;
     Square[][] $sqrAr = grid.sqrs2dArray ;
     int $addVal, $min = SqrTypes.BLANK_VAL + 1, $max = $len ;
     
+    // each token is (col * base) + value, zero-padded so a 9x9 game is still written as 2 digits, e.g. "05"
+    String $format = "%0" + String.valueOf( (($len - 1) * base) + $len ).length() + "d " ;
+    
     try
     {
       pw = new PrintWriter( new BufferedWriter( new FileWriter(addfileName) ) );
@@ -359,9 +446,7 @@ public class Loader
           
           if( ($addVal >= $min) && ($addVal <= $max) )
           {
-            pw.write( $col + $numbase );
-            pw.write( $addVal + $numbase );
-            pw.write( " " );
+            pw.write( String.format($format, ($col * base) + $addVal) );
           }
           
         } // for( cols )
@@ -387,7 +472,10 @@ public class Loader
   }// Loader.addGame()
   
   /**
-   * Get a particular LOADED game to insert into the Grid <br>
+   * Get a particular game of the catalogue to insert into the Grid <br>
+   * - read the game if it is NOT in {@link #gameCache} <br>
+   * - the games from the {@link #pack}, if any, come before the games in the {@link #catalogue} <br>
+   * - if the game can NOT be used, return the next good game at the same level
    * 
    * @param difficulty - level of the requested game
    * @param index      - which game to return
@@ -395,7 +483,7 @@ public class Loader
    * @return an instance of {@link Loader.SavedGame} OR null if a problem
    * @see Grid#activateGame
    */
-  SavedGame getSavedGame( final int difficulty, final int index )
+  synchronized SavedGame getSavedGame( final int difficulty, final int index )
   {
     // have to check the difficulty FIRST
     if( (difficulty <= nFAIL) || (difficulty >= NUM_DIFFICULTIES) )
@@ -404,30 +492,61 @@ public class Loader
       return null ;
     }
     
+    int $numPacked = getNumPacked( difficulty ),
+        $numGames = $numPacked + catalogue.get( difficulty ).size();
+    
+    // are there ANY games at this level?
+    if( $numGames == 0 )
+    {
+      logger.warning( "NO LOADED GAMES at level: " + STR_DIFF_FOLDERS[difficulty] );
+      return null ;
+    }
+    
     // see if the index is good
-    if( (index >= 0) && (index <= nLoadedGames[difficulty]) )
+    int $index = index ;
+    if( ($index < 0) || ($index >= $numGames) )
     {
-      logger.info( "Returning Game '" + games[difficulty][index].getName() + '\'' );
-      return games[difficulty][index] ;
+      $index = $numGames - 1 ;
+      logger.warning( "PROBLEM: index #" + index + " is NOT valid... returning game #" + $index );
     }
     
-    // are there ANY games at this level?
-    if( nLoadedGames[difficulty] > 0 )
+    int $next ;
+    Long $key ;
+    SavedGame $game ;
+    for( int i=0; i < $numGames; i++ )
     {
-      logger.warning( "PROBLEM: index #" + index + " is NOT valid... returning game #" + nLoadedGames );
-      return games[difficulty][nLoadedGames[difficulty] - 1] ;
+      $next = ( $index + i ) % $numGames ;
+      $key = Long.valueOf( ((long)difficulty << Integer.SIZE) | $next );
+      if( badGames.contains($key) )
+        continue ;
+      
+      $game = gameCache.get( $key );
+      if( $game == null )
+      {
+        $game = ( $next < $numPacked ) ? readPackGame( difficulty, $next )
+                                       : readEntry( catalogue.get(difficulty).get($next - $numPacked), difficulty );
+        if( $game == null )
+        {
+          badGames.add( $key );
+          continue ;
+        }
+        gameCache.put( $key, $game );
+      }
+      
+      logger.info( "Returning Game '" + $game.getName() + '\'' );
+      return $game ;
     }
     
-    logger.warning( "NO LOADED GAMES at level: " + STR_DIFF_FOLDERS[difficulty] );
+    logger.warning( "NO GOOD GAMES at level: " + STR_DIFF_FOLDERS[difficulty] );
     return null ;
   
   }// Loader.getSavedGame()
   
   /**
    * @param difficulty - level
-   * @return {@link #nLoadedGames} for this difficulty level
+   * @return number of games in the catalogue at this difficulty level
    */
-  int getNumLoadedGames( final int difficulty )
+  synchronized int getNumLoadedGames( final int difficulty )
   {
     if( (difficulty <= nFAIL) || (difficulty >= NUM_DIFFICULTIES) )
     {
@@ -435,7 +554,7 @@ public class Loader
       return nFAIL ;
     }
     
-    return nLoadedGames[difficulty] ;
+    return getNumPacked( difficulty ) + catalogue.get( difficulty ).size();
     
   }// Loader.getNumLoadedGames()
   
@@ -472,7 +591,7 @@ public class Loader
    * 
    * @return {@link String} with the name of the requested game
    */
-  String getGameName( final int difficulty, final int index )
+  synchronized String getGameName( final int difficulty, final int index )
   {
     // have to check the difficulty FIRST
     if( (difficulty <= nFAIL) || (difficulty >= NUM_DIFFICULTIES) )
@@ -481,13 +600,17 @@ public class Loader
       return strFAIL ;
     }
     
-    if( (index < 0) || (index >= nLoadedGames[difficulty]) )
+    int $numPacked = getNumPacked( difficulty );
+    if( (index < 0) || (index >= $numPacked + catalogue.get(difficulty).size()) )
     {
       logger.warning( "Received a BAD game index!" );
       return strFAIL ;
     }
     
-    return games[difficulty][index].getName();
+    if( index < $numPacked )
+      return GamePack.getGameName( difficulty, index );
+    
+    return catalogue.get( difficulty ).get( index - $numPacked ).name ;
     
   }// Loader.getGameName()
   
@@ -499,7 +622,7 @@ public class Loader
    * 
    * @return index of the requested game
    */
-  int getGameIndex( final int difficulty, final String name )
+  synchronized int getGameIndex( final int difficulty, final String name )
   {
     if( (difficulty <= nFAIL) || (difficulty >= NUM_DIFFICULTIES) )
     {
@@ -513,11 +636,13 @@ public class Loader
       return nFAIL ;
     }
     
-    for( int i=0; i < nLoadedGames[difficulty]; i++ )
-      if( games[difficulty][i].getName().contentEquals(name) )
-        return i ;
+    int $packed = findPackedGame( difficulty, name );
+    if( $packed != nFAIL )
+      return $packed ;
     
-    return nFAIL ;
+    Integer $index = gameIndex.get( STR_DIFF_FOLDERS[difficulty] + JAR_SEP + name );
+    
+    return( ($index == null) ? nFAIL : getNumPacked(difficulty) + $index.intValue() );
     
   }// Loader.getGameIndex()
   
@@ -537,7 +662,7 @@ public class Loader
       return nFAIL ;
     }
     
-    for( int i=0; i < maxNumGames; i++ )
+    for( int i=0; i < NUM_DIFFICULTIES; i++ )
       if( STR_DIFF_FOLDERS[i].contentEquals(difficulty) )
         return i ;
     
@@ -550,7 +675,9 @@ public class Loader
  // ===========================================================================================================
   
   /**
-   * Load ALL games with this prefix and suffix from the given location
+   * Build the catalogue of ALL games at the given location <br>
+   * - use the {@link #INDEX_FILE} if it is up to date, otherwise list the difficulty folders and write a new index <br>
+   * - if there are NO folders, see if we are running from a jar
    * 
    * @param location - of Pseudokeu games
    * @param   suffix - of game names (e.g. '.psk')
@@ -574,7 +701,34 @@ public class Loader
     boolean $result = boolFAIL ;
     logger.info( "Loading from Location '" + location + "'" );
     
-    $result = loadFromDifficultyFolders( location );
+    File $packFile = new File( location, PACK_FILE );
+    if( $packFile.isFile() && usePack(GamePack.open($packFile)) )
+    {
+      // games added by the user since the pack was made
+      loadGamesFromFolder( new File(location + pathSep + STR_DIFF_FOLDERS[USER]), USER );
+      return true ;
+    }
+    
+    File $index = new File( location, INDEX_FILE );
+    if( isIndexCurrent($index, location) )
+    {
+      try( BufferedReader $reader = Files.newBufferedReader($index.toPath()) )
+      {
+        $result = readIndex( $reader, location, false );
+      }
+      catch( Exception e )
+      {
+        logger.warning( "PROBLEM reading index '" + $index + "' -- " + e.toString() );
+        clearCatalogue();
+      }
+    }
+    
+    if( ! $result )
+    {
+      $result = loadFromDifficultyFolders( location );
+      if( $result )
+        writeIndex( $index, location );
+    }
     
     if( ! $result ) // see if we are running from a jar file
     {
@@ -622,7 +776,8 @@ public class Loader
   }// Loader.loadFromDifficultyFolders()
   
   /**
-   * Load ALL games from the folder with the supplied name
+   * Add ALL games in the folder with the supplied name to the catalogue <br>
+   * - ONLY lists the file names, the games are read when first needed
    * 
    * @param folder - folder with LatinSquare games (psk files)
    * @param difficulty - level
@@ -658,13 +813,14 @@ public class Loader
         logger.config( "Loading from Folder '" + folder.toString() + "'" );
         
         File[] $children = folder.listFiles();
-        for( int j=0 ; (j < maxNumGames) && (j < $children.length) ; j++ )
+        Arrays.sort( $children, GAME_ORDER );
+        for( File $child : $children )
         {
-          if( ! $children[j].isDirectory() )
+          if( ! $child.isDirectory() )
           {
-            setFileBasename( $children[j].getName() );
+            setFileBasename( $child.getName() );
             
-            $result = getFileGame( $children[j], difficulty );
+            $result = addEntry( difficulty, new CatalogueEntry(fileBasename, $child.getPath(), false) );
           }
         }// for( files )
       }
@@ -682,7 +838,7 @@ public class Loader
   }// Loader.loadGamesFromFolder()
   
   /**
-   * Scan and Load a game of the given difficulty from the given file
+   * Add a game of the given difficulty from the given file, and read it right away to check it
    * 
    * @param file - with the <var>game</var> to load
    * @param difficulty - level
@@ -711,58 +867,18 @@ public class Loader
     
     logger.config( "Looking for game file '" + file.toString() + "'" );
     
-    boolean $result = scanFile( file );
-    
-    if( $result )
-      $result = loadScannedGame( difficulty ) ;
-    
-    return $result ;
-  
-  }// Loader.getFileGame()
-  
-  /**
-   *  Scan a file with a game
-   *  
-   *  @param file - the <var>file</var> to scan
-   *  @return success or failure
-   *  
-   *  @see java.util.Scanner
-   */
-  private boolean scanFile( final File file )
-  {
-    if( file == null )
-    {
-      logger.warning( "Received a null File!" );
+    CatalogueEntry $entry = new CatalogueEntry( fileBasename, file.getPath(), false );
+    if( (readEntry($entry, difficulty) == null) || !addEntry(difficulty, $entry) )
       return boolFAIL ;
-    }
     
-    boolean $result = boolFAIL ;
-    loadscanner = null ;
-    
-    try
-    {
-      if( file.exists() )
-      {
-        loadscanner = new Scanner( file );
-        logger.info( "Scanned file '" + file.toString() + "'" );
-      }
-      else
-          logger.warning( "! Could NOT find file '" + file.toString() + "'" );
-    }
-    catch( Exception e )
-    {
-      logger.severe( "** PROBLEM scanning file '" + file.toString() + "' -- " + e.toString() );
-    }
-    
-    if( loadscanner != null )
-      $result = true ;
-    
-    return $result ;
+    return true ;
   
-  }// Loader.scanFile()
+  }// Loader.getFileGame()
   
   /**
-   * Load ALL games with this prefix and suffix from the parameter jar resource
+   * Add ALL games from the parameter jar resource to the catalogue <br>
+   * - use the {@link #INDEX_FILE} in the jar if there is one <br>
+   * - otherwise look for the names <var>prefix</var>1, <var>prefix</var>2, ... at each level until one is missing
    * 
    * @param jar - with Pseudokeu games
    * @param suffix - of game names (e.g. '.psk')
@@ -785,17 +901,49 @@ public class Loader
     
     logger.logInit( "Loading from Jar '" + jar + "'" + '\n' );
     
+    InputStream $stream = getClass().getResourceAsStream( JAR_SEP + jar + JAR_SEP + PACK_FILE );
+    if( $stream != null )
+    {
+      try( InputStream $packStream = $stream )
+      {
+        if( usePack(GamePack.read($packStream, PACK_FILE)) )
+          return true ;
+      }
+      catch( Exception e )
+      {
+        logger.warning( "PROBLEM reading the jar pack -- " + e.toString() );
+      }
+    }
+    
+    $stream = getClass().getResourceAsStream( JAR_SEP + jar + JAR_SEP + INDEX_FILE );
+    if( $stream != null )
+    {
+      try( BufferedReader $reader = new BufferedReader(new InputStreamReader($stream, StandardCharsets.UTF_8)) )
+      {
+        if( readIndex($reader, jar, true) )
+          return true ;
+      }
+      catch( Exception e )
+      {
+        logger.warning( "PROBLEM reading the jar index -- " + e.toString() );
+        clearCatalogue();
+      }
+    }
+    
     boolean $result = boolFAIL ;
     String $fileName ;
     
     for( int i=0; i < NUM_DIFFICULTIES; i++ )
     {
-      for( int j=1; j < maxNumGames; j++ )
+      for( int j=1; ; j++ )
       {
         fileBasename = STR_DIFF_FILES[i] + Integer.toString( j );
         $fileName = jar + pathSep + STR_DIFF_FOLDERS[i] + pathSep + fileBasename + suffix ;
         
-        $result = getJarGame( $fileName, i );
+        if( getClass().getResource(JAR_SEP + $fileName) == null )
+          break ;
+        
+        $result = addEntry( i, new CatalogueEntry(fileBasename, $fileName, true) );
       }
     }
     
@@ -804,157 +952,543 @@ public class Loader
   }// Loader.loadGamesFromJar()
   
   /**
-   * Scan and Load a game from a jar
+   * Add ONE game to the end of the catalogue for its level
    * 
-   * @param name - of the <var>game</var> to load
    * @param difficulty - level
+   * @param entry - for the game
    * 
    * @return success or failure
    */
-  private boolean getJarGame( final String name, final int difficulty )
+  private synchronized boolean addEntry( final int difficulty, final CatalogueEntry entry )
   {
-    if( (name == null) || name.isEmpty() )
+    if( findPackedGame(difficulty, entry.name) != nFAIL )
     {
-      logger.warning( "Received a BAD name String!" );
+      logger.fine( "Game '" + entry.name + "' is already in the pack." );
       return boolFAIL ;
     }
     
-    if( (difficulty <= nFAIL) || (difficulty >= NUM_DIFFICULTIES) )
+    String $key = STR_DIFF_FOLDERS[difficulty] + JAR_SEP + entry.name ;
+    if( gameIndex.containsKey($key) )
     {
-      logger.warning( "Received a BAD difficulty level!" );
+      logger.warning( "Already have a game '" + entry.name + "' at level " + STR_DIFF_FOLDERS[difficulty] );
       return boolFAIL ;
     }
     
-    logger.config( "Looking for game '" + name + "'" );
+    gameIndex.put( $key, catalogue.get(difficulty).size() );
+    catalogue.get( difficulty ).add( entry );
+    totalGames++ ;
     
-    boolean $result = scanJar( name );
+    return true ;
     
-    if( $result )
-      $result = loadScannedGame( difficulty ) ;
+  }// Loader.addEntry()
     
-    return $result ;
+  /** Remove ALL games from the catalogue */
+  private synchronized void clearCatalogue()
+  {
+    for( List<CatalogueEntry> $level : catalogue )
+      $level.clear();
+    
+    gameIndex.clear();
+    gameCache.clear();
+    badGames.clear();
+    pack = null ;
+    totalGames = 0 ;
   
-  }// Loader.getJarGame()
+  }// Loader.clearCatalogue()
   
   /**
-   *  Scan a jar resource game
+   * Read the game for a catalogue entry from its file or jar resource
    *  
-   *  @param name - of the <em>jar game</em> to scan
-   *  @return success or failure
+   * @param entry - for the game
+   * @param difficulty - level
    *  
-   *  @see java.util.Scanner
+   * @return the new {@link SavedGame}, OR null if it could not be read OR does NOT have ONE solution
+   *
+   * @see java.util.StringTokenizer
    */
-  private boolean scanJar( final String name )
+  private SavedGame readEntry( final CatalogueEntry entry, final int difficulty )
   {
-    if( (name == null) || name.isEmpty() )
+    logger.info( entry.name + " : difficulty = " + difficulty );
+    
+    SavedGame $game = new SavedGame( gridLength, entry.name, difficulty );
+    
+    InputStream $stream ;
+    try
+    {
+      $stream = entry.inJar ? getClass().getResourceAsStream( JAR_SEP + entry.path )
+                            : new FileInputStream( entry.path );
+      if( $stream == null )
+      {
+        logger.warning( "Could NOT find '" + entry.path + "'" );
+        return null ;
+      }
+      
+      try( Scanner $scanner = new Scanner(new BufferedInputStream($stream)) )
+      {
+        scanGame( $scanner, $game );
+        logger.appendln( "scanner: END of Input." );
+      }
+    }
+    catch( Exception e )
+    {
+      logger.appendln( "\t !! PROBLEM reading '" + entry.path + "': " + e.toString() );
+      logger.send( Level.WARNING );
+      return null ;
+    }
+    
+    return( hasOneSolution($game) ? $game : null );
+    
+  }// Loader.readEntry()
+  
+  /**
+   * Copy a game out of the {@link #pack}
+   * 
+   * @param difficulty - level
+   * @param index - of the game in the pack, at that level
+   * 
+   * @return the new {@link SavedGame}, OR null if it does NOT have ONE solution
+   */
+  private SavedGame readPackGame( final int difficulty, final int index )
+  {
+    SavedGame $game = new SavedGame( gridLength, GamePack.getGameName(difficulty, index), difficulty );
+    
+    if( ! pack.getGame(difficulty, index, $game) )
+      return null ;
+    
+    return( hasOneSolution($game) ? $game : null );
+  
+  }// Loader.readPackGame()
+  
+  /**
+   * Only keep games with exactly ONE solution - stop counting at 2 so this stays cheap
+   *
+   * @param game - to check
+   * @return true if the game has ONE solution
+   */
+  private boolean hasOneSolution( final SavedGame game )
+  {
+    int $nSolns = Solver.countSolutions( game, 2 );
+    if( $nSolns != 1 )
     {
-      logger.warning( "Received a BAD name String!" );
+      logger.appendln( "\t !! PROBLEM: game '" + game.getName() + "' has "
+                       + (($nSolns > 1) ? "MORE THAN ONE solution" : "NO solution") );
+      logger.send( Level.WARNING );
+      return false ;
+    }
+    
+    logger.send( Level.FINE );
+    
+    return true ;
+    
+  }// Loader.hasOneSolution()
+  
+  /**
+   * Use a {@link GamePack} for the games of ALL levels but {@link #USER}, which may also have games in a folder
+   *
+   * @param newPack - to use
+   * @return false if the pack is null OR does NOT have the right grid length
+   */
+  private synchronized boolean usePack( final GamePack newPack )
+  {
+    if( newPack == null )
+      return boolFAIL ;
+    
+    if( newPack.getLength() != gridLength )
+    {
+      logger.warning( "Pack grid length " + newPack.getLength() + " does NOT match grid length " + gridLength );
       return boolFAIL ;
     }
     
-    boolean $success = false ;
-    loadscanner = null ;
-    URL $url ;
+    clearCatalogue();
+    pack = newPack ;
+    for( int i=0; i < NUM_DIFFICULTIES; i++ )
+      totalGames += pack.getNumGames( i );
+    
+    logger.logInit( "Using a pack of " + totalGames + " games." );
+    
+    return true ;
+  
+  }// Loader.usePack()
+  
+  /**
+   * @param difficulty - level
+   * @return number of games in the {@link #pack} at this level
+   */
+  private int getNumPacked( final int difficulty )
+  { return( (pack == null) ? 0 : pack.getNumGames(difficulty) ); }
+  
+  /**
+   * @param difficulty - level
+   * @param name - of a game
+   * @return index of the game in the {@link #pack}, OR {@link #nFAIL} if it is NOT there
+   */
+  private int findPackedGame( final int difficulty, final String name )
+  {
+    String $prefix = STR_DIFF_FILES[difficulty] ;
+    if( (pack == null) || !name.startsWith($prefix) )
+      return nFAIL ;
     
     try
     {
-      $url = getClass().getResource( JAR_SEP + name );
-      if( $url != null )
+      int $num = Integer.parseInt( name.substring($prefix.length()) );
+      if( ($num >= 1) && ($num <= getNumPacked(difficulty)) )
+        return( $num - 1 );
+    }
+    catch( NumberFormatException nfe )
+    {
+      // NOT a pack name
+    }
+    
+    return nFAIL ;
+  
+  }// Loader.findPackedGame()
+  
+  /**
+   * Add the games listed in an index to the catalogue <br>
+   * - each line is: difficulty folder, TAB, game name, TAB, path relative to <var>location</var> with '/' separators <br>
+   * - empty lines and lines starting with '#' are ignored
+   *
+   * @param reader - with the index
+   * @param location - of the game folders
+   * @param inJar - true if the games are jar resources
+   *
+   * @return success or failure
+   *
+   * @throws IOException if there is a problem reading the index
+   */
+  private boolean readIndex( final BufferedReader reader, final String location, final boolean inJar ) throws IOException
+  {
+    boolean $result = boolFAIL ;
+    String $line, $path ;
+    int $tab1, $tab2, $diff, $num = 0 ;
+    
+    while( (($line = reader.readLine()) != null) )
+    {
+      $num++ ;
+      if( $line.isEmpty() || ($line.charAt(0) == '#') )
+        continue ;
+      
+      $tab1 = $line.indexOf( '\t' );
+      $tab2 = $line.indexOf( '\t', $tab1 + 1 );
+      $diff = ( $tab1 > 0 ) ? getDifficultyIndex( $line.substring(0, $tab1) ) : nFAIL ;
+      if( ($tab2 < 0) || ($diff == nFAIL) )
       {
-        logger.appendln( "Loaded Resource '" + name + "'" );
-        
-        URLConnection $site = $url.openConnection();
-        loadscanner = new Scanner( new BufferedInputStream($site.getInputStream()) );
-        logger.logInit( "Scanned file '" + $url.toString() + "'" );
+        logger.warning( "BAD line #" + $num + " in index: '" + $line + "'" );
+        continue ;
+      }
+      
+      $path = location + JAR_SEP + $line.substring( $tab2 + 1 );
+      if( ! inJar )
+        $path = new File( $path ).getPath();
+      
+      if( addEntry($diff, new CatalogueEntry($line.substring($tab1 + 1, $tab2), $path, inJar)) )
+        $result = true ;
+    }
+    
+    logger.logInit( "Read " + totalGames + " games from the index at '" + location + "'" );
+    
+    return $result ;
+  
+  }// Loader.readIndex()
+  
+  /**
+   * Write the catalogue as a NEW {@link #INDEX_FILE}, so the next start does NOT have to list the folders
+   *
+   * @param index - file to write
+   * @param location - of the game folders
+   * @return success or failure
+   */
+  private synchronized boolean writeIndex( final File index, final String location )
+  {
+    Path $base = new File( location ).toPath();
+    
+    try( PrintWriter $pw = new PrintWriter(Files.newBufferedWriter(index.toPath())) )
+    {
+      $pw.println( "# Pseudokeu game index: difficulty, name, path -- written by Loader, do NOT edit" );
+      for( int i=0; i < NUM_DIFFICULTIES; i++ )
+        for( CatalogueEntry $entry : catalogue.get(i) )
+          $pw.println( STR_DIFF_FOLDERS[i] + '\t' + $entry.name + '\t'
+                       + $base.relativize( new File($entry.path).toPath() ).toString().replace( File.separatorChar, '/' ) );
+      
+      if( $pw.checkError() )
+      {
+        logger.warning( "PROBLEM writing index '" + index + "'" );
+        return boolFAIL ;
       }
-      else
-        logger.appendln( "Could NOT find '" + name + "'" );
     }
     catch( Exception e )
     {
-      logger.appendln( "PROBLEM scanning '" + name + "' -- " + e.toString() );
+      logger.warning( "Could NOT write index '" + index + "' -- " + e.toString() );
+      return boolFAIL ;
     }
     
-    if( loadscanner != null )
-      $success = true ;
+    return true ;
+  
+  }// Loader.writeIndex()
+  
+  /**
+   * @param index - file
+   * @param location - of the game folders
+   * @return true if the index exists AND NONE of the difficulty folders has changed since it was written
+   */
+  private boolean isIndexCurrent( final File index, final String location )
+  {
+    if( ! index.isFile() )
+      return false ;
+    
+    File $folder ;
+    for( int i=0; i < NUM_DIFFICULTIES; i++ )
+    {
+      $folder = new File( location, STR_DIFF_FOLDERS[i] );
+      if( $folder.lastModified() > index.lastModified() )
+      {
+        logger.info( "Folder '" + $folder + "' has changed since index '" + index + "' was written." );
+        return false ;
+      }
+    }
     
-    logger.send( Level.INFO );
+    return true ;
+  
+  }// Loader.isIndexCurrent()
+  
+  /**
+   * Read the tokens for a game from a scanner into a {@link SavedGame} <br>
+   * - each line is a row of the grid, each token is (<var>col</var> * <var>base</var>) + <var>value</var>,
+   *   where <var>base</var> is one more than the grid length of <var>game</var>
+   * 
+   * @param scanner - with the game text
+   * @param game - to receive the values
+   * 
+   * @throws NumberFormatException if a token is not a number
+   * @throws ArrayIndexOutOfBoundsException if a row or col is outside the grid
+   */
+  private void scanGame( final Scanner scanner, final SavedGame game )
+  {
+    int $row=0, $col, $val, $token, $base = game.getLength() + 1 ;
+    StringTokenizer $st ;
     
-    return $success ;
+    while( scanner.hasNextLine() )
+    {
+      if( LogControl.finer() ) logger.appendln( "Row #" + $row );
+      
+      $st = new StringTokenizer( scanner.nextLine() );
+      while( $st.hasMoreTokens() )
+      {
+        $token = Integer.parseInt( $st.nextToken() );
+        $col = $token/$base ;
+        $val = $token%$base ;
+        
+        // assign the val
+        game.setValue( $row, $col, $val );
+        if( LogControl.finer() ) logger.appendln( "col: " + $col + " - value = " + $val );
+      }
+      $row++ ;
+    }
     
-  }// Loader.scanJar()
+  }// Loader.scanGame()
   
   /**
-   * Load a game into a {@link SavedGame} from the <var>scanner</var>
+   * Read ONE game from a file WITHOUT adding it to {@link #games} <br>
+   * - does not change any Loader fields, so may be called from several threads at once
    * 
+   * @param file - with the game to read
    * @param difficulty - level
-   * @return success or failure
    * 
-   * @see java.util.StringTokenizer
+   * @return the new {@link SavedGame}, OR null if there was a problem
+   */
+  SavedGame readGame( final File file, final int difficulty )
+  {
+    if( (file == null) || !file.exists() )
+    {
+      logger.warning( "! Received a BAD file: " + file );
+      return null ;
+    }
+    
+    SavedGame $game = new SavedGame( gridLength, getGameName(file), difficulty );
+    
+    try( Scanner $scanner = new Scanner(file) )
+    {
+      scanGame( $scanner, $game );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM reading file '" + file + "' -- " + e.toString() );
+      return null ;
+    }
+    
+    return $game ;
+    
+  }// Loader.readGame()
+  
+  /**
+   * Read ONE game from a file of ANY valid grid length, WITHOUT adding it to {@link #games} <br>
+   * - a game file has ONE line for each row, see {@link #writeGame}, so the number of lines is the grid length <br>
+   * - does not change any Loader fields, so may be called from several threads at once
+   * 
+   * @param file - with the game to read
+   * @param difficulty - level
+   * 
+   * @return the new {@link SavedGame}, OR null if there was a problem
+   * 
+   * @see BatchSolver
    */
-  private boolean loadScannedGame( final int difficulty )
+  SavedGame readAnyGame( final File file, final int difficulty )
   {
-    logger.info( fileBasename + " : difficulty = " + difficulty );
+    if( (file == null) || !file.exists() )
+    {
+      logger.warning( "! Received a BAD file: " + file );
+      return null ;
+    }
     
-    if( (difficulty <= nFAIL) || (difficulty >= NUM_DIFFICULTIES) )
+    List<String> $lines ;
+    try
     {
-      logger.warning( "Received a BAD difficulty level!" );
-      return boolFAIL ;
+      $lines = Files.readAllLines( file.toPath() );
     }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM reading file '" + file + "' -- " + e.toString() );
+      return null ;
+    }
+    
+    // a blank last line may be an empty row OR just the end of the file
+    int $len = $lines.size();
+    while( !Helper.isValidGridLength($len) && ($len > 0) && $lines.get($len - 1).trim().isEmpty() )
+      $len-- ;
     
-    if( nLoadedGames[difficulty] == maxNumGames )
+    if( ! Helper.isValidGridLength($len) )
+    {
+      logger.warning( "File '" + file + "' has " + $len + " rows -- NOT a valid grid length!" );
+      return null ;
+    }
+    
+    SavedGame $game = new SavedGame( $len, getGameName(file), difficulty );
+    
+    try( Scanner $scanner = new Scanner(String.join("\n", $lines.subList(0, $len))) )
+    {
+      scanGame( $scanner, $game );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM reading file '" + file + "' -- " + e.toString() );
+      return null ;
+    }
+    
+    return $game ;
+  
+  }// Loader.readAnyGame()
+  
+  /**
+   * @param file - with a game
+   * @return name of the game, i.e. the file name without its extension
+   */
+  private static String getGameName( final File file )
+  {
+    String $name = file.getName();
+    return( $name.contains(".") ? $name.substring(0, $name.lastIndexOf('.')) : $name );
+  }
+  
+  /**
+   * Write ONE game to a NEW file, in the same format as {@link #addGame} <br>
+   * - does not change any Loader fields, so may be called from several threads at once <br>
+   * - will NOT replace an existing file
+   * 
+   * @param game - to write
+   * @param file - to create
+   * 
+   * @return success or failure
+   * 
+   * @see Generator
+   */
+  boolean writeGame( final SavedGame game, final File file )
+  {
+    if( (game == null) || (file == null) )
     {
-      logger.warning( "MAX GAMES REACHED!" );
+      logger.severe( "Passed a null game or file!!??" );
       return boolFAIL ;
     }
     
-    games[difficulty][nLoadedGames[difficulty]] = new SavedGame( gameview.grid.getLength(), fileBasename, difficulty );
+    int $val, $len = game.getLength(), $base = $len + 1 ;
+    String $format = "%0" + String.valueOf( (($len - 1) * $base) + $len ).length() + "d " ;
     
-    int $row=0, $col, $val, $token ;
-    StringTokenizer $st ;
-    String $next ;
-    try
+    try( PrintWriter $pw = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardOpenOption.CREATE_NEW)) )
     {
-      while( loadscanner.hasNext() )
+      for( int $row=0; $row < $len; $row++ )
       {
-        $next = loadscanner.nextLine();
-        
-        logger.appendln( "Row #" + $row );
-        
-        $st = new StringTokenizer( $next );
-        while( $st.hasMoreTokens() )
+        for( int $col=0; $col < $len; $col++ )
         {
-          $token = Integer.parseInt( $st.nextToken() );
-          $col = $token/base ;
-          $val = $token%base ;
-          
-          // assign the val
-          games[difficulty][nLoadedGames[difficulty]].setValue( $row, $col, $val );
-          logger.appendln( "col: " + $col + " - value = " + $val );
+          $val = game.getValue( $row, $col );
+          if( $val != SqrTypes.BLANK_VAL )
+            $pw.write( String.format($format, ($col * $base) + $val) );
         }
-        $row++ ;
+        $pw.println();
+      }
+      
+      if( $pw.checkError() )
+      {
+        logger.warning( "PROBLEM writing file '" + file + "'" );
+        return boolFAIL ;
       }
-      logger.appendln( "loadscanner: END of Input." );
     }
     catch( Exception e )
     {
-      logger.appendln( "\t !! PROBLEM: " + e.toString() );
-      logger.send( Level.WARNING );
+      logger.warning( "PROBLEM creating file '" + file + "' -- " + e.toString() );
       return boolFAIL ;
     }
-    finally
+    
+    return true ;
+    
+  }// Loader.writeGame()
+  
+  /**
+   * Read ONE game from a single line of text, one character per {@link Square} in row order <br>
+   * - '1' to '9' then 'A' to 'P' are the values 1 to 25; '.' or '0' is a blank <br>
+   * - the grid length is the square root of the line length, e.g. 81 characters for a 9x9 game
+   * 
+   * @param line - with the game
+   * @param name - for the new game
+   * 
+   * @return the new {@link SavedGame}, OR null if there was a problem
+   */
+  SavedGame readLine( final String line, final String name )
+  {
+    if( line == null )
     {
-      loadscanner.close(); 
+      logger.warning( "Received a null line!" );
+      return null ;
     }
     
-    nLoadedGames[difficulty]++ ;
-    totalGames++ ;
+    String $line = line.trim();
+    int $len = (int)Math.round( Math.sqrt($line.length()) );
+    if( ($len * $len != $line.length()) || !Helper.isValidGridLength($len) )
+    {
+      logger.warning( name + ": a line of " + $line.length() + " characters is NOT a valid game!" );
+      return null ;
+    }
     
-    logger.send( Level.FINE );
+    SavedGame $game = new SavedGame( $len, name, USER );
     
-    return true ;
+    int $val ;
+    char $ch ;
+    for( int i=0; i < $line.length(); i++ )
+    {
+      $ch = $line.charAt( i );
+      if( ($ch == '.') || ($ch == '0') )
+        continue ;
+      
+      $val = Character.digit( $ch, Character.MAX_RADIX );
+      if( ($val < 1) || ($val > $len) )
+      {
+        logger.warning( name + ": BAD character '" + $ch + "' at position " + i );
+        return null ;
+      }
+      
+      $game.setValue( i / $len, i % $len, $val );
+    }
+    
+    return $game ;
     
-  }// Loader.loadScannedGame()
+  }// Loader.readLine()
   
   /**  
    *  Input is a file name <b>WITHOUT</b> path but <b>may have</b> a file type extension<br>
@@ -998,35 +1532,47 @@ public class Loader
   protected static PskLogger logger ;
   
   /**
-   * Maximum number of {@link SavedGame}s to store <br>
-   *  - set in {@link #Loader(Launcher,int)}
+   * Maximum number of {@link SavedGame}s to keep in {@link #gameCache} <br>
+   *  - set in {@link #Loader(int,int)}
    */
   private int maxNumGames = 99 ;
   
   /**
-   * Number of {@link SavedGame}s available at each difficulty level <br>
-   *  - set in {@link #loadScannedGame}
+   * Where to find the games at each difficulty level <br>
+   *  - NO limit on the number of games, as the games are only read when needed
    */
-  private int nLoadedGames[] ;
+  private final List<List<CatalogueEntry>> catalogue ;
+  
+  /** position in {@link #catalogue} of each game, by difficulty folder + {@link #JAR_SEP} + name */
+  private final Map<String, Integer> gameIndex ;
+  
+  /** the most recently used games, at most {@link #maxNumGames}, by (difficulty << 32) | index */
+  private final Map<Long, SavedGame> gameCache ;
+  
+  /** the games that could NOT be read, OR do NOT have ONE solution, by (difficulty << 32) | index */
+  private final Set<Long> badGames ;
+  
+  /** games of ALL levels but {@link #USER} in ONE file, OR null if none */
+  private GamePack pack ;
   
   /**
-   * Number of {@link SavedGame}s that are loaded and available to solve <br>
-   *  - set in {@link #loadScannedGame}
+   * Number of games in the {@link #catalogue} <br>
+   *  - set in {@link #addEntry}
    */
   private int totalGames ;
   
-  /** For calculating row & value in {@link #loadScannedGame} */
+  /** For calculating row & value in {@link #scanGame} */
   private int base ;
   
+  /** number of {@link Square}s on each side of the games to load */
+  private final int gridLength ;
+  
   /** system path separator */
   private String pathSep ;
   
   /** file name prefix for USER files */
   private String userPrefix ;
   
-  /** {@link SavedGame} array */
-  private SavedGame[][] games ;
-  
   /** Use this for {@link SavedGame#name}  */
   private String fileBasename ;
   
@@ -1042,17 +1588,6 @@ public class Loader
    */
   private PrintWriter pw ;
   
-  /**
-   *  Used so can load <b>game files</b> from a <em>filesystem</em> or as a <em>Jar resource</em>
-   *  
-   *  @see java.util.Scanner
-   *  @see Scanner#Scanner(File)
-   *  @see Scanner#Scanner(java.io.InputStream)
-   *  @see Class#getResource(String)
-   *  @see java.net.URL
-   */
-  private Scanner loadscanner ;
-  
   /** boolean FAILURE */
   static final boolean boolFAIL = false ;
   
@@ -1068,6 +1603,23 @@ public class Loader
   /** Default suffix for <CODE>Game</CODE> files */
   static final String GAME_SUFFIX = ".psk" ;
   
+  /**
+   * Name of the file with the names and paths of ALL the games at a location <br>
+   *  - written by {@link #writeIndex} whenever the difficulty folders are newer, so it is NOT kept in git <br>
+   *  - a jar can NOT rewrite it: run {@link #main} before packaging the games, OR ship a {@link #PACK_FILE}
+   */
+  static final String INDEX_FILE = "games.idx" ;
+  
+  /**
+   * Name of the {@link GamePack} file at a location <br>
+   *  - if there is one, the difficulty folders are NOT used, except for {@link #USER}
+   */
+  static final String PACK_FILE = "games.pak" ;
+  
+  /** sort game files by number, i.e. 'easy2' before 'easy10' */
+  private static final Comparator<File> GAME_ORDER = Comparator.comparingInt( (File f) -> f.getName().length() )
+                                                               .thenComparing( File::getName );
+  
   /** Minimum number of {@link SavedGame}s to store */
   private static final int MIN_NUM_LOADED_GAMES = 8 ;
   
@@ -1096,6 +1648,33 @@ public class Loader
   
   /** Reference to the enclosing {@link Launcher} object */
   private static Launcher gameview = null ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Write a NEW {@link #INDEX_FILE} from the difficulty folders at a location, e.g. before packaging them in a jar
+   *
+   *  @param args - [location], [log level]
+   */
+  public static void main( final String args[] )
+  {
+    Launcher.logger = new LogControl( (args.length > 1) ? args[1] : "WARNING" ).getLogger();
+    
+    String $location = ( args.length > 0 ) ? args[0] : DEFAULT_PATH ;
+    Loader $loader = new Loader( Launcher.INITIAL_GRID_LENGTH, Launcher.MAX_NUM_LOADED_GAMES );
+    
+    if( !$loader.loadFromDifficultyFolders($location) || !$loader.writeIndex(new File($location, INDEX_FILE), $location) )
+    {
+      System.err.println( "Could NOT index the games at '" + $location + "'" );
+      System.exit( 2 );
+    }
+    
+    System.out.println( "Indexed " + $loader.totalGames + " games at '" + $location + "'" );
+    System.exit( 0 );
+  
+  }// Loader.main()
   
 }// CLASS Loader
 
@@ -1109,65 +1688,26 @@ public class Loader
 class Helper
 {
   /**
-   * Get the number of set bits in the $int parameter
-   * 
-   * @param val - int to examine
-   * @param lim - number of bits to process, starting at LSbit
+   * Check that a grid of this length can be played and solved: <br>
+   * - the boxes must be square, e.g. 4, 9, 16, 25 <br>
+   * - each possible value needs its own bit in an int candidate mask
    * 
-   * @return number of set bits
-   */
-  static int numSetBits( final int val, final int lim )
-  {
-    int $bits = val ;
-    int $res = 0 ;
-    
-    int $limit = lim ;
-    if( $limit > Integer.SIZE )
-      $limit = Integer.SIZE ;
-    
-    for( int i=0; i <= $limit; i++ )
-    {
-      //logger.finest( "bits == " + bits );
-      if( Integer.numberOfTrailingZeros($bits) == 0 )
-      {
-        $res++ ;
-        //logger.finer( "result == " + result );
-      }
-      
-      $bits >>= 1 ;
-    }
-    
-    return $res ;
-  
-  }// Helper.numSetBits()
-  
-  /**
-   * Find the position (zero-based, from LSbit) in $int of the set bit specified by place
+   * @param len - number of Squares on each side of the grid
    * 
-   * @param val - int to examine
-   * @param place - which set bit to find position of, i.e. 1st, 2nd, 3rd...
+   * @return valid or not
    * 
-   * @return position index of the requested set bit
+   * @see Launcher#MAX_GRID_LENGTH
    */
-  static int getBitPosn( final int val, final int place )
+  static boolean isValidGridLength( final int len )
   {
-    if( (place < 1) || (place > Integer.SIZE) )
-      return 0 ;
+    if( (len < 1) || (len > Launcher.MAX_GRID_LENGTH) )
+      return false ;
     
-    int $bits = val ;
-    int i=0, $shift=0, $res=-1 ;
-    while( i < place )
-    {
-      $shift = Integer.numberOfTrailingZeros( $bits ) + 1 ;
-      $res += $shift ;
-      $bits >>= $shift ;
-      
-      i++ ;
-    }
+    int $boxLength = (int)Math.round( Math.sqrt(len) );
     
-    return $res ;
+    return( $boxLength * $boxLength == len );
   
-  }// Helper.getBitPosn()
+  }// Helper.isValidGridLength()
   
   /**
    * Produce a String indicating the positions of the set bits in $int
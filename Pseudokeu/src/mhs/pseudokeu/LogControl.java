@@ -17,9 +17,16 @@
 package mhs.pseudokeu;
 
 import java.text.DateFormat;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
 import java.util.logging.FileHandler;
 import java.util.logging.Formatter;
 import java.util.logging.Handler;
@@ -67,8 +74,11 @@ public class LogControl
     {
       setHandlers();
       
-      myLogger.addHandler( xmlHandler );
-      myLogger.addHandler( textHandler );
+      // format and write on a background thread, NOT on the EDT or a solving thread
+      if( xmlHandler != null )
+        myLogger.addHandler( new PskAsyncHandler(xmlHandler) );
+      if( textHandler != null )
+        myLogger.addHandler( new PskAsyncHandler(textHandler) );
     }
     else // need a handler for the package logger
     {
@@ -357,21 +367,25 @@ public class LogControl
    */
   private static Logger rootLogger ;
   
-  /** @see FileHandler */
+  /** @see FileHandler
+   *  @see PskAsyncHandler */
   private static FileHandler textHandler, xmlHandler ;
   
   /** current {@link Level} */
-  private static Level currentLevel ;
+  private static volatile Level currentLevel ;
   
-  /** integer value of {@link #currentLevel} */
-  private static int intLevel ;
+  /** integer value of {@link #currentLevel} - read by the solving threads, so they see a change at once */
+  private static volatile int intLevel ;
   
 }// class LogControl
 
 /* ========================================================================================================================= */
 
 /**
- * Perform all the Pseudokeu logging operations
+ * Perform all the Pseudokeu logging operations <br>
+ *   - a message for a {@link Level} that is NOT logged is dropped BEFORE the caller is found <br>
+ *   - use the {@link Supplier} methods, OR check e.g. {@link LogControl#fine()} first, 
+ *     so a message that is NOT logged is never even built
  * 
  * @author Mark Sattolo
  * @see java.util.logging.Logger
@@ -428,10 +442,8 @@ class PskLogger extends Logger
    */
   protected void logInit( final String msg )
   {
-    if( ( callclass == null ) || ( callmethod == null ) )
-    {
-      getCallerClassAndMethodName();
-    }
+    if( ! isLoggable(LogControl.INIT_LEVEL) )
+      return ;
     
     LogRecord $logRec = getRecord( LogControl.INIT_LEVEL, "<INIT> " + msg );
     
@@ -444,36 +456,57 @@ class PskLogger extends Logger
    */
   protected void logInit()
   {
-    getCallerClassAndMethodName();
     logInit( "basic" );
     
   }// PskLogger.logInit()
   
   /**
-   * Prepare and send a {@link LogRecord} with data from {@link PskLogger#buffer}
+   * Prepare and send a {@link LogRecord} with data from {@link PskLogger#buffer} <br>
+   *   - if <var>level</var> is NOT logged, the data is just removed
    * 
    * @param level - {@link Level} to log at
    */
   protected void send( final Level level )
   {
-    if( buffer.length() == 0 )
+    StringBuilder $buffer = buffer.get();
+    if( $buffer.length() == 0 )
       return ;
     
-    getCallerClassAndMethodName();
-    LogRecord $logRec = getRecord( level, buffer.toString() );
-    clean();
+    if( ! isLoggable(level == null ? LogControl.DEFAULT_LEVEL : level) )
+    {
+      $buffer.setLength( 0 );
+      return ;
+    }
     
-    sendRecord( $logRec );
+    String $msg = $buffer.toString();
+    $buffer.setLength( 0 );
+    
+    sendRecord( getRecord(level, $msg) );
     
   }// PskLogger.send()
   
+  /**
+   * Add the data from <var>msg</var> to {@link PskLogger#buffer} and send it, ONLY if <var>level</var> is logged
+   * 
+   * @param level - {@link Level} to log at
+   * @param msg - produces the data String
+   */
+  protected void send( final Level level, final Supplier<String> msg )
+  {
+    if( isLoggable(level) )
+      buffer.get().append( msg.get() );
+    
+    send( level );
+    
+  }// PskLogger.send(Level,Supplier)
+  
   /**
    * Add data to {@link PskLogger#buffer}
    * 
    * @param msg - data String
    */
-  protected synchronized void append( final String msg )
-  { buffer.append( msg ); }
+  protected void append( final String msg )
+  { buffer.get().append( msg ); }
   
   /**
    * Add data to {@link PskLogger#buffer} with newline
@@ -481,19 +514,43 @@ class PskLogger extends Logger
    * @param msg - data String
    */
   protected void appendln( final String msg )
-  { append( msg + "\n" ); }
+  { buffer.get().append( msg ).append( '\n' ); }
+  
+  /**
+   * Add data to {@link PskLogger#buffer} ONLY if <var>level</var> is logged
+   * 
+   * @param level - {@link Level} the data will be sent at
+   * @param msg - produces the data String
+   */
+  protected void append( final Level level, final Supplier<String> msg )
+  {
+    if( isLoggable(level) )
+      buffer.get().append( msg.get() );
+  }
+  
+  /**
+   * Add data to {@link PskLogger#buffer} with newline, ONLY if <var>level</var> is logged
+   * 
+   * @param level - {@link Level} the data will be sent at
+   * @param msg - produces the data String
+   */
+  protected void appendln( final Level level, final Supplier<String> msg )
+  {
+    if( isLoggable(level) )
+      buffer.get().append( msg.get() ).append( '\n' );
+  }
   
   /**
    *  Add newline to {@link PskLogger#buffer}
    */
   protected void appendln()
-  { append( "\n" ); }
+  { buffer.get().append( '\n' ); }
   
   /**
    *  <b>Remove</b> <em>ALL</em> data in {@link PskLogger#buffer} 
    */
   protected void clean()
-  { buffer.delete( 0, buffer.length() ); }
+  { buffer.get().setLength( 0 ); }
   
  // DEBUGGING
  ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -527,8 +584,10 @@ class PskLogger extends Logger
   private LogRecord getRecord( final Level level, final String msg )
   {
     LogRecord $logRec = new LogRecord( ( level == null ? LogControl.DEFAULT_LEVEL : level ), msg );
-    $logRec.setSourceClassName( callclass );
-    $logRec.setSourceMethodName( callmethod );
+    
+    StackWalker.StackFrame $caller = getCaller();
+    $logRec.setSourceClassName( $caller == null ? strUNKNOWN : $caller.getClassName() );
+    $logRec.setSourceMethodName( $caller == null ? strUNKNOWN : $caller.getMethodName() );
     
     return $logRec;
     
@@ -540,56 +599,44 @@ class PskLogger extends Logger
    * @param rec - {@link LogRecord} to send
    * @see Logger#log(LogRecord)
    */
-  private synchronized void sendRecord( LogRecord rec )
+  private void sendRecord( LogRecord rec )
   {
-    callclass = null ;
-    callmethod = null ;
-    
     super.log( rec );
     
   }// PskLogger.sendRecord()
   
   /**
-   * Get the name of the {@link Class} and <em>Method</em> that called {@link PskLogger}
+   * Get the <em>Method</em> that called {@link PskLogger} <br>
+   *   - ONLY called for a record that WILL be logged <br>
+   *   - the stream is lazy, so just the top few frames are walked, instead of filling in the whole stack trace
    * 
-   * @see Throwable#getStackTrace
-   * @see StackTraceElement#getClassName
-   * @see StackTraceElement#getMethodName
+   * @return the first frame NOT in {@link PskLogger}, OR null if none
+   * @see StackWalker#walk
    */
-  private void getCallerClassAndMethodName()
+  private static StackWalker.StackFrame getCaller()
   {
-    Throwable $t = new Throwable();
-    StackTraceElement[] $elementAr = $t.getStackTrace();
-    
-    if( $elementAr.length < 3 )
-    {
-      callclass = callmethod = strUNKNOWN ;
-    }
-    else
-    {
-      callclass = $elementAr[2].getClassName();
-      callmethod = $elementAr[2].getMethodName();
-    }
+    return WALKER.walk( $frames -> $frames.filter($f -> ! $f.getClassName().equals(myname())).findFirst().orElse(null) );
     
-  }// PskLogger.getCallerClassAndMethodName()
+  }// PskLogger.getCaller()
   
   /*
    *        F I E L D S
    ************************************************************************************************************ */
   
-  /** Class calling the Logger */
-  private String callclass = null ;
+  /** frames from the caller to {@link #getCaller}  */
+  private static final int CALLER_DEPTH = 6 ;
   
-  /** Method calling the Logger */
-  private String callmethod = null ;
+  /** finds the caller - expect to walk through no more than {@link #CALLER_DEPTH} frames  */
+  private static final StackWalker WALKER = StackWalker.getInstance( Collections.emptySet(), CALLER_DEPTH );
   
   /**
    * Store info from multiple {@link PskLogger#append} or {@link PskLogger#appendln} calls <br>
-   *   - i.e. do a 'bulk send'
+   *   - i.e. do a 'bulk send' <br>
+   *   - ONE buffer for each thread, so that games Solved or Graded in parallel do NOT mix their messages
    *   
    * @see StringBuilder
    */
-  private StringBuilder buffer = new StringBuilder( 1024 );
+  private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial( () -> new StringBuilder(1024) );
   
   /** default if cannot get method or class name */
   static final String strUNKNOWN = "unknown" ;
@@ -648,3 +695,414 @@ class PskFormatter extends Formatter
                      TAIL = "Pseudokeu END" + NLN   ;
   
 }// class PskFormatter
+
+/* ========================================================================================================================= */
+
+/**
+ * Pass {@link LogRecord}s to another {@link Handler} on a background thread <br>
+ *   - so the caller, e.g. the EDT or a solving thread, does NOT wait for the formatting OR the disk <br>
+ *   - records wait in a bounded, lock-free ring, and ONE writer thread takes them out <br>
+ *   - when the ring is full, the {@link Overflow} policy decides what happens to the record <br>
+ *   - {@link #close} writes ALL the waiting records, and is also called at shutdown
+ * 
+ * @author Mark Sattolo
+ * @see Handler
+ */
+class PskAsyncHandler extends Handler
+{
+  /** what to do with a record when the ring is full */
+  enum Overflow
+  {
+    /** wait for the writer to make room */
+    BLOCK,
+    /** lose the record */
+    DROP,
+    /** lose the record, then log how many were lost */
+    COUNT
+  }
+  
+ /*
+  *        C O N S T R U C T O R S
+  ************************************************************************************************************ */
+  
+  /**
+   * USUAL constructor - the capacity and overflow policy are the {@link LogManager} properties
+   * <code>mhs.pseudokeu.PskAsyncHandler.capacity</code> and <code>.overflow</code>, if present
+   * 
+   * @param target - gets the records, on the writer thread
+   */
+  PskAsyncHandler( final Handler target )
+  {
+    this( target, getCapacityProperty(), getOverflowProperty() );
+  }
+  
+  /**
+   * Start the writer thread
+   * 
+   * @param target - gets the records, on the writer thread
+   * @param capacity - max number of waiting records, rounded up to a power of 2
+   * @param policy - when the ring is full
+   */
+  PskAsyncHandler( final Handler target, final int capacity, final Overflow policy )
+  {
+    this.target = target ;
+    overflow = policy ;
+    
+    int $size = Integer.highestOneBit( Math.max(capacity, MIN_CAPACITY) - 1 ) << 1 ;
+    mask = $size - 1 ;
+    slots = new AtomicReferenceArray<>( $size );
+    sequence = new AtomicLongArray( $size );
+    for( int i=0; i < $size; i++ )
+      sequence.set( i, i );
+    
+    writer = new Thread( this::drain, "PskLogWriter" );
+    writer.setDaemon( true );
+    writer.start();
+    
+    Runtime.getRuntime().addShutdownHook( new Thread(this::close) );
+  }
+  
+ /*
+  *        M E T H O D S
+  *********************************************************************************************************** */
+  
+  // ===========================================================================================================
+  //  I N T E R F A C E
+  // ===========================================================================================================
+  
+  /**
+   * Put the record in the ring - does NOT format OR write anything
+   * 
+   * @param rec - {@link LogRecord} to write
+   */
+  @Override
+  public void publish( final LogRecord rec )
+  {
+    if( closed || ! isLoggable(rec) )
+      return ;
+    
+    // if NOT set, the caller is found from the stack, so it must be found on THIS thread
+    rec.getSourceClassName();
+    
+    while( ! offer(rec) )
+    {
+      if( (overflow != Overflow.BLOCK) || closed )
+      {
+        // once closed, a record is NEVER lost without being counted
+        if( (overflow == Overflow.COUNT) || closed )
+        {
+          dropped.incrementAndGet();
+          wakeWriter();
+        }
+        if( closed )
+          writeLate();
+        return ;
+      }
+      LockSupport.parkNanos( WAIT_NANOS );
+    }
+    
+    // the writer may have written its last records BEFORE this one was in the ring
+    if( closed )
+      writeLate();
+    
+  }// PskAsyncHandler.publish()
+  
+  /**
+   * Wait for the writer to write the records published so far, then flush the target
+   */
+  @Override
+  public void flush()
+  {
+    long $end = tail.get();
+    while( (head < $end) && writer.isAlive() )
+      LockSupport.parkNanos( WAIT_NANOS );
+    
+    target.flush();
+    
+  }// PskAsyncHandler.flush()
+  
+  /**
+   * Stop the writer once it has written ALL the waiting records, then close the target <br>
+   *   - may be called more than once, e.g. by {@link LogManager#reset} AND the shutdown hook
+   */
+  @Override
+  public void close()
+  {
+    synchronized( this )
+    {
+      if( closed )
+        return ;
+      closed = true ;
+    }
+    
+    LockSupport.unpark( writer );
+    try
+    {
+      writer.join( CLOSE_WAIT_MSECS );
+    }
+    catch( InterruptedException ie )
+    {
+      Thread.currentThread().interrupt();
+    }
+    
+    // records published while the writer was finishing
+    synchronized( this )
+    {
+      writeAll();
+      target.close();
+      targetClosed = true ;
+    }
+    
+  }// PskAsyncHandler.close()
+  
+  // ===========================================================================================================
+  //  P R I V A T E
+  // ===========================================================================================================
+  
+  /**
+   * Claim the next free slot and put the record in it - any number of threads may call this at once
+   * 
+   * @param rec - {@link LogRecord} to add
+   * @return false if the ring is full
+   */
+  private boolean offer( final LogRecord rec )
+  {
+    long $pos = tail.get();
+    int $slot ;
+    for(;;)
+    {
+      $slot = (int)( $pos & mask );
+      long $diff = sequence.get( $slot ) - $pos ;
+      if( $diff == 0 )
+      {
+        if( tail.compareAndSet($pos, $pos + 1) )
+          break ;
+        $pos = tail.get();
+      }
+      else if( $diff < 0 )
+          return false ; // the writer has NOT taken the record from a lap ago
+      else
+          $pos = tail.get(); // another thread claimed this slot
+    }
+    
+    slots.set( $slot, rec );
+    sequence.set( $slot, $pos + 1 ); // the writer can take it now
+    wakeWriter();
+    return true ;
+    
+  }// PskAsyncHandler.offer()
+  
+  /**
+   * Take the oldest record from the ring - ONLY called while holding the lock of this handler
+   * 
+   * @return the record, OR null if none is ready
+   */
+  private LogRecord poll()
+  {
+    int $slot = (int)( head & mask );
+    if( sequence.get($slot) != head + 1 )
+      return null ;
+    
+    LogRecord $rec = slots.get( $slot );
+    slots.set( $slot, null );
+    sequence.set( $slot, head + mask + 1 ); // free for the next lap
+    head++ ;
+    
+    return $rec ;
+    
+  }// PskAsyncHandler.poll()
+  
+  /**
+   * Body of the writer thread: write the waiting records, flush the target when there are none
+   */
+  private void drain()
+  {
+    boolean $wrote = false ;
+    while( ! closed )
+    {
+      if( writeAll() > 0 )
+        $wrote = true ;
+      else
+      {
+        if( $wrote )
+          target.flush();
+        $wrote = false ;
+        
+        // publishers ONLY unpark an idle writer, so look again AFTER saying so, in case one just missed it
+        idle = true ;
+        if( !closed && !isReady() )
+          LockSupport.park( this );
+        idle = false ;
+      }
+    }
+    
+    // closed: write what is left
+    writeAll();
+    target.flush();
+    
+  }// PskAsyncHandler.drain()
+  
+  /**
+   * @return true if the writer has something to do: the oldest record is ready, OR records were lost
+   */
+  private boolean isReady()
+  {
+    return( (sequence.get((int)(head & mask)) == head + 1) || (dropped.get() > 0) );
+  }
+  
+  /** Unpark the writer if it is waiting for records */
+  private void wakeWriter()
+  {
+    if( idle )
+      LockSupport.unpark( writer );
+  }
+  
+  /**
+   * Write ALL the records that are ready - the writer, {@link #close} AND {@link #writeLate} take turns
+   * 
+   * @return number written
+   */
+  private synchronized int writeAll()
+  {
+    int $count = 0 ;
+    LogRecord $rec ;
+    while( ($rec = poll()) != null )
+    {
+      write( $rec );
+      $count++ ;
+    }
+    
+    long $lost = dropped.getAndSet( 0 );
+    if( $lost > 0 )
+    {
+      $rec = new LogRecord( Level.WARNING, "LOST " + $lost + " log records because the ring was full" );
+      $rec.setSourceClassName( getClass().getName() );
+      $rec.setSourceMethodName( "publish" );
+      write( $rec );
+    }
+    
+    return $count ;
+    
+  }// PskAsyncHandler.writeAll()
+  
+  /**
+   * Write the records published while {@link #close} was running, as the writer may have stopped <br>
+   *   - once the target is closed they can ONLY be reported as lost
+   */
+  private synchronized void writeLate()
+  {
+    if( ! targetClosed )
+    {
+      writeAll();
+      target.flush();
+      return ;
+    }
+    
+    long $lost = dropped.getAndSet( 0 );
+    while( poll() != null )
+      $lost++ ;
+    
+    if( $lost > 0 )
+      reportError( "LOST " + $lost + " log records published after close", null, ErrorManager.WRITE_FAILURE );
+    
+  }// PskAsyncHandler.writeLate()
+  
+  /** @param rec - {@link LogRecord} to send to the target */
+  private void write( final LogRecord rec )
+  {
+    try
+    {
+      target.publish( rec );
+    }
+    catch( RuntimeException re )
+    {
+      reportError( "PROBLEM writing a log record", re, ErrorManager.WRITE_FAILURE );
+    }
+  }
+  
+  /** @return the capacity property, OR {@link #DEFAULT_CAPACITY} */
+  private static int getCapacityProperty()
+  {
+    String $prop = LogManager.getLogManager().getProperty( PskAsyncHandler.class.getName() + ".capacity" );
+    try
+    {
+      return( $prop == null ? DEFAULT_CAPACITY : Integer.parseInt($prop.trim()) );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "PskAsyncHandler: bad capacity '" + $prop + "'" );
+      return DEFAULT_CAPACITY ;
+    }
+  }
+  
+  /** @return the overflow property, OR {@link #DEFAULT_OVERFLOW} */
+  private static Overflow getOverflowProperty()
+  {
+    String $prop = LogManager.getLogManager().getProperty( PskAsyncHandler.class.getName() + ".overflow" );
+    try
+    {
+      return( $prop == null ? DEFAULT_OVERFLOW : Overflow.valueOf($prop.trim().toUpperCase()) );
+    }
+    catch( IllegalArgumentException iae )
+    {
+      System.err.println( "PskAsyncHandler: bad overflow policy '" + $prop + "'" );
+      return DEFAULT_OVERFLOW ;
+    }
+  }
+  
+  /*
+   *        F I E L D S
+   ************************************************************************************************************ */
+  
+  /** gets the records */
+  private final Handler target ;
+  
+  /** when the ring is full */
+  private final Overflow overflow ;
+  
+  /** the waiting records */
+  private final AtomicReferenceArray<LogRecord> slots ;
+  
+  /**
+   * for each slot, the position that may use it next <br>
+   *   - == position : free for a publisher <br>
+   *   - == position + 1 : has a record for the writer
+   */
+  private final AtomicLongArray sequence ;
+  
+  /** number of slots - 1 */
+  private final int mask ;
+  
+  /** position of the next record to publish */
+  private final AtomicLong tail = new AtomicLong();
+  
+  /** position of the next record to write - ONLY changed by the writer */
+  private volatile long head ;
+  
+  /** records lost since the last report, for {@link Overflow#COUNT} */
+  private final AtomicLong dropped = new AtomicLong();
+  
+  /** takes the records out of the ring */
+  private final Thread writer ;
+  
+  /** NO more records */
+  private volatile boolean closed ;
+  
+  /** the writer is parked, OR about to park, until a publisher unparks it */
+  private volatile boolean idle ;
+  
+  /** the target is closed, so late records can NOT be written - ONLY changed while holding the lock */
+  private boolean targetClosed ;
+  
+  /** default value */
+  static final int DEFAULT_CAPACITY = 8192 ,
+                       MIN_CAPACITY = 16 ,
+                   CLOSE_WAIT_MSECS = 5000 ;
+  
+  /** default policy */
+  static final Overflow DEFAULT_OVERFLOW = Overflow.BLOCK ;
+  
+  /** park time for a blocked publisher */
+  static final long WAIT_NANOS = 50000L ;
+  
+}// class PskAsyncHandler
@@ -0,0 +1,1907 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Vector;
+import java.util.logging.Level;
+
+import mhs.pseudokeu.Loader.SavedGame;
+
+/**
+ * The model of a game: the {@link Square}s, their {@link Row}s, {@link Col}s and {@link Zone}s,
+ * and ALL the logical Solving techniques <br>
+ * - NO Swing, painting or timers, so a full logical solve can run in a tight loop, e.g. to grade games <br>
+ * - the {@link Grid} displays a subclass of this and overrides the hooks which have GUI side effects
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Grid
+ */
+class LogicGrid
+{
+  /*
+   *            I N N E R    C L A S S E S
+  *************************************************************************************************************/
+  
+  /**
+   *  Handles the information needed to use Color Chains for Solving
+   *  
+   *  @author Mark Sattolo
+   *  
+   *  @see LogicGrid#colorChain
+   *  @see LogicGrid#findColorChainVal
+   */
+  class ColorChain
+  {
+    /** sized from the enclosing {@link LogicGrid}, so any grid length is supported */
+    final int maxSqrs = gridLength + 1 ;
+    
+    /** my index in {@link LogicGrid#colorChain}[]  */
+    private final int myColor ;
+    
+    /** keep track of duplicate Groups  */
+    private boolean duplicate ;
+    
+    private boolean[] myRows ;
+    private boolean[] myCols ;
+    private boolean[] myZones ;
+    
+    /** store my Squares  */
+    private Vector<Square> sqrs ;
+    
+    /**
+     *  CONSTRUCTOR - create new row, col, zone, Square arrays
+     *  @param clr - assign to {@link #myColor}
+     */
+    ColorChain( int clr )
+    {
+      if( (clr <= NO_COLOR) || (clr >=  NUM_COLOR_CHAINS) )
+      {
+        logger.warning( "BAD Color index received!" );
+        myColor = 0 ;
+      }
+      else
+        myColor = clr ;
+      
+      myRows = new boolean[ maxSqrs ] ;
+      myCols = new boolean[ maxSqrs ] ;
+      myZones = new boolean[ maxSqrs ] ;
+      
+      sqrs = new Vector<>( maxSqrs );
+    }
+    
+    /** Reset all mutable fields to default values  */
+    void reset()
+    {
+      duplicate = false ;
+      
+      for( int i=0; i < maxSqrs; i++ )
+      {
+        myRows[i] = false ;
+        myCols[i] = false ;
+        myZones[i] = false ;
+      }
+      
+      sqrs.removeAllElements() ;
+    
+    }// ColorChain.reset()
+    
+    /** Add a {@link Square} to {@link #sqrs}
+     * @param sqr - the Square
+     * @return success or failure
+     * @see LogicGrid#buildColorChain
+     */
+    boolean add( Square sqr )
+    {
+      if( sqrs.size() >= maxSqrs )
+      {
+        logger.warning( "colorChain[" + chainName[myColor] + "]: FULL!" );
+        return false ;
+      }
+      
+      if( sqr.inColorChain() )
+      {
+        logger.warning( "Sqr " + sqr.strGridPosn() + " is ALREADY in A Color Chain!" );
+        return false ;
+      }
+      
+      logger.info( () -> "colorChain[" + chainName[myColor] + "]: ADDING Sqr " + sqr.strGridPosn() );
+      
+      int currentRow  = sqr.getRowIndex();
+      int currentCol  = sqr.getColIndex();
+      int currentZone = sqr.getZoneIndex();
+      
+      if( myRows[currentRow] )
+        duplicate = true ;
+      else
+        myRows[currentRow] = true ;
+      
+      if( myCols[currentCol] )
+        duplicate = true ;
+      else
+        myCols[currentCol] = true ;
+      
+      if( myZones[currentZone] )
+        duplicate = true ;
+      else
+        myZones[currentZone] = true ;
+      
+      sqr.putInChain( myColor );
+      sqrs.add( sqr );
+      
+      return true ;
+    
+    }// ColorChain.add()
+    
+    /** @return {@link #duplicate} */
+    boolean checkForDuplicateGrps() { return duplicate ; }
+    
+    /** Set EACH of my {@link Square}s to a single possible value
+     *  @param v - value to set  */
+    void setSqrsToPossibleVal( int v )
+    {
+      for( Square s : sqrs )
+      {
+        for( int u=1; u <= gridLength; u++ )
+        {
+          if( (u != v) && s.canBeVal(u) )
+            s.removePossibleVal( u );
+        }
+      }
+    
+    }// ColorChain.setSqrsToVal()
+    
+    /** @return {@link #myColor}  */
+    int getColor()  { return myColor ; }
+    /** @return number of Squares  */
+    int getSize()  { return sqrs.size() ; }
+    
+    /** @param i - index
+     * @return {@link #myRows}[i]  */
+    boolean getRow(int i) { return myRows[i] ; }
+    /** @param i - index
+     * @return {@link #myCols}[i]  */
+    boolean getCol(int i) { return myCols[i] ; }
+    /** @param i - index 
+     * @return {@link #myZones}[i]  */
+    boolean getZone(int i) { return myZones[i] ; }
+    
+    /**
+     *  Show the fields of {@link ColorChain}
+     *  @param level - {@link Level} to display at
+     *  @param msg - additional info
+     */
+    void display( Level level, String msg )
+    {
+      logger.append( "\n colorChain[" + chainName[myColor] + "]: " + sqrs.size() + " Sqrs (" + msg + "): " );
+      
+      for( Square s : sqrs )
+        logger.append( s.strGridPosn() + "  " );
+      
+      logger.append( "\n" );
+      logger.send( level );
+    }
+  
+  }/* INNER CLASS ColorChain */
+  
+  /**
+   *  The logical Solving techniques, in the default order of {@link LogicGrid#schedule}, easiest first <br>
+   *  - the level of the hardest technique needed is the difficulty of a game, see {@link Grader}
+   *  
+   *  @see LogicGrid#runTechnique
+   */
+  enum Technique
+  {
+    /** a Square which has ONLY 1 possible value because ALL the other Squares in one of its Groups
+     *  CANNOT be that value [aka "Hidden Single"]  */
+    GROUP_SINGLE( "Group Singles", Loader.EASY, true ),
+    
+    /** a Square which can ONLY be 1 value because ALL the other possible values are in
+     *  at least 1 of its Group Squares [aka "Naked Single"]  */
+    SQUARE_SINGLE( "Square Singles", Loader.EASY, true ),
+    
+    /** a value which is already in the Grid gridLength-1 times, so there is ONLY 1 possible Square for the last one  */
+    GRID_SINGLE( "Grid Singles", Loader.EASY, true ),
+    
+    /** a possible value in a Zone is restricted to one row OR col, OR a possible value in a row or col
+     *  is restricted to one Zone [aka "Locked Candidates"]  */
+    LOCKED_VALS( "Locked Vals", Loader.MODERATE ),
+    
+    /** Square or Group Subsets of 2  */
+    PAIRS( "Pairs", Loader.MODERATE ),
+    
+    /** Square or Group Subsets of 3  */
+    TRIPLES( "Triples", Loader.HARD ),
+    
+    /** Fish of size 2 [aka "X-wing"]  */
+    RECTADS( "Rectads", Loader.HARD ),
+    
+    /** impossible rectangles [aka "Unique Rectangle"]  */
+    TETRADS( "Tetrads", Loader.HARD ),
+    
+    /** Square or Group Subsets of 4  */
+    QUADS( "Quads", Loader.HARD ),
+    
+    /** Square or Group Subsets of 5 or more - ONLY on Grids larger than 9x9  */
+    LARGE_SUBSETS( "Large Subsets", Loader.HARD ),
+    
+    /** [aka "XY-wing"]  */
+    ELADS( "Elads", Loader.PAINFUL ),
+    
+    /** Fish of size 3 [aka "Swordfish"]  */
+    HEXADS( "Hexads", Loader.PAINFUL ),
+    
+    /** Fish of size 4 [aka "Jellyfish"]  */
+    OCTADS( "Octads", Loader.PAINFUL ),
+    
+    /** 2-Color chains of ONE value  */
+    COLOR_CHAINS( "Color Chain Values", Loader.PAINFUL ),
+    
+    /** Alternating Inference Chains - the LAST resort  */
+    FORCING_CHAINS( "Forcing Chains", Loader.DEADLY );
+    
+    /**
+     *  @param name - for display
+     *  @param diff - level of difficulty
+     */
+    Technique( final String name, final int diff )
+    {
+      this( name, diff, false );
+    }
+    
+    /**
+     *  @param name - for display
+     *  @param diff - level of difficulty
+     *  @param places - sets a value, rather than just removing possible values
+     */
+    Technique( final String name, final int diff, final boolean places )
+    {
+      label = name ;
+      level = diff ;
+      placesValue = places ;
+    }
+    
+    /** for display  */
+    final String label ;
+    
+    /** level of difficulty of a game that needs this technique, {@link Loader#EASY} to {@link Loader#DEADLY}  */
+    final int level ;
+    
+    /** does this technique set a value, rather than just remove possible values?  */
+    final boolean placesValue ;
+  
+  }/* ENUM Technique */
+ 
+ /*
+  *             C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  USUAL Constructor - creates ALL the {@link Square}s and {@link Group}s
+   *  
+   *  @param length - number of {@link Square}s on each side
+   *  @see Helper#isValidGridLength
+   */
+  LogicGrid( final int length )
+  {
+    logger = Launcher.logger ;
+    
+    if( Helper.isValidGridLength(length) )
+      gridLength = length ;
+    else
+    {
+      logger.warning( "INVALID grid length '" + length + "' - using " + Launcher.INITIAL_GRID_LENGTH );
+      gridLength = Launcher.INITIAL_GRID_LENGTH ;
+    }
+    
+    totalSqrs = gridLength * gridLength ;
+    
+    zoneLength = (int)Math.round( Math.sqrt(gridLength) );
+    
+    colorChain = new ColorChain[ NUM_COLOR_CHAINS ];
+    
+    initSqrsAndGroups();
+    
+    forcingChain = new ForcingChain( this );
+    
+    clear();
+  
+  }// LogicGrid CONSTRUCTOR
+ 
+ /*
+  *              M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N I T I A L I Z A T I O N
+ // ===========================================================================================================
+  
+  /**
+   *  Initialization of the {@link Row}s, {@link Col}s, {@link Zone}s & {@link Square}s <br>
+   *  - called by {@link #LogicGrid(int)}
+   */
+  private final void initSqrsAndGroups()
+  {
+    logger.logInit();
+    
+    // create each Square in the Grid
+    int i, j ;
+    sqrs2dArray = new Square[ gridLength ][ gridLength ];
+    for( i=0; i < gridLength; i++ )
+      for( j=0; j < gridLength; j++ )
+        sqrs2dArray[i][j] = new Square( this );
+    
+    // Create each Group - Group constructor will set the Group's references to its Squares
+    zones = new Zone[ gridLength ];
+     rows = new Row[ gridLength ];
+     cols = new Col[ gridLength ];
+    for( i=0; i < gridLength; i++ )
+    {
+      zones[i] = new Zone( this, i, (i/zoneLength)*zoneLength, (i%zoneLength)*zoneLength );
+       rows[i] = new  Row( this, i, i, 0 );
+       cols[i] = new  Col( this, i, 0, i );
+    }
+    
+    // Now that the Groups are set, we can tell each Square which Groups it is a part of
+    for( i=0; i < gridLength; i++ )
+      for( j=0; j < gridLength; j++ )
+        sqrs2dArray[i][j].setGroups( rows[i], cols[j], zones[zoneLength*(i/zoneLength) + (j/zoneLength)] );
+  
+  }// LogicGrid.initSqrsAndGroups()
+ 
+ // ===========================================================================================================
+ //                             I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Clear the model, then set the FIXED values of a {@link SavedGame}
+   *  
+   *  @param game - to load
+   *  @return false if the game is null, the wrong size, OR has conflicting values
+   */
+  boolean loadGame( final SavedGame game )
+  {
+    if( game == null )
+    {
+      logger.severe( "Passed a null SavedGame!!??" );
+      return false ;
+    }
+    
+    if( game.getLength() != gridLength )
+    {
+      logger.warning( "Game length " + game.getLength() + " does NOT match grid length " + gridLength );
+      return false ;
+    }
+    
+    clear();
+    
+    int $newval ;
+    for( int row=0; row < gridLength; row++ )
+      for( int col=0; col < gridLength; col++ )
+      {
+        $newval = game.getValue( row, col );
+        if( $newval != SqrTypes.BLANK_VAL )
+        {
+          activeSqr = sqrs2dArray[row][col] ;
+          activeSqr.newValue( $newval, false );
+          activeSqr.setFixed();
+        }
+      }
+    
+    return( nConflicts == 0 );
+  
+  }// LogicGrid.loadGame()
+  
+  /**
+   *  Run {@link #solveStep} until the game is solved OR NO technique can make any more progress <br>
+   *  - does NOT use the solution from the {@link Solver}
+   *  
+   *  @return number of {@link Square}s solved
+   *  @see #isSolved
+   */
+  int solve()
+  {
+    int $solved = 0 ;
+    
+    while( (numBlankSqrs > 0) && solveStep() )
+      $solved++ ;
+    
+    return $solved ;
+  
+  }// LogicGrid.solve()
+  
+  /**
+   *  Use the logical techniques, in the order of {@link #schedule}, to find and set the value of ONE {@link Square} <br>
+   *  - called by {@link #solve} OR {@link Grid#solveOneSqr} <br>
+   *  - after ANY technique removes possible values, start again with the easiest one
+   *  
+   *  @return true if a Square was solved, false if stuck
+   *  
+   *  @see #runTechnique
+   */
+  boolean solveStep()
+  {
+    boolean $moreSolving = true ;
+    
+    while( $moreSolving )
+    {
+      $moreSolving = false ;
+      
+      for( Technique $tech : schedule )
+        if( runTechnique($tech) )
+        {
+          if( $tech.placesValue )
+            return true ;
+          
+          $moreSolving = true ;
+          break ;
+        }
+    }
+    
+    // stuck - NO technique can make any more progress
+    return false ;
+  
+  }// LogicGrid.solveStep()
+  
+  /**
+   *  Run ONE technique and record its statistics <br>
+   *  - called by {@link #solveStep} <br>
+   *  - SKIP the technique if NO possible value has changed since it last ran, as it would find nothing new <br>
+   *  - techniques which check one Group at a time ALSO skip the Groups that have NOT changed
+   *  
+   *  @param tech - to run
+   *  @return success or failure
+   *  
+   *  @see Group#changedSince
+   */
+  private boolean runTechnique( final Technique tech )
+  {
+    int $t = tech.ordinal();
+    long $since = lastScan[$t] ;
+    
+    if( $since == changeCount )
+    {
+      techSkips[$t]++ ;
+      return false ;
+    }
+    
+    lastScan[$t] = changeCount ;
+    techCalls[$t]++ ;
+    long $start = System.nanoTime();
+    
+    boolean $result = false ;
+    switch( tech )
+    {
+      case GROUP_SINGLE:    $result = findGrpSingle();                break ;
+      case SQUARE_SINGLE:   $result = findSqrSingle();                break ;
+      case GRID_SINGLE:     $result = findGridSingle();               break ;
+      case LOCKED_VALS:     $result = findLockedVals( $since );       break ;
+      case PAIRS:           $result = findSubsets( PAIR_SIZE, $since );break ;
+      case TRIPLES:         $result = findSubsets( TRIPLE_SIZE, $since );break ;
+      case RECTADS:         $result = findFish( RECTAD_SIZE );        break ;
+      case TETRADS:         $result = findTetrads();                  break ;
+      case QUADS:           $result = findSubsets( QUAD_SIZE, $since );break ;
+      case LARGE_SUBSETS:   $result = findLargeSubsets( $since );     break ;
+      case ELADS:           $result = findElad();                     break ;
+      case HEXADS:          $result = findFish( HEXAD_SIZE );         break ;
+      case OCTADS:          $result = findFish( OCTAD_SIZE );         break ;
+      case COLOR_CHAINS:    $result = findColorChainVal();            break ;
+      case FORCING_CHAINS:  $result = findForcingChain();             break ;
+    }
+    
+    techNanos[$t] += System.nanoTime() - $start ;
+    
+    if( $result )
+      techHits[$t]++ ;
+    else
+      logger.info( () -> "NO MORE " + tech.label + " can be found in this game state." );
+    
+    return $result ;
+  
+  }// LogicGrid.runTechnique()
+  
+  /**
+   *  Note a change in the possible values of a {@link Square} <br>
+   *  - called by {@link Square} BEFORE it updates its {@link Group}s
+   *  
+   *  @param added - if ANY possible value was ADDED, e.g. by an Undo, then a technique may find something
+   *                 even in a Group that has NOT changed, so ALL the techniques must run again
+   *  @see Group#updateSqrCanBeVals
+   */
+  void noteCandidateChange( final boolean added )
+  {
+    changeCount++ ;
+    
+    if( added )
+      resetScans();
+  
+  }// LogicGrid.noteCandidateChange()
+  
+  /** @return number of changes to possible values so far  */
+  long getChangeCount() { return changeCount ;}
+  
+  /** Make EVERY technique run at the next {@link #solveStep}  */
+  private void resetScans()
+  {
+    Arrays.fill( lastScan, NEVER_SCANNED );
+  
+  }// LogicGrid.resetScans()
+  
+  /**
+   *  Change the order in which {@link #solveStep} tries the techniques
+   *  
+   *  @param order - techniques to use, easiest first; any technique NOT included is NOT used
+   */
+  void setSchedule( final Technique... order )
+  {
+    if( (order == null) || (order.length == 0) )
+    {
+      logger.warning( "Passed an EMPTY schedule - keeping the current one." );
+      return ;
+    }
+    
+    schedule = order.clone();
+  
+  }// LogicGrid.setSchedule()
+  
+  /** @param tech - technique
+   *  @return number of times it ran  */
+  int getNumCalls( final Technique tech ) { return techCalls[ tech.ordinal() ]; }
+  
+  /** @param tech - technique
+   *  @return number of times it found something  */
+  int getNumHits( final Technique tech ) { return techHits[ tech.ordinal() ]; }
+  
+  /** @param tech - technique
+   *  @return number of times it was skipped as NOTHING had changed  */
+  int getNumSkips( final Technique tech ) { return techSkips[ tech.ordinal() ]; }
+  
+  /** @param tech - technique
+   *  @return total time it has run, in nanoseconds  */
+  long getNanos( final Technique tech ) { return techNanos[ tech.ordinal() ]; }
+  
+  /** Set the statistics of ALL the techniques to zero  */
+  void resetStats()
+  {
+    Arrays.fill( techCalls, 0 );
+    Arrays.fill( techHits, 0 );
+    Arrays.fill( techSkips, 0 );
+    Arrays.fill( techNanos, 0L );
+  
+  }// LogicGrid.resetStats()
+  
+  /**
+   *  Show the statistics of each technique
+   *  @param level - {@link Level} to display at
+   */
+  void displayStats( final Level level )
+  {
+    logger.append( String.format("\n %-20s %8s %8s %8s %12s %10s", "technique", "calls", "hits", "skips", "usecs", "usecs/hit") );
+    
+    for( Technique $tech : Technique.values() )
+    {
+      int $t = $tech.ordinal();
+      logger.append( String.format("\n %-20s %8d %8d %8d %12d %10d", $tech.label, techCalls[$t], techHits[$t], techSkips[$t],
+                                   techNanos[$t] / 1000L, (techHits[$t] > 0) ? techNanos[$t] / 1000L / techHits[$t] : 0) );
+    }
+    
+    logger.send( level );
+  
+  }// LogicGrid.displayStats()
+  
+  /**
+   *  Reset ALL the {@link Square}s and {@link Group}s
+   *  
+   *  @see Grid#clear
+   */
+  void clear()
+  {
+    for( int i=0; i < gridLength; i++ )
+    {
+      zones[i].clear();
+       rows[i].clear();
+       cols[i].clear();
+      
+      for( int j=0; j < gridLength; j++ )
+        sqrs2dArray[i][j].clear();
+    }
+    
+    activeSqr = null ;
+    
+    numBlankSqrs = totalSqrs ;
+    nConflicts = 0 ;
+    
+    resetScans();
+  
+  }// LogicGrid.clear()
+  
+  /**
+   *  Save the current state in a {@link GridSnapshot} from the pool, OR a new one if the pool is empty
+   *  
+   *  @return the snapshot - give it back with {@link #releaseSnapshot} when done
+   *  @see #restoreSnapshot
+   */
+  GridSnapshot takeSnapshot()
+  {
+    GridSnapshot $snap = snapshotPool.pollFirst();
+    if( $snap == null )
+      $snap = new GridSnapshot( gridLength );
+    
+    saveState( $snap );
+    return $snap ;
+  
+  }// LogicGrid.takeSnapshot()
+  
+  /**
+   *  Go back to the state saved in a snapshot - the snapshot is NOT changed, so can be restored again
+   *  
+   *  @param snap - from {@link #takeSnapshot}
+   *  @return false if the snapshot is null OR NOT from a grid of my length
+   */
+  boolean restoreSnapshot( final GridSnapshot snap )
+  {
+    if( (snap == null) || (snap.getLength() != gridLength) )
+    {
+      logger.severe( "Passed a null OR WRONG size GridSnapshot!!??" );
+      return false ;
+    }
+    
+    restoreState( snap );
+    return true ;
+  
+  }// LogicGrid.restoreSnapshot()
+  
+  /**
+   *  Give a snapshot back to the pool for the next {@link #takeSnapshot}
+   *  
+   *  @param snap - from {@link #takeSnapshot}, must NOT be used again
+   */
+  void releaseSnapshot( final GridSnapshot snap )
+  {
+    if( (snap != null) && (snap.getLength() == gridLength) && (snapshotPool.size() < MAX_POOLED_SNAPSHOTS) )
+      snapshotPool.addFirst( snap );
+  
+  }// LogicGrid.releaseSnapshot()
+  
+  /**
+   *  Copy the state of EVERY {@link Square} and {@link Group}, and my counts, into a snapshot
+   *  
+   *  @param snap - to copy into, sized for my length
+   *  @see Square#saveState
+   *  @see Group#saveState
+   */
+  void saveState( final GridSnapshot snap )
+  {
+    for( int i=0; i < gridLength; i++ )
+    {
+      rows[i].saveState( snap, i );
+      cols[i].saveState( snap, gridLength + i );
+      zones[i].saveState( snap, (2 * gridLength) + i );
+      
+      for( int j=0; j < gridLength; j++ )
+        sqrs2dArray[i][j].saveState( snap, (i * gridLength) + j );
+    }
+    
+    snap.numBlankSqrs = numBlankSqrs ;
+    snap.nConflicts = nConflicts ;
+    snap.changeCount = changeCount ;
+    System.arraycopy( lastScan, 0, snap.lastScan, 0, lastScan.length );
+  
+  }// LogicGrid.saveState()
+  
+  /**
+   *  Set the state of EVERY {@link Square} and {@link Group}, and my counts, from a snapshot <br>
+   *  - the Color Chains are ONLY built during {@link #findColorChainVal}, so are just reset;
+   *    the chain color of each Square is in the snapshot <br>
+   *  - the blank count goes through {@link #incBlankCount} so the {@link Grid} can update its display
+   *  
+   *  @param snap - to copy from, sized for my length
+   *  @see Square#restoreState
+   *  @see Group#restoreState
+   */
+  void restoreState( final GridSnapshot snap )
+  {
+    for( int i=0; i < gridLength; i++ )
+    {
+      rows[i].restoreState( snap, i );
+      cols[i].restoreState( snap, gridLength + i );
+      zones[i].restoreState( snap, (2 * gridLength) + i );
+      
+      for( int j=0; j < gridLength; j++ )
+        sqrs2dArray[i][j].restoreState( snap, (i * gridLength) + j );
+    }
+    
+    if( colorChainInit )
+      resetColorChains( false );
+    
+    activeSqr = null ;
+    nConflicts = snap.nConflicts ;
+    changeCount = snap.changeCount ;
+    System.arraycopy( snap.lastScan, 0, lastScan, 0, lastScan.length );
+    
+    incBlankCount( snap.numBlankSqrs - numBlankSqrs );
+  
+  }// LogicGrid.restoreState()
+  
+  /**
+   *  Rebuild the Sqr indices for each value in EVERY Group <br>
+   *  - each new value normally updates ONLY the values of the changed Squares in their Groups
+   *  
+   *  @see Group#setSqrsCanBeVal
+   *  @see #checkSqrsCanBeVal
+   */
+  void setSqrsCanBeVal()
+  {
+    for( int i=0; i < gridLength; i++ )
+    {
+      zones[i].setSqrsCanBeVal();
+       rows[i].setSqrsCanBeVal();
+       cols[i].setSqrsCanBeVal();
+    }
+    
+    resetScans();
+  
+  }// LogicGrid.setSqrsCanBeVal()
+  
+  /**
+   *  <b>DEBUG</b>: check the Sqr indices for each value in each Group against a full recompute,
+   *  and rebuild them if there is ANY difference <br>
+   *  - called by {@link Square#newValue} in {@link Launcher#DEBUG} mode
+   *  
+   *  @return true if ALL the Groups were correct
+   *  @see Group#checkSqrsCanBeVal
+   */
+  boolean checkSqrsCanBeVal()
+  {
+    boolean $match = true ;
+    
+    for( int i=0; i < gridLength; i++ )
+    {
+      $match &= zones[i].checkSqrsCanBeVal();
+      $match &=  rows[i].checkSqrsCanBeVal();
+      $match &=  cols[i].checkSqrsCanBeVal();
+    }
+    
+    if( ! $match )
+    {
+      logger.severe( "Incremental Group values are WRONG - rebuild ALL!" );
+      setSqrsCanBeVal();
+    }
+    
+    return $match ;
+  
+  }// LogicGrid.checkSqrsCanBeVal()
+  
+  /**
+   *  modify {@link #numBlankSqrs}
+   *  
+   *  @param diff - the +ve or -ve amount to increment/decrement
+   *  @see Square#adjustType
+   */
+  void incBlankCount( final int diff )
+  {
+    logger.config( numBlankSqrs + " >> " + (numBlankSqrs + diff) + " ; numConflicts == " + nConflicts );
+    
+    numBlankSqrs += diff ;
+  
+  }// LogicGrid.incBlankCount()
+  
+  /**
+   *  Increment (or decrement) {@link #nConflicts}
+   *  
+   *  @param inc - the amount to increment, +ve or -ve
+   *  @param sqr - {@link Square} that made the call
+   *  @return success or failure
+   */
+  boolean incConflicts( final int inc, final Square sqr )
+  {
+    if( sqr == null )
+    {
+      logger.severe( "Passed a null Square!!??" );
+      return false ;
+    }
+    
+    nConflicts += inc ;
+    logger.severe( ( inc > 0 ? "INCREASE" : "DECREASE" ) + " to '" + nConflicts + "' for Sqr " + sqr.strGridPosn() );
+    
+    return true ;
+  
+  }// LogicGrid.incConflicts()
+  
+  /**
+   *  The {@link Square} whose value is changing, which its {@link Group}s must NOT adjust again <br>
+   *  - the {@link Grid} returns the Square selected by the user
+   *  
+   *  @return Square
+   *  @see Group#notifySqrsOfValChange
+   */
+  Square getActiveSqr()
+  {
+    return activeSqr ;
+  }
+  
+  /** @return true if ALL the {@link Square}s have values and there are NO conflicts  */
+  boolean isSolved()
+  { return( (numBlankSqrs == 0) && (nConflicts == 0) ); }
+  
+  /**
+   *  Compare the values in the grid to a known solution
+   *  
+   *  @param solution - values at [row * gridLength + col], e.g. from {@link Solver#countSolutions(SavedGame,int,int[])}
+   *  @return the first {@link Square} with a value that is NOT in the solution, OR null if there is none
+   */
+  Square findWrongSqr( final int[] solution )
+  {
+    for( Square[] r : sqrs2dArray )
+      for( Square s : r )
+        if( (s.getValue() != SqrTypes.BLANK_VAL)
+            && (s.getValue() != solution[ s.getRowIndex() * gridLength + s.getColIndex() ]) )
+          return s ;
+    
+    return null ;
+  
+  }// LogicGrid.findWrongSqr()
+  
+  /** @return boolean indicating if {@link #nConflicts} is GT zero  */
+  boolean hasConflicts()
+  { return( nConflicts > 0 ); }
+  
+  /** @return {@link #nConflicts}  */
+  int getNumConflicts()
+  { return nConflicts ; }
+  
+  /** @return {@link #numBlankSqrs}  */
+  int getNumBlankSqrs()
+  { return numBlankSqrs ; }
+  
+  /** @return int {@link #gridLength}  */
+  int getLength()
+  { return gridLength; }
+  
+  /** @return number of {@link Square}s with values (FIXED or GUESS)  */
+  int getNumValues()
+  { return( totalSqrs - numBlankSqrs ); }
+  
+  /** @return {@link #totalSqrs}  */
+  int getTotalSqrs()
+  { return totalSqrs ;}
+  
+  /** @return {@link #zoneLength}  */
+  int getZoneLength()
+  { return zoneLength ;}
+  
+  /** @return the value of each {@link Square} in row order, BLANK if not solved  */
+  int[] getValues()
+  {
+    int[] $values = new int[ totalSqrs ];
+    
+    for( int i=0; i < gridLength; i++ )
+      for( int j=0; j < gridLength; j++ )
+        $values[ i*gridLength + j ] = sqrs2dArray[i][j].isOpen() ? SqrTypes.BLANK_VAL : sqrs2dArray[i][j].getValue() ;
+    
+    return $values ;
+  }
+ 
+ // ===========================================================================================================
+ //                              S O L V I N G
+ // ===========================================================================================================
+  
+  /**
+   *  Find a Group that has a missing value which can ONLY go in 1 of its open Squares,
+   *  as the other Squares in this Group have that value in a Group Square,
+   *  then set this Square to that value [aka "Hidden Single"]<br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   *  @see Group#findSingleSqrForVal
+   */
+  private boolean findGrpSingle()
+  {
+    logger.info( myname() );
+    
+    Square $sqr ;
+    
+    for( int i=0; i < gridLength; i++ )
+    {
+      $sqr = zones[i].findSingleSqrForVal();
+      if( $sqr == null )
+      {
+        $sqr = rows[i].findSingleSqrForVal();
+        if( $sqr == null )
+          $sqr = cols[i].findSingleSqrForVal();
+      }
+      
+      if( $sqr != null )
+        return setAutoSolvedSqr( $sqr );
+    
+    }// for( groups )
+    
+    return false ;
+  
+  }// LogicGrid.findGrpSingle()
+  
+  /**
+   *  Find a Square that has only 1 possible value because of the values
+   *  in Group Squares and set this Square to that value [aka "Naked Single"]<br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   *  @see Square#findSingleVal
+   */
+  private boolean findSqrSingle()
+  {
+    logger.info( myname() );
+    
+    for( Square[] r : sqrs2dArray )
+      for( Square s : r )
+        if( s.findSingleVal() )
+          return setAutoSolvedSqr( s );
+    
+    return false ;
+  
+  }// LogicGrid.findSqrSingle()
+  
+  /**
+   *  Find a value that is already in (gridLength - 1) Grid locations, so there is only 1 possible
+   *  Square remaining which can have the last token of that value <br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   */
+  private boolean findGridSingle()
+  {
+    logger.info( myname() );
+    
+    int $count, $posn=0 ;
+    for( int v=1; v <= gridLength; v++ )
+    {
+      $count = 0 ;
+      for( Row r : rows )
+        if( r.nSqrsWithVal[v] == 0 )
+          $posn = r.getPosn() ;
+        else
+            $count++ ;
+      
+      if( $count == gridLength - 1 )
+      {
+        if( LogControl.info() ) logger.info( ">> Value " + v + " is in ALL rows except row[" + $posn + "]" );
+        for( Square s : sqrs2dArray[$posn] )
+          if( s.isOpen() && (s.numGrpSqrsWithVal(v) == 0) )
+          {
+            s.solvedValue = v ;
+            return setAutoSolvedSqr( s );
+          }
+      }
+    }
+    
+    return false ;
+  
+  }// LogicGrid.findGridSingle()
+  
+  /**
+   *  Find any locked values [aka "Locked Candidates"] in Groups and then re-check for any Solvable Squares <br>
+   *  - called by {@link #solveStep} OR {@link Launcher#setGridDebugKeyMap} Ctrl-V keystroke
+   *  
+   *  @return success or failure
+   *  @see Group#findLockedVals
+   */
+  boolean findLockedVals()
+  {
+    return findLockedVals( NEVER_SCANNED );
+  
+  }// LogicGrid.findLockedVals()
+  
+  /**
+   *  Find any locked values in the Groups that have changed <br>
+   *  - called by {@link #findLockedVals()} OR {@link #runTechnique}
+   *  
+   *  @param since - check ONLY the Groups changed after this count of changes
+   *  @return success or failure
+   */
+  private boolean findLockedVals( final long since )
+  {
+    boolean $result=false, $resZone=false, $resRow=false, $resCol=false ;
+    
+    for( int i=0; i < gridLength; i++ )
+    {
+      $resZone = zones[i].changedSince( since ) && zones[i].findLockedVals();
+      $resRow  =  rows[i].changedSince( since ) &&  rows[i].findLockedVals();
+      $resCol  =  cols[i].changedSince( since ) &&  cols[i].findLockedVals();
+      
+      if( ! $result )
+        $result = ( $resZone || $resRow || $resCol );
+    }
+    
+    //logger.info( "result == " + result );
+    return $result ;
+  
+  }// LogicGrid.findLockedVals()
+  
+  /**
+   *  Find any Square or Group Subsets of the given size in ALL the Groups <br>
+   *  - called by {@link #solveStep} <br>
+   *  - size 2 is Pairs, 3 is Triples, 4 is Quads
+   *  
+   *  @param size - number of Squares (values) in each Subset
+   *  @param since - check ONLY the Groups changed after this count of changes
+   *  @return success or failure
+   *  
+   *  @see Group#findSubsets
+   */
+  private boolean findSubsets( final int size, final long since )
+  {
+    boolean $zss, $rss, $css, $zgs, $rgs, $cgs, $result=false ;
+    
+    for( int i=0; i < gridLength; i++ )
+    {
+      $zss = zones[i].changedSince( since ) && zones[i].findSubsets( size, Group.SQUARE_BLOCKS );
+      $rss =  rows[i].changedSince( since ) &&  rows[i].findSubsets( size, Group.SQUARE_BLOCKS );
+      $css =  cols[i].changedSince( since ) &&  cols[i].findSubsets( size, Group.SQUARE_BLOCKS );
+      
+      $zgs = zones[i].changedSince( since ) && zones[i].findSubsets( size, Group.GROUP_BLOCKS );
+      $rgs =  rows[i].changedSince( since ) &&  rows[i].findSubsets( size, Group.GROUP_BLOCKS );
+      $cgs =  cols[i].changedSince( since ) &&  cols[i].findSubsets( size, Group.GROUP_BLOCKS );
+      
+      if( ! $result )
+        $result = ( $zss || $rss || $css || $zgs || $rgs || $cgs );
+    }
+    
+    return $result ;
+  
+  }// LogicGrid.findSubsets()
+  
+  /**
+   *  Find any Subsets LARGER than Quads, smallest first, up to half the length of the Grid <br>
+   *  - called by {@link #solveStep} <br>
+   *  - a larger Square Subset is always the complement of a smaller Group Subset, and vice versa,
+   *    so NEVER need to go past gridLength/2 <br>
+   *  - thus nothing to do on a 9x9 Grid <br>
+   *  - EVERY size is checked, even after a success, as the next call skips the Groups NOT changed since this one
+   *  
+   *  @param since - check ONLY the Groups changed after this count of changes
+   *  @return success or failure
+   */
+  private boolean findLargeSubsets( final long since )
+  {
+    boolean $result = false ;
+    
+    for( int n = QUAD_SIZE + 1; n <= gridLength/2; n++ )
+      if( findSubsets(n, since) )
+        $result = true ;
+    
+    return $result ;
+  
+  }// LogicGrid.findLargeSubsets()
+  
+  /**
+   *  For one value, <var>size</var> base rows (cols) each have only 2 to <var>size</var> Sqrs where the value can go,
+   *  and ALL these Sqrs are in just <var>size</var> cover cols (rows),
+   *  thus can REMOVE that value as a possibility from ALL the other open Sqrs in the cover cols (rows)
+   *  [aka "Fish": size 2 is a Rectad or "X-wing", 3 is a Hexad or "Swordfish", 4 is an Octad or "Jellyfish"]<br>
+   *  
+   *  If the base Sqrs ALSO have some extra Sqrs ('fins') which are ALL in ONE Zone,
+   *  then EITHER the Fish holds OR one of the fins has the value,
+   *  thus can REMOVE the value from the cover Sqrs which are in that Zone [aka "Finned Fish"]<br>
+   *  
+   *  <b>Find</b> any Fish of the given size in the Grid and process the values.<br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @param size - number of base rows (cols) in each Fish
+   *  @return success or failure
+   *  
+   *  @see #extendFish
+   */
+  private boolean findFish( final int size )
+  {
+    boolean $rowRes, $colRes, $result=false ;
+    
+    for( int v=1; v <= gridLength; v++ )
+    {
+      if( LogControl.info() ) logger.append( "Check val '" + v + "' for Fish of size " + size );
+      
+      $rowRes = extendFish( size, v, rows, cols, 0, 0, 0 );
+      $colRes = extendFish( size, v, cols, rows, 0, 0, 0 );
+      
+      if( ! $result )
+        $result = $rowRes || $colRes ;
+      
+      logger.send( Level.INFO );
+    }
+    
+    return $result ;
+  
+  }// LogicGrid.findFish()
+  
+  /**
+   *  Add each possible next base line to a partial Fish, then process the Fish if it is complete,
+   *  OR extend it again if it is not <br>
+   *  - called by {@link #findFish} and recursively <br>
+   *  - drops a partial Fish as soon as its Sqrs cover too many lines to leave room for fins in ONE Zone
+   *  
+   *  @param size - number of base lines in a complete Fish
+   *  @param val - value to check
+   *  @param base - rows OR cols
+   *  @param cover - cols OR rows
+   *  @param start - index of the first base line to try
+   *  @param lines - set of the base lines already in the Fish
+   *  @param union - set of the cover lines with a Sqr that can be <var>val</var> in those base lines
+   *  @return success or failure
+   */
+  private boolean extendFish( final int size, final int val, final Group[] base, final Group[] cover,
+                              final int start, final int lines, final int union )
+  {
+    boolean $interim = false, $result = false ;
+    int $need = size - CandidateSet.count( lines );
+    
+    // leave enough lines to complete the Fish
+    for( int i = start; i <= gridLength - $need; i++ )
+    {
+      if( base[i].nSqrsCanBeVal[val] < 2 )
+        continue ;
+      
+      int $union = union | base[i].sqrsCanBeVal[val] ;
+      
+      // prune - the fins could NOT fit in ONE Zone
+      if( CandidateSet.count($union) >= size + zoneLength )
+        continue ;
+      
+      int $lines = CandidateSet.with( lines, i );
+      if( $need > 1 )
+        $interim = extendFish( size, val, base, cover, i+1, $lines, $union );
+      else if( CandidateSet.count($union) == size )
+      {
+        logger.appendln( Level.INFO, () -> "\n\t FOUND a Fish for '" + val + "' in base " + Helper.displaySetBits($lines, gridLength, " ")
+                                           + "at cover " + Helper.displaySetBits($union, gridLength, " ") );
+        
+        $interim = false ;
+        for( int $c = $union; $c != 0; $c = CandidateSet.rest($c) )
+          if( cover[CandidateSet.first($c)].processFishVal(val, $lines) )
+            $interim = true ;
+      }
+      else if( CandidateSet.count($union) > size )
+        $interim = processFinnedFish( size, val, base, cover, $lines, $union );
+      
+      if( ! $result )
+        $result = $interim ;
+    }
+    
+    return $result ;
+  
+  }// LogicGrid.extendFish()
+  
+  /**
+   *  Try each way to split the cover lines of a Fish into <var>size</var> cover lines plus fins in ONE Zone <br>
+   *  - called by {@link #extendFish}
+   *  
+   *  @param size - number of base lines
+   *  @param val - value to check
+   *  @param base - rows OR cols
+   *  @param cover - cols OR rows
+   *  @param lines - set of the base lines
+   *  @param union - set of ALL the cover lines with a Sqr that can be <var>val</var> in the base lines
+   *  @return success or failure
+   */
+  private boolean processFinnedFish( final int size, final int val, final Group[] base, final Group[] cover,
+                                     final int lines, final int union )
+  {
+    boolean $result = false ;
+    
+    // the fins must ALL be in the cover lines of ONE band of Zones
+    for( int b=0; b < zoneLength; b++ )
+    {
+      int $band = CandidateSet.range( b*zoneLength, (b+1)*zoneLength - 1 );
+      int $inside = union & $band ;
+      int $need = size - CandidateSet.count( union & ~$band );
+      
+      // need at least one cover line in the band to remove anything, AND at least one fin
+      if( ($need < 1) || ($need >= CandidateSet.count($inside)) )
+        continue ;
+      
+      // each set of cover lines from inside the band - the rest of the band are the fins
+      for( int $extra = $inside; $extra != 0; $extra = ($extra - 1) & $inside )
+      {
+        if( CandidateSet.count($extra) != $need )
+          continue ;
+        
+        int $fins = $inside & ~$extra ;
+        
+        // which base lines have fins? - they must ALL be in ONE band too
+        int $finLines = 0 ;
+        for( int $l = lines; $l != 0; $l = CandidateSet.rest($l) )
+          if( (base[CandidateSet.first($l)].sqrsCanBeVal[val] & $fins) != 0 )
+            $finLines = CandidateSet.with( $finLines, CandidateSet.first($l) );
+        
+        int $finBand = CandidateSet.first( $finLines ) / zoneLength ;
+        int $baseBand = CandidateSet.range( $finBand*zoneLength, ($finBand+1)*zoneLength - 1 );
+        if( ! CandidateSet.isSubset($finLines, $baseBand) )
+          continue ;
+        
+        if( LogControl.info() )
+          logger.appendln( "\n\t FOUND a Finned Fish for '" + val + "' in base " + Helper.displaySetBits(lines, gridLength, " ")
+                           + "at cover " + Helper.displaySetBits((union & ~$band) | $extra, gridLength, " ")
+                           + "with fins " + Helper.displaySetBits($fins, gridLength, " ") );
+        
+        // ONLY the Sqrs in the fin Zone, and NOT in the base lines
+        int $keep = lines | ( CandidateSet.range(0, gridLength-1) & ~$baseBand );
+        for( int $c = $extra; $c != 0; $c = CandidateSet.rest($c) )
+          if( cover[CandidateSet.first($c)].processFishVal(val, $keep) )
+            $result = true ;
+      }
+    }
+    
+    return $result ;
+  
+  }// LogicGrid.processFinnedFish()
+  
+  /**
+   *  A Group contains 2 Sqrs with Pairs in the x,y + y,z pattern,
+   *  and in a separate Group of one of these Sqrs is a Sqr with an x,z Pair,
+   *  thus can REMOVE the x possibility from any open Sqr at the intersection row/cols
+   *  of the x,y and x,z Sqrs [aka "XY-wing"]<br>
+   *  
+   *  <b>Find</b> an Elad in the Grid and process the value.<br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   */
+  private boolean findElad()
+  {
+    int $bits2, $bits3, $res1, $res2, $val=0 ;
+     Row $row ;
+     Col $col ;
+    Zone $zone ;
+    Square $target = null ;
+    boolean $result = false ;
+    
+    logger.info( "\n Checking..." );
+    
+    // Search all Squares for possVals == 2, e.g. 'ab'
+    loop:
+    for( Square[] r : sqrs2dArray )
+      for( Square $s1 : r )
+        if( $s1.numPossibleVals() == 2 )
+        {
+          logger.appendln( Level.INFO, () -> "Check possible Sqr " + $s1.strGridPosn()
+                                             + " / PV == " + Helper.displaySetBits($s1.getPossibleVals(), gridLength, "") );
+          // if found, search group squares for possVals == 'ac' OR 'bc'
+           $row = $s1.getRow();
+           $col = $s1.getCol();
+          $zone = $s1.getZone();
+          
+          // CHECK ROW FOR SQR 2
+          for( Square $s2r : $row.mySqrs )
+            if( ($s2r.numPossibleVals() == 2) && ($s2r != $s1) )
+            {
+              logger.appendln( Level.INFO, () -> "\t Check possible Row Sqr2 " + $s2r.strGridPosn()
+                                                 + " / PV == " + Helper.displaySetBits($s2r.getPossibleVals(), gridLength, "") );
+              $res1 = $s1.getPossibleVals() | $s2r.getPossibleVals() ;
+              if( CandidateSet.count( $res1 ) == 3 )
+              {
+                $bits2 = $s2r.getPossibleVals() ^ $res1 ;
+                $bits3 =  $s1.getPossibleVals() ^ $res1 ;
+                $res2 = $bits2 | $bits3 ;
+                $val = CandidateSet.nth( $bits3, 1 );
+                
+                // if found, e.g. 'ac', search the 2 non-'ac' groups for 'bc'
+                // check col for Sqr 3
+                for( Square $s3c : $col.mySqrs )
+                  if( ($s3c.getPossibleVals() == $res2) && ($s3c != $s1) )
+                  {
+                    logger.appendln( "\t\t ! FOUND Col Sqr3 " + $s3c.strGridPosn()
+                                     + " / PV == " + Helper.displaySetBits($s3c.getPossibleVals(), gridLength, "") );
+                    $target = eladTarget( $s3c.getRowIndex(), $s2r.getColIndex(), $s2r, $s3c, $val );
+                    if( $target != null )
+                      break loop ;
+                  }
+                // check zone for Sqr 3
+                for( Square $s3z : $zone.mySqrs )
+                  if( ($s3z.getPossibleVals() == $res2) && ($s3z.getRow() != $row) )
+                  {
+                    logger.appendln( "\t\t ! FOUND Zone Sqr3 " + $s3z.strGridPosn()
+                                     + " / PV == " + Helper.displaySetBits($s3z.getPossibleVals(), gridLength, "") );
+                    $target = eladTarget( $s3z.getRowIndex(), $s2r.getColIndex(), $s2r, $s3z, $val );
+                    if( $target != null )
+                      break loop ;
+                  }
+              }
+            }
+          
+          // CHECK COL FOR SQR 2
+          for( Square $s2c : $col.mySqrs )
+            if( ($s2c.numPossibleVals() == 2) && ($s2c != $s1) )
+            {
+              logger.appendln( Level.INFO, () -> "\t Check possible Col Sqr2 " + $s2c.strGridPosn()
+                                                 + " / PV == " + Helper.displaySetBits($s2c.getPossibleVals(), gridLength, "") );
+              $res1 = $s1.getPossibleVals() | $s2c.getPossibleVals() ;
+              if( CandidateSet.count( $res1 ) == 3 )
+              {
+                $bits2 = $s2c.getPossibleVals() ^ $res1 ;
+                $bits3 =  $s1.getPossibleVals() ^ $res1 ;
+                $res2 = $bits2 | $bits3 ;
+                $val = CandidateSet.nth( $bits3, 1 );
+                
+                // if found, e.g. 'ac', search the 2 non-'ac' groups for 'bc'
+                // check row for Sqr 3
+                for( Square $s3r : $row.mySqrs )
+                  if( ($s3r.getPossibleVals() == $res2) && ($s3r != $s1) )
+                  {
+                    logger.appendln( "\t\t ! FOUND Row Sqr3 " + $s3r.strGridPosn()
+                                     + " / PV == " + Helper.displaySetBits($s3r.getPossibleVals(), gridLength, "") );
+                    $target = eladTarget( $s2c.getRowIndex(), $s3r.getColIndex(), $s2c, $s3r, $val );
+                    if( $target != null )
+                      break loop ;
+                  }
+                // check zone for Sqr 3
+                for( Square $s3z : $zone.mySqrs )
+                  if( ($s3z.getPossibleVals() == $res2) && ($s3z.getCol() != $col) )
+                  {
+                    logger.appendln( "\t\t ! FOUND Zone Sqr3 " + $s3z.strGridPosn()
+                                     + " / PV == " + Helper.displaySetBits($s3z.getPossibleVals(), gridLength, "") );
+                    $target = eladTarget( $s2c.getRowIndex(), $s3z.getColIndex(), $s2c, $s3z, $val );
+                    if( $target != null )
+                      break loop ;
+                  }
+              }
+            }
+        
+        }// found a possible Square
+    // end loop
+    
+    // if found, can eliminate possible val 'c' in the Square at the row/col intersection
+    //           of 'ac' and 'bc' that does NOT share a row OR col with 'ab'
+    if( $target != null )
+    {
+      logger.appendln( "\t\t Remove possible Val '" + $val + "' from Sqr " + $target.strGridPosn() );
+      $result = $target.removePossibleVal( $val );
+    }
+    
+    logger.send( Level.INFO );
+    return $result ;
+  
+  }// LogicGrid.findElad()
+  
+  /**
+   *  The Square at the intersection of the 2 pincers of an Elad sees BOTH of them,
+   *  so can NOT be their shared value - UNLESS it is one of the pincers,
+   *  i.e. the Zone pincer is in the Row or Col of the other one
+   *  
+   *  @param row - of the intersection
+   *  @param col - of the intersection
+   *  @param s2 - pincer in a Row or Col of the pivot
+   *  @param s3 - other pincer
+   *  @param val - shared value of the pincers
+   *  
+   *  @return the intersection Square if it is open, NOT a pincer AND can be val - otherwise null
+   */
+  private Square eladTarget( final int row, final int col, final Square s2, final Square s3, final int val )
+  {
+    Square $target = sqrs2dArray[row][col] ;
+    
+    if( ($target == s2) || ($target == s3) || !$target.isOpen() || !$target.canBeVal(val) )
+    {
+      logger.appendln( "		 NO removal from Sqr " + $target.strGridPosn() );
+      return null ;
+    }
+    
+    return $target ;
+  
+  }// LogicGrid.eladTarget()
+  
+  /**
+   *  CANNOT have a "rectangle" in two Groups where each corner has the same two possible values,
+   *  as the placement of the two different values would be equally likely,
+   *  and thus the solution to that game would NOT be unique. [aka "Unique Rectangles" requirement]<br>
+   *  
+   *  <b>Find</b> any Tetrads [aka "Deadly Rectangles"] in the Grid and process the values <br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   */
+  private boolean findTetrads()
+  {
+    Square $foundSqr ;
+    int $foundRow, $foundCol ;
+    boolean $tmpRes1, $tmpRes2, $result=false ;
+    
+    logger.info( "\n Checking for tetrads..." );
+    
+    // #1 for value v, check Sqrs for possVals of 2
+    for( Square[] r : sqrs2dArray )
+      for( Square $s1 : r )
+      {
+        if( $s1.numPossibleVals() == 2 )
+          // #2 if found, check Sqrs in Zone for matching possVals and common row or col
+          for( Square $s2 : $s1.getZone().mySqrs )
+            if( ($s2 != $s1) && ($s2.getPossibleVals() == $s1.getPossibleVals()) )
+            {
+              // check Row
+              if( $s2.getRow() == $s1.getRow() )
+              {
+                logger.info( () -> "Check possible Tetrad pair at " + $s1.strGridPosn() + " & " + $s2.strGridPosn() );
+                
+                // #3a if found, check its col for Sqr with matching possVals
+                for( Square $s3 : $s1.getCol().mySqrs )
+                  if( ($s3 != $s1) && ($s3.getPossibleVals() == $s1.getPossibleVals()) )
+                  // #4a if found, can REMOVE these 2 possible values from the Sqr at the intersection of this row & col
+                  {
+                    logger.info( () -> " >> Found a matching Sqr at " + $s3.strGridPosn() );
+                    $foundRow = $s3.getRowIndex();
+                    $foundCol = $s2.getColIndex();
+                    $foundSqr = sqrs2dArray[$foundRow][$foundCol];
+                    if( LogControl.info() )
+                      logger.info( "\t >> Can REMOVE [" + Helper.displaySetBits($s3.getPossibleVals(), gridLength, "")
+                                   +  "] from " + $foundSqr.strGridPosn() );
+                    
+                    $tmpRes1 = $foundSqr.removePossibleVal( CandidateSet.nth($s1.getPossibleVals(), 1) );
+                    $tmpRes2 = $foundSqr.removePossibleVal( CandidateSet.nth($s1.getPossibleVals(), 2) );
+                    logger.send( Level.INFO );
+                    
+                    if( ! $result )
+                      $result = $tmpRes1 || $tmpRes2 ;
+                  }
+              }
+              // check Col
+              if( $s2.getCol() == $s1.getCol() )
+              {
+                logger.info( () -> "Check possible Tetrad pair at " + $s1.strGridPosn() + " & " + $s2.strGridPosn() );
+                
+                // #3b if found, check its row for Sqr with matching possVals
+                for( Square $s3 : $s1.getRow().mySqrs )
+                  if( ($s3 != $s1) && ($s3.getPossibleVals() == $s1.getPossibleVals()) )
+                  // #4b if found, can REMOVE these 2 possible values from the Sqr at the intersection of this row & col
+                  {
+                    logger.info( () -> " >> Found a matching Sqr at " + $s3.strGridPosn() );
+                    $foundRow = $s2.getRowIndex();
+                    $foundCol = $s3.getColIndex();
+                    $foundSqr = sqrs2dArray[$foundRow][$foundCol];
+                    if( LogControl.info() )
+                      logger.info( "\t >> Can REMOVE [" + Helper.displaySetBits($s3.getPossibleVals(), gridLength, "")
+                                   +  "] from " + $foundSqr.strGridPosn() );
+                    
+                    $tmpRes1 = $foundSqr.removePossibleVal( CandidateSet.nth($s1.getPossibleVals(), 1) );
+                    $tmpRes2 = $foundSqr.removePossibleVal( CandidateSet.nth($s1.getPossibleVals(), 2) );
+                    logger.send( Level.INFO );
+                    
+                    if( ! $result )
+                      $result = $tmpRes1 || $tmpRes2 ;
+                  }
+              }
+            }// s2 matches s1
+      }// check Sqrs
+    
+    return $result ;
+  
+  }// LogicGrid.findTetrads()
+  
+  /**
+   *  Find any Color Chain values and then re-check for any Solvable Squares <br>
+   *  = TF chaining, reductio ad absurdum <br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   */
+  private boolean findColorChainVal()
+  {
+    boolean $haveChain, $chainInVal, $haveSoln=false ;
+    
+    if( ! colorChainInit )
+    {
+      numActiveColors = 2 ;
+      for( int i=0; i < numActiveColors; i++ )
+        colorChain[i] = new ColorChain( i );
+      
+      colorChainInit = true ;
+      logger.info( "INIT " + numActiveColors + " Color Chains" );
+    }
+    
+    for( int v=1; v <= gridLength; v++ )
+    {
+      if( LogControl.info() ) logger.info( "\n\t\t Check val '" + v + "'" );
+      
+      $haveChain = $chainInVal = false ;
+      
+      // Search Squares
+      loop:
+      for( Square[] r : sqrs2dArray )
+        for( Square s : r )
+          // check for possible value 'v'
+          if( s.isOpen() && s.canBeVal(v) )
+          {
+            // only need Sqrs that HAVEN'T already been checked
+            if( s.inColorChain() )
+              continue ;
+            
+            logger.info( () -> "\n\t Check possible Sqr " + s.strGridPosn()
+                               + " / PV == " + Helper.displaySetBits(s.getPossibleVals(), gridLength, "") );
+            
+            // clear the chains but DO NOT reset Squares until FINISHED with this value
+            resetColorChains( false );
+            
+            // #1 - if found, check for Groups with 2 possible values
+            $haveChain = buildColorChain( PINK_CHAIN, v, s );
+            
+            if( $haveChain )
+            {
+              $chainInVal = true ;
+              
+              $haveSoln = checkColorChains( v );
+              
+              if( $haveSoln )
+                break loop ;
+            }
+          }
+      // end loop
+      
+      if( $chainInVal )
+      {
+        // reset Chains & Squares for this value
+        resetColorChains( true );
+        
+        if( $haveSoln )
+          break ;
+      }
+    }
+    
+    logger.send( Level.INFO );
+    return $haveSoln ;
+  
+  }// LogicGrid.findColorChainVal()
+  
+  /**
+   *  Find any Forcing Chain that removes possible values and then re-check for any Solvable Squares <br>
+   *  - called by {@link #solveStep}
+   *  
+   *  @return success or failure
+   *  
+   *  @see ForcingChain#find
+   */
+  private boolean findForcingChain()
+  {
+    return forcingChain.find();
+  
+  }// LogicGrid.findForcingChain()
+  
+  /**
+   *  Set the limits for each search for a {@link ForcingChain}
+   *  
+   *  @param links - maximum number of links in a Chain
+   *  @param msecs - maximum time for each search, OR zero for NO time limit
+   *  @param states - maximum number of states to follow in each search, OR zero for NO limit
+   *  
+   *  @see Grader#getThreadGrid
+   */
+  void setChainBudget( final int links, final long msecs, final long states )
+  {
+    forcingChain.setBudget( links, msecs, states );
+  
+  }// LogicGrid.setChainBudget()
+  
+  /**
+   *  Check the parameter {@link Square} for inclusion in a Color Chain <br>
+   *  
+   *  @param chainColor - current Color Chain level
+   *  @param val - value to check
+   *  @param sqr - Square to check
+   *  
+   *  @return success or failure
+   *  
+   *  @see #findColorChainVal
+   *  @see Group#findColorSqr
+   */
+  boolean buildColorChain( final int chainColor, final int val, final Square sqr )
+  {
+    if( sqr == null )
+    {
+      logger.severe( "Passed a null Square!!??" );
+      return false ;
+    }
+    
+    logger.info( () -> "Check Sqr " + sqr.strGridPosn() + " for inclusion in colorChain["
+                       + (chainColor == PINK_CHAIN ? "PINK" : "BLUE") + "]" );
+     
+     Row r = sqr.getRow();
+     Col c = sqr.getCol();
+    Zone z = sqr.getZone();
+    
+    boolean $rowRes  = ( r.nSqrsCanBeVal[val] == 2 );
+    boolean $colRes  = ( c.nSqrsCanBeVal[val] == 2 );
+    boolean $zoneRes = ( z.nSqrsCanBeVal[val] == 2 );
+    
+    // #2 - if found, place this Sqr in the appropriate ColorChain
+    if( $rowRes || $colRes || $zoneRes )
+    {
+      logger.info( () -> "\t Sqr " + sqr.strGridPosn() + " has a Color-eligible Group" );
+      colorChain[ chainColor % numActiveColors ].add( sqr );
+    }
+    
+    // #3 - and place Grp Sqrs with possible vals that include 'v' in other/next ColorChain
+    if( $rowRes )
+    {
+      logger.info( () -> "\t >> possible matching Sqr is in " + r.myPosn() );
+      r.findColorSqr( chainColor+1, val );
+    }
+    
+    if( $colRes )
+    {
+      logger.info( () -> "\t >> possible matching Sqr is in " + c.myPosn() );
+      c.findColorSqr( chainColor+1, val );
+    }
+    
+    if( $zoneRes )
+    {
+      logger.info( () -> "\t >> possible matching Sqr is in " + z.myPosn() );
+      z.findColorSqr( chainColor+1, val );
+    }
+    
+    return( $rowRes || $colRes || $zoneRes );
+  
+  }// LogicGrid.buildColorChain()
+  
+  /**
+   *  Check the Color Chains for values that can be assigned or excluded <br>
+   *  - called by {@link #findColorChainVal}
+   *  
+   *  @param val - current value
+   *  @return success or failure
+   *  
+   *  @see #colorChain
+   */
+  private boolean checkColorChains( final int val )
+  {
+    for( int i=0; i < numActiveColors; i++ )
+      colorChain[i].display( Level.INFO, "" );
+    
+    // if any Group of a Square is also represented by another Square in this Color
+    // >> ALL Squares of the OTHER Color must be value 'v'
+    if( colorChain[PINK_CHAIN].checkForDuplicateGrps() )
+    {
+      logger.info( "DUPLICATE Groups in Pink Chain >> ALL Sqrs in Blue Chain MUST BE val '" + val + "'" );
+      // leave v as the ONLY POSSIBLE val in the Blue Chain Squares
+      // - these Squares will then easily be solved by findSqrSingle()
+      colorChain[BLUE_CHAIN].setSqrsToPossibleVal( val );
+      return true ;
+    }
+    
+    if( colorChain[BLUE_CHAIN].checkForDuplicateGrps() )
+    {
+      logger.info( "DUPLICATE Groups in Blue Chain >> ALL Sqrs in Pink Chain MUST BE val '" + val + "'" );
+      // leave v as the ONLY POSSIBLE val in the Pink Chain Squares
+      // - these Squares will then easily be solved by findSqrSingle()
+      colorChain[PINK_CHAIN].setSqrsToPossibleVal( val );
+      return true ;
+    }
+    
+    // if ANY Squares at the INTERSECTION of a row/col of 2 Squares from DIFFERENT Colors
+    // >> EXCLUDE 'v' from these Squares
+    boolean $intxVal=false, $result=false ;
+    
+    for( int cc=0; cc < numActiveColors; cc++ )
+      for( int i=0; i < gridLength; i++ )
+        if( colorChain[cc].getRow(i) )
+          for( int j=0; j < gridLength; j++ )
+            if( colorChain[ (cc+1) % numActiveColors ].getCol(j) )
+            {
+              if( (!sqrs2dArray[i][j].inColorChain()) && sqrs2dArray[i][j].isOpen() )
+              {
+                if( LogControl.info() ) logger.info( "\t Look for an INTERSECTION Square at " + sqrs2dArray[i][j].strGridPosn() );
+                $intxVal = sqrs2dArray[i][j].removePossibleVal( val );
+                logger.send( Level.INFO );
+              }
+              
+              if( ! $result )
+                $result = $intxVal ;
+            }
+    
+    return $result ;
+  
+  }// LogicGrid.checkColorChains()
+  
+  /**
+   *  Reset ALL mutable Color Chain fields to default values <br>
+   *  - called by {@link #findColorChainVal}
+   *  
+   *  @param doSqrs - reset individual {@link Square}s too
+   *  @see #colorChain
+   */
+  private void resetColorChains( final boolean doSqrs )
+  {
+    for( int i=0; i < numActiveColors; i++ )
+      colorChain[i].reset();
+    
+    if( doSqrs )
+      for( Square[] r : sqrs2dArray )
+        for( Square s : r )
+          if( s.inColorChain() )
+            s.putInChain( NO_COLOR );
+  
+  }// LogicGrid.resetColorChains()
+  
+  /**
+   *  Set the required fields when solving a {@link Square} <br>
+   *  - value is in {@link Square#solvedValue}
+   *  
+   *  @param sqr - Square to set
+   *  @return success or failure
+   *  @see #enterSolvedValue
+   */
+  final boolean setAutoSolvedSqr( final Square sqr )
+  {
+    if( sqr == null )
+    {
+      logger.severe( "Passed a null Square!!??" );
+      return false ;
+    }
+    
+    if( sqr.isFixed() )
+    {
+      logger.warning( "! Trying to solve a FIXED Square: " + sqr.strGridPosn() );
+      return false ;
+    }
+    
+    if( (sqr.solvedValue < 1) || (sqr.solvedValue > gridLength) )
+    {
+      logger.warning( "Sqr " + sqr.strGridPosn() + " has an INVALID solvedValue: '" + sqr.solvedValue + "' !" );
+      return false ;
+    }
+    
+    logger.info( () -> "Sqr " + sqr.strGridPosn() + ": val = " + sqr.solvedValue );
+    
+    return enterSolvedValue( sqr );
+  
+  }// LogicGrid.setAutoSolvedSqr()
+  
+  /**
+   *  Enter the {@link Square#solvedValue} in an OPEN {@link Square} <br>
+   *  - the {@link Grid} also does the Undo, Game Over and painting for the new value
+   *  
+   *  @param sqr - valid Square to set
+   *  @return success or failure
+   *  @see #setAutoSolvedSqr
+   */
+  boolean enterSolvedValue( final Square sqr )
+  {
+    activeSqr = sqr ;
+    sqr.newValue( sqr.solvedValue, false );
+    sqr.setAutoSolved();
+    
+    return true ;
+  
+  }// LogicGrid.enterSolvedValue()
+ 
+ // ===========================================================================================================
+ //                             D E B U G    C O D E
+ // ===========================================================================================================
+  
+  /** @return simple name of my Class  */
+  String myname() { return getClass().getSimpleName(); }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** See {@link PskLogger} */
+  static PskLogger logger ;
+  
+  /** number of {@link Square}s on each side */
+  final int gridLength ;
+  
+  /** <b>TOTAL</b> number of {@link Square}s */
+  final int totalSqrs ;
+  
+  /** number of {@link Square}s on each side of a {@link Zone} */
+  final int zoneLength ;
+  
+  /** 2D array of individual {@link Square}s */
+  Square[][] sqrs2dArray ;
+  
+  /**
+   * One of the sub-sections, each comprising a <var>zoneLength x zoneLength</var>
+   * block of {@link Square}s in {@link #sqrs2dArray} <br>
+   * - stored in a {@link Zone}[ {@link #gridLength} ] array
+   */
+  Zone[] zones ;
+  
+  /**
+   * One of the sub-sections, each comprising a row of <var>gridLength</var>
+   * {@link Square}s in {@link #sqrs2dArray} <br>
+   * - stored in a {@link Row}[ {@link #gridLength} ] array
+   */
+  Row[] rows ;
+  
+  /**
+   * One of the sub-sections, each comprising a column of <var>gridLength</var>
+   * {@link Square}s in {@link #sqrs2dArray} <br>
+   * - stored in a {@link Col}[ {@link #gridLength} ] array
+   */
+  Col[] cols ;
+  
+  /** the {@link Square} whose value is being changed  */
+  private Square activeSqr ;
+  
+  /** number of {@link Square}s WITHOUT a value */
+  private int numBlankSqrs ;
+  
+  /**
+   *  Number of {@link Square}s with conflicting values
+   *  @see Square#isConflicting
+   */
+  private int nConflicts ;
+  
+  /** Are we in 2-Color or 4-Color Solving mode?  */
+  private int numActiveColors ;
+  
+  /** Are the Color Chains initialized yet?  */
+  private boolean colorChainInit = false ;
+  
+  /** Individual Color chains  */
+  static final int
+                  NO_COLOR = -1 ,
+                PINK_CHAIN =  0 ,
+                BLUE_CHAIN =  1 ,
+               GREEN_CHAIN =  2 ,
+               BROWN_CHAIN =  3 ,
+          NUM_COLOR_CHAINS =  4 ;
+  
+  /** Individual Color chain names  */
+  static final String[] chainName = { "PINK", "BLUE", "GREEN", "BROWN" };
+  
+  /** Sizes of the Subsets, see {@link #findSubsets}  */
+  static final int
+                 PAIR_SIZE = 2 ,
+               TRIPLE_SIZE = 3 ,
+                 QUAD_SIZE = 4 ;
+  
+  /** Sizes of the Fish, see {@link #findFish}  */
+  static final int
+               RECTAD_SIZE = 2 ,
+                HEXAD_SIZE = 3 ,
+                OCTAD_SIZE = 4 ;
+  
+  /**
+   *  Use in Solving
+   *  @see ColorChain
+   */
+  private ColorChain[] colorChain ;
+  
+  /**
+   *  Use in Solving when ALL the other techniques fail
+   *  @see #findForcingChain
+   */
+  private final ForcingChain forcingChain ;
+  
+  /** the techniques {@link #solveStep} uses, in order  */
+  private Technique[] schedule = Technique.values();
+  
+  /** reusable snapshots, see {@link #takeSnapshot} & {@link #releaseSnapshot}  */
+  private final ArrayDeque<GridSnapshot> snapshotPool = new ArrayDeque<>();
+  
+  /** most snapshots kept in {@link #snapshotPool}  */
+  static final int MAX_POOLED_SNAPSHOTS = 64 ;
+  
+  /** number of changes to the possible values of ANY {@link Square}, see {@link #noteCandidateChange}  */
+  private long changeCount ;
+  
+  /** for each {@link Technique}: the {@link #changeCount} when it last ran, OR {@link #NEVER_SCANNED}  */
+  private final long[] lastScan = new long[ Technique.values().length ];
+  
+  /** value of {@link #lastScan} when a technique must check EVERY Group  */
+  static final long NEVER_SCANNED = -1L ;
+  
+  /** statistics for each {@link Technique}, see {@link #displayStats}  */
+  private final int[] techCalls = new int[ Technique.values().length ] ,
+                      techHits  = new int[ Technique.values().length ] ,
+                      techSkips = new int[ Technique.values().length ] ;
+  
+  /** total time for each {@link Technique}, in nanoseconds  */
+  private final long[] techNanos = new long[ Technique.values().length ];
+
+}// class LogicGrid
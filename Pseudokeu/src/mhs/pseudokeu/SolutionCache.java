@@ -0,0 +1,436 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import mhs.pseudokeu.Loader.SavedGame;
+
+/**
+ * The solutions of games already solved by the {@link Solver}, kept in an append-only file so a game
+ * is searched for ONCE, ever <br>
+ * - the key is a 64-bit hash of the canonical form of a game: the values are renamed 1, 2, 3... in the order
+ *   they first appear, so games that differ ONLY by a relabelling of the values share ONE entry <br>
+ * - each solution is stored in canonical form, packed like a {@link GamePack} game, so a 9x9 entry is 54 bytes <br>
+ * - a solution from the cache is ALWAYS checked against the game, so a hash collision can NOT give a wrong solution <br>
+ * - a partial entry at the end of the file, e.g. after a crash, is cut off when the file is opened
+ *
+ * <pre>
+ *   header (big-endian ints): MAGIC, VERSION
+ *   entry:  grid length (byte), key (long), search time in msecs (int), canonical solution values
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Grid#getSolutionGame
+ */
+final class SolutionCache
+{
+  /*
+   *            I N N E R    C L A S S E S
+  *************************************************************************************************************/
+  
+  /** ONE solution in the cache  */
+  private static final class Entry
+  {
+    /**
+     *  @param len - grid length
+     *  @param msecs - search time
+     *  @param values - canonical solution, packed
+     */
+    Entry( final int len, final int msecs, final byte[] values )
+    {
+      length = len ;
+      time = msecs ;
+      packed = values ;
+    }
+    
+    /** number of {@link Square}s on each side  */
+    final int length ;
+    
+    /** search time in msecs  */
+    final int time ;
+    
+    /** the canonical solution values  */
+    final byte[] packed ;
+  
+  }/* INNER CLASS Entry */
+ 
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor - use {@link #open}
+   *
+   *  @param file - the cache file, OR null to keep the entries ONLY in memory
+   */
+  private SolutionCache( final File file )
+  {
+    cacheFile = file ;
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Read ALL the entries of a cache file - it does NOT have to exist yet
+   *
+   *  @param file - the cache file
+   *  @return the cache, which keeps new entries ONLY in memory if the file is NOT a cache
+   */
+  static SolutionCache open( final File file )
+  {
+    logger = Launcher.logger ;
+    
+    SolutionCache $cache = new SolutionCache( file );
+    
+    try( FileChannel $channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE) )
+    {
+      if( $channel.size() > Integer.MAX_VALUE )
+      {
+        logger.severe( "Cache '" + file + "' is too big: " + $channel.size() + " bytes!" );
+        return new SolutionCache( null );
+      }
+      
+      // a new file gets its header with the first entry
+      if( $channel.size() == 0 )
+        return $cache ;
+      
+      ByteBuffer $buffer = ByteBuffer.allocate( (int)$channel.size() );
+      while( $buffer.hasRemaining() )
+        if( $channel.read($buffer) < 0 )
+          break ;
+      $buffer.flip();
+      
+      if( ($buffer.remaining() < HEADER_BYTES) || ($buffer.getInt() != MAGIC) || ($buffer.getInt() != VERSION) )
+      {
+        logger.warning( "'" + file + "' is NOT a version " + VERSION + " solution cache!" );
+        return new SolutionCache( null );
+      }
+      
+      int $good = $cache.readEntries( $buffer );
+      if( $good < $buffer.limit() )
+      {
+        logger.warning( "Cutting off a partial entry at the end of cache '" + file + "'" );
+        $channel.truncate( $good );
+      }
+      
+      logger.info( "Cache '" + file + "' has " + $cache.size() + " solutions" );
+    }
+    catch( NoSuchFileException nsfe )
+    {
+      logger.info( "NO cache '" + file + "' yet" );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM reading cache '" + file + "' -- " + e.toString() );
+      return new SolutionCache( null );
+    }
+    
+    return $cache ;
+  
+  }// SolutionCache.open()
+  
+  /**
+   *  Get the cached solution of a game
+   *
+   *  @param puzzle - the game
+   *  @param solution - to receive the solution, with the length of the game
+   *
+   *  @return search time in msecs when the game was solved, OR {@link #nFAIL} if it is NOT in the cache
+   */
+  synchronized long get( final SavedGame puzzle, final SavedGame solution )
+  {
+    if( (puzzle == null) || (solution == null) || (solution.getLength() != puzzle.getLength())
+        || !Helper.isValidGridLength(puzzle.getLength()) )
+      return nFAIL ;
+    
+    int $len = puzzle.getLength();
+    int[] $map = new int[ $len + 1 ];
+    
+    Entry $entry = entries.get( canonicalKey(puzzle, $map) );
+    if( ($entry == null) || ($entry.length != $len) )
+      return nFAIL ;
+    
+    // from canonical values back to the values of this game
+    int[] $unmap = new int[ $len + 1 ];
+    for( int v=1; v <= $len; v++ )
+      $unmap[ $map[v] ] = v ;
+    
+    int $bits = GamePack.getBitsPerValue( $len ), $mask = ( 1 << $bits ) - 1 ;
+    int $acc = 0, $nBits = 0, $posn = 0, $val ;
+    for( int $sqr=0; $sqr < $len * $len; $sqr++ )
+    {
+      if( $nBits < $bits )
+      {
+        $acc = ( $acc << 8 ) | ( $entry.packed[$posn++] & 0xFF );
+        $nBits += 8 ;
+      }
+      
+      $nBits -= $bits ;
+      $val = ( $acc >>> $nBits ) & $mask ;
+      solution.setValue( $sqr / $len, $sqr % $len, (($val >= 1) && ($val <= $len)) ? $unmap[$val] : SqrTypes.BLANK_VAL );
+    }
+    
+    if( ! isSolution(puzzle, solution) )
+    {
+      logger.warning( "Cached solution does NOT fit game '" + puzzle.getName() + "' - NOT used" );
+      return nFAIL ;
+    }
+    
+    hits++ ;
+    return $entry.time ;
+  
+  }// SolutionCache.get()
+  
+  /**
+   *  Add the solution of a game, in memory AND at the end of the cache file
+   *
+   *  @param puzzle - the game
+   *  @param solution - of the game, from the {@link Solver}
+   *  @param msecs - search time
+   *
+   *  @return false if the solution is NOT valid OR could NOT be written
+   */
+  synchronized boolean put( final SavedGame puzzle, final SavedGame solution, final long msecs )
+  {
+    if( (puzzle == null) || (solution == null) || !isSolution(puzzle, solution) )
+    {
+      logger.warning( "NOT a solution - NOT cached" );
+      return false ;
+    }
+    
+    int $len = puzzle.getLength();
+    int[] $map = new int[ $len + 1 ];
+    long $key = canonicalKey( puzzle, $map );
+    if( entries.containsKey($key) )
+      return true ;
+    
+    int $bits = GamePack.getBitsPerValue( $len );
+    byte[] $packed = new byte[ GamePack.getBytesPerGame($len, $bits) ];
+    long $acc = 0 ;
+    int $nBits = 0, $posn = 0 ;
+    for( int $sqr=0; $sqr < $len * $len; $sqr++ )
+    {
+      $acc = ( $acc << $bits ) | $map[ solution.getValue($sqr / $len, $sqr % $len) ];
+      $nBits += $bits ;
+      while( $nBits >= 8 )
+      {
+        $nBits -= 8 ;
+        $packed[$posn++] = (byte)( $acc >>> $nBits );
+      }
+    }
+    if( $nBits > 0 )
+      $packed[$posn] = (byte)( $acc << (8 - $nBits) );
+    
+    Entry $entry = new Entry( $len, (int)Math.min(Math.max(msecs, 0L), Integer.MAX_VALUE), $packed );
+    entries.put( $key, $entry );
+    
+    return( (cacheFile == null) || append($key, $entry) );
+  
+  }// SolutionCache.put()
+  
+  /**
+   *  A 64-bit FNV-1a hash of the canonical form of a game: blanks stay zero, and each value is renamed
+   *  by the order it first appears in, row by row <br>
+   *  - values NOT in the game are renamed after the others, in increasing order, so the renaming is ALWAYS complete
+   *
+   *  @param puzzle - the game
+   *  @param map - gets the canonical name of each value, must have length + 1 entries
+   *  @return the key
+   */
+  static long canonicalKey( final SavedGame puzzle, final int[] map )
+  {
+    int $len = puzzle.getLength(), $next = 1, $val ;
+    long $hash = FNV_OFFSET ;
+    
+    Arrays.fill( map, 0 );
+    $hash = ( $hash ^ $len ) * FNV_PRIME ;
+    
+    for( int $sqr=0; $sqr < $len * $len; $sqr++ )
+    {
+      $val = puzzle.getValue( $sqr / $len, $sqr % $len );
+      if( ($val != SqrTypes.BLANK_VAL) && (map[$val] == 0) )
+        map[$val] = $next++ ;
+      
+      $hash = ( $hash ^ map[$val] ) * FNV_PRIME ;
+    }
+    
+    for( int v=1; v <= $len; v++ )
+      if( map[v] == 0 )
+        map[v] = $next++ ;
+    
+    return $hash ;
+  
+  }// SolutionCache.canonicalKey()
+  
+  /** @return number of solutions in the cache  */
+  synchronized int size() { return entries.size(); }
+  
+  /** @return number of solutions {@link #get} has found  */
+  synchronized int getHits() { return hits ; }
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Read the entries after the header - a later entry with the same key replaces an earlier one
+   *
+   *  @param buffer - positioned after the header
+   *  @return end of the last complete entry
+   */
+  private int readEntries( final ByteBuffer buffer )
+  {
+    int $good = buffer.position();
+    
+    while( buffer.remaining() > 0 )
+    {
+      int $len = buffer.get();
+      if( ! Helper.isValidGridLength($len) )
+      {
+        logger.warning( "BAD grid length " + $len + " at byte " + $good + " of the cache" );
+        break ;
+      }
+      
+      byte[] $packed = new byte[ GamePack.getBytesPerGame($len, GamePack.getBitsPerValue($len)) ];
+      if( buffer.remaining() < ENTRY_HEADER_BYTES + $packed.length )
+        break ;
+      
+      long $key = buffer.getLong();
+      int $time = buffer.getInt();
+      buffer.get( $packed );
+      
+      entries.put( $key, new Entry($len, $time, $packed) );
+      $good = buffer.position();
+    }
+    
+    return $good ;
+  
+  }// SolutionCache.readEntries()
+  
+  /**
+   *  Write ONE entry at the end of the cache file, with the header first if the file is new
+   *
+   *  @param key - of the game
+   *  @param entry - the solution
+   *  @return success or failure
+   */
+  private boolean append( final long key, final Entry entry )
+  {
+    ByteBuffer $buffer = ByteBuffer.allocate( HEADER_BYTES + 1 + ENTRY_HEADER_BYTES + entry.packed.length );
+    
+    try( FileChannel $channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                 StandardOpenOption.APPEND) )
+    {
+      if( $channel.size() == 0 )
+        $buffer.putInt( MAGIC ).putInt( VERSION );
+      
+      $buffer.put( (byte)entry.length ).putLong( key ).putInt( entry.time ).put( entry.packed );
+      $buffer.flip();
+      while( $buffer.hasRemaining() )
+        $channel.write( $buffer );
+    }
+    catch( Exception e )
+    {
+      logger.warning( "PROBLEM writing cache '" + cacheFile + "' -- " + e.toString() );
+      return false ;
+    }
+    
+    return true ;
+  
+  }// SolutionCache.append()
+  
+  /**
+   *  @param puzzle - the game
+   *  @param solution - to check
+   *  @return true if the solution has EVERY value of the game and EACH row, col and zone has EVERY value once
+   */
+  private static boolean isSolution( final SavedGame puzzle, final SavedGame solution )
+  {
+    int $len = puzzle.getLength(), $zoneLen = (int)Math.round( Math.sqrt($len) );
+    if( solution.getLength() != $len )
+      return false ;
+    
+    int[] $rowVals = new int[ $len ], $colVals = new int[ $len ], $zoneVals = new int[ $len ];
+    int $val, $given, $bit, $zone ;
+    
+    for( int row=0; row < $len; row++ )
+      for( int col=0; col < $len; col++ )
+      {
+        $val = solution.getValue( row, col );
+        $given = puzzle.getValue( row, col );
+        if( ($val < 1) || ($val > $len) || (($given != SqrTypes.BLANK_VAL) && ($given != $val)) )
+          return false ;
+        
+        $bit = 1 << $val ;
+        $zone = ( (row / $zoneLen) * $zoneLen ) + ( col / $zoneLen );
+        if( ((($rowVals[row] | $colVals[col] | $zoneVals[$zone]) & $bit) != 0) )
+          return false ;
+        
+        $rowVals[row] |= $bit ;
+        $colVals[col] |= $bit ;
+        $zoneVals[$zone] |= $bit ;
+      }
+    
+    return true ;
+  
+  }// SolutionCache.isSolution()
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** the cache file, OR null if the entries are ONLY kept in memory  */
+  private final File cacheFile ;
+  
+  /** ALL the entries, by key  */
+  private final HashMap<Long, Entry> entries = new HashMap<>();
+  
+  /** number of solutions found by {@link #get}  */
+  private int hits ;
+  
+  /** Name of the cache file in the {@link Loader#DEFAULT_PATH} folder */
+  static final String CACHE_FILE = "solutions.psc" ;
+  
+  /** first int of every cache = "PSKS" */
+  static final int MAGIC = 0x50534B53 ;
+  
+  /** of the cache format */
+  static final int VERSION = 1 ;
+  
+  /** size of the header */
+  static final int HEADER_BYTES = 8 ;
+  
+  /** size of the key and search time of each entry */
+  private static final int ENTRY_HEADER_BYTES = 12 ;
+  
+  /** FNV-1a 64-bit parameters */
+  private static final long FNV_OFFSET = 0xCBF29CE484222325L ,
+                            FNV_PRIME  = 0x100000001B3L ;
+  
+  /** integer FAILURE */
+  static final int nFAIL = -1 ;
+  
+  private static PskLogger logger ;
+
+}// class SolutionCache
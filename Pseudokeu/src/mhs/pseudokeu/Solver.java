@@ -15,7 +15,14 @@
 
 package mhs.pseudokeu;
 
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 import mhs.pseudokeu.Loader.SavedGame;
@@ -32,74 +39,157 @@ import mhs.pseudokeu.Loader.SavedGame;
  */
 class Solver
 {
- /*
-  *            I N N E R    C L A S S E S
+  /*
+   *            I N N E R    C L A S S E S
   *************************************************************************************************************/
-   
+  
   /**
-   * Internal class to hold the node info
+   *  State shared by ALL the branches of one {@link Solver#solveParallel} search
+   *  
+   *  @author Mark Sattolo
    */
-  class DlxNode
+  private static final class ParallelSearch
   {
-    DlxNode()
-    {
-      cType = 'X' ;
-      nID = 0 ;
-    }
+    ParallelSearch( final SavedGame soln )
+    { solution = soln ; }
+    
+    /** @return true if the branches should stop searching */
+    boolean isOver()
+    { return found.get() || cancelled ; }
+    
+    /** receives the values of the FIRST solution found */
+    final SavedGame solution ;
+    
+    /** set by the ONE branch allowed to write to {@link #solution} */
+    final AtomicBoolean found = new AtomicBoolean() ;
+    
+    /** total search loops in all the branches */
+    final AtomicLong nodes = new AtomicLong() ;
     
-    void set( char name, int num )
+    /** the caller no longer wants the solution */
+    volatile boolean cancelled ;
+  
+  }/* INNER CLASS ParallelSearch */
+  
+ //============================================================================================================
+  
+  /**
+   *  One branch of a {@link Solver#solveParallel} search <br>
+   *  - above the split depth, copies the matrix of its parent, places its row and forks a new branch
+   *    for each row of the most constrained column <br>
+   *  - AT the split depth, searches its part of the tree in slices of {@link Solver#BRANCH_NODE_BUDGET} nodes,
+   *    and stops as soon as another branch has found a solution
+   *  
+   *  @author Mark Sattolo
+   */
+  private static final class BranchTask extends RecursiveAction
+  {
+    /**
+     *  @param par - Solver with the matrix of the parent branch, which must NOT change while this task runs
+     *  @param node - row node to place in the copied matrix, OR {@link Solver#NO_NODE} to search <var>par</var> itself
+     *  @param lev - number of levels still to split
+     *  @param srch - shared state
+     */
+    BranchTask( final Solver par, final int node, final int lev, final ParallelSearch srch )
     {
-      cType = name ;
-      nID = num ;
+      parent = par ;
+      rowNode = node ;
+      levels = lev ;
+      search = srch ;
     }
     
-    // references to other nodes in the matrix
-    DlxNode header;
-    DlxNode left;
-    DlxNode right;
-    DlxNode up;
-    DlxNode down;
+    @Override
+    protected void compute()
+    {
+      if( search.isOver() )
+        return ;
+      
+      Solver $dlx = parent ;
+      if( rowNode != NO_NODE )
+      {
+        // a splitting branch is the parent of other tasks, so it must NOT use the thread Solver
+        $dlx = ( levels > 0 ) ? new Solver( parent.gridLen ) : getThreadSolver( parent.gridLen );
+        $dlx.copyFrom( parent );
+        $dlx.place( rowNode );
+      }
+      
+      if( (levels > 0) && ($dlx.right[ROOT] != ROOT) )
+      {
+        int $colHdr = $dlx.chooseColumn();
+        
+        List<BranchTask> $branches = new ArrayList<>( $dlx.colSize[$colHdr] );
+        for( int $node = $dlx.down[$colHdr]; $node != $colHdr; $node = $dlx.down[$node] )
+          $branches.add( new BranchTask($dlx, $node, levels - 1, search) );
+        
+        invokeAll( $branches );
+        return ;
+      }
+      
+      int $result ;
+      while( ($result = $dlx.search(BRANCH_NODE_BUDGET)) == SEARCH_PAUSED )
+      {
+        if( search.isOver() )
+          break ;
+      }
+      search.nodes.addAndGet( $dlx.loops );
+      
+      if( ($result == SEARCH_FOUND) && search.found.compareAndSet(false, true) )
+        $dlx.loadResults( search.solution );
+      
+    }// BranchTask.compute()
     
-    // identify each node
-    char cType;
-    int  nID;
+    private final Solver parent ;
+    private final int rowNode ;
+    private final int levels ;
+    private final ParallelSearch search ;
     
-  } /* Inner class DlxNode  */
+    private static final long serialVersionUID = 1L ;
+  
+  }/* INNER CLASS BranchTask */
   
  /*
   *            C O N S T R U C T O R S
   *************************************************************************************************************/
 
   /**
-   *  Only Constructor
+   *  Only Constructor <br>
+   *  - ALL the arrays for the Dancing Links matrix are allocated here, ONCE, 
+   *    and re-initialized by {@link #reset} for each new puzzle
    *  
    *  @param len - number of {@link Square}s along each side of the grid
    */
   public Solver( final int len )
   {
+    logger = Launcher.logger ;
+    
     gridLen = len ;
+    boxLen = (int)Math.round( Math.sqrt(gridLen) );
     nSqrs = gridLen * gridLen ;
     nCols = nSqrs * 4 ;
-    nRows = (nSqrs * gridLen) + 1 ;
+    nRows = nSqrs * gridLen ;
     
     sqrOffset = 0 ;
     rowOffset = nSqrs ;
     colOffset = nSqrs * 2 ;
     boxOffset = nSqrs * 3 ;
     
-    nodeMatrix = new DlxNode[ nCols ][ nRows ];
-    for( int i=0; i < nCols; i++ )
-      for( int j=0; j < nRows; j++ )
-        nodeMatrix[i][j] = new DlxNode();
+    // root + column headers + 4 nodes for each possible (value,row,col) placement
+    firstRowNode = nCols + 1 ;
+    nNodes = firstRowNode + ( nRows * NODES_PER_ROW );
     
-    // contains references only
-    arRowHdrs = new DlxNode[nRows] ;
+    left  = new int[ nNodes ];
+    right = new int[ nNodes ];
+    up    = new int[ nNodes ];
+    down  = new int[ nNodes ];
+    col   = new int[ nNodes ];
     
-    rootNode = new DlxNode();
-    
-    constraintMatrix = new int[nCols][nRows];
+    colSize = new int[ firstRowNode ];
     
     arResults = new int[nSqrs] ;
+    
+    // can never place more than one value per Square
+    colStack = new int[ nSqrs + 1 ];
+    rowStack = new int[ nSqrs + 1 ];
   }
   
  /*
@@ -116,7 +206,7 @@ class Solver
    *  @param puzzle - from {@link Grid}
    *  @param solution - empty game for the results
    *  
-   *  @return elapsed time in msecs
+   *  @return elapsed time in msecs (may be zero), OR a NEGATIVE value if there was a problem
    *  
    *  @see Grid#activateGame
    */
@@ -132,260 +222,438 @@ class Solver
       return( -1 );
     }
     
+    if( !Helper.isValidGridLength(puzzle.getLength()) || (solution.getLength() != puzzle.getLength()) )
+    {
+      logger.severe( "Grid length " + puzzle.getLength() + " is NOT supported!" );
+      return( -1 );
+    }
+    
     // make sure this is running on a Worker thread
     logger.info( "Running on " + Thread.currentThread() );
     
-    Solver $dlx = new Solver( puzzle.getLength() );
+    // large grids can take seconds to search, so use all the cores
+    if( puzzle.getLength() >= PARALLEL_GRID_LENGTH )
+      return solveParallel( puzzle, solution, PARALLEL_SPLIT_DEPTH );
     
-    $dlx.buildConstraintMatrix();
-    $dlx.buildNodeMatrix();
+    return getThreadSolver( puzzle.getLength() ).solve( puzzle, solution );
     
-    $dlx.loadGame( puzzle );
+  }// getSolution()
+  
+  /**
+   *  Solve the submitted {@link SavedGame} by splitting the search tree into independent branches <br>
+   *  - each branch at <var>splitDepth</var> is searched on a COPY of the matrix in the common {@link ForkJoinPool} <br>
+   *  - the first branch to find a solution writes it to <var>solution</var> and stops all the others <br>
+   *  - an interrupt of the calling thread stops all the branches
+   *  
+   *  @param puzzle - to solve
+   *  @param solution - empty game for the results
+   *  @param splitDepth - number of search levels to split into separate branches
+   *  
+   *  @return elapsed time in msecs (may be zero), OR a NEGATIVE value if there was a problem
+   *  
+   *  @see BranchTask
+   */
+  static long solveParallel( final SavedGame puzzle, SavedGame solution, final int splitDepth )
+  {
+    // NOT a thread Solver: the branches copy from it while other tasks may run on this thread
+    Solver $root = new Solver( puzzle.getLength() );
+    $root.start( puzzle );
     
-    Date $startDate = new Date();
-    $dlx.search( 0 );
-    Date $endDate = new Date();
+    ParallelSearch $search = new ParallelSearch( solution );
     
-    searchTime = $endDate.getTime() - $startDate.getTime();
-    logger.info( "Search time was " + searchTime + " msecs" );
+    long $startTime = System.nanoTime();
+    ForkJoinTask<Void> $task = ForkJoinPool.commonPool().submit( new BranchTask($root, NO_NODE, splitDepth, $search) );
+    try
+    {
+      $task.get();
+    }
+    catch( InterruptedException ie )
+    {
+      $search.cancelled = true ;
+      Thread.currentThread().interrupt();
+    }
+    catch( ExecutionException ee )
+    {
+      logger.severe( "PROBLEM in a search branch -- " + ee.getCause() );
+    }
+    long $searchTime = ( System.nanoTime() - $startTime ) / 1000000L ;
     
-    $dlx.loadResults( solution );
+    logger.info( "Parallel search time was " + $searchTime + " msecs for " + $search.nodes.get() + " search loops" );
     
-    if( ! $dlx.checkSolution(solution) )
+    if( ! $search.found.get() )
+    {
+      logger.warning( $search.cancelled ? "Search was cancelled." : "NO solution found!" );
+      return( -1 - $searchTime );
+    }
+    
+    if( ! $root.checkSolution(solution) )
     {
       logger.warning( "PROBLEM WITH SOLUTION!!" );
-      return( -1 * searchTime );
+      return( -1 - $searchTime );
     }
     
-    return searchTime ;
+    return $searchTime ;
     
-  }// getSolution()
-  
- // end INTERFACE
- 
- // ===========================================================================================================
- //                            P R I V A T E
- // ===========================================================================================================
-  
-  private int dataLeft ( final int i ) { return i - 1 < 0 ? nCols - 1 : i - 1; }
-  private int dataRight( final int i ) { return (i + 1) % nCols; }
-  private int dataUp   ( final int i ) { return i - 1 < 0 ? nRows - 1 : i - 1; }
-  private int dataDown ( final int i ) { return (i + 1) % nRows; }
+  }// solveParallel()
   
   /**
-   * Build the Constraint Matrix
+   *  Solve the submitted {@link SavedGame} with THIS Solver <br>
+   *  - afterwards, {@link #getSearchNanos} and {@link #getNodeCount} describe the search
+   *  
+   *  @param puzzle - must have the same length as this Solver
+   *  @param solution - empty game for the results
+   *  
+   *  @return elapsed time in msecs (may be zero), OR a NEGATIVE value if there was a problem
+   *  
+   *  @see BatchSolver
    */
-  private void buildConstraintMatrix()
+  long solve( final SavedGame puzzle, SavedGame solution )
   {
-    int $index, $valOffset ;
+    start( puzzle );
     
-    for( int r=0; r < gridLen; r++ )
+    long $startTime = System.nanoTime();
+    int $result = search( 0 );
+    searchNanos = System.nanoTime() - $startTime ;
+    
+    long $searchTime = searchNanos / 1000000L ;
+    logger.info( "Search time was " + $searchTime + " msecs" );
+    
+    if( $result != SEARCH_FOUND )
     {
-      for( int c=0; c < gridLen; c++ )
-      {
-        for( int v=0; v < gridLen; v++ )
-        {
-          $index = getIndex( v, r, c );
-          $valOffset = v * gridLen ;
-          
-          // Constraint 1: Only 1 number per Square
-          constraintMatrix[sqrOffset + getSqr(r,c)][$index] = 1;
-          
-          // Constraint 2: Only 1 of each value per Row
-          constraintMatrix[rowOffset + r + $valOffset][$index] = 1;
-          
-          // Constraint 3: Only 1 of each value per Column
-          constraintMatrix[colOffset + c + $valOffset][$index] = 1;
-          
-          // Constraint 4: Only 1 of each value per 3x3 Box
-          constraintMatrix[boxOffset + getBox(r,c) + $valOffset][$index] = 1;
-        }
-      }
+      logger.warning( ($result == SEARCH_CANCELLED) ? "Search was cancelled." : "NO solution found!" );
+      return( -1 - $searchTime );
     }
     
-    for( int i=0; i < nCols; i++ )
+    loadResults( solution );
+    
+    if( ! checkSolution(solution) )
     {
-      constraintMatrix[i][nRows - 1] = 2;
+      logger.warning( "PROBLEM WITH SOLUTION!!" );
+      return( -1 - $searchTime );
     }
     
-  }// buildConstraintMatrix()
+    return $searchTime ;
+    
+  }// solve()
+  
+  /** @return duration of the most recent {@link #solve}, in nanoseconds */
+  long getSearchNanos() { return searchNanos ; }
+  
+  /** @return number of nodes visited since the last {@link #start} */
+  int getNodeCount() { return loops ; }
   
   /**
-   * Set all the references for the Node Matrix
+   *  Count the solutions to the submitted {@link SavedGame}, stopping at <var>limit</var> <br>
+   *  - a limit of 2 is enough to tell if a puzzle has a UNIQUE solution
+   *  
+   *  @param puzzle - to check
+   *  @param limit - max number of solutions to count, OR zero for no limit
+   *  
+   *  @return number of solutions found, OR a NEGATIVE value if there was a problem
+   *  
+   *  @see Loader#getSavedGame
    */
-  private void buildNodeMatrix()
+  public static int countSolutions( final SavedGame puzzle, final int limit )
   {
-    int $shift ;
+    return countSolutions( puzzle, limit, null );
+  }
+  
+  /**
+   *  Count the solutions to the submitted {@link SavedGame}, stopping at <var>limit</var>,
+   *  and keep the values of the FIRST one
+   *  
+   *  @param puzzle - to check
+   *  @param limit - max number of solutions to count, OR zero for no limit
+   *  @param first - for the values of the first solution, at [row * length + col], OR null
+   *  
+   *  @return number of solutions found, OR a NEGATIVE value if there was a problem
+   *  
+   *  @see Grader#grade
+   */
+  static int countSolutions( final SavedGame puzzle, final int limit, final int[] first )
+  {
+    logger = Launcher.logger ;
     
-    // Build a toroidal linkedlist matrix according to the constraints data
-    for( int c = 0; c < nCols; c++ )
+    if( puzzle == null )
     {
-      for( int r = 0; r < nRows; r++ )
-      {
-        // find the non-empty nodes in each direction to set the pointers
-        if( constraintMatrix[c][r] != 0 )
-        {
-          // Left pointer
-          $shift = c;
-          do
-          {
-            $shift = dataLeft( $shift );
-          }
-          while( constraintMatrix[$shift][r] == 0 );
-          
-          nodeMatrix[c][r].left = nodeMatrix[$shift][r];
-          
-          // Right pointer
-          $shift = c;
-          do
-          {
-            $shift = dataRight( $shift );
-          }
-          while( constraintMatrix[$shift][r] == 0 );
-          
-          nodeMatrix[c][r].right = nodeMatrix[$shift][r];
-          
-          // Up pointer
-          $shift = r;
-          do
-          {
-            $shift = dataUp( $shift );
-          }
-          while( constraintMatrix[c][$shift] == 0 );
-          
-          nodeMatrix[c][r].up = nodeMatrix[c][$shift];
-          
-          // Down pointer
-          $shift = r;
-          do
-          {
-            $shift = dataDown( $shift );
-          }
-          while( constraintMatrix[c][$shift] == 0 );
-          
-          nodeMatrix[c][r].down = nodeMatrix[c][$shift];
-          
-          // Header pointer
-          nodeMatrix[c][r].header = nodeMatrix[c][nRows - 1];
-          nodeMatrix[c][r].nID = r ;
-          
-          // Row Headers
-          arRowHdrs[r] = nodeMatrix[c][r];
-          
-        }// if( constraintMatrix[c][r] != 0 )
-        
-      }// for( Rows )
+      logger.severe( "Passed a null SavedGame!!??" );
+      return( -1 );
+    }
+    
+    if( ! Helper.isValidGridLength(puzzle.getLength()) )
+    {
+      logger.severe( "Grid length " + puzzle.getLength() + " is NOT supported!" );
+      return( -1 );
+    }
+    
+    Solver $dlx = getThreadSolver( puzzle.getLength() );
+    
+    $dlx.start( puzzle );
+    
+    int $count = 0, $result ;
+    while( (limit <= 0) || ($count < limit) )
+    {
+      $result = $dlx.search( 0 );
       
-      // Columns
-      nodeMatrix[c][nRows - 1].set( 'C', c );
-
-    }// for( Cols )
+      if( $result == SEARCH_FOUND )
+      {
+        if( ($count == 0) && (first != null) )
+          $dlx.loadResults( first );
+        $count++ ;
+      }
+      else if( $result == SEARCH_EXHAUSTED )
+        break ;
+      else
+      {
+        logger.warning( "Search was cancelled." );
+        return( -1 );
+      }
+    }
+    
+    logger.info( puzzle.getName() + " has " + (($count == limit) ? "at least " : "") + $count + " solution(s)" );
     
-    // set root
-    rootNode.cType = '/' ;
-    rootNode.left = nodeMatrix[nCols - 1][nRows - 1];
-    rootNode.right = nodeMatrix[0][nRows - 1];
+    return $count ;
     
-    // insert root
-    nodeMatrix[nCols - 1][nRows - 1].right = rootNode;
-    nodeMatrix[0][nRows - 1].left = rootNode;
+  }// countSolutions()
+  
+  /**
+   *  Clear any previous search and load a new puzzle, ready for {@link #search}
+   *  
+   *  @param puzzle - {@link SavedGame} to solve
+   */
+  void start( final SavedGame puzzle )
+  {
+    reset();
+    loadGame( puzzle );
+  }// start()
+  
+ // end INTERFACE
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Get the {@link Solver} belonging to the current thread, creating a new one
+   *  only if this thread has none yet or the grid length has changed
+   *  
+   *  @param len - number of {@link Square}s along each side of the grid
+   *  @return a Solver that is NOT shared with any other thread
+   *  
+   *  @see #threadSolver
+   */
+  static Solver getThreadSolver( final int len )
+  {
+    Solver $dlx = threadSolver.get();
     
-    // set Row boundaries
-    for( int i=0; i < rowOffset; i++ )
+    if( ($dlx == null) || ($dlx.gridLen != len) )
     {
-      nodeMatrix[i + sqrOffset][nRows - 1].set( 'S', i );
-      nodeMatrix[i + rowOffset][nRows - 1].set( 'R', i );
-      nodeMatrix[i + colOffset][nRows - 1].set( 'C', i );
-      nodeMatrix[i + boxOffset][nRows - 1].set( 'B', i );
+      $dlx = new Solver( len );
+      threadSolver.set( $dlx );
     }
     
-  }// buildNodeMatrix()
+    return $dlx ;
+    
+  }// getThreadSolver()
   
   /**
-   * Cover a Row
-   * 
-   * @param colNode - node in a column
+   *  Build the toroidal Dancing Links matrix for an EMPTY grid <br>
+   *  - each possible placement [Val|Row|Col] is a row of {@link #NODES_PER_ROW} nodes, one in each constraint column: <br>
+   *  &nbsp;&nbsp; 1: Only 1 number per Square <br>
+   *  &nbsp;&nbsp; 2: Only 1 of each value per Row <br>
+   *  &nbsp;&nbsp; 3: Only 1 of each value per Column <br>
+   *  &nbsp;&nbsp; 4: Only 1 of each value per Box <br>
+   *  - NO allocation: just re-initializes the existing arrays
    */
-  private void cover( DlxNode colNode )
+  private void reset()
   {
-    if( colNode == null )
+    int $hdr, $node, $first, $val, $row, $col, $valOffset ;
+    
+    // root and column headers form a circular list
+    for( $hdr = ROOT; $hdr < firstRowNode; $hdr++ )
     {
-      logger.severe( "Passed a null DlxNode!!??" );
-      return ;
+      left[$hdr]  = ( $hdr == ROOT ) ? nCols : $hdr - 1 ;
+      right[$hdr] = ( $hdr == nCols ) ? ROOT : $hdr + 1 ;
+      up[$hdr] = down[$hdr] = col[$hdr] = $hdr ;
+      colSize[$hdr] = 0 ;
+    }
+    
+    // rows are appended in index order so each column list is sorted by index
+    for( int index=0; index < nRows; index++ )
+    {
+      $val = getVal( index );
+      $row = getRow( index );
+      $col = getCol( index );
+      $valOffset = $val * gridLen ;
+      
+      $first = getRowNode( index );
+      
+      col[$first]     = getColHdr( sqrOffset + getSqr($row, $col) );
+      col[$first + 1] = getColHdr( rowOffset + $row + $valOffset );
+      col[$first + 2] = getColHdr( colOffset + $col + $valOffset );
+      col[$first + 3] = getColHdr( boxOffset + getBox($row, $col) + $valOffset );
+      
+      for( int i=0; i < NODES_PER_ROW; i++ )
+      {
+        $node = $first + i ;
+        
+        // circular within the row
+        left[$node]  = ( i == 0 ) ? $first + NODES_PER_ROW - 1 : $node - 1 ;
+        right[$node] = ( i == NODES_PER_ROW - 1 ) ? $first : $node + 1 ;
+        
+        // add to the bottom of the column
+        $hdr = col[$node] ;
+        up[$node] = up[$hdr] ;
+        down[$node] = $hdr ;
+        down[ up[$hdr] ] = $node ;
+        up[$hdr] = $node ;
+        colSize[$hdr]++ ;
+      }
     }
     
+    nResults = 0 ;
+    nInitialVals = 0 ;
+    loops = 0 ;
+    update = 0 ;
+    
+    depth = 0 ;
+    step = STEP_ADVANCE ;
+    pauseRequested = false ;
+    cancelRequested = false ;
+    
+  }// reset()
+  
+  /**
+   * Cover a Column
+   * 
+   * @param colHdr - header node of a column
+   */
+  private void cover( final int colHdr )
+  {
     // remove this column from the matrix
-    colNode.right.left = colNode.left;
-    colNode.left.right = colNode.right;
+    left[ right[colHdr] ] = left[colHdr] ;
+    right[ left[colHdr] ] = right[colHdr] ;
     
     // remove all rows with this column
-    for( DlxNode $downNode = colNode.down; $downNode != colNode; $downNode = $downNode.down )
+    for( int $downNode = down[colHdr]; $downNode != colHdr; $downNode = down[$downNode] )
     {
-      for( DlxNode $rightNode = $downNode.right; $rightNode != $downNode; $rightNode = $rightNode.right )
+      for( int $rightNode = right[$downNode]; $rightNode != $downNode; $rightNode = right[$rightNode] )
       {
-        $rightNode.up.down = $rightNode.down;
-        $rightNode.down.up = $rightNode.up;
+        down[ up[$rightNode] ] = down[$rightNode] ;
+        up[ down[$rightNode] ] = up[$rightNode] ;
+        colSize[ col[$rightNode] ]-- ;
       }
     }
     
   }// cover()
     
   /**
-   * UnCover a Row
+   * UnCover a Column
    * 
-   * @param colNode - node in a column
+   * @param colHdr - header node of a column
    */
-  private void unCover( DlxNode colNode )
+  private void unCover( final int colHdr )
   {
-    if( colNode == null )
-    {
-      logger.severe( "Passed a null DlxNode!!??" );
-      return ;
-    }
-    
     // restore the rows
-    for( DlxNode $upNode = colNode.up; $upNode != colNode; $upNode = $upNode.up )
+    for( int $upNode = up[colHdr]; $upNode != colHdr; $upNode = up[$upNode] )
     {
-      for( DlxNode $leftNode = $upNode.left; $leftNode != $upNode; $leftNode = $leftNode.left )
+      for( int $leftNode = left[$upNode]; $leftNode != $upNode; $leftNode = left[$leftNode] )
       {
-        $leftNode.up.down = $leftNode;
-        $leftNode.down.up = $leftNode;
+        colSize[ col[$leftNode] ]++ ;
+        down[ up[$leftNode] ] = $leftNode ;
+        up[ down[$leftNode] ] = $leftNode ;
       }
     }
     
     // restore the column
-    colNode.right.left = colNode;
-    colNode.left.right = colNode;
+    left[ right[colHdr] ] = colHdr ;
+    right[ left[colHdr] ] = colHdr ;
     
   }// unCover()
   
   /**
-   *  Insert the value and location of a {@link DlxNode} in the results <br>
+   *  Insert the value and location of a node in the results <br>
    *  - called by {@link #loadGame}
    *  
    *  @param val = 0 - 8
    *  @param row = 0 - 8
    *  @param col = 0 - 8
+   *  
+   *  @return false if this value conflicts with a value already included
    */
-  private void includeNode( final int val, final int row, final int col )
+  private boolean includeNode( final int val, final int row, final int col )
   {
     int index = getIndex( val, row, col );
-      logger.fine( " (index = " + index + ")" );
+    logger.fine( () -> " (index = " + index + ")" );
+    
+    // all the columns of this row must still be in the matrix
+    int $rowNode = getRowNode( index ), $node = $rowNode ;
+    do
+    {
+      if( right[ left[ this.col[$node] ] ] != this.col[$node] )
+      {
+        logger.warning( "Value " + (val+1) + " at r" + (row+1) + "c" + (col+1) + " conflicts with another value!" );
+        return false ;
+      }
+      $node = right[$node] ;
+    }
+    while( $node != $rowNode );
     
+    place( $rowNode );
+    
+    return true ;
+    
+  }// includeNode()
+  
+  /**
+   *  Remove a row from the matrix and add it to the results, as if its value was given in the puzzle <br>
+   *  - called by {@link #includeNode} and {@link BranchTask}
+   *  
+   *  @param rowNode - any node in the row
+   */
+  private void place( final int rowNode )
+  {
     // remove from the matrix
-    DlxNode $hdrNode = arRowHdrs[index] ;
-    cover( $hdrNode.header );
-    for( DlxNode $rightNode = $hdrNode.right; $rightNode != $hdrNode; $rightNode = $rightNode.right )
+    cover( col[rowNode] );
+    for( int $rightNode = right[rowNode]; $rightNode != rowNode; $rightNode = right[$rightNode] )
     {
-      cover( $rightNode.header );
+      cover( col[$rightNode] );
     }
     
     // insert in the results array
-    arResults[nResults++] = index ;
+    arResults[nResults++] = getNodeIndex( rowNode );
     
     nInitialVals++ ;
     
-  }// includeNode()
+  }// place()
+  
+  /**
+   *  Copy the matrix and results of another Solver of the SAME length, ready to {@link #search} <br>
+   *  - NO allocation
+   *  
+   *  @param other - Solver to copy
+   */
+  private void copyFrom( final Solver other )
+  {
+    System.arraycopy( other.left,  0, left,  0, nNodes );
+    System.arraycopy( other.right, 0, right, 0, nNodes );
+    System.arraycopy( other.up,    0, up,    0, nNodes );
+    System.arraycopy( other.down,  0, down,  0, nNodes );
+    System.arraycopy( other.col,   0, col,   0, nNodes );
+    System.arraycopy( other.colSize, 0, colSize, 0, firstRowNode );
+    System.arraycopy( other.arResults, 0, arResults, 0, other.nResults );
+    
+    nResults = other.nResults ;
+    nInitialVals = other.nInitialVals ;
+    loops = 0 ;
+    update = 0 ;
+    
+    depth = 0 ;
+    step = ( other.step == STEP_FINISHED ) ? STEP_FINISHED : STEP_ADVANCE ;
+    pauseRequested = false ;
+    cancelRequested = false ;
+    
+  }// copyFrom()
   
   /**
    * extract data from the given 3-digit index number in the format [Val(0-8)|Row(0-8)|Col(0-8)] 
@@ -418,7 +686,7 @@ class Solver
    * @return index
    */
   int getBox( final int r, final int c )
-  { return( ((r/3) * 3) + (c/3) ); }
+  { return( ((r/boxLen) * boxLen) + (c/boxLen) ); }
   
   /**
    * find the required index from row and col info 
@@ -442,6 +710,27 @@ class Solver
   int getIndex( final int val, final int row, final int col )
   { return (val * nSqrs) + (row * gridLen) + col; }
   
+  /**
+   * @param c - constraint column, 0 to (nCols - 1)
+   * @return node id of the header of this column
+   */
+  private int getColHdr( final int c )
+  { return c + 1 ; }
+  
+  /**
+   * @param index - of a placement, in the format of {@link #getIndex}
+   * @return node id of the FIRST node in this placement's row
+   */
+  private int getRowNode( final int index )
+  { return firstRowNode + ( index * NODES_PER_ROW ); }
+  
+  /**
+   * @param node - id of any node in a placement row
+   * @return index of the placement, in the format of {@link #getIndex}
+   */
+  private int getNodeIndex( final int node )
+  { return ( node - firstRowNode ) / NODES_PER_ROW ; }
+  
   /**
    *  Load a game to the node matrix
    *  
@@ -461,93 +750,179 @@ class Solver
       for( int $col=0; $col < $len; $col++ )
       {
         $val = game.getValue( $row, $col );
-        if( $val != SqrTypes.BLANK_VAL )
-          includeNode( $val-1, $row, $col );
+        if( ($val != SqrTypes.BLANK_VAL) && !includeNode($val-1, $row, $col) )
+        {
+          // an impossible puzzle: nothing to search
+          step = STEP_FINISHED ;
+          return ;
+        }
       }
     
   }// loadGame()
   
   /**
-   *  Recursively search the node matrix for a solution
+   *  Search the node matrix for a solution, using an explicit stack instead of recursion <br>
+   *  - the full search state is kept in the stack fields, so a search that returns {@link #SEARCH_PAUSED}
+   *    continues from the same point on the next call <br>
+   *  - after {@link #SEARCH_FOUND}, calling again will look for the NEXT solution <br>
+   *  - an interrupt of the calling thread has the same effect as {@link #cancel}
    *  
-   *  @param nodeCount - number of nodes
+   *  @param nodeBudget - max number of nodes to visit in this call, OR zero for no limit
+   *  
+   *  @return {@link #SEARCH_FOUND}, {@link #SEARCH_EXHAUSTED}, {@link #SEARCH_PAUSED} or {@link #SEARCH_CANCELLED}
    */
-  private void search( final int nodeCount )
+  int search( final long nodeBudget )
   {
-    loops++ ;
-    
-    if( ( (rootNode.left == rootNode) && (rootNode.right == rootNode) ) || (nodeCount == (nSqrs - nInitialVals)) )
-    {
-      // valid solution!
-      logger.info( "\n ---- SOLUTION FOUND! ---- \n (" + loops + " search loops)" );
-      displayResults( Level.INFO );
-      
-      done = true ;
-      return;
-    }
-    
-    if( (nodeCount < gridLen) || (update < nodeCount) || (loops % 50 == 0) )
-    {
-      logger.fine( " search( " + nodeCount + " ) / loops = " + loops );
-      displayResults( Level.FINE );
-      update = nodeCount;
-    }
-    
-    DlxNode $nextNode = rootNode.right ;
-    // remove this column
-    cover( $nextNode );
+    long $nodes = 0 ;
+    int $colHdr, $rowNode, $node, $index ;
     
-    int $val, $row, $col ;
-    DlxNode $rightNode, $downNode ;
-    for( $downNode = $nextNode.down; ($downNode != $nextNode) && !done; $downNode = $downNode.down )
+    while( true )
     {
-      // try this node
-      arResults[nResults++] = $downNode.nID;
-      
-      $val = getVal( $downNode.nID );
-      $row = getRow( $downNode.nID );
-      $col = getCol( $downNode.nID );
-      logger.fine( " >> try " +($val+1)+ " at r" +($row+1)+ "c" +($col+1)+ " (node " +(nodeCount+1)+ ")" );
-      
-      for( $rightNode = $downNode.right; $rightNode != $downNode; $rightNode = $rightNode.right )
+      if( cancelRequested || Thread.currentThread().isInterrupted() )
       {
-        // remove any other columns in this column's rows
-        cover( $rightNode.header );
+        logger.info( "Search cancelled after " + loops + " search loops" );
+        step = STEP_FINISHED ;
+        return SEARCH_CANCELLED ;
       }
       
-      /* recursively try the next node  */
-      search( nodeCount + 1 );
+      if( pauseRequested || ((nodeBudget > 0) && ($nodes >= nodeBudget)) )
+      {
+        pauseRequested = false ;
+        return SEARCH_PAUSED ;
+      }
       
-      if( ! done )
+      switch( step )
       {
-        // Ok, that node didn't work
-        logger.fine( "Ok, " + ($val+1) + " at r" + ($row+1) + "c" + ($col+1) + " (node " + (nodeCount+1) + ") didn't work..." );
-        
-        for( $rightNode = $downNode.right; $rightNode != $downNode; $rightNode = $rightNode.right )
-        {
-          unCover( $rightNode.header );
-        }
-        
-        arResults[--nResults] = 0;
+        case STEP_ADVANCE:
+          loops++ ;
+          $nodes++ ;
+          
+          if( right[ROOT] == ROOT )
+          {
+            // valid solution!
+            logger.info( "\n ---- SOLUTION FOUND! ---- \n (" + loops + " search loops)" );
+            displayResults( Level.INFO );
+            
+            // be ready to look for another solution
+            depth-- ;
+            step = ( depth < 0 ) ? STEP_FINISHED : STEP_NEXT ;
+            return SEARCH_FOUND ;
+          }
+          
+          if( (depth < gridLen) || (update < depth) || (loops % 50 == 0) )
+          {
+            if( LogControl.fine() ) logger.fine( " search( " + depth + " ) / loops = " + loops );
+            displayResults( Level.FINE );
+            update = depth ;
+          }
+          
+          // remove the most constrained column and start on its first row
+          $colHdr = chooseColumn();
+          cover( $colHdr );
+          colStack[depth] = $colHdr ;
+          rowStack[depth] = down[$colHdr] ;
+          step = STEP_TRY ;
+          break ;
+          
+        case STEP_TRY:
+          $colHdr = colStack[depth] ;
+          $rowNode = rowStack[depth] ;
+          
+          if( $rowNode == $colHdr )
+          {
+            // no more rows to try in this column
+            if( LogControl.fine() ) logger.fine( " >> Finished search(" + depth + "): column = " + $colHdr );
+            unCover( $colHdr );
+            depth-- ;
+            if( depth < 0 )
+            {
+              step = STEP_FINISHED ;
+              return SEARCH_EXHAUSTED ;
+            }
+            step = STEP_NEXT ;
+            break ;
+          }
+          
+          // try this node
+          $index = getNodeIndex( $rowNode );
+          arResults[nResults++] = $index ;
+          if( LogControl.fine() ) logger.fine( " >> try " + (getVal($index)+1) + " at r" + (getRow($index)+1)
+                                               + "c" + (getCol($index)+1) + " (node " + (depth+1) + ")" );
+          
+          // remove any other columns in this row
+          for( $node = right[$rowNode]; $node != $rowNode; $node = right[$node] )
+            cover( col[$node] );
+          
+          depth++ ;
+          step = STEP_ADVANCE ;
+          break ;
+          
+        case STEP_NEXT:
+          // Ok, that node didn't work
+          $rowNode = rowStack[depth] ;
+          if( LogControl.fine() ) logger.fine( "Ok, node " + (depth+1) + " didn't work..." );
+          
+          for( $node = left[$rowNode]; $node != $rowNode; $node = left[$node] )
+            unCover( col[$node] );
+          
+          arResults[--nResults] = 0 ;
+          rowStack[depth] = down[$rowNode] ;
+          step = STEP_TRY ;
+          break ;
+          
+        default:
+          return SEARCH_EXHAUSTED ;
       }
-    }// for loop
+    }
+    
+  }// search()
+  
+  /**
+   *  Have a running {@link #search} return {@link #SEARCH_PAUSED} at its next node <br>
+   *  - may be called from any thread
+   */
+  void pause()
+  { pauseRequested = true ; }
+  
+  /**
+   *  Have a running {@link #search} stop and return {@link #SEARCH_CANCELLED} <br>
+   *  - may be called from any thread; the search can NOT be resumed until {@link #reset}
+   */
+  void cancel()
+  { cancelRequested = true ; }
+  
+  /**
+   *  Find the uncovered column with the FEWEST remaining rows <br>
+   *  - Knuth's 'S heuristic': branching on the most constrained column keeps the search tree small <br>
+   *  - called by {@link #search}
+   *  
+   *  @return column header node
+   */
+  private int chooseColumn()
+  {
+    int $best = ROOT ;
     
-    logger.fine( " >> Finished search(" + nodeCount + "): next$node = " + $nextNode.cType + $nextNode.nID
-                  + "; down$Node = " + $downNode.cType + $downNode.nID );
+    for( int $colHdr = right[ROOT]; $colHdr != ROOT; $colHdr = right[$colHdr] )
+    {
+      if( ($best == ROOT) || (colSize[$colHdr] < colSize[$best]) )
+      {
+        $best = $colHdr ;
+        // cannot do better than a forced move (or a dead end)
+        if( colSize[$best] <= 1 )
+          break ;
+      }
+    }
     
-    if( ! done )
-      unCover( $nextNode );
-    else
-        logger.fine( ">> DONE!" );
+    return $best ;
     
-  }// search()
+  }// chooseColumn()
   
   /**
    *  Transfer the results matrix to a SavedGame
    *  
    *  @param game - {@link SavedGame} to load
    */
-  private void loadResults( SavedGame game )
+  void loadResults( SavedGame game )
   {
     if( game == null )
     {
@@ -561,6 +936,18 @@ class Solver
     
   }// loadResults()
   
+  /**
+   *  Transfer the results matrix to an array of values
+   *  
+   *  @param values - at [row * length + col]
+   */
+  private void loadResults( final int[] values )
+  {
+    for( int n = 0; n < nResults; n++ )
+      values[ getRow(arResults[n]) * gridLen + getCol(arResults[n]) ] = getVal( arResults[n] ) + 1 ;
+    
+  }// loadResults()
+  
   /**
    *  Check a proposed solution
    *  
@@ -580,6 +967,9 @@ class Solver
     int $box1, $box2 ;
     int $boxLength = (int)Math.round( Math.sqrt(gridLen) );
     
+    // the Square by Square details are only wanted at FINER
+    final boolean $detail = LogControl.finer();
+    
     logger.appendln();
     loop:
     for( int r=0; r < gridLen; r++ )
@@ -587,10 +977,10 @@ class Solver
       {
         $count = 0 ;
         $val = game.getValue( r, c );
-        logger.appendln( " Check Sqr r" + r + "c" + c + "; val == " + $val );
+        if( $detail ) logger.appendln( " Check Sqr r" + r + "c" + c + "; val == " + $val );
         for( int k=0; k < gridLen; k++ )
         {
-          logger.appendln( "\t k == " + k );
+          if( $detail ) logger.appendln( "\t k == " + k );
           // check row
           if( k != c  )
           {
@@ -600,7 +990,7 @@ class Solver
               $solnOK = false ;
               break loop ;
             }
-            logger.appendln( "\t\t OK at Sqr R" + r + "c" + k );
+            if( $detail ) logger.appendln( "\t\t OK at Sqr R" + r + "c" + k );
             $count++ ;
           }
           // check col
@@ -612,7 +1002,7 @@ class Solver
               $solnOK = false ;
               break loop ;
             }
-            logger.appendln( "\t\t OK at Sqr r" + k + "C" + c );
+            if( $detail ) logger.appendln( "\t\t OK at Sqr r" + k + "C" + c );
             $count++ ;
           }
           // check box
@@ -626,18 +1016,20 @@ class Solver
               $solnOK = false ;
               break loop ;
             }
-            logger.appendln( "\t\t OK at Sqr r" + $box1 + "c" + $box2 );
+            if( $detail ) logger.appendln( "\t\t OK at Sqr r" + $box1 + "c" + $box2 );
             $count++ ;
           }
         }// for( k = 0-8 )
         
-        if( $count < 20 ) logger.appendln( "!! Count PROBLEM at Sqr r" + r + "c" + c );
+        // every Square has 2*(gridLen-1) Row & Col neighbours plus (boxLength-1)^2 others in its Box
+        if( $count < (2 * (gridLen - 1)) + (($boxLength - 1) * ($boxLength - 1)) ) logger.appendln( "!! Count PROBLEM at Sqr r" + r + "c" + c );
         
       }// for( col = 0-8 )
     
     if( $solnOK )
     {
-      logger.send( Level.FINER );
+      if( $detail ) logger.send( Level.FINER );
+      else logger.clean();
       logger.info( ">> Solution OK!" );
     }
     else
@@ -671,6 +1063,10 @@ class Solver
       level = LogControl.DEFAULT_LEVEL ;
     }
     
+    // skip building the display if it will not be logged
+    if( ! LogControl.atLevel(level) )
+      return ;
+    
     int r, c, i ;
     int[][] $tempAr = new int[gridLen][gridLen] ;
     
@@ -682,25 +1078,30 @@ class Solver
     for( r = 0; r < nResults; r++ )
       $tempAr[ getRow(arResults[r]) ][ getCol(arResults[r]) ] = getVal( arResults[r] );
     
+    // values may need more than one digit in larger grids
+    int $width = String.valueOf( gridLen ).length();
+    String $str ;
+    
     logger.appendln();
     for( r = 0; r < gridLen; r++ )
     {
       logger.append( "\t" );
       for( c = 0; c < gridLen; c++ )
       {
-        if( (r > 0) && (r % 3 == 0) && (c == 0) ) // horizontal lines
+        if( (r > 0) && (r % boxLen == 0) && (c == 0) ) // horizontal lines
         {
-          for( i = 0; i < 5; i++ )
-            logger.append( "----" );
-          logger.append( "---\n\t" );
+          for( i = 1; i < (gridLen * ($width + 1)) + (boxLen * 2); i++ )
+            logger.append( "-" );
+          logger.append( "\n\t" );
         }
         
-        if( $tempAr[r][c] >= 0 )
-          logger.append( String.valueOf($tempAr[r][c]+1) ); // value
-        else
-          logger.append( "." ); // blank
+        $str = ( $tempAr[r][c] >= 0 ) ? String.valueOf( $tempAr[r][c]+1 ) // value
+                                      : "." ; // blank
+        for( i = $str.length(); i < $width; i++ )
+          logger.append( " " );
+        logger.append( $str );
         
-        logger.append( c % 3 == 2 ? " | " : " " ); // vertical lines
+        logger.append( c % boxLen == boxLen - 1 ? " | " : " " ); // vertical lines
         
       }
       logger.appendln();
@@ -714,6 +1115,7 @@ class Solver
   *************************************************************************************************************/
   
   private final int gridLen ,
+                     boxLen ,
                       nSqrs ,
                       nCols ,
                       nRows ;
@@ -725,19 +1127,70 @@ class Solver
   
   private int nInitialVals ;
   
-  private DlxNode     rootNode ;
-  private DlxNode[]   arRowHdrs ;
-  private DlxNode[][] nodeMatrix ;
+  /** node id of the root of the column header list */
+  private static final int ROOT = 0 ;
+  
+  /** each placement satisfies exactly one Square, Row, Col and Box constraint */
+  private static final int NODES_PER_ROW = 4 ;
+  
+  private final int firstRowNode ,
+                    nNodes ;
+  
+  // the Dancing Links matrix: parallel arrays indexed by node id
+  private final int[] left ,
+                      right ,
+                      up ,
+                      down ,
+                      col ;
+  
+  /** number of rows currently linked in each column, indexed by column header id */
+  private final int[] colSize ;
   
   private int     nResults ;
   private int[]   arResults ;
-  private int[][] constraintMatrix ;
   
   private int loops ;
   private int update ;
-  private boolean done ;
   
-  private static long searchTime ;
+  /** {@link #search} results */
+  static final int SEARCH_EXHAUSTED = 0 ,
+                   SEARCH_FOUND     = 1 ,
+                   SEARCH_PAUSED    = 2 ,
+                   SEARCH_CANCELLED = 3 ;
+  
+  // next action of the search loop
+  private static final int STEP_ADVANCE  = 0 ,
+                           STEP_TRY      = 1 ,
+                           STEP_NEXT     = 2 ,
+                           STEP_FINISHED = 3 ;
+  
+  /** column chosen at each level of the search */
+  private final int[] colStack ;
+  /** row node currently being tried at each level of the search */
+  private final int[] rowStack ;
+  
+  private int depth ;
+  private int step ;
+  
+  private volatile boolean pauseRequested ,
+                           cancelRequested ;
+  
+  private long searchNanos ;
+  
+  /** use {@link #solveParallel} for grids at least this long */
+  static final int PARALLEL_GRID_LENGTH = 16 ;
+  
+  /** search levels split into separate branches by {@link #getSolution} */
+  static final int PARALLEL_SPLIT_DEPTH = 2 ;
+  
+  /** nodes a branch searches between checks for a solution in another branch */
+  private static final long BRANCH_NODE_BUDGET = 2048 ;
+  
+  /** {@link BranchTask} for the root of the search tree */
+  private static final int NO_NODE = -1 ;
+  
+  /** each thread re-uses its own Solver, so the matrix is only allocated once per thread */
+  private static final ThreadLocal<Solver> threadSolver = new ThreadLocal<>();
   
   private static PskLogger logger ;
   
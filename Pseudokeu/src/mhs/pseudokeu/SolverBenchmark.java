@@ -0,0 +1,328 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import mhs.pseudokeu.Loader.SavedGame;
+import mhs.pseudokeu.LogicGrid.Technique;
+
+/**
+ * Measure the cost of solving the bundled games, so that Solver changes can be compared <br>
+ * - loads every game in the EASY..DEADLY folders of {@link Loader#DEFAULT_PATH} <br>
+ * - each game is solved for some WARMUP rounds, then timed for some MEASURE rounds <br>
+ * - reports the median and 90th percentile latency and the bytes allocated per solve, for each game
+ *   and for each level of difficulty <br>
+ * - each game is ALSO solved by the logical techniques of a {@link LogicGrid} for some LOGIC rounds,
+ *   and the calls, hits and time of each {@link Technique} are reported for each level of difficulty
+ *
+ * <pre>
+ *   java mhs.pseudokeu.SolverBenchmark [games folder] [warmup rounds] [measure rounds] [logic rounds]
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Solver#solve
+ */
+class SolverBenchmark
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /**
+   *  Only Constructor
+   *
+   *  @param warm - number of untimed rounds for each game
+   *  @param measure - number of timed rounds for each game
+   *  @param logic - number of logical solves for each game, zero to skip the {@link LogicGrid} pass
+   */
+  SolverBenchmark( final int warm, final int measure, final int logic )
+  {
+    logger = Launcher.logger ;
+    
+    warmRounds = Math.max( warm, 0 );
+    measureRounds = Math.max( measure, 1 );
+    logicRounds = Math.max( logic, 0 );
+    
+    loader = new Loader( Launcher.INITIAL_GRID_LENGTH, Launcher.MAX_NUM_LOADED_GAMES );
+  }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Benchmark all the games in each difficulty folder
+   *
+   *  @param folder - with one sub-folder per level of difficulty
+   *  @return number of games measured
+   */
+  int run( final File folder )
+  {
+    int $total = 0 ;
+    long[][] $techStats = new long[ Loader.NUM_DIFFICULTIES ][];
+    int[] $techGames = new int[ Loader.NUM_DIFFICULTIES ];
+    
+    System.out.println( String.format(STR_HEADER, "game", "median us", "p90 us", "nodes", "bytes/op") );
+    
+    for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+    {
+      File[] $files = new File( folder, Loader.STR_DIFF_FOLDERS[diff] ).listFiles( (d, n) -> n.endsWith(Loader.GAME_SUFFIX) );
+      if( $files == null )
+      {
+        logger.warning( "NO folder for " + Loader.STR_DIFF_FOLDERS[diff] );
+        continue ;
+      }
+      Arrays.sort( $files );
+      
+      List<long[]> $results = new ArrayList<>();
+      for( File $file : $files )
+      {
+        SavedGame $game = loader.readGame( $file, diff );
+        if( $game == null )
+          continue ;
+        
+        long[] $res = measure( $game );
+        $results.add( $res );
+        
+        if( logicRounds > 0 )
+        {
+          $techStats[diff] = measureLogic( $game, $techStats[diff] );
+          $techGames[diff]++ ;
+        }
+        System.out.println( String.format(STR_FORMAT, Loader.STR_DIFF_FOLDERS[diff] + "/" + $game.getName(),
+                                          $res[MEDIAN]/1000.0, $res[P90]/1000.0, $res[NODES], $res[BYTES]) );
+      }
+      
+      if( $results.isEmpty() )
+        continue ;
+      
+      long[] $sum = new long[ NUM_RESULTS ];
+      for( long[] $res : $results )
+        for( int i=0; i < NUM_RESULTS; i++ )
+          $sum[i] += $res[i] ;
+      
+      int $n = $results.size();
+      System.out.println( String.format(STR_FORMAT, "** " + Loader.STR_DIFF_FOLDERS[diff] + " average (" + $n + ")",
+                                        $sum[MEDIAN]/1000.0/$n, $sum[P90]/1000.0/$n, $sum[NODES]/$n, $sum[BYTES]/$n) );
+      $total += $n ;
+    }
+    
+    for( int diff = Loader.EASY; diff <= Loader.DEADLY; diff++ )
+      if( $techStats[diff] != null )
+        reportLogic( Loader.STR_DIFF_FOLDERS[diff], $techStats[diff], $techGames[diff] * logicRounds );
+    
+    return $total ;
+  
+  }// SolverBenchmark.run()
+ 
+ // ===========================================================================================================
+ //                            P R I V A T E
+ // ===========================================================================================================
+  
+  /**
+   *  Solve one game repeatedly on this thread
+   *
+   *  @param game - to solve
+   *  @return results, indexed by {@link #MEDIAN}, {@link #P90}, {@link #NODES}, {@link #BYTES}
+   */
+  private long[] measure( final SavedGame game )
+  {
+    int $len = game.getLength();
+    Solver $dlx = Solver.getThreadSolver( $len );
+    SavedGame $solution = loader.new SavedGame( $len, game.getName() );
+    
+    for( int i=0; i < warmRounds; i++ )
+      $dlx.solve( game, $solution );
+    
+    long[] $times = new long[ measureRounds ];
+    long $startBytes = allocatedBytes();
+    for( int i=0; i < measureRounds; i++ )
+    {
+      if( $dlx.solve(game, $solution) < 0 )
+        logger.warning( "Could NOT solve " + game.getName() );
+      $times[i] = $dlx.getSearchNanos();
+    }
+    long $bytes = ( allocatedBytes() - $startBytes ) / measureRounds ;
+    
+    Arrays.sort( $times );
+    
+    long[] $res = new long[ NUM_RESULTS ];
+    $res[MEDIAN] = $times[ measureRounds / 2 ];
+    $res[P90]    = $times[ (measureRounds * 9) / 10 ];
+    $res[NODES]  = $dlx.getNodeCount();
+    $res[BYTES]  = $bytes ;
+    
+    return $res ;
+  
+  }// SolverBenchmark.measure()
+  
+  /**
+   *  Solve one game repeatedly with the logical techniques and add the statistics of each {@link Technique}
+   *
+   *  @param game - to solve
+   *  @param stats - totals so far, OR null for the first game of a level
+   *  @return the totals: calls, hits, skips and nanoseconds of each technique, see {@link #STAT_CALLS}
+   */
+  private long[] measureLogic( final SavedGame game, final long[] stats )
+  {
+    long[] $stats = ( stats != null ) ? stats : new long[ Technique.values().length * NUM_STATS ];
+    
+    if( (logicGrid == null) || (logicGrid.getLength() != game.getLength()) )
+      logicGrid = new LogicGrid( game.getLength() );
+    
+    // untimed, so the first round does NOT pay for class loading and the JIT
+    if( logicGrid.loadGame(game) )
+      logicGrid.solve();
+    
+    logicGrid.resetStats();
+    for( int i=0; i < logicRounds; i++ )
+    {
+      if( ! logicGrid.loadGame(game) )
+      {
+        logger.warning( "Could NOT load " + game.getName() + " in the LogicGrid" );
+        return $stats ;
+      }
+      logicGrid.solve();
+    }
+    
+    for( Technique $tech : Technique.values() )
+    {
+      int $i = $tech.ordinal() * NUM_STATS ;
+      $stats[$i + STAT_CALLS] += logicGrid.getNumCalls( $tech );
+      $stats[$i + STAT_HITS]  += logicGrid.getNumHits( $tech );
+      $stats[$i + STAT_SKIPS] += logicGrid.getNumSkips( $tech );
+      $stats[$i + STAT_NANOS] += logicGrid.getNanos( $tech );
+    }
+    
+    return $stats ;
+  
+  }// SolverBenchmark.measureLogic()
+  
+  /**
+   *  Print the statistics of each {@link Technique} for one level, per logical solve
+   *
+   *  @param level - name of the level
+   *  @param stats - from {@link #measureLogic}
+   *  @param solves - number of logical solves in the statistics
+   */
+  private static void reportLogic( final String level, final long[] stats, final int solves )
+  {
+    System.out.println( "\n" + level + " - logical techniques, average of " + solves + " solves:" );
+    System.out.println( String.format(STR_TECH_HEADER, "technique", "calls", "hits", "skips", "us", "us/hit") );
+    
+    for( Technique $tech : Technique.values() )
+    {
+      int $i = $tech.ordinal() * NUM_STATS ;
+      long $hits = stats[$i + STAT_HITS] ;
+      System.out.println( String.format(STR_TECH_FORMAT, $tech.label, (double)stats[$i + STAT_CALLS] / solves,
+                                        (double)$hits / solves, (double)stats[$i + STAT_SKIPS] / solves,
+                                        stats[$i + STAT_NANOS] / 1000.0 / solves,
+                                        ($hits > 0) ? stats[$i + STAT_NANOS] / 1000.0 / $hits : 0.0) );
+    }
+  
+  }// SolverBenchmark.reportLogic()
+  
+  /**
+   *  @return bytes allocated so far by this thread, OR zero if the JVM cannot tell
+   */
+  private static long allocatedBytes()
+  {
+    if( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean )
+      return ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    
+    return 0 ;
+  
+  }// SolverBenchmark.allocatedBytes()
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  private final int warmRounds ,
+                    measureRounds ,
+                    logicRounds ;
+  
+  /** for the logical techniques, ONLY created if there are {@link #logicRounds}  */
+  private LogicGrid logicGrid ;
+  
+  /** headless, ONLY used to read games  */
+  private final Loader loader ;
+  
+  /** indices of the results from {@link #measure} */
+  private static final int MEDIAN = 0 ,
+                           P90    = 1 ,
+                           NODES  = 2 ,
+                           BYTES  = 3 ,
+                      NUM_RESULTS = 4 ;
+  
+  /** indices of the statistics of each technique from {@link #measureLogic} */
+  private static final int STAT_CALLS = 0 ,
+                           STAT_HITS  = 1 ,
+                           STAT_SKIPS = 2 ,
+                           STAT_NANOS = 3 ,
+                            NUM_STATS = 4 ;
+  
+  private static final String STR_HEADER = "%-28s %12s %12s %8s %10s" ,
+                             STR_FORMAT = "%-28s %12.1f %12.1f %8d %10d" ,
+                        STR_TECH_HEADER = "  %-20s %10s %10s %10s %12s %10s" ,
+                        STR_TECH_FORMAT = "  %-20s %10.1f %10.2f %10.1f %12.1f %10.1f" ;
+  
+  private static PskLogger logger ;
+ 
+ /*
+  *            M A I N
+  *************************************************************************************************************/
+  
+  /**
+   *  Command line entry point
+   *
+   *  @param args - [games folder], [warmup rounds], [measure rounds], [logic rounds]
+   */
+  public static void main( final String args[] )
+  {
+    Launcher.logger = new LogControl( "WARNING" ).getLogger();
+    
+    int $warm = 200, $measure = 500, $logic = 20 ;
+    try
+    {
+      if( args.length > 1 )
+        $warm = Integer.parseInt( args[1] );
+      if( args.length > 2 )
+        $measure = Integer.parseInt( args[2] );
+      if( args.length > 3 )
+        $logic = Integer.parseInt( args[3] );
+    }
+    catch( NumberFormatException nfe )
+    {
+      System.err.println( "Bad number of rounds -- " + nfe.getMessage() );
+      System.exit( 1 );
+    }
+    
+    File $folder = new File( (args.length > 0) ? args[0] : Loader.DEFAULT_PATH );
+    
+    long $start = System.nanoTime();
+    int $games = new SolverBenchmark( $warm, $measure, $logic ).run( $folder );
+    
+    System.out.println( "\nMeasured " + $games + " games x " + $measure + " rounds in "
+                        + (System.nanoTime() - $start)/1000000L + " msecs" );
+  
+  }// SolverBenchmark.main()
+
+}// class SolverBenchmark
@@ -71,23 +71,23 @@ class Square
   /**
    *  default Constructor
    *  
-   *  @param homeGrid - enclosing {@link Grid}
+   *  @param homeGrid - enclosing {@link LogicGrid}
    */
-  public Square( final Grid homeGrid )
+  public Square( final LogicGrid homeGrid )
   {
     if( homeGrid == null )
     {
-      System.err.println( "Square Constructor: passed a null Grid!!??" );
+      System.err.println( "Square Constructor: passed a null LogicGrid!!??" );
       System.exit( this.hashCode() );
     }
     
     grid = homeGrid ;
     gridLength = grid.getLength() ;
-    logger = Grid.logger ;
+    logger = LogicGrid.logger ;
     
-    chainColor = Grid.NO_COLOR ;
+    chainColor = LogicGrid.NO_COLOR ;
     nGrpSqrsWithVal = new int[ gridLength + 1 ];
-    excludeVals = new boolean[ gridLength + 1 ]; // all false at start
+    allVals = CandidateSet.range( 1, gridLength );
   }
   
  /*
@@ -127,6 +127,11 @@ class Square
     myRow  = row ;
     myCol  = col ;
     myZone = zone ;
+    
+    // my bit in the Zone's sqrsCanBeVal[]
+    for( int i=0; i < gridLength; i++ )
+      if( zone.mySqrs[i] == this )
+        zoneIndex = i ;
   
   }// Square.setGroups()
   
@@ -134,6 +139,7 @@ class Square
    * Set {@link SqrTypes#FIXED} for this {@link Square}
    * 
    * @see Grid#activateGame
+   * @see LogicGrid#loadGame
    */
   void setFixed()
   {
@@ -143,7 +149,7 @@ class Square
      myRow.adjustTypeCounts( SqrTypes.GUESS, SqrTypes.FIXED );
      myCol.adjustTypeCounts( SqrTypes.GUESS, SqrTypes.FIXED );
     
-    logger.severe( "Sqr " + strGridPosn() );
+    logger.fine( () -> "Sqr " + strGridPosn() );
     
   }// Square.setFixed()
   
@@ -162,12 +168,12 @@ class Square
     if( ( (val == SqrTypes.BLANK_VAL) && (value == SqrTypes.BLANK_VAL) )
         || ( (val == value) && (temp == tempMode) ) )
     {
-      logger.fine( "DO NOTHING... current val = " + value + ( temp ? "/T" : "" )
+      logger.fine( () -> "DO NOTHING... current val = " + value + ( temp ? "/T" : "" )
                    + " & new val = " + val + ( tempMode ? "/T" : "" )+ " // current type = " + type );
       return ;
     }
     
-    logger.info( "Sqr " + strGridPosn() + " : Set value to '" + val + "'" );
+    logger.info( () -> "Sqr " + strGridPosn() + " : Set value to '" + val + "'" );
     
     /*  >> the 'Set Value Chain'
      *  When a user changes the value of a Square, there are several updates that need to be done 
@@ -206,8 +212,10 @@ class Square
        myRow.changedSqr( $oldVal, $newVal, $oldType, type );
        myCol.changedSqr( $oldVal, $newVal, $oldType, type );
          
-      /* 4. Update the Groups of the Group Squares - i.e. the "Group Square Groups"  */
-      grid.setSqrsCanBeVal();
+      /* 4. Update the Groups of the Group Squares - i.e. the "Group Square Groups"
+       *    >> resetPossibleVals() of EACH changed Square updates ONLY its own bits in its own Groups  */
+      if( Launcher.DEBUG )
+        grid.checkSqrsCanBeVal();
       
       /* >> FINISHED the 'Set Value Chain'  */
     }
@@ -228,13 +236,13 @@ class Square
    */
   void adjustGroupSqrCounts( final int oldVal, final int newVal )
   {
-    logger.fine( "Sqr " + strGridPosn() + " : '" + oldVal + "' -> '" + newVal + "'" );
+    logger.fine( () -> "Sqr " + strGridPosn() + " : '" + oldVal + "' -> '" + newVal + "'" );
     
-    if( oldVal != SqrTypes.BLANK_VAL )
-      --nGrpSqrsWithVal[ oldVal ];
+    if( (oldVal != SqrTypes.BLANK_VAL) && (--nGrpSqrsWithVal[oldVal] == 0) )
+      grpSqrVals = CandidateSet.without( grpSqrVals, oldVal );
     
-    if( newVal != SqrTypes.BLANK_VAL )
-      ++nGrpSqrsWithVal[ newVal ];
+    if( (newVal != SqrTypes.BLANK_VAL) && (++nGrpSqrsWithVal[newVal] == 1) )
+      grpSqrVals = CandidateSet.with( grpSqrVals, newVal );
     
     // must call this AFTER adjusting nGroupSqrsWithVal[] above
     adjustConflict( oldVal, newVal );
@@ -273,7 +281,7 @@ class Square
   boolean removePossibleVal( final int val )
   {
     // need to set the exclude val even though this may not be a possible val
-    excludeVals[val] = true ;
+    excludeVals = CandidateSet.with( excludeVals, val );
     
     // Only Open Squares have valid possible values
     if( ! isOpen() )
@@ -281,24 +289,28 @@ class Square
     
     boolean $result = false ;
     
-    logger.append( "\t\t\t Sqr " + strGridPosn()
-                    + " : possibleVals == " + Helper.displaySetBits(possibleVals, gridLength, " ")
-                   /* + "/ " + Integer.toBinaryString(possibleVals)*/ + "/ n." + nPossibleVals );
+    // the Solve techniques send this at INFO or lower
+    final boolean $log = LogControl.info();
+    
+    if( $log )
+      logger.append( "\t\t\t Sqr " + strGridPosn()
+                      + " : possibleVals == " + Helper.displaySetBits(possibleVals, gridLength, " ")
+                     /* + "/ " + Integer.toBinaryString(possibleVals)*/ + "/ n." + nPossibleVals );
     
-    int $val = ( 1 << val );
-    if( ($val|possibleVals) == possibleVals )
+    if( CandidateSet.contains(possibleVals, val) )
     {
-      possibleVals -= $val ;
+      possibleVals = CandidateSet.without( possibleVals, val );
       nPossibleVals-- ;
-      logger.appendln( " -> NOW == " + Helper.displaySetBits(possibleVals, gridLength, " ")
-                       /* + "/ " + Integer.toBinaryString(possibleVals)*/ + "/ n." + nPossibleVals );
+      if( $log )
+        logger.appendln( " -> NOW == " + Helper.displaySetBits(possibleVals, gridLength, " ")
+                         /* + "/ " + Integer.toBinaryString(possibleVals)*/ + "/ n." + nPossibleVals );
       
-      removeSqrFromGrpVal( val );
+      updateGroupsCanBeVal();
       
       $result = true ;
     }
     else
-        logger.appendln( " -> NO CHANGE" );
+      if( $log ) logger.appendln( " -> NO CHANGE" );
     
     return $result ;
     
@@ -306,7 +318,7 @@ class Square
   
   /**
    *  Find my only possible value <br>
-   *  - called by {@link Grid#findSqrSingle}
+   *  - called by {@link LogicGrid#findSqrSingle}
    *  
    *  @return success or failure
    */
@@ -315,13 +327,13 @@ class Square
     if( ! isOpen() )
       return false ;
     
-    logger.append( "Sqr " + strGridPosn() );
+    logger.append( Level.INFO, () -> "Sqr " + strGridPosn() );
     
     boolean $result = false ;
     if( nPossibleVals == 1 )
     {
-      solvedValue = Integer.numberOfTrailingZeros( possibleVals );
-      logger.append( ": Found Single val '" + solvedValue + "'" );
+      solvedValue = CandidateSet.first( possibleVals );
+      logger.append( Level.INFO, () -> ": Found Single val '" + solvedValue + "'" );
       $result = true ;
     }
     
@@ -338,10 +350,7 @@ class Square
    */
   boolean canBeVal( int val )
   {
-    if( ((1 << val) | possibleVals) == possibleVals )
-      return true ;
-    
-    return false ;
+    return CandidateSet.contains( possibleVals, val );
     
   }// Square.canBeVal()
   
@@ -350,7 +359,7 @@ class Square
    * @param index - into the array
    */
   boolean getExcludeVal( final int index )
-  { return excludeVals[index] ;}
+  { return CandidateSet.contains( excludeVals, index ); }
   
   /**
    * Set the chain color
@@ -367,14 +376,13 @@ class Square
   
   /**
    *  Reset all mutable fields to default values
-   *  - called by {@link #Square(Grid)} and {@link Grid#clear}
+   *  - called by {@link #Square(LogicGrid)} and {@link Grid#clear}
    */
   final void clear()
   {
     for( int v=0; v <= gridLength; v++ )
     {
       nGrpSqrsWithVal[v] = 0 ;
-      excludeVals[v] = false ;
     }
     
     type  = SqrTypes.OPEN ;
@@ -385,7 +393,13 @@ class Square
     
     // clear Solving parameters
     solvedValue = SqrTypes.BLANK_VAL ;
-    chainColor = Grid.NO_COLOR ;
+    chainColor = LogicGrid.NO_COLOR ;
+    
+    grpSqrVals = excludeVals = 0 ;
+    
+    // can be ANY value - the Groups are cleared to match
+    possibleVals = grpCanBeVals = allVals ;
+    nPossibleVals = gridLength ;
     
   }// Square.clear()
   
@@ -405,13 +419,13 @@ class Square
   
   /**
    * Set {@link #autoSolved} for this {@link Square}
-   * @see Grid#setAutoSolvedSqr
+   * @see LogicGrid#setAutoSolvedSqr
    */
   void setAutoSolved()
   {
     autoSolved = true ; // CANNOT undo 'SOLVED' status
     
-    logger.info( "Sqr " + strGridPosn() + ": autoSolved = " + this.autoSolved );
+    logger.info( () -> "Sqr " + strGridPosn() + ": autoSolved = " + this.autoSolved );
     
   }// Square.setAutoSolved()
   
@@ -425,7 +439,7 @@ class Square
   {
     wrong = state ;
     
-    logger.info( "Sqr " + strGridPosn() + ": wrong = " + state + "\n" );
+    logger.info( () -> "Sqr " + strGridPosn() + ": wrong = " + state + "\n" );
     
   }// Square.setWrong()
   
@@ -487,7 +501,7 @@ class Square
   
   /** @return whether {@link #chainColor} is set  */
   boolean inColorChain()
-  { return chainColor > Grid.NO_COLOR ; }
+  { return chainColor > LogicGrid.NO_COLOR ; }
   
   /**
    * Which {@link Zone} am I in?
@@ -525,6 +539,66 @@ class Square
    */
   int getColIndex() { return myCol.getPosn() ;}
   
+  /**
+   *  Copy my Solving state into a {@link GridSnapshot}
+   *  
+   *  @param snap - to copy into
+   *  @param index - my index, i.e. row * gridLength + col
+   *  @see LogicGrid#saveState
+   */
+  void saveState( final GridSnapshot snap, final int index )
+  {
+    final int[] $state = snap.sqrState ;
+    final int $i = snap.sqrStateIndex( index );
+    
+    $state[$i + GridSnapshot.SQR_TYPE]       = type.ordinal();
+    $state[$i + GridSnapshot.SQR_VALUE]      = value ;
+    $state[$i + GridSnapshot.SQR_SOLVED]     = solvedValue ;
+    $state[$i + GridSnapshot.SQR_FLAGS]      = (temp ? GridSnapshot.FLAG_TEMP : 0) | (autoSolved ? GridSnapshot.FLAG_AUTO_SOLVED : 0)
+                                               | (conflicting ? GridSnapshot.FLAG_CONFLICTING : 0) | (wrong ? GridSnapshot.FLAG_WRONG : 0);
+    $state[$i + GridSnapshot.SQR_N_POSSIBLE] = nPossibleVals ;
+    $state[$i + GridSnapshot.SQR_POSSIBLE]   = possibleVals ;
+    $state[$i + GridSnapshot.SQR_EXCLUDE]    = excludeVals ;
+    $state[$i + GridSnapshot.SQR_GRP_VALS]   = grpSqrVals ;
+    $state[$i + GridSnapshot.SQR_GRP_CAN_BE] = grpCanBeVals ;
+    $state[$i + GridSnapshot.SQR_CHAIN]      = chainColor ;
+    
+    System.arraycopy( nGrpSqrsWithVal, 0, snap.sqrCounts, snap.sqrCountsIndex(index), snap.countLength );
+    
+  }// Square.saveState()
+  
+  /**
+   *  Set my Solving state from a {@link GridSnapshot} <br>
+   *  - {@link #active} is NOT part of the state, as it belongs to the GUI
+   *  
+   *  @param snap - to copy from
+   *  @param index - my index, i.e. row * gridLength + col
+   *  @see LogicGrid#restoreState
+   */
+  void restoreState( final GridSnapshot snap, final int index )
+  {
+    final int[] $state = snap.sqrState ;
+    final int $i = snap.sqrStateIndex( index );
+    final int $flags = $state[$i + GridSnapshot.SQR_FLAGS] ;
+    
+    type          = GridSnapshot.SQR_TYPES[ $state[$i + GridSnapshot.SQR_TYPE] ];
+    value         = $state[$i + GridSnapshot.SQR_VALUE] ;
+    solvedValue   = $state[$i + GridSnapshot.SQR_SOLVED] ;
+    temp          = GridSnapshot.isSet( $flags, GridSnapshot.FLAG_TEMP );
+    autoSolved    = GridSnapshot.isSet( $flags, GridSnapshot.FLAG_AUTO_SOLVED );
+    conflicting   = GridSnapshot.isSet( $flags, GridSnapshot.FLAG_CONFLICTING );
+    wrong         = GridSnapshot.isSet( $flags, GridSnapshot.FLAG_WRONG );
+    nPossibleVals = $state[$i + GridSnapshot.SQR_N_POSSIBLE] ;
+    possibleVals  = $state[$i + GridSnapshot.SQR_POSSIBLE] ;
+    excludeVals   = $state[$i + GridSnapshot.SQR_EXCLUDE] ;
+    grpSqrVals    = $state[$i + GridSnapshot.SQR_GRP_VALS] ;
+    grpCanBeVals  = $state[$i + GridSnapshot.SQR_GRP_CAN_BE] ;
+    chainColor    = $state[$i + GridSnapshot.SQR_CHAIN] ;
+    
+    System.arraycopy( snap.sqrCounts, snap.sqrCountsIndex(index), nGrpSqrsWithVal, 0, snap.countLength );
+    
+  }// Square.restoreState()
+  
  // end INTERFACE
  // ===========================================================================================================
  //                            P R I V A T E
@@ -572,7 +646,7 @@ class Square
    */
   private void adjustConflict( final int oldval, final int newval )
   {
-    logger.fine( "Sqr " + strGridPosn() + " : for '" + oldval + "' -> '" + newval + "'" );
+    logger.fine( () -> "Sqr " + strGridPosn() + " : for '" + oldval + "' -> '" + newval + "'" );
     
     int $diff = 0 ;
     
@@ -621,19 +695,17 @@ class Square
     if( ! isOpen() )
     {
       possibleVals = ( 1 << value );
-      return( nPossibleVals = 1 );
+      nPossibleVals = 1 ;
+      
+      updateGroupsCanBeVal();
+      return nPossibleVals ;
     }
     
-    possibleVals = 0 ;
-    nPossibleVals = 0 ;
-    for( int v=1; v <= gridLength; v++ )
-      if( (nGrpSqrsWithVal[v] == 0) && (!excludeVals[v]) )
-      {
-        possibleVals += ( 1 << v );
-        nPossibleVals++ ;
-      }
+    // ANY value NOT in a Group Square and NOT excluded by a Solve technique
+    possibleVals = allVals & ~( grpSqrVals | excludeVals );
+    nPossibleVals = CandidateSet.count( possibleVals );
     
-    logger.fine( "Sqr " + strGridPosn() + ": possibleVals == " + Helper.displaySetBits(possibleVals, gridLength, " ")
+    logger.fine( () -> "Sqr " + strGridPosn() + ": possibleVals == " + Helper.displaySetBits(possibleVals, gridLength, " ")
                  + "/ " + Integer.toBinaryString(possibleVals) + " / n." + nPossibleVals );
     
     /* test */
@@ -644,25 +716,37 @@ class Square
         logger.finer( "FOUND vals 3,4,7,9 ! (vals == " + vals + "/" + Integer.toBinaryString(vals) );
     }
     
+    updateGroupsCanBeVal();
     return nPossibleVals ;
     
   }// Square.resetPossibleVals()
   
   /**
-   *  Remove an entry from each of my Group's possible values <br>
-   *  - called by {@link #removePossibleVal}
+   *  Bring my bit in the {@link Group#sqrsCanBeVal} of each of my Groups up to date, 
+   *  for ONLY the values which changed since the last call <br>
+   *  - called whenever {@link #possibleVals} or {@link #type} may have changed
    *  
-   *  @param val - value to remove
-   *  @see Group#removeSqrFromVal
+   *  @see Group#updateSqrCanBeVals
+   *  @see Group#setSqrsCanBeVal
    */
-  private void removeSqrFromGrpVal( final int val )
+  private void updateGroupsCanBeVal()
   {
-    // update each of my Groups
-    myZone.removeSqrFromVal( this, val );
-     myRow.removeSqrFromVal( this, val );
-     myCol.removeSqrFromVal( this, val );
+    // only an Open Square can be a value in its Groups
+    int $vals = isOpen() ? possibleVals : 0 ;
+    
+    int $changed = $vals ^ grpCanBeVals ;
+    if( $changed == 0 )
+      return ;
+    
+    grpCanBeVals = $vals ;
+    
+    grid.noteCandidateChange( ($changed & $vals) != 0 );
+    
+    myZone.updateSqrCanBeVals( zoneIndex, $changed, $vals );
+     myRow.updateSqrCanBeVals( myCol.getPosn(), $changed, $vals );
+     myCol.updateSqrCanBeVals( myRow.getPosn(), $changed, $vals );
     
-  }// Square.removeSqrFromGrpVal()
+  }// Square.updateGroupsCanBeVal()
   
  // ===========================================================================================================
  //                            D E B U G    C O D E
@@ -755,7 +839,7 @@ class Square
     
     logger.append( "\n     excludeVals (1-" + gridLength + "): " );
     for( v=1; v <= gridLength; v++ )
-      logger.append( excludeVals[v] ? (v + " ") : "" );
+      logger.append( CandidateSet.contains(excludeVals, v) ? (v + " ") : "" );
     
     logger.append( "\n-----------------------------------------------------------------" );
     
@@ -772,11 +856,11 @@ class Square
   /** Logging */
   private static PskLogger logger ;
   
-  /** Reference to the enclosing {@link Grid}  */
-  private static Grid grid ;
+  /** Reference to the enclosing {@link LogicGrid}  */
+  private final LogicGrid grid ;
   
   /** Needed to identify temp values  */
-  private static int gridLength ;
+  private final int gridLength ;
   
   /** @see SqrTypes
     */
@@ -818,6 +902,8 @@ class Square
   private Col myCol ;
   /** Which {@link Zone} am I in? */
   private Zone myZone ;
+  /** my index in the {@link Group#mySqrs} of {@link #myZone} */
+  private int zoneIndex ;
   
   /** How many of each possible value are there in my 'Group Squares'? */
   private int[] nGrpSqrsWithVal ;
@@ -836,8 +922,26 @@ class Square
    */
   private int possibleVals ;
   
-  /** Values that have been excluded from my possibles by Solve techniques */
-  private boolean[] excludeVals ;
+  /**
+   *  Values that have been excluded from my possibles by Solve techniques
+   *  @see CandidateSet
+   */
+  private int excludeVals ;
+  
+  /**
+   *  Values in at least one of my 'Group Squares', i.e. with {@link #nGrpSqrsWithVal} GT zero
+   *  @see CandidateSet
+   */
+  private int grpSqrVals ;
+  
+  /** ALL the values, 1..gridLength  */
+  private final int allVals ;
+  
+  /**
+   *  My possible values as last set in the {@link Group#sqrsCanBeVal} of my Groups - zero if NOT Open
+   *  @see #updateGroupsCanBeVal
+   */
+  private int grpCanBeVals ;
   
   /** need to know if I am in a Color Chain  */
   private int chainColor ;
@@ -0,0 +1,240 @@
+/* ***************************************************************************************
+
+   Mark Sattolo (epistemik@gmail.com)
+ -----------------------------------------------------------------
+
+  git version created Oct 18, 2026
+
+*************************************************************************************** */
+
+package mhs.pseudokeu;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The value assignments to the {@link Square}s of a game, kept for Undo & Redo <br>
+ * - ONE <code>long</code> per entry with the Square index, the old & new value and the old & new temp status,
+ *   see {@link #pack} <br>
+ * - entries before {@link #position} are active; entries from there to {@link #size} were undone and can be redone <br>
+ * - add, undo and redo are O(1) and NEVER allocate, except when the array has to grow <br>
+ * - {@link #write} and {@link #read} store a journal in 8 bytes per entry, so a session can be saved and replayed
+ *
+ * <pre>
+ *   int $mark = journal.position();
+ *   ...
+ *   while( journal.position() > $mark )
+ *     apply( journal.undo() );   // bulk rewind to the checkpoint
+ * </pre>
+ *
+ * @author Mark Sattolo
+ * @version 8.1.1
+ * @see Grid#undoLastValue
+ * @see Grid#rewindUndo
+ */
+final class UndoJournal
+{
+ /*
+  *            C O N S T R U C T O R S
+  *************************************************************************************************************/
+  
+  /** USUAL Constructor  */
+  UndoJournal()
+  { this( INITIAL_CAPACITY ); }
+  
+  /**
+   *  @param capacity - initial number of entries
+   */
+  UndoJournal( final int capacity )
+  { entries = new long[ Math.max(capacity, 1) ]; }
+ 
+ /*
+  *            M E T H O D S
+  *************************************************************************************************************/
+ 
+ // ===========================================================================================================
+ //                          I N T E R F A C E
+ // ===========================================================================================================
+  
+  /**
+   *  Add an entry at {@link #position} - any undone entries are dropped
+   *
+   *  @param sqr - index of the Square, i.e. row * gridLength + col
+   *  @param oldVal - value before
+   *  @param oldTemp - temp status before
+   *  @param newVal - value after
+   *  @param newTemp - temp status after
+   *  @return the new {@link #position}
+   */
+  int add( final int sqr, final int oldVal, final boolean oldTemp, final int newVal, final boolean newTemp )
+  {
+    if( position == entries.length )
+    {
+      long[] $bigger = new long[ entries.length * 2 ];
+      System.arraycopy( entries, 0, $bigger, 0, position );
+      entries = $bigger ;
+    }
+    
+    entries[position++] = pack( sqr, oldVal, oldTemp, newVal, newTemp );
+    size = position ;
+    
+    return position ;
+  
+  }// UndoJournal.add()
+  
+  /** @return true if there is an active entry  */
+  boolean canUndo() { return position > 0 ; }
+  
+  /** @return true if there is an undone entry  */
+  boolean canRedo() { return position < size ; }
+  
+  /**
+   *  Move back ONE entry
+   *
+   *  @return the entry to undo, OR {@link #NO_ENTRY} if none
+   */
+  long undo()
+  { return canUndo() ? entries[--position] : NO_ENTRY ; }
+  
+  /**
+   *  Move forward ONE entry
+   *
+   *  @return the entry to redo, OR {@link #NO_ENTRY} if none
+   */
+  long redo()
+  { return canRedo() ? entries[position++] : NO_ENTRY ; }
+  
+  /**
+   *  @param index - of the entry, 0 to {@link #size} - 1
+   *  @return the entry, OR {@link #NO_ENTRY} if the index is NOT valid
+   */
+  long get( final int index )
+  { return( (index >= 0) && (index < size) ? entries[index] : NO_ENTRY ); }
+  
+  /** Drop the undone entries  */
+  void truncate()
+  { size = position ; }
+  
+  /** Drop ALL the entries - keeps the array  */
+  void clear()
+  { position = size = 0 ; }
+  
+  /** @return number of active entries, which is also the checkpoint to rewind to  */
+  int position() { return position ; }
+  
+  /** @return number of entries, active OR undone  */
+  int size() { return size ; }
+  
+  /**
+   *  Store the journal: {@link #size} and {@link #position}, then each entry
+   *
+   *  @param out - to write to
+   *  @throws IOException if there is a problem writing
+   */
+  void write( final DataOutput out ) throws IOException
+  {
+    out.writeInt( size );
+    out.writeInt( position );
+    for( int i=0; i < size; i++ )
+      out.writeLong( entries[i] );
+  
+  }// UndoJournal.write()
+  
+  /**
+   *  Load a journal stored by {@link #write}
+   *
+   *  @param in - to read from
+   *  @return the journal
+   *  @throws IOException if there is a problem reading, OR the data is NOT a journal
+   */
+  static UndoJournal read( final DataInput in ) throws IOException
+  {
+    int $size = in.readInt();
+    int $position = in.readInt();
+    if( ($size < 0) || ($size > MAX_ENTRIES) || ($position < 0) || ($position > $size) )
+      throw new IOException( "BAD journal header: size = " + $size + " & position = " + $position );
+    
+    UndoJournal $journal = new UndoJournal( $size );
+    for( int i=0; i < $size; i++ )
+    {
+      long $entry = in.readLong();
+      if( ($entry & ~ENTRY_BITS) != 0 )
+        throw new IOException( "BAD journal entry #" + i + ": " + Long.toHexString($entry) );
+      $journal.entries[i] = $entry ;
+    }
+    
+    $journal.size = $size ;
+    $journal.position = $position ;
+    return $journal ;
+  
+  }// UndoJournal.read()
+  
+  /**
+   *  Pack ONE entry: bits 0-15 = Square index, 16-31 = old value, 32-47 = new value, 48 = old temp, 49 = new temp
+   *
+   *  @param sqr - index of the Square
+   *  @param oldVal - value before
+   *  @param oldTemp - temp status before
+   *  @param newVal - value after
+   *  @param newTemp - temp status after
+   *  @return the entry
+   */
+  static long pack( final int sqr, final int oldVal, final boolean oldTemp, final int newVal, final boolean newTemp )
+  {
+    return( (sqr & FIELD_MASK) | ((oldVal & FIELD_MASK) << OLD_SHIFT) | ((newVal & FIELD_MASK) << NEW_SHIFT)
+            | (oldTemp ? OLD_TEMP_BIT : 0L) | (newTemp ? NEW_TEMP_BIT : 0L) );
+  }
+  
+  /** @param entry - from {@link #pack}  @return index of the Square  */
+  static int sqr( final long entry ) { return (int)( entry & FIELD_MASK ); }
+  
+  /** @param entry - from {@link #pack}  @return value before  */
+  static int oldVal( final long entry ) { return (int)( (entry >>> OLD_SHIFT) & FIELD_MASK ); }
+  
+  /** @param entry - from {@link #pack}  @return value after  */
+  static int newVal( final long entry ) { return (int)( (entry >>> NEW_SHIFT) & FIELD_MASK ); }
+  
+  /** @param entry - from {@link #pack}  @return temp status before  */
+  static boolean oldTemp( final long entry ) { return (entry & OLD_TEMP_BIT) != 0 ; }
+  
+  /** @param entry - from {@link #pack}  @return temp status after  */
+  static boolean newTemp( final long entry ) { return (entry & NEW_TEMP_BIT) != 0 ; }
+ 
+ /*
+  *            F I E L D S
+  *************************************************************************************************************/
+  
+  /** the entries, ONLY the first {@link #size} are valid  */
+  private long[] entries ;
+  
+  /** number of active entries  */
+  private int position ;
+  
+  /** number of valid entries  */
+  private int size ;
+  
+  /** returned when there is NO entry - a packed entry is NEVER negative  */
+  static final long NO_ENTRY = -1L ;
+  
+  /** enough for a game with NO undone entries  */
+  static final int INITIAL_CAPACITY = 128 ;
+  
+  /** largest journal {@link #read} will accept  */
+  static final int MAX_ENTRIES = 1 << 24 ;
+  
+  /** position of a field in an entry  */
+  private static final int OLD_SHIFT = 16 ,
+                           NEW_SHIFT = 32 ;
+  
+  /** 16 bits - more than enough for a Square index OR a temp value, e.g. {@link Square#MAX_TEMP_VAL}  */
+  private static final long FIELD_MASK = 0xFFFFL ;
+  
+  /** temp status bit  */
+  private static final long OLD_TEMP_BIT = 1L << 48 ,
+                            NEW_TEMP_BIT = 1L << 49 ;
+  
+  /** ALL the bits an entry may use  */
+  private static final long ENTRY_BITS = (1L << 50) - 1 ;
+
+}// class UndoJournal